@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.shape.fractal.HilbertCurveBuilder;
+import org.locationtech.jts.shape.fractal.KochSnowflakeBuilder;
+import org.locationtech.jts.shape.fractal.SierpinskiCarpetBuilder;
+import org.locationtech.jts.shape.random.RandomPointsBuilder;
+import org.locationtech.jts.util.GeometricShapeFactory;
+
+/**
+ * Creates the synthetic datasets used by the benchmarks.
+ * <p>
+ * All random data is generated from an explicit seed,
+ * so that every benchmark run (and every engine being compared)
+ * operates on exactly the same input.
+ * 
+ * @author agent
+ *
+ */
+public class BenchmarkData {
+  
+  /**
+   * The seed used for random data unless otherwise specified.
+   */
+  public static final long SEED = 1234567;
+  
+  /**
+   * The extent used for generated data.
+   */
+  public static final Envelope EXTENT = new Envelope(0, 1000, 0, 1000);
+
+  public static final GeometryFactory FACTORY = new GeometryFactory();
+
+  /**
+   * Creates a set of random points within an extent.
+   * 
+   * @param n the number of points
+   * @param extent the extent of the points
+   * @param seed the random seed
+   * @return an array of random coordinates
+   */
+  public static Coordinate[] randomPoints(int n, Envelope extent, long seed) {
+    SeededRandomPointsBuilder builder = new SeededRandomPointsBuilder(FACTORY, seed);
+    builder.setExtent(extent);
+    builder.setNumPoints(n);
+    return builder.getGeometry().getCoordinates();
+  }
+
+  /**
+   * Creates a set of random points inside a polygonal mask.
+   * 
+   * @param n the number of points
+   * @param mask the polygonal area to contain the points
+   * @param seed the random seed
+   * @return an array of random coordinates
+   */
+  public static Coordinate[] randomPoints(int n, Geometry mask, long seed) {
+    SeededRandomPointsBuilder builder = new SeededRandomPointsBuilder(FACTORY, seed);
+    builder.setExtent(mask);
+    builder.setNumPoints(n);
+    return builder.getGeometry().getCoordinates();
+  }
+
+  /**
+   * Creates a set of square envelopes of a given size 
+   * with random lower-left corners within an extent.
+   * 
+   * @param n the number of envelopes
+   * @param extent the extent of the envelope origins
+   * @param size the side length of the envelopes
+   * @param seed the random seed
+   * @return an array of envelopes
+   */
+  public static Envelope[] randomEnvelopes(int n, Envelope extent, double size, long seed) {
+    Coordinate[] pts = randomPoints(n, extent, seed);
+    Envelope[] envs = new Envelope[n];
+    for (int i = 0; i < n; i++) {
+      Coordinate p = pts[i];
+      envs[i] = new Envelope(p.x, p.x + size, p.y, p.y + size);
+    }
+    return envs;
+  }
+  
+  /**
+   * Creates a set of circular polygons centred at random points.
+   * 
+   * @param n the number of polygons
+   * @param extent the extent of the polygon centres
+   * @param radius the radius of the polygons
+   * @param numPts the number of vertices in each polygon
+   * @param seed the random seed
+   * @return a list of polygons
+   */
+  public static List<Geometry> randomCircles(int n, Envelope extent, double radius, int numPts, long seed) {
+    Coordinate[] pts = randomPoints(n, extent, seed);
+    List<Geometry> polys = new ArrayList<Geometry>();
+    GeometricShapeFactory gsf = new GeometricShapeFactory(FACTORY);
+    gsf.setSize(2 * radius);
+    gsf.setNumPoints(numPts);
+    for (Coordinate p : pts) {
+      gsf.setCentre(p);
+      polys.add(gsf.createCircle());
+    }
+    return polys;
+  }
+
+  /**
+   * Creates a Koch snowflake polygon with approximately the given number of vertices.
+   * 
+   * @param numPts the approximate number of vertices
+   * @return a polygon
+   */
+  public static Geometry kochSnowflake(int numPts) {
+    KochSnowflakeBuilder builder = new KochSnowflakeBuilder(FACTORY);
+    builder.setExtent(EXTENT);
+    builder.setNumPoints(numPts);
+    return builder.getGeometry();
+  }
+
+  /**
+   * Creates a Sierpinski carpet polygon (with many holes) 
+   * with approximately the given number of vertices.
+   * 
+   * @param numPts the approximate number of vertices
+   * @return a polygon
+   */
+  public static Geometry sierpinskiCarpet(int numPts) {
+    SierpinskiCarpetBuilder builder = new SierpinskiCarpetBuilder(FACTORY);
+    builder.setExtent(EXTENT);
+    builder.setNumPoints(numPts);
+    return builder.getGeometry();
+  }
+
+  /**
+   * Creates a Hilbert curve linestring of the given level.
+   * 
+   * @param level the level of the curve
+   * @return a linestring
+   */
+  public static Geometry hilbertCurve(int level) {
+    HilbertCurveBuilder builder = new HilbertCurveBuilder(FACTORY);
+    builder.setExtent(EXTENT);
+    builder.setLevel(level);
+    return builder.getGeometry();
+  }
+
+  /**
+   * A {@link RandomPointsBuilder} which uses a seeded random
+   * number generator, to produce reproducible point sets.
+   */
+  static class SeededRandomPointsBuilder extends RandomPointsBuilder {
+    private Random random;
+    
+    public SeededRandomPointsBuilder(GeometryFactory geomFact, long seed) {
+      super(geomFact);
+      random = new Random(seed);
+    }
+    
+    protected Coordinate createRandomCoord(Envelope env)
+    {
+      double x = env.getMinX() + env.getWidth() * random.nextDouble();
+      double y = env.getMinY() + env.getHeight() * random.nextDouble();
+      return createCoord(x, y);
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.algorithm;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.algorithm.locate.BatchPointInAreaLocator;
+import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks locating a batch of points in a fractal polygon
+ * with {@link IndexedPointInAreaLocator} one point at a time,
+ * and with {@link BatchPointInAreaLocator}.
+ * A <code>threads</code> value of 0 locates points serially;
+ * other values use a {@link ForkJoinPool} of that size.
+ * 
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchPointInAreaLocatorBenchmark {
+
+  private static final int NUM_QUERY_PTS = 1000000;
+
+  @Param({ "1000", "100000" })
+  public int numPts;
+
+  @Param({ "false", "true" })
+  public boolean sort;
+
+  @Param({ "0", "4" })
+  public int threads;
+  
+  private Coordinate[] queryPts;
+  private double[] xs;
+  private double[] ys;
+  private int[] locations = new int[NUM_QUERY_PTS];
+  private IndexedPointInAreaLocator indexedLocator;
+  private BatchPointInAreaLocator batchLocator;
+  private ForkJoinPool pool;
+
+  @Setup
+  public void setup() {
+    Geometry area = BenchmarkData.kochSnowflake(numPts);
+    queryPts = BenchmarkData.randomPoints(NUM_QUERY_PTS, area.getEnvelopeInternal(), BenchmarkData.SEED);
+    xs = new double[NUM_QUERY_PTS];
+    ys = new double[NUM_QUERY_PTS];
+    for (int i = 0; i < NUM_QUERY_PTS; i++) {
+      xs[i] = queryPts[i].x;
+      ys[i] = queryPts[i].y;
+    }
+    indexedLocator = new IndexedPointInAreaLocator(area);
+    // build the index outside the measured code
+    indexedLocator.locate(queryPts[0]);
+    
+    pool = threads > 0 ? new ForkJoinPool(threads) : null;
+    batchLocator = new BatchPointInAreaLocator(area);
+    batchLocator.setSortPoints(sort);
+    batchLocator.setForkJoinPool(pool);
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (pool != null) pool.shutdown();
+  }
+
+  @Benchmark
+  public int[] locateIndexed() {
+    for (int i = 0; i < NUM_QUERY_PTS; i++) {
+      locations[i] = indexedLocator.locate(queryPts[i]);
+    }
+    return locations;
+  }
+  
+  @Benchmark
+  public int[] locateBatch() {
+    batchLocator.locate(xs, ys, locations);
+    return locations;
+  }
+}
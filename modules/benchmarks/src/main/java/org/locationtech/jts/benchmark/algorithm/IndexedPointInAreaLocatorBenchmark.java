@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.algorithm;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.algorithm.locate.GridPointInAreaLocator;
+import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link IndexedPointInAreaLocator#locate(Coordinate)}
+ * and {@link GridPointInAreaLocator#locate(Coordinate)}
+ * against fractal polygons of varying size.
+ * 
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IndexedPointInAreaLocatorBenchmark {
+
+  private static final int NUM_QUERY_PTS = 10000;
+
+  @Param({ "1000", "100000" })
+  public int numPts;
+  
+  private Geometry area;
+  private Coordinate[] queryPts;
+  private IndexedPointInAreaLocator locator;
+  private GridPointInAreaLocator gridLocator;
+
+  @Setup
+  public void setup() {
+    area = BenchmarkData.kochSnowflake(numPts);
+    queryPts = BenchmarkData.randomPoints(NUM_QUERY_PTS, area.getEnvelopeInternal(), BenchmarkData.SEED);
+    locator = new IndexedPointInAreaLocator(area);
+    // build the index outside the measured code
+    locator.locate(queryPts[0]);
+    gridLocator = new GridPointInAreaLocator(area);
+  }
+
+  @Benchmark
+  public void locate(Blackhole bh) {
+    for (Coordinate p : queryPts) {
+      bh.consume(locator.locate(p));
+    }
+  }
+  
+  @Benchmark
+  public void locateGrid(Blackhole bh) {
+    for (Coordinate p : queryPts) {
+      bh.consume(gridLocator.locate(p));
+    }
+  }
+  
+  @Benchmark
+  public void createAndLocate(Blackhole bh) {
+    IndexedPointInAreaLocator loc = new IndexedPointInAreaLocator(area);
+    for (Coordinate p : queryPts) {
+      bh.consume(loc.locate(p));
+    }
+  }
+  
+  @Benchmark
+  public void createAndLocateGrid(Blackhole bh) {
+    GridPointInAreaLocator loc = new GridPointInAreaLocator(area);
+    for (Coordinate p : queryPts) {
+      bh.consume(loc.locate(p));
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.algorithm;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.algorithm.LineIntersector;
+import org.locationtech.jts.algorithm.RobustLineIntersector;
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Coordinate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link RobustLineIntersector} on random segment pairs.
+ * 
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LineIntersectorBenchmark {
+
+  private static final int NUM_SEGMENTS = 1000;
+  
+  private Coordinate[] pts;
+  private LineIntersector li = new RobustLineIntersector();
+
+  @Setup
+  public void setup() {
+    pts = BenchmarkData.randomPoints(2 * NUM_SEGMENTS, BenchmarkData.EXTENT, BenchmarkData.SEED);
+  }
+
+  /**
+   * Intersects every segment with its successor.
+   */
+  @Benchmark
+  public void computeIntersection(Blackhole bh) {
+    for (int i = 0; i < pts.length - 3; i += 2) {
+      li.computeIntersection(pts[i], pts[i+1], pts[i+2], pts[i+3]);
+      bh.consume(li.getIntersectionNum());
+    }
+  }
+}
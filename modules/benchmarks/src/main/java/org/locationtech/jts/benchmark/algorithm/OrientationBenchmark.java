@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.algorithm;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Coordinate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link Orientation#index(Coordinate, Coordinate, Coordinate)}
+ * on random points and on nearly-collinear points
+ * (which exercise the robust fallback path).
+ * 
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrientationBenchmark {
+
+  private static final int NUM_PTS = 3000;
+  
+  private Coordinate[] pts;
+  private Coordinate[] collinearPts;
+
+  @Setup
+  public void setup() {
+    pts = BenchmarkData.randomPoints(NUM_PTS, BenchmarkData.EXTENT, BenchmarkData.SEED);
+    collinearPts = new Coordinate[NUM_PTS];
+    for (int i = 0; i < NUM_PTS; i++) {
+      double x = pts[i].x;
+      // points on a line, perturbed by a tiny amount
+      collinearPts[i] = new Coordinate(x, 0.1 * x + 1e-12 * pts[i].y);
+    }
+  }
+
+  @Benchmark
+  public void indexRandom(Blackhole bh) {
+    runIndex(pts, bh);
+  }
+  
+  @Benchmark
+  public void indexNearlyCollinear(Blackhole bh) {
+    runIndex(collinearPts, bh);
+  }
+  
+  private static void runIndex(Coordinate[] pts, Blackhole bh) {
+    for (int i = 0; i < pts.length - 2; i++) {
+      bh.consume(Orientation.index(pts[i], pts[i+1], pts[i+2]));
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.geom;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryBatch;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks point-in-polygon evaluation of a {@link PreparedGeometry}
+ * one point at a time, and using {@link PreparedGeometryBatch}
+ * in serial and parallel mode.
+ * 
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PreparedGeometryBatchBenchmark {
+
+  private static final int NUM_POLY_PTS = 10000;
+
+  @Param({ "100000", "1000000" })
+  public int numPts;
+  
+  private Geometry[] points;
+  private PreparedGeometry prepPoly;
+
+  @Setup
+  public void setup() {
+    Geometry poly = BenchmarkData.kochSnowflake(NUM_POLY_PTS);
+    prepPoly = PreparedGeometryFactory.prepare(poly);
+    Coordinate[] pts = BenchmarkData.randomPoints(numPts, BenchmarkData.EXTENT, BenchmarkData.SEED);
+    points = new Geometry[numPts];
+    for (int i = 0; i < numPts; i++) {
+      points[i] = BenchmarkData.FACTORY.createPoint(pts[i]);
+    }
+    // build the lazy indexes outside the measured code
+    prepPoly.intersects(points[0]);
+  }
+
+  @Benchmark
+  public void intersectsEach(Blackhole bh) {
+    for (Geometry pt : points) {
+      bh.consume(prepPoly.intersects(pt));
+    }
+  }
+  
+  @Benchmark
+  public Object intersectsBatch() {
+    return new PreparedGeometryBatch(prepPoly, PreparedGeometryBatch.INTERSECTS).evaluate(points);
+  }
+  
+  @Benchmark
+  public Object intersectsBatchParallel() {
+    PreparedGeometryBatch batch = new PreparedGeometryBatch(prepPoly, PreparedGeometryBatch.INTERSECTS);
+    batch.setForkJoinPool(ForkJoinPool.commonPool());
+    return batch.evaluate(points);
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.geom;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryCache;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks repeated point-in-polygon tests against a set of polygons,
+ * preparing each polygon for every batch of tests,
+ * and using a {@link PreparedGeometryCache}.
+ * 
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PreparedGeometryCacheBenchmark {
+
+  private static final int NUM_POLYS = 100;
+  private static final int BATCH_SIZE = 10;
+
+  @Param({ "1000" })
+  public int numPolyPts;
+  
+  private List<Geometry> polys;
+  private Geometry[] points;
+  private PreparedGeometryCache cache = new PreparedGeometryCache(Long.MAX_VALUE);
+
+  @Setup
+  public void setup() {
+    polys = BenchmarkData.randomCircles(NUM_POLYS, BenchmarkData.EXTENT, 100, numPolyPts, BenchmarkData.SEED);
+    Coordinate[] pts = BenchmarkData.randomPoints(NUM_POLYS * BATCH_SIZE, BenchmarkData.EXTENT, BenchmarkData.SEED);
+    points = new Geometry[pts.length];
+    for (int i = 0; i < pts.length; i++) {
+      points[i] = BenchmarkData.FACTORY.createPoint(pts[i]);
+    }
+  }
+
+  @Benchmark
+  public void intersectsPrepareEach(Blackhole bh) {
+    for (int i = 0; i < points.length; i += BATCH_SIZE) {
+      Geometry poly = polys.get((i / BATCH_SIZE) % NUM_POLYS);
+      for (int j = i; j < i + BATCH_SIZE; j++) {
+        bh.consume(PreparedGeometryFactory.prepare(poly).intersects(points[j]));
+      }
+    }
+  }
+  
+  @Benchmark
+  public void intersectsCached(Blackhole bh) {
+    for (int i = 0; i < points.length; i += BATCH_SIZE) {
+      Geometry poly = polys.get((i / BATCH_SIZE) % NUM_POLYS);
+      for (int j = i; j < i + BATCH_SIZE; j++) {
+        bh.consume(cache.get(poly).intersects(points[j]));
+      }
+    }
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.index;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.hprtree.HPRtree;
+import org.locationtech.jts.index.strtree.ItemBoundable;
+import org.locationtech.jts.index.strtree.ItemDistance;
+import org.locationtech.jts.index.strtree.PackedSTRtree;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks k-nearest-neighbour queries on 
+ * {@link STRtree}, {@link PackedSTRtree} and {@link HPRtree}.
+ * 
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NearestNeighbourBenchmark {
+
+  private static final double ITEM_ENV_SIZE = 1;
+  private static final int NUM_QUERIES = 1000;
+
+  private static final ItemDistance ENVELOPE_DISTANCE = new ItemDistance() {
+    public double distance(ItemBoundable item1, ItemBoundable item2) {
+      return ((Envelope) item1.getItem()).distance((Envelope) item2.getItem());
+    }
+  };
+
+  @Param({ "100000", "1000000" })
+  public int size;
+
+  @Param({ "1", "10", "100" })
+  public int k;
+  
+  private Envelope[] queryEnvs;
+  private STRtree strTree;
+  private PackedSTRtree packedTree;
+  private HPRtree hprTree;
+
+  @Setup
+  public void setup() {
+    Envelope[] itemEnvs = BenchmarkData.randomEnvelopes(size, BenchmarkData.EXTENT, ITEM_ENV_SIZE, BenchmarkData.SEED);
+    queryEnvs = BenchmarkData.randomEnvelopes(NUM_QUERIES, BenchmarkData.EXTENT, 0, BenchmarkData.SEED + 1);
+    strTree = new STRtree();
+    packedTree = new PackedSTRtree();
+    hprTree = new HPRtree();
+    for (Envelope env : itemEnvs) {
+      strTree.insert(env, env);
+      packedTree.insert(env, env);
+      hprTree.insert(env, env);
+    }
+    strTree.build();
+    packedTree.build();
+    hprTree.build();
+  }
+  
+  @Benchmark
+  public void strTree(Blackhole bh) {
+    for (Envelope env : queryEnvs) {
+      bh.consume(strTree.nearestNeighbour(env, env, ENVELOPE_DISTANCE, k));
+    }
+  }
+
+  @Benchmark
+  public void packedSTRtree(Blackhole bh) {
+    for (Envelope env : queryEnvs) {
+      bh.consume(packedTree.nearestNeighbour(env, env, ENVELOPE_DISTANCE, k));
+    }
+  }
+
+  @Benchmark
+  public void hprTree(Blackhole bh) {
+    for (Envelope env : queryEnvs) {
+      bh.consume(hprTree.nearestNeighbour(env, env, ENVELOPE_DISTANCE, k));
+    }
+  }
+}
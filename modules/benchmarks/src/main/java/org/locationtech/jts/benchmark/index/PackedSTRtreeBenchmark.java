@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.index;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.strtree.PackedSTRtree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks building and querying a {@link PackedSTRtree}.
+ * 
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PackedSTRtreeBenchmark {
+
+  private static final double ITEM_ENV_SIZE = 1;
+  private static final double QUERY_ENV_SIZE = 10;
+  private static final int NUM_QUERIES = 1000;
+
+  @Param({ "10000", "1000000" })
+  public int size;
+  
+  private Envelope[] itemEnvs;
+  private Envelope[] queryEnvs;
+  private PackedSTRtree index;
+
+  @Setup
+  public void setup() {
+    itemEnvs = BenchmarkData.randomEnvelopes(size, BenchmarkData.EXTENT, ITEM_ENV_SIZE, BenchmarkData.SEED);
+    queryEnvs = BenchmarkData.randomEnvelopes(NUM_QUERIES, BenchmarkData.EXTENT, QUERY_ENV_SIZE, BenchmarkData.SEED + 1);
+    index = createTree();
+  }
+
+  private PackedSTRtree createTree() {
+    PackedSTRtree tree = new PackedSTRtree();
+    for (int i = 0; i < itemEnvs.length; i++) {
+      tree.insert(itemEnvs[i], itemEnvs[i]);
+    }
+    tree.build();
+    return tree;
+  }
+  
+  @Benchmark
+  public PackedSTRtree build() {
+    return createTree();
+  }
+
+  @Benchmark
+  public void query(final Blackhole bh) {
+    ItemVisitor visitor = new ItemVisitor() {
+      public void visitItem(Object item) {
+        bh.consume(item);
+      }
+    };
+    for (Envelope env : queryEnvs) {
+      index.query(env, visitor);
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.index;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.hprtree.HPRtree;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks building an {@link STRtree} and an {@link HPRtree}
+ * serially and in parallel.
+ * A <code>threads</code> value of 0 builds serially;
+ * other values build using a {@link ForkJoinPool} of that size.
+ * To show scaling run on a machine with at least as many cores
+ * as the largest pool size.
+ * 
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelIndexBuildBenchmark {
+
+  private static final double ITEM_ENV_SIZE = 1;
+
+  @Param({ "1000000", "10000000" })
+  public int size;
+
+  @Param({ "0", "1", "2", "4", "8", "16", "32" })
+  public int threads;
+  
+  private Envelope[] itemEnvs;
+  private ForkJoinPool pool;
+
+  @Setup
+  public void setup() {
+    itemEnvs = BenchmarkData.randomEnvelopes(size, BenchmarkData.EXTENT, ITEM_ENV_SIZE, BenchmarkData.SEED);
+    pool = threads > 0 ? new ForkJoinPool(threads) : null;
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (pool != null) pool.shutdown();
+  }
+  
+  @Benchmark
+  public STRtree buildSTRtree() {
+    STRtree tree = new STRtree();
+    tree.setForkJoinPool(pool);
+    for (int i = 0; i < itemEnvs.length; i++) {
+      tree.insert(itemEnvs[i], itemEnvs[i]);
+    }
+    tree.build();
+    return tree;
+  }
+
+  @Benchmark
+  public HPRtree buildHPRtree() {
+    HPRtree tree = new HPRtree();
+    tree.setForkJoinPool(pool);
+    for (int i = 0; i < itemEnvs.length; i++) {
+      tree.insert(itemEnvs[i], itemEnvs[i]);
+    }
+    tree.build();
+    return tree;
+  }
+}
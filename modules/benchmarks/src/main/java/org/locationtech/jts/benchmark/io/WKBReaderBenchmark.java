@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.io;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link WKBReader} on a large polygon,
+ * reading from a byte array and from a direct {@link ByteBuffer}.
+ * 
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WKBReaderBenchmark {
+
+  @Param({ "1000", "100000" })
+  public int numPts;
+  
+  private byte[] wkb;
+  private ByteBuffer directBuffer;
+  private WKBReader packedReader;
+
+  @Setup
+  public void setup() {
+    Geometry geom = BenchmarkData.kochSnowflake(numPts);
+    wkb = new WKBWriter().write(geom);
+    directBuffer = ByteBuffer.allocateDirect(wkb.length);
+    directBuffer.put(wkb);
+    packedReader = new WKBReader(new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY));
+  }
+
+  @Benchmark
+  public Geometry read() throws ParseException {
+    return new WKBReader(BenchmarkData.FACTORY).read(wkb);
+  }
+
+  @Benchmark
+  public Geometry readPacked() throws ParseException {
+    return packedReader.read(wkb);
+  }
+
+  @Benchmark
+  public Geometry readPackedDirectBuffer() throws ParseException {
+    directBuffer.rewind();
+    return packedReader.read(directBuffer);
+  }
+}
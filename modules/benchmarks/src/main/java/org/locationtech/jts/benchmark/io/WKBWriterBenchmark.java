@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.io;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link WKBWriter} on a large polygon,
+ * writing to a byte array and to a reused direct {@link ByteBuffer}.
+ * 
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WKBWriterBenchmark {
+
+  @Param({ "1000", "100000" })
+  public int numPts;
+  
+  private Geometry geom;
+  private Geometry packedGeom;
+  private WKBWriter writer = new WKBWriter();
+  private ByteBuffer directBuffer;
+
+  @Setup
+  public void setup() throws ParseException {
+    geom = BenchmarkData.kochSnowflake(numPts);
+    byte[] wkb = writer.write(geom);
+    // read as XY packed sequences, matching the output dimension
+    packedGeom = new WKBReader(new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY)).read(wkb);
+    directBuffer = ByteBuffer.allocateDirect(wkb.length);
+  }
+
+  @Benchmark
+  public byte[] write() {
+    return writer.write(geom);
+  }
+
+  @Benchmark
+  public ByteBuffer writeDirectBuffer() {
+    directBuffer.clear();
+    writer.write(geom, directBuffer);
+    return directBuffer;
+  }
+
+  @Benchmark
+  public ByteBuffer writePackedDirectBuffer() {
+    directBuffer.clear();
+    writer.write(packedGeom, directBuffer);
+    return directBuffer;
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.io;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.io.WKTWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link WKTReader} on a large polygon
+ * and on a multipolygon with many elements.
+ * 
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WKTReaderBenchmark {
+
+  @Param({ "1000", "100000" })
+  public int numPts;
+  
+  private String wkt;
+  private String wktMulti;
+
+  @Setup
+  public void setup() {
+    Geometry geom = BenchmarkData.kochSnowflake(numPts);
+    wkt = new WKTWriter().write(geom);
+    Geometry multi = BenchmarkData.FACTORY.buildGeometry(
+        BenchmarkData.randomCircles(numPts / 100, BenchmarkData.EXTENT, 10, 100, BenchmarkData.SEED));
+    wktMulti = new WKTWriter().write(multi);
+  }
+
+  @Benchmark
+  public Geometry read() throws ParseException {
+    return new WKTReader(BenchmarkData.FACTORY).read(wkt);
+  }
+
+  @Benchmark
+  public Geometry readMultiPolygon() throws ParseException {
+    return new WKTReader(BenchmarkData.FACTORY).read(wktMulti);
+  }
+
+  @Benchmark
+  public Geometry readMultiPolygonReader() throws ParseException {
+    return new WKTReader(BenchmarkData.FACTORY).read(new StringReader(wktMulti));
+  }
+}
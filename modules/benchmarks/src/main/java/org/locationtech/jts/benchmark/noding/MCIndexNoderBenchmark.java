@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.noding;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.algorithm.RobustLineIntersector;
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.noding.IntersectionAdder;
+import org.locationtech.jts.noding.MCIndexNoder;
+import org.locationtech.jts.noding.NodedSegmentString;
+import org.locationtech.jts.noding.ParallelMCIndexNoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks noding the boundaries of many overlapping polygons 
+ * with {@link MCIndexNoder} and {@link ParallelMCIndexNoder}.
+ * A <code>threads</code> value of 0 runs the parallel noder serially;
+ * other values use a {@link ForkJoinPool} of that size.
+ * 
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MCIndexNoderBenchmark {
+
+  @Param({ "1000", "10000" })
+  public int numPolys;
+
+  @Param({ "0", "1", "2", "4", "8" })
+  public int threads;
+  
+  private List<Coordinate[]> lines = new ArrayList<Coordinate[]>();
+  private ForkJoinPool pool;
+  private PrecisionModel precModel = new PrecisionModel();
+
+  @Setup
+  public void setup() {
+    List<Geometry> polys = BenchmarkData.randomCircles(numPolys, BenchmarkData.EXTENT, 20, 64, BenchmarkData.SEED);
+    for (Geometry poly : polys) {
+      lines.add(poly.getCoordinates());
+    }
+    pool = threads > 0 ? new ForkJoinPool(threads) : null;
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (pool != null) pool.shutdown();
+  }
+  
+  @Benchmark
+  public Collection nodeMCIndexNoder() {
+    RobustLineIntersector li = new RobustLineIntersector();
+    li.setPrecisionModel(precModel);
+    MCIndexNoder noder = new MCIndexNoder(new IntersectionAdder(li));
+    noder.computeNodes(createSegmentStrings());
+    return noder.getNodedSubstrings();
+  }
+  
+  @Benchmark
+  public Collection nodeParallelMCIndexNoder() {
+    ParallelMCIndexNoder noder = new ParallelMCIndexNoder(precModel);
+    noder.setForkJoinPool(pool);
+    noder.computeNodes(createSegmentStrings());
+    return noder.getNodedSubstrings();
+  }
+
+  private List<NodedSegmentString> createSegmentStrings() {
+    List<NodedSegmentString> segStrings = new ArrayList<NodedSegmentString>();
+    for (Coordinate[] pts : lines) {
+      segStrings.add(new NodedSegmentString(pts, null));
+    }
+    return segStrings;
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.operation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.buffer.BufferOp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link BufferOp} on polygonal and linear fractal geometries.
+ * 
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BufferBenchmark {
+
+  @Param({ "1000", "10000" })
+  public int numPts;
+  
+  @Param({ "1", "50" })
+  public double distance;
+  
+  private Geometry polygon;
+  private Geometry line;
+
+  @Setup
+  public void setup() {
+    polygon = BenchmarkData.kochSnowflake(numPts);
+    line = BenchmarkData.hilbertCurve(levelForSize(numPts));
+  }
+
+  private static int levelForSize(int numPts) {
+    // a Hilbert curve of level L has 4^L points
+    return (int) Math.ceil(Math.log(numPts) / Math.log(4));
+  }
+  
+  @Benchmark
+  public Geometry bufferPolygon() {
+    return BufferOp.bufferOp(polygon, distance);
+  }
+  
+  @Benchmark
+  public Geometry bufferLine() {
+    return BufferOp.bufferOp(line, distance);
+  }
+}
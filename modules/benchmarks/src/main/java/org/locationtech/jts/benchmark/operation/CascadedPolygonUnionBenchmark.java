@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.operation;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.union.CascadedPolygonUnion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link CascadedPolygonUnion} on sets of randomly-placed 
+ * overlapping circular polygons,
+ * in both serial and parallel mode.
+ * 
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CascadedPolygonUnionBenchmark {
+
+  private static final int NUM_PTS_PER_POLY = 64;
+  
+  @Param({ "1000", "10000" })
+  public int numPolys;
+  
+  private List<Geometry> polys;
+
+  @Setup
+  public void setup() {
+    // choose radius so total polygon area is about twice the extent area
+    double radius = BenchmarkData.EXTENT.getWidth() / Math.sqrt(numPolys);
+    polys = BenchmarkData.randomCircles(numPolys, BenchmarkData.EXTENT, radius, 
+        NUM_PTS_PER_POLY, BenchmarkData.SEED);
+  }
+
+  @Benchmark
+  public Geometry union() {
+    return CascadedPolygonUnion.union(polys);
+  }
+  
+  @Benchmark
+  public Geometry unionParallel() {
+    return CascadedPolygonUnion.union(polys, ForkJoinPool.commonPool());
+  }
+}
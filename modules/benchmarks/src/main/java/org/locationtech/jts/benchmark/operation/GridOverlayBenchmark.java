@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.operation;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.util.AffineTransformation;
+import org.locationtech.jts.operation.overlay.OverlayOp;
+import org.locationtech.jts.operation.overlay.grid.GridOverlayOp;
+import org.locationtech.jts.operation.union.CascadedPolygonUnion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link GridOverlayOp} against {@link OverlayOp}.
+ * The <code>koch</code> dataset is a pair of overlapping fractal polygons,
+ * which must be clipped into every grid cell.
+ * The <code>circles</code> dataset is a pair of offset multipolygons
+ * with many small elements, most of which lie within a single grid cell.
+ * A <code>threads</code> value of 0 runs the grid overlay serially;
+ * other values use a {@link ForkJoinPool} of that size.
+ * 
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GridOverlayBenchmark {
+
+  @Param({ "koch", "circles" })
+  public String data;
+
+  @Param({ "4" })
+  public int gridSize;
+
+  @Param({ "0", "1", "2", "4", "8" })
+  public int threads;
+  
+  private Geometry geomA;
+  private Geometry geomB;
+  private ForkJoinPool pool;
+
+  @Setup
+  public void setup() {
+    if (data.equals("koch")) {
+      geomA = BenchmarkData.kochSnowflake(100000);
+      // a rotated, shifted copy produces many edge intersections
+      AffineTransformation trans = AffineTransformation.rotationInstance(0.3, 500, 500)
+          .translate(100, 50);
+      geomB = trans.transform(geomA);
+    }
+    else {
+      List<Geometry> circles = BenchmarkData.randomCircles(5000, BenchmarkData.EXTENT, 5, 32, BenchmarkData.SEED);
+      geomA = CascadedPolygonUnion.union(circles);
+      geomB = AffineTransformation.translationInstance(3, 2).transform(geomA);
+    }
+    pool = threads > 0 ? new ForkJoinPool(threads) : null;
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (pool != null) pool.shutdown();
+  }
+
+  @Benchmark
+  public Geometry intersectionOverlayOp() {
+    return OverlayOp.overlayOp(geomA, geomB, OverlayOp.INTERSECTION);
+  }
+  
+  @Benchmark
+  public Geometry intersectionGrid() {
+    return gridOverlay(OverlayOp.INTERSECTION);
+  }
+  
+  @Benchmark
+  public Geometry unionGrid() {
+    return gridOverlay(OverlayOp.UNION);
+  }
+
+  private Geometry gridOverlay(int opCode) {
+    GridOverlayOp op = new GridOverlayOp(geomA, geomB);
+    op.setGridSize(gridSize, gridSize);
+    op.setForkJoinPool(pool);
+    return op.getResultGeometry(opCode);
+  }
+}
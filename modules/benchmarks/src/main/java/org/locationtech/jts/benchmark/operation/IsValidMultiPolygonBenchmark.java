@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.operation;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.union.CascadedPolygonUnion;
+import org.locationtech.jts.operation.valid.IsValidOp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link IsValidOp} on a MultiPolygon with many elements,
+ * using the full topology graph and the indexed element-wise validation.
+ * A <code>threads</code> value of 0 uses the topology graph;
+ * other values use a {@link ForkJoinPool} of that size.
+ * 
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IsValidMultiPolygonBenchmark {
+
+  @Param({ "1000", "5000" })
+  public int numPolys;
+
+  @Param({ "0", "1", "2", "4", "8" })
+  public int threads;
+  
+  private Geometry multiPoly;
+  private ForkJoinPool pool;
+
+  @Setup
+  public void setup() {
+    List<Geometry> circles = BenchmarkData.randomCircles(numPolys, BenchmarkData.EXTENT, 5, 32, BenchmarkData.SEED);
+    multiPoly = CascadedPolygonUnion.union(circles);
+    pool = threads > 0 ? new ForkJoinPool(threads) : null;
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (pool != null) pool.shutdown();
+  }
+
+  @Benchmark
+  public boolean isValid() {
+    IsValidOp op = new IsValidOp(multiPoly);
+    op.setForkJoinPool(pool);
+    return op.isValid();
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.operation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.util.AffineTransformation;
+import org.locationtech.jts.operation.overlay.OverlayOp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link OverlayOp} on a pair of overlapping fractal polygons.
+ * 
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OverlayBenchmark {
+
+  @Param({ "1000", "10000", "100000" })
+  public int numPts;
+  
+  private Geometry geomA;
+  private Geometry geomB;
+
+  @Setup
+  public void setup() {
+    geomA = BenchmarkData.kochSnowflake(numPts);
+    // a rotated, shifted copy produces many edge intersections
+    AffineTransformation trans = AffineTransformation.rotationInstance(0.3, 500, 500)
+        .translate(100, 50);
+    geomB = trans.transform(geomA);
+  }
+
+  @Benchmark
+  public Geometry intersection() {
+    return OverlayOp.overlayOp(geomA, geomB, OverlayOp.INTERSECTION);
+  }
+  
+  @Benchmark
+  public Geometry union() {
+    return OverlayOp.overlayOp(geomA, geomB, OverlayOp.UNION);
+  }
+  
+  @Benchmark
+  public Geometry difference() {
+    return OverlayOp.overlayOp(geomA, geomB, OverlayOp.DIFFERENCE);
+  }
+}
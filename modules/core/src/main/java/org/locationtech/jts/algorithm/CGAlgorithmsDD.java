@@ -37,17 +37,39 @@ public class CGAlgorithmsDD
    * @return 0 if q is collinear with p1-p2
    */
   public static int orientationIndex(Coordinate p1, Coordinate p2, Coordinate q)
+  {
+    return orientationIndex(p1.x, p1.y, p2.x, p2.y, q.x, q.y);
+  }
+  
+  /**
+   * Returns the index of the direction of the point <code>q</code> relative to
+   * a vector specified by <code>p1-p2</code>,
+   * with the points given by their ordinates.
+   * 
+   * @param p1x the x-ordinate of the origin point of the vector
+   * @param p1y the y-ordinate of the origin point of the vector
+   * @param p2x the x-ordinate of the final point of the vector
+   * @param p2y the y-ordinate of the final point of the vector
+   * @param qx the x-ordinate of the point to compute the direction to
+   * @param qy the y-ordinate of the point to compute the direction to
+   * 
+   * @return 1 if q is counter-clockwise (left) from p1-p2
+   * @return -1 if q is clockwise (right) from p1-p2
+   * @return 0 if q is collinear with p1-p2
+   */
+  public static int orientationIndex(double p1x, double p1y, 
+      double p2x, double p2y, double qx, double qy)
   {
     // fast filter for orientation index
     // avoids use of slow extended-precision arithmetic in many cases
-    int index = orientationIndexFilter(p1, p2, q);
+    int index = orientationIndexFilter(p1x, p1y, p2x, p2y, qx, qy);
     if (index <= 1) return index;
     
     // normalize coordinates
-    DD dx1 = DD.valueOf(p2.x).selfAdd(-p1.x);
-    DD dy1 = DD.valueOf(p2.y).selfAdd(-p1.y);
-    DD dx2 = DD.valueOf(q.x).selfAdd(-p2.x);
-    DD dy2 = DD.valueOf(q.y).selfAdd(-p2.y);
+    DD dx1 = DD.valueOf(p2x).selfAdd(-p1x);
+    DD dy1 = DD.valueOf(p2y).selfAdd(-p1y);
+    DD dx2 = DD.valueOf(qx).selfAdd(-p2x);
+    DD dy2 = DD.valueOf(qy).selfAdd(-p2y);
 
     // sign of determinant - unrolled for performance
     return dx1.selfMultiply(dy2).selfSubtract(dy1.selfMultiply(dx2)).signum();
@@ -106,18 +128,22 @@ public class CGAlgorithmsDD
    * <p>
    * Uses an approach due to Jonathan Shewchuk, which is in the public domain.
    * 
-   * @param pa a coordinate
-   * @param pb a coordinate
-   * @param pc a coordinate
+   * @param pax the x-ordinate of a point
+   * @param pay the y-ordinate of a point
+   * @param pbx the x-ordinate of a point
+   * @param pby the y-ordinate of a point
+   * @param pcx the x-ordinate of a point
+   * @param pcy the y-ordinate of a point
    * @return the orientation index if it can be computed safely
    * @return i > 1 if the orientation index cannot be computed safely
    */
-  private static int orientationIndexFilter(Coordinate pa, Coordinate pb, Coordinate pc)
+  private static int orientationIndexFilter(double pax, double pay, 
+      double pbx, double pby, double pcx, double pcy)
   {
     double detsum;
 
-    double detleft = (pa.x - pc.x) * (pb.y - pc.y);
-    double detright = (pa.y - pc.y) * (pb.x - pc.x);
+    double detleft = (pax - pcx) * (pby - pcy);
+    double detright = (pay - pcy) * (pbx - pcx);
     double det = detleft - detright;
 
     if (detleft > 0.0) {
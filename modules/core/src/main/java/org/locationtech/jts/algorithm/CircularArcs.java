@@ -0,0 +1,614 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.LineSegment;
+import org.locationtech.jts.geom.Triangle;
+
+/**
+ * Functions for computing with circular arcs,
+ * such as the arc segments of a {@link org.locationtech.jts.geom.CircularString}.
+ * <p>
+ * An arc is specified by three points <tt>p0, p1, p2</tt>.
+ * It is the portion of the circle through the points
+ * which starts at <tt>p0</tt>, passes through <tt>p1</tt>
+ * and ends at <tt>p2</tt>.
+ * The following degenerate cases are handled:
+ * <ul>
+ * <li>if <tt>p0</tt> and <tt>p2</tt> are equal
+ * the arc is the full circle having <tt>p0-p1</tt> as a diameter
+ * <li>if the points are collinear (or all equal)
+ * the arc is the linestring <tt>p0-p1-p2</tt>
+ * </ul>
+ * The computations are exact in the sense that
+ * arcs are not approximated by line segments.
+ * Intersection and distance tests use floating-point arithmetic,
+ * so the results for near-tangent configurations are not robust.
+ *
+ * @author agent
+ *
+ */
+public class CircularArcs {
+
+  /**
+   * Tests whether an arc is degenerate and is treated as the
+   * linestring <tt>p0-p1-p2</tt>.
+   *
+   * @param p0 the start point of the arc
+   * @param p1 the interior point of the arc
+   * @param p2 the end point of the arc
+   * @return true if the arc is linear
+   */
+  public static boolean isLinear(Coordinate p0, Coordinate p1, Coordinate p2)
+  {
+    if (p0.equals2D(p2))
+      return p0.equals2D(p1);
+    return Orientation.index(p0, p1, p2) == Orientation.COLLINEAR;
+  }
+
+  /**
+   * Computes the centre of the circle containing an arc.
+   *
+   * @param p0 the start point of the arc
+   * @param p1 the interior point of the arc
+   * @param p2 the end point of the arc
+   * @return the centre of the arc circle, or null if the arc is linear
+   */
+  public static Coordinate center(Coordinate p0, Coordinate p1, Coordinate p2)
+  {
+    if (isLinear(p0, p1, p2))
+      return null;
+    if (p0.equals2D(p2))
+      return new Coordinate((p0.x + p1.x) / 2, (p0.y + p1.y) / 2);
+    return Triangle.circumcentre(p0, p1, p2);
+  }
+
+  /**
+   * Computes the length of an arc.
+   *
+   * @param p0 the start point of the arc
+   * @param p1 the interior point of the arc
+   * @param p2 the end point of the arc
+   * @return the length of the arc
+   */
+  public static double length(Coordinate p0, Coordinate p1, Coordinate p2)
+  {
+    if (isLinear(p0, p1, p2))
+      return p0.distance(p1) + p1.distance(p2);
+    Coordinate c = center(p0, p1, p2);
+    return c.distance(p0) * Math.abs(sweepAngle(p0, p1, p2));
+  }
+
+  /**
+   * Computes the angle swept by an arc, measured from the start point
+   * to the end point around the arc centre.
+   * The angle is positive if the arc is counter-clockwise,
+   * and negative if it is clockwise.
+   * A full circle has a sweep of 2&pi;,
+   * and a linear arc has a sweep of 0.
+   *
+   * @param p0 the start point of the arc
+   * @param p1 the interior point of the arc
+   * @param p2 the end point of the arc
+   * @return the sweep angle of the arc, in radians
+   */
+  public static double sweepAngle(Coordinate p0, Coordinate p1, Coordinate p2)
+  {
+    Coordinate c = center(p0, p1, p2);
+    if (c == null)
+      return 0.0;
+    // a full circle has no defined orientation, so it is taken to be counter-clockwise
+    if (p0.equals2D(p2))
+      return Angle.PI_TIMES_2;
+    double a0 = Math.atan2(p0.y - c.y, p0.x - c.x);
+    double a2 = Math.atan2(p2.y - c.y, p2.x - c.x);
+    if (Orientation.index(p0, p1, p2) == Orientation.COUNTERCLOCKWISE)
+      return Angle.normalizePositive(a2 - a0);
+    return -Angle.normalizePositive(a0 - a2);
+  }
+
+  /**
+   * Computes the length of a sequence of arcs,
+   * as used by a {@link org.locationtech.jts.geom.CircularString}.
+   * Arc <tt>i</tt> is formed by the points <tt>2i, 2i+1, 2i+2</tt>.
+   *
+   * @param pts the points of the arcs
+   * @return the total length of the arcs
+   */
+  public static double length(CoordinateSequence pts)
+  {
+    double len = 0.0;
+    Coordinate p0 = new Coordinate();
+    Coordinate p1 = new Coordinate();
+    Coordinate p2 = new Coordinate();
+    for (int i = 0; i + 2 < pts.size(); i += 2) {
+      pts.getCoordinate(i, p0);
+      pts.getCoordinate(i + 1, p1);
+      pts.getCoordinate(i + 2, p2);
+      len += length(p0, p1, p2);
+    }
+    return len;
+  }
+
+  /**
+   * Expands an envelope to include an arc.
+   * Along with the arc endpoints this includes
+   * the points where the arc reaches the extreme X and Y values
+   * of its circle.
+   *
+   * @param p0 the start point of the arc
+   * @param p1 the interior point of the arc
+   * @param p2 the end point of the arc
+   * @param env the envelope to expand
+   */
+  public static void expandEnvelope(Coordinate p0, Coordinate p1, Coordinate p2, Envelope env)
+  {
+    env.expandToInclude(p0);
+    env.expandToInclude(p2);
+    Coordinate c = center(p0, p1, p2);
+    if (c == null) {
+      env.expandToInclude(p1);
+      return;
+    }
+    double r = c.distance(p0);
+    expandEnvelopeExtreme(p0, p1, p2, c.x + r, c.y, env);
+    expandEnvelopeExtreme(p0, p1, p2, c.x - r, c.y, env);
+    expandEnvelopeExtreme(p0, p1, p2, c.x, c.y + r, env);
+    expandEnvelopeExtreme(p0, p1, p2, c.x, c.y - r, env);
+  }
+
+  private static void expandEnvelopeExtreme(Coordinate p0, Coordinate p1, Coordinate p2,
+      double x, double y, Envelope env)
+  {
+    Coordinate q = new Coordinate(x, y);
+    if (isOnArc(p0, p1, p2, q))
+      env.expandToInclude(q);
+  }
+
+  /**
+   * Expands an envelope to include a sequence of arcs.
+   *
+   * @param pts the points of the arcs
+   * @param env the envelope to expand
+   * @return the expanded envelope
+   *
+   * @see #length(CoordinateSequence)
+   */
+  public static Envelope expandEnvelope(CoordinateSequence pts, Envelope env)
+  {
+    if (pts.size() < 3)
+      return pts.expandEnvelope(env);
+    Coordinate p0 = new Coordinate();
+    Coordinate p1 = new Coordinate();
+    Coordinate p2 = new Coordinate();
+    for (int i = 0; i + 2 < pts.size(); i += 2) {
+      pts.getCoordinate(i, p0);
+      pts.getCoordinate(i + 1, p1);
+      pts.getCoordinate(i + 2, p2);
+      expandEnvelope(p0, p1, p2, env);
+    }
+    return env;
+  }
+
+  /**
+   * Tests whether a point on the circle of a (non-linear) arc
+   * lies in the arc.
+   * The test is done by comparing the side of the chord <tt>p0-p2</tt>
+   * the point lies on with the side the interior point lies on.
+   *
+   * @param q a point on the arc circle
+   */
+  private static boolean isOnArc(Coordinate p0, Coordinate p1, Coordinate p2, Coordinate q)
+  {
+    // full circle
+    if (p0.equals2D(p2))
+      return true;
+    int side = Orientation.index(p0, p2, q);
+    // on the chord line implies q is an endpoint
+    if (side == Orientation.COLLINEAR)
+      return true;
+    return side == Orientation.index(p0, p2, p1);
+  }
+
+  /**
+   * Computes the point where the ray from a circle centre
+   * through a point meets the circle.
+   *
+   * @return the point on the circle, or null if p is the centre
+   */
+  private static Coordinate projectToCircle(Coordinate c, double r, Coordinate p)
+  {
+    double dx = p.x - c.x;
+    double dy = p.y - c.y;
+    double len = Math.sqrt(dx * dx + dy * dy);
+    if (len == 0.0)
+      return null;
+    return new Coordinate(c.x + r * dx / len, c.y + r * dy / len);
+  }
+
+  /**
+   * Computes the point on an arc nearest to a given point.
+   *
+   * @param p the point to compute the nearest point to
+   * @param p0 the start point of the arc
+   * @param p1 the interior point of the arc
+   * @param p2 the end point of the arc
+   * @return the nearest point on the arc
+   */
+  public static Coordinate closestPoint(Coordinate p, Coordinate p0, Coordinate p1, Coordinate p2)
+  {
+    Coordinate c = center(p0, p1, p2);
+    if (c == null) {
+      Coordinate cp0 = new LineSegment(p0, p1).closestPoint(p);
+      Coordinate cp1 = new LineSegment(p1, p2).closestPoint(p);
+      return p.distance(cp0) <= p.distance(cp1) ? cp0 : cp1;
+    }
+    Coordinate q = projectToCircle(c, c.distance(p0), p);
+    if (q != null && isOnArc(p0, p1, p2, q))
+      return q;
+    return p.distance(p0) <= p.distance(p2) ? p0 : p2;
+  }
+
+  /**
+   * Computes the distance from a point to an arc.
+   *
+   * @param p the point to compute the distance for
+   * @param p0 the start point of the arc
+   * @param p1 the interior point of the arc
+   * @param p2 the end point of the arc
+   * @return the distance from the point to the arc
+   */
+  public static double pointToArc(Coordinate p, Coordinate p0, Coordinate p1, Coordinate p2)
+  {
+    Coordinate c = center(p0, p1, p2);
+    if (c == null) {
+      return Math.min(Distance.pointToSegment(p, p0, p1),
+          Distance.pointToSegment(p, p1, p2));
+    }
+    double r = c.distance(p0);
+    Coordinate q = projectToCircle(c, r, p);
+    if (q != null && isOnArc(p0, p1, p2, q))
+      return Math.abs(p.distance(c) - r);
+    return Math.min(p.distance(p0), p.distance(p2));
+  }
+
+  /**
+   * Computes an intersection point of an arc and a line segment.
+   *
+   * @param p0 the start point of the arc
+   * @param p1 the interior point of the arc
+   * @param p2 the end point of the arc
+   * @param q0 the start point of the segment
+   * @param q1 the end point of the segment
+   * @return an intersection point, or null if the arc and segment do not intersect
+   */
+  public static Coordinate intersection(Coordinate p0, Coordinate p1, Coordinate p2,
+      Coordinate q0, Coordinate q1)
+  {
+    Coordinate sharedPt = sharedEndpoint(p0, p2, q0, q1);
+    if (sharedPt != null)
+      return sharedPt;
+
+    Coordinate c = center(p0, p1, p2);
+    if (c == null) {
+      Coordinate intPt = segmentIntersection(p0, p1, q0, q1);
+      if (intPt != null)
+        return intPt;
+      return segmentIntersection(p1, p2, q0, q1);
+    }
+    double r = c.distance(p0);
+
+    // solve |q0 + t (q1 - q0) - c| = r for t
+    double dx = q1.x - q0.x;
+    double dy = q1.y - q0.y;
+    double fx = q0.x - c.x;
+    double fy = q0.y - c.y;
+    double a = dx * dx + dy * dy;
+    if (a == 0.0) {
+      return q0.distance(c) == r && isOnArc(p0, p1, p2, q0) ? q0.copy() : null;
+    }
+    double b = 2 * (fx * dx + fy * dy);
+    double cc = fx * fx + fy * fy - r * r;
+    double disc = b * b - 4 * a * cc;
+    if (disc < 0)
+      return null;
+    double sqrtDisc = Math.sqrt(disc);
+    Coordinate intPt = segmentCircleIntersection(p0, p1, p2, q0, dx, dy, (-b - sqrtDisc) / (2 * a));
+    if (intPt != null)
+      return intPt;
+    return segmentCircleIntersection(p0, p1, p2, q0, dx, dy, (-b + sqrtDisc) / (2 * a));
+  }
+
+  /**
+   * Tolerance on the segment parameter for intersection points,
+   * to avoid missing intersections at segment endpoints due to round-off.
+   */
+  private static final double SEGMENT_PARAM_TOLERANCE = 1.0e-12;
+
+  private static Coordinate segmentCircleIntersection(Coordinate p0, Coordinate p1, Coordinate p2,
+      Coordinate q0, double dx, double dy, double t)
+  {
+    if (t < -SEGMENT_PARAM_TOLERANCE || t > 1 + SEGMENT_PARAM_TOLERANCE)
+      return null;
+    t = Math.max(0.0, Math.min(1.0, t));
+    Coordinate pt = new Coordinate(q0.x + t * dx, q0.y + t * dy);
+    if (isOnArc(p0, p1, p2, pt))
+      return pt;
+    return null;
+  }
+
+  /**
+   * Tests whether an arc and a line segment intersect.
+   *
+   * @param p0 the start point of the arc
+   * @param p1 the interior point of the arc
+   * @param p2 the end point of the arc
+   * @param q0 the start point of the segment
+   * @param q1 the end point of the segment
+   * @return true if the arc and the segment intersect
+   */
+  public static boolean intersects(Coordinate p0, Coordinate p1, Coordinate p2,
+      Coordinate q0, Coordinate q1)
+  {
+    return intersection(p0, p1, p2, q0, q1) != null;
+  }
+
+  /**
+   * Computes an intersection point of two arcs.
+   *
+   * @param p0 the start point of the first arc
+   * @param p1 the interior point of the first arc
+   * @param p2 the end point of the first arc
+   * @param q0 the start point of the second arc
+   * @param q1 the interior point of the second arc
+   * @param q2 the end point of the second arc
+   * @return an intersection point, or null if the arcs do not intersect
+   */
+  public static Coordinate intersection(Coordinate p0, Coordinate p1, Coordinate p2,
+      Coordinate q0, Coordinate q1, Coordinate q2)
+  {
+    Coordinate sharedPt = sharedEndpoint(p0, p2, q0, q2);
+    if (sharedPt != null)
+      return sharedPt;
+
+    Coordinate cp = center(p0, p1, p2);
+    Coordinate cq = center(q0, q1, q2);
+    if (cp == null) {
+      Coordinate intPt = intersection(q0, q1, q2, p0, p1);
+      if (intPt != null)
+        return intPt;
+      return intersection(q0, q1, q2, p1, p2);
+    }
+    if (cq == null) {
+      Coordinate intPt = intersection(p0, p1, p2, q0, q1);
+      if (intPt != null)
+        return intPt;
+      return intersection(p0, p1, p2, q1, q2);
+    }
+
+    double rp = cp.distance(p0);
+    double rq = cq.distance(q0);
+    double d = cp.distance(cq);
+    if (d > rp + rq || d < Math.abs(rp - rq))
+      return null;
+    if (d == 0.0) {
+      // concentric arcs intersect only if they are on the same circle and overlap
+      if (rp != rq)
+        return null;
+      if (isOnArc(p0, p1, p2, q0)) return q0.copy();
+      if (isOnArc(p0, p1, p2, q2)) return q2.copy();
+      if (isOnArc(q0, q1, q2, p0)) return p0.copy();
+      return null;
+    }
+    // intersection points of the circles lie on the chord perpendicular to the centre line
+    double ux = (cq.x - cp.x) / d;
+    double uy = (cq.y - cp.y) / d;
+    double a = (rp * rp - rq * rq + d * d) / (2 * d);
+    double h = Math.sqrt(Math.max(0.0, rp * rp - a * a));
+    double mx = cp.x + a * ux;
+    double my = cp.y + a * uy;
+    Coordinate pt = new Coordinate(mx - h * uy, my + h * ux);
+    if (isOnArc(p0, p1, p2, pt) && isOnArc(q0, q1, q2, pt))
+      return pt;
+    pt = new Coordinate(mx + h * uy, my - h * ux);
+    if (isOnArc(p0, p1, p2, pt) && isOnArc(q0, q1, q2, pt))
+      return pt;
+    return null;
+  }
+
+  /**
+   * Tests whether two arcs intersect.
+   *
+   * @param p0 the start point of the first arc
+   * @param p1 the interior point of the first arc
+   * @param p2 the end point of the first arc
+   * @param q0 the start point of the second arc
+   * @param q1 the interior point of the second arc
+   * @param q2 the end point of the second arc
+   * @return true if the arcs intersect
+   */
+  public static boolean intersects(Coordinate p0, Coordinate p1, Coordinate p2,
+      Coordinate q0, Coordinate q1, Coordinate q2)
+  {
+    return intersection(p0, p1, p2, q0, q1, q2) != null;
+  }
+
+  /**
+   * Computes the nearest points between an arc and a line segment.
+   *
+   * @param p0 the start point of the arc
+   * @param p1 the interior point of the arc
+   * @param p2 the end point of the arc
+   * @param q0 the start point of the segment
+   * @param q1 the end point of the segment
+   * @return the nearest points on the arc and the segment, in that order
+   */
+  public static Coordinate[] closestPoints(Coordinate p0, Coordinate p1, Coordinate p2,
+      Coordinate q0, Coordinate q1)
+  {
+    LineSegment seg = new LineSegment(q0, q1);
+    Coordinate c = center(p0, p1, p2);
+    if (c == null) {
+      Coordinate[] cp0 = new LineSegment(p0, p1).closestPoints(seg);
+      Coordinate[] cp1 = new LineSegment(p1, p2).closestPoints(seg);
+      return cp0[0].distance(cp0[1]) <= cp1[0].distance(cp1[1]) ? cp0 : cp1;
+    }
+    Coordinate intPt = intersection(p0, p1, p2, q0, q1);
+    if (intPt != null)
+      return new Coordinate[] { intPt, intPt.copy() };
+
+    /**
+     * If the nearest points are not at an endpoint of either the arc or the segment,
+     * they lie on the perpendicular from the segment through the arc centre.
+     */
+    Coordinate[] nearest = new Coordinate[2];
+    double[] minDist = new double[] { Double.MAX_VALUE };
+    updateNearest(closestPoint(q0, p0, p1, p2), q0, nearest, minDist);
+    updateNearest(closestPoint(q1, p0, p1, p2), q1, nearest, minDist);
+    updateNearest(p0, seg.closestPoint(p0), nearest, minDist);
+    updateNearest(p2, seg.closestPoint(p2), nearest, minDist);
+    Coordinate onArc = projectToCircle(c, c.distance(p0), seg.closestPoint(c));
+    if (onArc != null && isOnArc(p0, p1, p2, onArc))
+      updateNearest(onArc, seg.closestPoint(onArc), nearest, minDist);
+    return copy(nearest);
+  }
+
+  /**
+   * Computes the distance between an arc and a line segment.
+   *
+   * @param p0 the start point of the arc
+   * @param p1 the interior point of the arc
+   * @param p2 the end point of the arc
+   * @param q0 the start point of the segment
+   * @param q1 the end point of the segment
+   * @return the distance between the arc and the segment
+   */
+  public static double arcToSegment(Coordinate p0, Coordinate p1, Coordinate p2,
+      Coordinate q0, Coordinate q1)
+  {
+    Coordinate[] pts = closestPoints(p0, p1, p2, q0, q1);
+    return pts[0].distance(pts[1]);
+  }
+
+  /**
+   * Computes the nearest points between two arcs.
+   *
+   * @param p0 the start point of the first arc
+   * @param p1 the interior point of the first arc
+   * @param p2 the end point of the first arc
+   * @param q0 the start point of the second arc
+   * @param q1 the interior point of the second arc
+   * @param q2 the end point of the second arc
+   * @return the nearest points on the first and second arc, in that order
+   */
+  public static Coordinate[] closestPoints(Coordinate p0, Coordinate p1, Coordinate p2,
+      Coordinate q0, Coordinate q1, Coordinate q2)
+  {
+    Coordinate cp = center(p0, p1, p2);
+    Coordinate cq = center(q0, q1, q2);
+    if (cp == null) {
+      Coordinate[] nearest0 = closestPoints(q0, q1, q2, p0, p1);
+      Coordinate[] nearest1 = closestPoints(q0, q1, q2, p1, p2);
+      Coordinate[] nearest = nearest0[0].distance(nearest0[1]) <= nearest1[0].distance(nearest1[1])
+          ? nearest0 : nearest1;
+      return new Coordinate[] { nearest[1], nearest[0] };
+    }
+    if (cq == null) {
+      Coordinate[] nearest0 = closestPoints(p0, p1, p2, q0, q1);
+      Coordinate[] nearest1 = closestPoints(p0, p1, p2, q1, q2);
+      return nearest0[0].distance(nearest0[1]) <= nearest1[0].distance(nearest1[1])
+          ? nearest0 : nearest1;
+    }
+    Coordinate intPt = intersection(p0, p1, p2, q0, q1, q2);
+    if (intPt != null)
+      return new Coordinate[] { intPt, intPt.copy() };
+
+    /**
+     * If the nearest points are not at an endpoint of either arc,
+     * they lie on the line through the two arc centres.
+     */
+    Coordinate[] nearest = new Coordinate[2];
+    double[] minDist = new double[] { Double.MAX_VALUE };
+    updateNearest(p0, closestPoint(p0, q0, q1, q2), nearest, minDist);
+    updateNearest(p2, closestPoint(p2, q0, q1, q2), nearest, minDist);
+    updateNearest(closestPoint(q0, p0, p1, p2), q0, nearest, minDist);
+    updateNearest(closestPoint(q2, p0, p1, p2), q2, nearest, minDist);
+    double d = cp.distance(cq);
+    if (d > 0.0) {
+      double ux = (cq.x - cp.x) / d;
+      double uy = (cq.y - cp.y) / d;
+      double rp = cp.distance(p0);
+      double rq = cq.distance(q0);
+      for (int sign = -1; sign <= 1; sign += 2) {
+        Coordinate onP = new Coordinate(cp.x + sign * rp * ux, cp.y + sign * rp * uy);
+        if (isOnArc(p0, p1, p2, onP))
+          updateNearest(onP, closestPoint(onP, q0, q1, q2), nearest, minDist);
+        Coordinate onQ = new Coordinate(cq.x + sign * rq * ux, cq.y + sign * rq * uy);
+        if (isOnArc(q0, q1, q2, onQ))
+          updateNearest(closestPoint(onQ, p0, p1, p2), onQ, nearest, minDist);
+      }
+    }
+    return copy(nearest);
+  }
+
+  /**
+   * Computes the distance between two arcs.
+   *
+   * @param p0 the start point of the first arc
+   * @param p1 the interior point of the first arc
+   * @param p2 the end point of the first arc
+   * @param q0 the start point of the second arc
+   * @param q1 the interior point of the second arc
+   * @param q2 the end point of the second arc
+   * @return the distance between the arcs
+   */
+  public static double arcToArc(Coordinate p0, Coordinate p1, Coordinate p2,
+      Coordinate q0, Coordinate q1, Coordinate q2)
+  {
+    Coordinate[] pts = closestPoints(p0, p1, p2, q0, q1, q2);
+    return pts[0].distance(pts[1]);
+  }
+
+  private static void updateNearest(Coordinate a, Coordinate b, Coordinate[] nearest, double[] minDist)
+  {
+    double dist = a.distance(b);
+    if (dist < minDist[0]) {
+      minDist[0] = dist;
+      nearest[0] = a;
+      nearest[1] = b;
+    }
+  }
+
+  private static Coordinate[] copy(Coordinate[] pts)
+  {
+    return new Coordinate[] { pts[0].copy(), pts[1].copy() };
+  }
+
+  private static Coordinate sharedEndpoint(Coordinate p0, Coordinate p1, Coordinate q0, Coordinate q1)
+  {
+    if (p0.equals2D(q0) || p0.equals2D(q1)) return p0.copy();
+    if (p1.equals2D(q0) || p1.equals2D(q1)) return p1.copy();
+    return null;
+  }
+
+  private static Coordinate segmentIntersection(Coordinate p0, Coordinate p1, Coordinate q0, Coordinate q1)
+  {
+    LineIntersector li = new RobustLineIntersector();
+    li.computeIntersection(p0, p1, q0, q1);
+    if (! li.hasIntersection())
+      return null;
+    return li.getIntersection(0).copy();
+  }
+}
@@ -0,0 +1,514 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm.locate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.locationtech.jts.algorithm.CGAlgorithmsDD;
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.geom.util.LinearComponentExtracter;
+
+/**
+ * Determines the {@link Location} of large batches of points relative to
+ * an areal geometry.
+ * Points are supplied as arrays of ordinates or as a {@link CoordinateSequence},
+ * and the locations are written into an <code>int</code> array.
+ * <p>
+ * The locations computed are the same as those computed by
+ * {@link IndexedPointInAreaLocator}, but the batch methods 
+ * do not allocate any objects per point.
+ * The geometry segments are stored in primitive arrays,
+ * ordered by the midpoint of their Y extent,
+ * and indexed by a packed interval tree.
+ * <p>
+ * Options allow:
+ * <ul>
+ * <li>processing the points in order of Y ordinate
+ * (see {@link #setSortPoints(boolean)}).
+ * Successive points then visit the same parts of the index,
+ * which improves memory locality for large geometries.
+ * <li>evaluating the points in parallel 
+ * (see {@link #setForkJoinPool(ForkJoinPool)}).
+ * </ul>
+ * The locate methods are thread-safe.
+ *
+ * @author agent
+ *
+ * @see IndexedPointInAreaLocator
+ */
+public class BatchPointInAreaLocator 
+  implements PointOnGeometryLocator
+{
+  /**
+   * The default number of points located by a single parallel task.
+   */
+  public static final int DEFAULT_CHUNK_SIZE = 4096;
+  
+  private static final int NODE_CAPACITY = 8;
+  
+  /**
+   * Segment ordinates, in the order x0, y0, x1, y1
+   */
+  private double[] segs;
+  private int numSegs;
+  /**
+   * Y-extents of the index nodes, stored as min, max pairs.
+   * Level 0 contains the nodes for blocks of segments.
+   */
+  private double[] nodeBounds;
+  private int[] levelOffset;
+  private int[] levelSize;
+  
+  private ForkJoinPool pool = null;
+  private boolean isSortPoints = false;
+  private int chunkSize = DEFAULT_CHUNK_SIZE;
+  
+  /**
+   * Creates a new locator for a given {@link Geometry}.
+   * {@link Polygonal} and {@link LinearRing} geometries
+   * are supported.
+   * 
+   * @param g the Geometry to locate in
+   */
+  public BatchPointInAreaLocator(Geometry g)
+  {
+    if (! (g instanceof Polygonal  || g instanceof LinearRing))
+      throw new IllegalArgumentException("Argument must be Polygonal or LinearRing");
+    loadSegments(g);
+    buildIndex();
+  }
+  
+  /**
+   * Sets the {@link ForkJoinPool} used to locate batches of points in parallel.
+   * If the pool is <code>null</code> (the default)
+   * points are located serially in the calling thread.
+   *
+   * @param pool the pool to use, or null
+   */
+  public void setForkJoinPool(ForkJoinPool pool)
+  {
+    this.pool = pool;
+  }
+  
+  /**
+   * Sets whether batches of points are processed in order of Y ordinate.
+   * This requires sorting the points, 
+   * which is worthwhile when the geometry is large.
+   * The default is <code>false</code>.
+   *
+   * @param isSortPoints true if points should be sorted
+   */
+  public void setSortPoints(boolean isSortPoints)
+  {
+    this.isSortPoints = isSortPoints;
+  }
+
+  /**
+   * Sets the maximum number of points located by a single parallel task.
+   * The default is {@link #DEFAULT_CHUNK_SIZE}.
+   *
+   * @param chunkSize the number of points per task
+   */
+  public void setChunkSize(int chunkSize)
+  {
+    if (chunkSize < 1)
+      throw new IllegalArgumentException("Chunk size must be positive");
+    this.chunkSize = chunkSize;
+  }
+  
+  /**
+   * Determines the {@link Location} of a point in the areal {@link Geometry}.
+   * 
+   * @param p the point to test
+   * @return the location of the point in the geometry  
+   */
+  public int locate(Coordinate p)
+  {
+    return new Counter().locate(p.x, p.y);
+  }
+  
+  /**
+   * Determines the {@link Location}s of a batch of points,
+   * given as arrays of X and Y ordinates.
+   * 
+   * @param xs the X ordinates of the points
+   * @param ys the Y ordinates of the points
+   * @param locations the array to write the point locations to
+   */
+  public void locate(double[] xs, double[] ys, int[] locations)
+  {
+    int n = xs.length;
+    if (ys.length != n || locations.length < n)
+      throw new IllegalArgumentException("Array lengths do not match");
+    int[] order = null;
+    if (isSortPoints) {
+      order = sortByY(ys);
+    }
+    LocateTask task = new LocateTask(xs, ys, order, locations, 0, n);
+    if (pool == null) {
+      task.compute();
+    }
+    else {
+      pool.invoke(task);
+    }
+  }
+  
+  /**
+   * Determines the {@link Location}s of the points in a {@link CoordinateSequence}.
+   * 
+   * @param seq the points to locate
+   * @param locations the array to write the point locations to
+   */
+  public void locate(CoordinateSequence seq, int[] locations)
+  {
+    int n = seq.size();
+    double[] xs = new double[n];
+    double[] ys = new double[n];
+    for (int i = 0; i < n; i++) {
+      xs[i] = seq.getX(i);
+      ys[i] = seq.getY(i);
+    }
+    locate(xs, ys, locations);
+  }
+  
+  private void loadSegments(Geometry g)
+  {
+    List lines = LinearComponentExtracter.getLines(g);
+    int n = 0;
+    for (Object line : lines) {
+      n += Math.max(0, ((LineString) line).getNumPoints() - 1);
+    }
+    segs = new double[4 * n];
+    double[] mid = new double[n];
+    int k = 0;
+    for (Object line : lines) {
+      CoordinateSequence seq = ((LineString) line).getCoordinateSequence();
+      for (int i = 1; i < seq.size(); i++) {
+        segs[4 * k] = seq.getX(i - 1);
+        segs[4 * k + 1] = seq.getY(i - 1);
+        segs[4 * k + 2] = seq.getX(i);
+        segs[4 * k + 3] = seq.getY(i);
+        mid[k] = (segs[4 * k + 1] + segs[4 * k + 3]) / 2;
+        k++;
+      }
+    }
+    numSegs = n;
+    
+    // order segments by Y midpoint, so that index nodes have compact extents
+    int[] order = sortIndex(mid);
+    double[] sorted = new double[4 * n];
+    for (int i = 0; i < n; i++) {
+      System.arraycopy(segs, 4 * order[i], sorted, 4 * i, 4);
+    }
+    segs = sorted;
+  }
+  
+  private void buildIndex()
+  {
+    int numLevels = 0;
+    int size = numSegs;
+    int totalNodes = 0;
+    do {
+      size = (size + NODE_CAPACITY - 1) / NODE_CAPACITY;
+      totalNodes += size;
+      numLevels++;
+    } while (size > 1);
+    
+    levelOffset = new int[numLevels];
+    levelSize = new int[numLevels];
+    nodeBounds = new double[2 * totalNodes];
+    
+    // level 0 nodes bound blocks of segments
+    levelSize[0] = (numSegs + NODE_CAPACITY - 1) / NODE_CAPACITY;
+    for (int j = 0; j < levelSize[0]; j++) {
+      double min = Double.POSITIVE_INFINITY;
+      double max = Double.NEGATIVE_INFINITY;
+      int end = Math.min(numSegs, (j + 1) * NODE_CAPACITY);
+      for (int s = j * NODE_CAPACITY; s < end; s++) {
+        double y0 = segs[4 * s + 1];
+        double y1 = segs[4 * s + 3];
+        min = Math.min(min, Math.min(y0, y1));
+        max = Math.max(max, Math.max(y0, y1));
+      }
+      nodeBounds[2 * j] = min;
+      nodeBounds[2 * j + 1] = max;
+    }
+    for (int level = 1; level < numLevels; level++) {
+      int childOffset = levelOffset[level - 1];
+      int childSize = levelSize[level - 1];
+      levelOffset[level] = childOffset + childSize;
+      levelSize[level] = (childSize + NODE_CAPACITY - 1) / NODE_CAPACITY;
+      for (int j = 0; j < levelSize[level]; j++) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        int end = Math.min(childSize, (j + 1) * NODE_CAPACITY);
+        for (int c = j * NODE_CAPACITY; c < end; c++) {
+          min = Math.min(min, nodeBounds[2 * (childOffset + c)]);
+          max = Math.max(max, nodeBounds[2 * (childOffset + c) + 1]);
+        }
+        int node = levelOffset[level] + j;
+        nodeBounds[2 * node] = min;
+        nodeBounds[2 * node + 1] = max;
+      }
+    }
+  }
+  
+  /**
+   * Computes an order of points by Y ordinate.
+   * The order is only used to improve memory locality,
+   * so it is computed approximately by sorting keys containing 
+   * the Y ordinate quantized to 31 bits and the point index.
+   * This is much faster than an exact indirect sort.
+   */
+  private static int[] sortByY(double[] ys)
+  {
+    int n = ys.length;
+    double minY = Double.POSITIVE_INFINITY;
+    double maxY = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < n; i++) {
+      if (ys[i] < minY) minY = ys[i];
+      if (ys[i] > maxY) maxY = ys[i];
+    }
+    double scale = maxY > minY ? Integer.MAX_VALUE / (maxY - minY) : 0;
+    long[] keys = new long[n];
+    for (int i = 0; i < n; i++) {
+      // NaN and infinite ordinates are quantized to 0
+      long q = (long) ((ys[i] - minY) * scale);
+      keys[i] = (q << 32) | i;
+    }
+    Arrays.sort(keys);
+    int[] order = new int[n];
+    for (int i = 0; i < n; i++) {
+      order[i] = (int) keys[i];
+    }
+    return order;
+  }
+  
+  /**
+   * Computes the permutation which sorts an array of values.
+   */
+  private static int[] sortIndex(double[] values)
+  {
+    int n = values.length;
+    int[] index = new int[n];
+    for (int i = 0; i < n; i++) {
+      index[i] = i;
+    }
+    sortIndex(values, index, 0, n - 1);
+    return index;
+  }
+  
+  /**
+   * Sorts a range of an index array by the referenced values,
+   * using a 3-way quicksort which handles many equal values efficiently.
+   */
+  private static void sortIndex(double[] values, int[] index, int lo, int hi)
+  {
+    while (hi - lo > 16) {
+      int mid = (lo + hi) >>> 1;
+      double pivot = median(values[index[lo]], values[index[mid]], values[index[hi]]);
+      int lt = lo;
+      int gt = hi;
+      int i = lo;
+      while (i <= gt) {
+        double v = values[index[i]];
+        if (v < pivot) {
+          swap(index, lt++, i++);
+        }
+        else if (v > pivot) {
+          swap(index, i, gt--);
+        }
+        else {
+          i++;
+        }
+      }
+      // recurse into the smaller part, to bound the stack depth
+      if (lt - lo < hi - gt) {
+        sortIndex(values, index, lo, lt - 1);
+        lo = gt + 1;
+      }
+      else {
+        sortIndex(values, index, gt + 1, hi);
+        hi = lt - 1;
+      }
+    }
+    // insertion sort for small ranges
+    for (int i = lo + 1; i <= hi; i++) {
+      int item = index[i];
+      double v = values[item];
+      int j = i - 1;
+      while (j >= lo && values[index[j]] > v) {
+        index[j + 1] = index[j];
+        j--;
+      }
+      index[j + 1] = item;
+    }
+  }
+  
+  private static double median(double a, double b, double c)
+  {
+    if (a < b) {
+      if (b < c) return b;
+      return a < c ? c : a;
+    }
+    if (a < c) return a;
+    return b < c ? c : b;
+  }
+  
+  private static void swap(int[] index, int i, int j)
+  {
+    int tmp = index[i];
+    index[i] = index[j];
+    index[j] = tmp;
+  }
+
+  /**
+   * Counts ray crossings for a point, 
+   * using the same logic as {@link org.locationtech.jts.algorithm.RayCrossingCounter}.
+   * A counter is reused for many points.
+   */
+  private class Counter
+  {
+    private double px;
+    private double py;
+    private int crossingCount;
+    private boolean isPointOnSegment;
+    
+    int locate(double x, double y)
+    {
+      px = x;
+      py = y;
+      crossingCount = 0;
+      isPointOnSegment = false;
+      if (numSegs > 0) {
+        int top = levelOffset.length - 1;
+        query(top, levelOffset[top]);
+      }
+      if (isPointOnSegment)
+        return Location.BOUNDARY;
+      if ((crossingCount % 2) == 1)
+        return Location.INTERIOR;
+      return Location.EXTERIOR;
+    }
+    
+    private void query(int level, int node)
+    {
+      if (isPointOnSegment) return;
+      if (py < nodeBounds[2 * node] || py > nodeBounds[2 * node + 1])
+        return;
+      int j = node - levelOffset[level];
+      if (level == 0) {
+        int end = Math.min(numSegs, (j + 1) * NODE_CAPACITY);
+        for (int s = j * NODE_CAPACITY; s < end; s++) {
+          countSegment(4 * s);
+        }
+        return;
+      }
+      int childOffset = levelOffset[level - 1];
+      int end = Math.min(levelSize[level - 1], (j + 1) * NODE_CAPACITY);
+      for (int c = j * NODE_CAPACITY; c < end; c++) {
+        query(level - 1, childOffset + c);
+      }
+    }
+    
+    private void countSegment(int i)
+    {
+      double p1x = segs[i];
+      double p1y = segs[i + 1];
+      double p2x = segs[i + 2];
+      double p2y = segs[i + 3];
+      
+      // check if the segment is strictly to the left of the test point
+      if (p1x < px && p2x < px)
+        return;
+      // check if the point is equal to the current ring vertex
+      if (px == p2x && py == p2y) {
+        isPointOnSegment = true;
+        return;
+      }
+      // horizontal segments are only checked for the point lying on them 
+      if (p1y == py && p2y == py) {
+        double minx = Math.min(p1x, p2x);
+        double maxx = Math.max(p1x, p2x);
+        if (px >= minx && px <= maxx) {
+          isPointOnSegment = true;
+        }
+        return;
+      }
+      // count upward-including-start and downward-including-end crossings
+      if (((p1y > py) && (p2y <= py)) 
+          || ((p2y > py) && (p1y <= py))) {
+        int orient = CGAlgorithmsDD.orientationIndex(p1x, p1y, p2x, p2y, px, py);
+        if (orient == Orientation.COLLINEAR) {
+          isPointOnSegment = true;
+          return;
+        }
+        if (p2y < p1y) {
+          orient = -orient;
+        }
+        if (orient == Orientation.LEFT) {
+          crossingCount++;
+        }
+      }
+    }
+  }
+  
+  /**
+   * Locates a range of points, splitting it in two if it is
+   * larger than the chunk size.
+   */
+  private class LocateTask extends RecursiveAction
+  {
+    private final double[] xs;
+    private final double[] ys;
+    private final int[] order;
+    private final int[] locations;
+    private final int start;
+    private final int end;
+
+    LocateTask(double[] xs, double[] ys, int[] order, int[] locations, int start, int end)
+    {
+      this.xs = xs;
+      this.ys = ys;
+      this.order = order;
+      this.locations = locations;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (pool != null && end - start > chunkSize) {
+        int mid = (start + end) >>> 1;
+        invokeAll(new LocateTask(xs, ys, order, locations, start, mid),
+            new LocateTask(xs, ys, order, locations, mid, end));
+        return;
+      }
+      Counter counter = new Counter();
+      for (int k = start; k < end; k++) {
+        int i = order == null ? k : order[k];
+        locations[i] = counter.locate(xs[i], ys[i]);
+      }
+    }
+  }
+}
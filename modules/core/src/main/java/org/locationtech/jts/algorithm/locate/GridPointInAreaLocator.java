@@ -0,0 +1,467 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm.locate;
+
+import java.util.List;
+
+import org.locationtech.jts.algorithm.CGAlgorithmsDD;
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.geom.util.LinearComponentExtracter;
+
+/**
+ * Determines the {@link Location} of {@link Coordinate}s relative to
+ * an areal geometry, using a precomputed uniform grid.
+ * This is intended for cases where a very large number of points
+ * will be tested against the same area.
+ * <p>
+ * Each grid cell which is not intersected by the geometry boundary
+ * is classified as being in the interior or exterior of the geometry,
+ * so the location of points in these cells is determined by a single array lookup.
+ * Cells which are intersected by the boundary record the segments
+ * which intersect them, and the location of a reference point in the cell.
+ * Points in these cells are located by counting crossings 
+ * of the cell segments along a path to the reference point.
+ * Since the crossing count only involves segments in the cell,
+ * points are located in time proportional to the number of
+ * segments in a cell, rather than the number of segments 
+ * intersected by a ray across the entire geometry.
+ * <p>
+ * The Location is computed precisely, in that points
+ * located on the geometry boundary or segments will 
+ * return {@link Location#BOUNDARY}.
+ * In the rare cases where the local path is not sufficient
+ * (e.g. when it passes through a vertex) 
+ * the point is located using a {@link BatchPointInAreaLocator}.
+ * <p>
+ * The grid resolution is specified by the maximum number of cells,
+ * which determines the memory used.
+ * By default the number of cells is about the same 
+ * as the number of geometry segments.
+ * <p>
+ * {@link Polygonal} and {@link LinearRing} geometries are supported.
+ * <p>
+ * Thread-safe and immutable.
+ *
+ * @author agent
+ *
+ * @see IndexedPointInAreaLocator
+ */
+public class GridPointInAreaLocator 
+  implements PointOnGeometryLocator
+{
+  /**
+   * The maximum number of grid cells used by default.
+   */
+  public static final int DEFAULT_MAX_CELLS = 1 << 22;
+  
+  private static final int MIN_CELLS = 16;
+  
+  /**
+   * Cell code for a boundary cell whose reference point has
+   * even upward crossing parity.
+   */
+  private static final byte BOUNDARY_EVEN = 3;
+  /**
+   * Cell code for a boundary cell whose reference point has
+   * odd upward crossing parity.
+   */
+  private static final byte BOUNDARY_ODD = 4;
+  /**
+   * Cell code for a boundary cell whose reference point 
+   * lies on the boundary.
+   */
+  private static final byte BOUNDARY_NO_REF = 5;
+
+  private final double minX;
+  private final double minY;
+  private final double maxX;
+  private final double maxY;
+  private int numCellsX;
+  private int numCellsY;
+  private double cellWidth;
+  private double cellHeight;
+  private double invCellWidth;
+  private double invCellHeight;
+  
+  private byte[] cellCode;
+  private int[] cellStart;
+  private int[] cellSegs;
+  /**
+   * Segment ordinates, in the order x0, y0, x1, y1
+   */
+  private double[] segs;
+  private final BatchPointInAreaLocator fallbackLocator;
+  
+  /**
+   * Creates a new locator for a given {@link Geometry},
+   * with a grid containing about one cell per geometry segment.
+   * 
+   * @param g the Geometry to locate in
+   */
+  public GridPointInAreaLocator(Geometry g)
+  {
+    this(g, 0);
+  }
+  
+  /**
+   * Creates a new locator for a given {@link Geometry},
+   * with a grid containing at most the given number of cells.
+   * A larger number of cells uses more memory,
+   * but locates more points with a single lookup.
+   * 
+   * @param g the Geometry to locate in
+   * @param maxCells the maximum number of grid cells,
+   * or 0 to use about one cell per geometry segment
+   */
+  public GridPointInAreaLocator(Geometry g, int maxCells)
+  {
+    if (! (g instanceof Polygonal  || g instanceof LinearRing))
+      throw new IllegalArgumentException("Argument must be Polygonal or LinearRing");
+    if (maxCells < 0)
+      throw new IllegalArgumentException("Maximum number of cells must be non-negative");
+    fallbackLocator = new BatchPointInAreaLocator(g);
+    Envelope env = g.getEnvelopeInternal();
+    minX = env.getMinX();
+    minY = env.getMinY();
+    maxX = env.getMaxX();
+    maxY = env.getMaxY();
+    if (env.isNull()) return;
+    
+    loadSegments(g);
+    int numSegs = segs.length / 4;
+    if (maxCells == 0) {
+      maxCells = Math.min(DEFAULT_MAX_CELLS, Math.max(MIN_CELLS, numSegs));
+    }
+    initGrid(env, maxCells);
+    assignSegments();
+    classifyCells();
+  }
+  
+  /**
+   * Gets the number of cells in the X direction.
+   * 
+   * @return the number of cells along the X axis
+   */
+  public int getNumCellsX()
+  {
+    return numCellsX;
+  }
+  
+  /**
+   * Gets the number of cells in the Y direction.
+   * 
+   * @return the number of cells along the Y axis
+   */
+  public int getNumCellsY()
+  {
+    return numCellsY;
+  }
+  
+  /**
+   * Determines the {@link Location} of a point in an areal {@link Geometry}.
+   * 
+   * @param p the point to test
+   * @return the location of the point in the geometry  
+   */
+  public int locate(Coordinate p)
+  {
+    return locate(p.x, p.y);
+  }
+  
+  /**
+   * Determines the {@link Location} of a point in an areal {@link Geometry}.
+   * 
+   * @param x the X ordinate of the point to test
+   * @param y the Y ordinate of the point to test
+   * @return the location of the point in the geometry  
+   */
+  public int locate(double x, double y)
+  {
+    if (cellCode == null || ! (x >= minX && x <= maxX && y >= minY && y <= maxY))
+      return Location.EXTERIOR;
+    int i = cellX(x);
+    int j = cellY(y);
+    int cell = j * numCellsX + i;
+    int code = cellCode[cell];
+    if (code < BOUNDARY_EVEN) 
+      return code;
+    if (code == BOUNDARY_NO_REF)
+      return fallbackLocator.locate(new Coordinate(x, y));
+    return locateInCell(x, y, i, j, cell, code == BOUNDARY_ODD ? 1 : 0);
+  }
+  
+  /**
+   * Locates a point in a boundary cell.
+   * The path from the point to the cell reference point r
+   * goes horizontally to q = (rx, y), then vertically to r.
+   * The parity of the ray crossings changes only where the path crosses
+   * a segment, and those segments all intersect the cell.
+   * So the crossing counts of the point and the path corner 
+   * can be computed using only the cell segments.
+   */
+  private int locateInCell(double x, double y, int i, int j, int cell, int refParity)
+  {
+    double qx = minX + (i + 0.5) * cellWidth;
+    
+    int countP = countCrossings(cell, x, y, false);
+    if (countP < 0) return Location.BOUNDARY;
+    int countQ = countCrossings(cell, qx, y, false);
+    int countQUp = countCrossings(cell, qx, y, true);
+    if (countQ < 0 || countQUp < 0) 
+      return fallbackLocator.locate(new Coordinate(x, y));
+    
+    int parity = (refParity + countQUp + countQ + countP) & 1;
+    return parity == 1 ? Location.INTERIOR : Location.EXTERIOR;
+  }
+  
+  private int cellX(double x)
+  {
+    int i = (int) ((x - minX) * invCellWidth);
+    if (i < 0) return 0;
+    if (i >= numCellsX) return numCellsX - 1;
+    return i;
+  }
+  
+  private int cellY(double y)
+  {
+    int j = (int) ((y - minY) * invCellHeight);
+    if (j < 0) return 0;
+    if (j >= numCellsY) return numCellsY - 1;
+    return j;
+  }
+  
+  private void loadSegments(Geometry g)
+  {
+    List lines = LinearComponentExtracter.getLines(g);
+    int n = 0;
+    for (Object line : lines) {
+      n += Math.max(0, ((LineString) line).getNumPoints() - 1);
+    }
+    segs = new double[4 * n];
+    int k = 0;
+    for (Object line : lines) {
+      CoordinateSequence seq = ((LineString) line).getCoordinateSequence();
+      for (int i = 1; i < seq.size(); i++) {
+        segs[k++] = seq.getX(i - 1);
+        segs[k++] = seq.getY(i - 1);
+        segs[k++] = seq.getX(i);
+        segs[k++] = seq.getY(i);
+      }
+    }
+  }
+  
+  private void initGrid(Envelope env, int maxCells)
+  {
+    double width = env.getWidth();
+    double height = env.getHeight();
+    if (width <= 0 || height <= 0) {
+      // degenerate area - only boundary points are possible
+      numCellsX = 1;
+      numCellsY = 1;
+    }
+    else {
+      double aspect = width / height;
+      numCellsX = (int) Math.max(1, Math.min(maxCells, Math.round(Math.sqrt(maxCells * aspect))));
+      numCellsY = Math.max(1, maxCells / numCellsX);
+    }
+    cellWidth = width / numCellsX;
+    cellHeight = height / numCellsY;
+    invCellWidth = cellWidth > 0 ? 1 / cellWidth : 0;
+    invCellHeight = cellHeight > 0 ? 1 / cellHeight : 0;
+  }
+  
+  /**
+   * Records the segments which intersect each cell, 
+   * in compressed row format.
+   * Cell extents are expanded by a small tolerance, 
+   * so that segments are recorded in every cell a point on them
+   * might be assigned to when computing the cell of a query point.
+   */
+  private void assignSegments()
+  {
+    int numCells = numCellsX * numCellsY;
+    cellStart = new int[numCells + 1];
+    visitSegmentCells(true);
+    // convert counts to start offsets
+    int total = 0;
+    for (int c = 0; c < numCells; c++) {
+      int count = cellStart[c];
+      cellStart[c] = total;
+      total += count;
+    }
+    cellStart[numCells] = total;
+    cellSegs = new int[total];
+    visitSegmentCells(false);
+    // restore start offsets, which were advanced while filling
+    for (int c = numCells; c > 0; c--) {
+      cellStart[c] = cellStart[c - 1];
+    }
+    cellStart[0] = 0;
+  }
+  
+  private void visitSegmentCells(boolean isCounting)
+  {
+    double tolX = cellWidth * 1e-6 + Math.ulp(Math.max(Math.abs(minX), Math.abs(maxX))) * 4;
+    double tolY = cellHeight * 1e-6 + Math.ulp(Math.max(Math.abs(minY), Math.abs(maxY))) * 4;
+    int numSegs = segs.length / 4;
+    for (int s = 0; s < numSegs; s++) {
+      double x0 = segs[4 * s];
+      double y0 = segs[4 * s + 1];
+      double x1 = segs[4 * s + 2];
+      double y1 = segs[4 * s + 3];
+      double segMinY = Math.min(y0, y1);
+      double segMaxY = Math.max(y0, y1);
+      int j0 = cellY(segMinY - tolY);
+      int j1 = cellY(segMaxY + tolY);
+      for (int j = j0; j <= j1; j++) {
+        // clip the segment to the row band
+        double bandMinY = Math.max(segMinY, minY + j * cellHeight - tolY);
+        double bandMaxY = Math.min(segMaxY, minY + (j + 1) * cellHeight + tolY);
+        double xa, xb;
+        if (y0 == y1) {
+          xa = x0;
+          xb = x1;
+        }
+        else {
+          xa = x0 + (x1 - x0) * (bandMinY - y0) / (y1 - y0);
+          xb = x0 + (x1 - x0) * (bandMaxY - y0) / (y1 - y0);
+        }
+        int i0 = cellX(Math.min(xa, xb) - tolX);
+        int i1 = cellX(Math.max(xa, xb) + tolX);
+        for (int i = i0; i <= i1; i++) {
+          int cell = j * numCellsX + i;
+          if (isCounting) {
+            cellStart[cell]++;
+          }
+          else {
+            cellSegs[cellStart[cell]++] = s;
+          }
+        }
+      }
+    }
+  }
+  
+  /**
+   * Classifies each cell.
+   * Runs of consecutive cells in a row which are not intersected 
+   * by the boundary all have the same location, 
+   * so only one point per run needs to be located.
+   */
+  private void classifyCells()
+  {
+    cellCode = new byte[numCellsX * numCellsY];
+    for (int j = 0; j < numCellsY; j++) {
+      int runLoc = -1;
+      for (int i = 0; i < numCellsX; i++) {
+        int cell = j * numCellsX + i;
+        if (cellStart[cell + 1] > cellStart[cell]) {
+          cellCode[cell] = boundaryCellCode(i, j, cell);
+          runLoc = -1;
+          continue;
+        }
+        if (runLoc < 0) {
+          runLoc = fallbackLocator.locate(cellCenter(i, j));
+        }
+        cellCode[cell] = (byte) runLoc;
+      }
+    }
+  }
+  
+  private byte boundaryCellCode(int i, int j, int cell)
+  {
+    Coordinate r = cellCenter(i, j);
+    int loc = fallbackLocator.locate(r);
+    if (loc == Location.BOUNDARY) 
+      return BOUNDARY_NO_REF;
+    int countUp = countCrossings(cell, r.x, r.y, true);
+    if (countUp < 0) 
+      return BOUNDARY_NO_REF;
+    int parity = (loc == Location.INTERIOR ? 1 : 0) ^ (countUp & 1);
+    return parity == 1 ? BOUNDARY_ODD : BOUNDARY_EVEN;
+  }
+  
+  private Coordinate cellCenter(int i, int j)
+  {
+    return new Coordinate(minX + (i + 0.5) * cellWidth, minY + (j + 0.5) * cellHeight);
+  }
+  
+  /**
+   * Counts the crossings of the segments in a cell 
+   * by a ray from a point, 
+   * using the rules of {@link org.locationtech.jts.algorithm.RayCrossingCounter}.
+   * An upward ray is computed by transposing the X and Y ordinates.
+   * 
+   * @return the number of crossings, or -1 if the point lies on a segment
+   */
+  private int countCrossings(int cell, double px, double py, boolean isUp)
+  {
+    int count = 0;
+    for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+      int s = 4 * cellSegs[k];
+      int crossing;
+      if (isUp) {
+        crossing = crossing(segs[s + 1], segs[s], segs[s + 3], segs[s + 2], py, px);
+      }
+      else {
+        crossing = crossing(segs[s], segs[s + 1], segs[s + 2], segs[s + 3], px, py);
+      }
+      if (crossing < 0) return -1;
+      count += crossing;
+    }
+    return count;
+  }
+  
+  /**
+   * Tests whether a segment crosses a ray from a point in the positive X direction.
+   * 
+   * @return 1 if the segment crosses the ray, 0 if not, 
+   * or -1 if the point lies on the segment
+   */
+  private static int crossing(double p1x, double p1y, double p2x, double p2y, double px, double py)
+  {
+    // check if the segment is strictly to the left of the test point
+    if (p1x < px && p2x < px)
+      return 0;
+    // check if the point is equal to a segment endpoint
+    if ((px == p2x && py == p2y) || (px == p1x && py == p1y)) 
+      return -1;
+    // horizontal segments are only checked for the point lying on them 
+    if (p1y == py && p2y == py) {
+      double minx = Math.min(p1x, p2x);
+      double maxx = Math.max(p1x, p2x);
+      if (px >= minx && px <= maxx) 
+        return -1;
+      return 0;
+    }
+    // count upward-including-start and downward-including-end crossings
+    if (((p1y > py) && (p2y <= py)) 
+        || ((p2y > py) && (p1y <= py))) {
+      int orient = CGAlgorithmsDD.orientationIndex(p1x, p1y, p2x, p2y, px, py);
+      if (orient == Orientation.COLLINEAR) 
+        return -1;
+      if (p2y < p1y) {
+        orient = -orient;
+      }
+      if (orient == Orientation.LEFT) 
+        return 1;
+    }
+    return 0;
+  }
+}
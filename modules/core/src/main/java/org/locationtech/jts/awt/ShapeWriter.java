@@ -24,6 +24,7 @@ import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.MultiLineString;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.util.CurveLinearizer;
 
 
 
@@ -50,6 +51,11 @@ import org.locationtech.jts.geom.Polygon;
  * of the input <tt>Geometry</tt>
  * will be represented in the output <tt>Shape</tt>.
  * <p>
+ * Curved geometries are rendered using their linearized form,
+ * computed (and cached) by {@link CurveLinearizer}.
+ * The linearization tolerance can be set via 
+ * {@link #setCurveTolerance(double)}.
+ * <p>
  * 
  */
 public class ShapeWriter 
@@ -81,6 +87,8 @@ public class ShapeWriter
 	
 	private double decimationDistance = 0;
 	
+	private double curveTolerance = 0;
+	
 	/**
 	 * Creates a new ShapeWriter with a specified point transformation
 	 * and point shape factory.
@@ -151,6 +159,22 @@ public class ShapeWriter
     this.decimationDistance = decimationDistance;
   }
   
+  /**
+   * Sets the tolerance used to linearize curved geometries.
+   * The tolerance is specified in the input geometry coordinate system.
+   * When rendering to a screen image, a distance equivalent to 
+   * a fraction of a pixel is suitable.
+   * <p>
+   * The default tolerance is 0.0, which uses the
+   * default {@link CurveLinearizer} tolerance for each geometry.
+   * 
+   * @param curveTolerance the maximum distance between a rendered arc and the true arc
+   */
+  public void setCurveTolerance(double curveTolerance)
+  {
+    this.curveTolerance = curveTolerance;
+  }
+  
 	/**
 	 * Creates a {@link Shape} representing a {@link Geometry}, 
 	 * according to the specified PointTransformation
@@ -248,57 +272,19 @@ public class ShapeWriter
 	
 	private GeneralPath toShape(MultiCircularString mls)
 	{
-		GeneralPath path = new GeneralPath();
-
-		for (int i = 0; i < mls.getNumGeometries(); i++) {
-			CircularString CircularString = (CircularString) mls.getGeometryN(i);
-			path.append(toShape(CircularString), false);
-		}
-		return path;
+		return toShape((MultiLineString) linearize(mls));
 	}
-	private boolean IsColinear(double x1, double y1,
-	double x2, double y2,
-	double x3, double y3)
+
+	private GeneralPath toShape(CircularString arc)
 	{
-		return y2 - y1 / x2- x1 == y3 - y1 / x3 - x1;
+		return toShape((LineString) linearize(arc));
 	}
 
-	private GeneralPath toShape(CircularString CircularString)
+	private Geometry linearize(Geometry geom)
 	{
-		GeneralPath shape = new GeneralPath();
-			
-		Coordinate arcStart = CircularString.getCoordinateN(0);
-		transformPoint(arcStart, transPoint);
-		double arcStartX = transPoint.getX();
-		double arcStartY = transPoint.getY();
-		shape.moveTo((float) arcStartX, (float) arcStartY);
-		
-		int n = CircularString.getNumPoints() - 1;
-		//int count = 0;
-		for (int i = 1; i <= n; i = i + 2) {
-			Coordinate arcMid = CircularString.getCoordinateN(i-1);
-			transformPoint(arcMid, transPoint);
-			double arcMidX = transPoint.getX();
-			double arcMidY = transPoint.getY();
-			Coordinate arcEnd = CircularString.getCoordinateN(i);
-			transformPoint(arcEnd, transPoint);
-			double arcEndX = transPoint.getX();
-			double arcEndY = transPoint.getY();
-
-			if(IsColinear(arcStartX, arcStartY, arcMidX, arcMidY, arcEndX, arcEndY))
-			{
-				shape.lineTo((float)arcEndX, (float)arcEndY);
-			}
-			else
-			{
-				//Get center of circle
-				//Calculate best fit of bezier curve from mid point
-				shape.curveTo((float)arcStartX, (float)arcStartY, (float)arcMidX, (float)arcMidY, (float)arcEndX, (float)arcEndY);
-			}			
-			arcStartX = arcEndX;	  
-			arcStartY = arcEndY;	  
-		}
-		return shape;
+		if (curveTolerance > 0.0)
+			return CurveLinearizer.linearize(geom, curveTolerance);
+		return CurveLinearizer.linearize(geom);
 	}
 
 	private GeneralPath toShape(MultiLineString mls)
@@ -11,7 +11,7 @@
  */
 package org.locationtech.jts.geom;
 
-import org.locationtech.jts.algorithm.Length;
+import org.locationtech.jts.algorithm.CircularArcs;
 import org.locationtech.jts.operation.BoundaryOp;
 
 /**
@@ -157,13 +157,14 @@ public class CircularString
   }
 
   /**
-   *  Returns the length of this <code>CircularString</code>
+   *  Returns the length of this <code>CircularString</code>.
+   *  The length is the exact length of the arc segments.
    *
    *@return the length of the CircularString
    */
   public double getLength()
   {
-   return Length.ofLine(points);
+   return CircularArcs.length(points);
   }
 
   /**
@@ -207,12 +208,15 @@ public class CircularString
     return false;
   }
 
+  /**
+   * Computes the envelope of the arc segments,
+   * including the parts of arcs which bulge beyond the vertices.
+   */
   protected Envelope computeEnvelopeInternal() {
-    // TODO: compute envolope of bulging arc.
     if (isEmpty()) {
       return new Envelope();
     }
-    return points.expandEnvelope(new Envelope());
+    return CircularArcs.expandEnvelope(points, new Envelope());
   }
 
   public boolean equalsExact(Geometry other, double tolerance) {
@@ -79,6 +79,33 @@ class BasicPreparedGeometry
 		return false;
 	}
 
+  /**
+   * Approximate heap size of a coordinate, in bytes.
+   */
+  static final int COORDINATE_BYTES = 40;
+  /**
+   * Approximate heap size of a segment intersection index, in bytes per segment.
+   */
+  static final int INTERSECTION_FINDER_BYTES = 100;
+  /**
+   * Approximate heap size of a point-in-area locator index, in bytes per segment.
+   */
+  static final int POINT_LOCATOR_BYTES = 96;
+
+  /**
+   * Estimates the heap memory used by this prepared geometry,
+   * including the geometry coordinates 
+   * and any indexes which have been built so far.
+   * Since indexes are built lazily, the value may grow
+   * as the prepared geometry is used.
+   * 
+   * @return the approximate memory size in bytes
+   */
+  long estimateMemorySize()
+  {
+    return (long) baseGeom.getNumPoints() * COORDINATE_BYTES;
+  }
+
   /**
    * Determines whether a Geometry g interacts with 
    * this geometry by testing the geometry envelopes.
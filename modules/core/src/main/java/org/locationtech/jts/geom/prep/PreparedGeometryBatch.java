@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.prep;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Evaluates a spatial predicate of a {@link PreparedGeometry}
+ * against a batch of test geometries.
+ * The results are returned as a {@link BitSet},
+ * in which bit <code>i</code> is set if the predicate is true
+ * for the <code>i</code>'th test geometry.
+ * <p>
+ * Before a predicate is evaluated, the envelope of each test geometry
+ * is checked against the envelope of the prepared geometry.
+ * Test geometries which cannot satisfy the predicate
+ * are rejected without calling the prepared geometry.
+ * <p>
+ * The batch can optionally be evaluated in parallel,
+ * by supplying a {@link ForkJoinPool} via {@link #setForkJoinPool(ForkJoinPool)}.
+ * The test geometries are split into chunks which are evaluated concurrently.
+ * This relies on the thread-safety of {@link PreparedGeometry}.
+ * <p>
+ * Example usage:
+ * <pre>
+ * PreparedGeometry prep = PreparedGeometryFactory.prepare(poly);
+ * PreparedGeometryBatch batch = new PreparedGeometryBatch(prep, PreparedGeometryBatch.INTERSECTS);
+ * batch.setForkJoinPool(ForkJoinPool.commonPool());
+ * BitSet isInPoly = batch.evaluate(points);
+ * </pre>
+ *
+ * @author agent
+ *
+ * @see PreparedGeometry
+ */
+public class PreparedGeometryBatch
+{
+  /**
+   * Code for the {@link PreparedGeometry#contains(Geometry)} predicate.
+   */
+  public static final int CONTAINS = 1;
+  /**
+   * Code for the {@link PreparedGeometry#containsProperly(Geometry)} predicate.
+   */
+  public static final int CONTAINS_PROPERLY = 2;
+  /**
+   * Code for the {@link PreparedGeometry#coveredBy(Geometry)} predicate.
+   */
+  public static final int COVERED_BY = 3;
+  /**
+   * Code for the {@link PreparedGeometry#covers(Geometry)} predicate.
+   */
+  public static final int COVERS = 4;
+  /**
+   * Code for the {@link PreparedGeometry#crosses(Geometry)} predicate.
+   */
+  public static final int CROSSES = 5;
+  /**
+   * Code for the {@link PreparedGeometry#disjoint(Geometry)} predicate.
+   */
+  public static final int DISJOINT = 6;
+  /**
+   * Code for the {@link PreparedGeometry#intersects(Geometry)} predicate.
+   */
+  public static final int INTERSECTS = 7;
+  /**
+   * Code for the {@link PreparedGeometry#overlaps(Geometry)} predicate.
+   */
+  public static final int OVERLAPS = 8;
+  /**
+   * Code for the {@link PreparedGeometry#touches(Geometry)} predicate.
+   */
+  public static final int TOUCHES = 9;
+  /**
+   * Code for the {@link PreparedGeometry#within(Geometry)} predicate.
+   */
+  public static final int WITHIN = 10;
+
+  /**
+   * The default number of test geometries evaluated by a single parallel task.
+   */
+  public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+  private static final int BITS_PER_WORD = 64;
+
+  /**
+   * Tests which geometries in an array intersect a prepared geometry.
+   *
+   * @param prepGeom the prepared geometry
+   * @param geoms the geometries to test
+   * @return a bitset with a bit set for each intersecting geometry
+   */
+  public static BitSet intersects(PreparedGeometry prepGeom, Geometry[] geoms)
+  {
+    PreparedGeometryBatch batch = new PreparedGeometryBatch(prepGeom, INTERSECTS);
+    return batch.evaluate(geoms);
+  }
+
+  /**
+   * Tests which geometries in an array are contained by a prepared geometry.
+   *
+   * @param prepGeom the prepared geometry
+   * @param geoms the geometries to test
+   * @return a bitset with a bit set for each contained geometry
+   */
+  public static BitSet contains(PreparedGeometry prepGeom, Geometry[] geoms)
+  {
+    PreparedGeometryBatch batch = new PreparedGeometryBatch(prepGeom, CONTAINS);
+    return batch.evaluate(geoms);
+  }
+
+  private final PreparedGeometry prepGeom;
+  private final int predicate;
+  private final boolean isBaseEmpty;
+  private final double baseMinX;
+  private final double baseMinY;
+  private final double baseMaxX;
+  private final double baseMaxY;
+  private ForkJoinPool pool = null;
+  private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+  /**
+   * Creates a new batch evaluator for a prepared geometry and predicate.
+   *
+   * @param prepGeom the prepared geometry
+   * @param predicate the code of the predicate to evaluate
+   * @throws IllegalArgumentException if the predicate code is not valid
+   */
+  public PreparedGeometryBatch(PreparedGeometry prepGeom, int predicate)
+  {
+    if (predicate < CONTAINS || predicate > WITHIN)
+      throw new IllegalArgumentException("Unknown predicate code: " + predicate);
+    this.prepGeom = prepGeom;
+    this.predicate = predicate;
+    Envelope env = prepGeom.getGeometry().getEnvelopeInternal();
+    isBaseEmpty = env.isNull();
+    baseMinX = env.getMinX();
+    baseMinY = env.getMinY();
+    baseMaxX = env.getMaxX();
+    baseMaxY = env.getMaxY();
+  }
+
+  /**
+   * Sets the {@link ForkJoinPool} used to evaluate the batch in parallel.
+   * If the pool is <code>null</code> (the default)
+   * the batch is evaluated serially in the calling thread.
+   *
+   * @param pool the pool to use, or null
+   */
+  public void setForkJoinPool(ForkJoinPool pool)
+  {
+    this.pool = pool;
+  }
+
+  /**
+   * Sets the maximum number of test geometries evaluated by
+   * a single parallel task.
+   * The value is rounded up to a multiple of 64.
+   * The default is {@link #DEFAULT_CHUNK_SIZE}.
+   *
+   * @param chunkSize the number of geometries per task
+   */
+  public void setChunkSize(int chunkSize)
+  {
+    if (chunkSize < 1)
+      throw new IllegalArgumentException("Chunk size must be positive");
+    this.chunkSize = ((chunkSize + BITS_PER_WORD - 1) / BITS_PER_WORD) * BITS_PER_WORD;
+  }
+
+  /**
+   * Evaluates the predicate against an array of geometries.
+   *
+   * @param geoms the geometries to test
+   * @return a bitset with a bit set for each geometry satisfying the predicate
+   */
+  public BitSet evaluate(Geometry[] geoms)
+  {
+    return evaluate(Arrays.asList(geoms));
+  }
+
+  /**
+   * Evaluates the predicate against a list of geometries.
+   * For efficiency the list should support fast random access.
+   *
+   * @param geoms the geometries to test
+   * @return a bitset with a bit set for each geometry satisfying the predicate
+   */
+  public BitSet evaluate(List<Geometry> geoms)
+  {
+    int size = geoms.size();
+    long[] words = new long[(size + BITS_PER_WORD - 1) / BITS_PER_WORD];
+    if (pool == null) {
+      evaluate(geoms, 0, size, words);
+    }
+    else {
+      pool.invoke(new EvaluateTask(geoms, 0, size, words));
+    }
+    return BitSet.valueOf(words);
+  }
+
+  /**
+   * Evaluates the predicate for a range of geometries,
+   * setting the corresponding bits in an array of words.
+   *
+   * @param geoms the geometries to test
+   * @param start the index of the first geometry
+   * @param end the index after the last geometry
+   * @param words the result bits
+   */
+  private void evaluate(List<Geometry> geoms, int start, int end, long[] words)
+  {
+    for (int i = start; i < end; i++) {
+      if (isTrue(geoms.get(i))) {
+        words[i / BITS_PER_WORD] |= 1L << (i % BITS_PER_WORD);
+      }
+    }
+  }
+
+  private boolean isTrue(Geometry g)
+  {
+    if (! isEnvelopeCompatible(g.getEnvelopeInternal())) {
+      return predicate == DISJOINT;
+    }
+    switch (predicate) {
+    case CONTAINS: return prepGeom.contains(g);
+    case CONTAINS_PROPERLY: return prepGeom.containsProperly(g);
+    case COVERED_BY: return prepGeom.coveredBy(g);
+    case COVERS: return prepGeom.covers(g);
+    case CROSSES: return prepGeom.crosses(g);
+    case DISJOINT: return prepGeom.disjoint(g);
+    case INTERSECTS: return prepGeom.intersects(g);
+    case OVERLAPS: return prepGeom.overlaps(g);
+    case TOUCHES: return prepGeom.touches(g);
+    case WITHIN: return prepGeom.within(g);
+    }
+    return false;
+  }
+
+  /**
+   * Tests whether a test geometry envelope allows the predicate to be true
+   * (or for {@link #DISJOINT}, to be false).
+   *
+   * @param env the envelope of a test geometry
+   * @return false if the predicate outcome is determined by the envelopes alone
+   */
+  private boolean isEnvelopeCompatible(Envelope env)
+  {
+    if (isBaseEmpty || env.isNull())
+      return false;
+    switch (predicate) {
+    case CONTAINS:
+    case CONTAINS_PROPERLY:
+    case COVERS:
+      // base envelope must cover test envelope
+      return env.getMinX() >= baseMinX && env.getMaxX() <= baseMaxX
+          && env.getMinY() >= baseMinY && env.getMaxY() <= baseMaxY;
+    case COVERED_BY:
+    case WITHIN:
+      // test envelope must cover base envelope
+      return baseMinX >= env.getMinX() && baseMaxX <= env.getMaxX()
+          && baseMinY >= env.getMinY() && baseMaxY <= env.getMaxY();
+    }
+    // all other predicates require the envelopes to intersect
+    return ! (env.getMinX() > baseMaxX || env.getMaxX() < baseMinX
+        || env.getMinY() > baseMaxY || env.getMaxY() < baseMinY);
+  }
+
+  /**
+   * Evaluates a range of the batch, splitting it in two if it is
+   * larger than the chunk size.
+   * Ranges are split on word boundaries, so each task
+   * writes to a disjoint set of result words.
+   */
+  private class EvaluateTask extends RecursiveAction
+  {
+    private final List<Geometry> geoms;
+    private final int start;
+    private final int end;
+    private final long[] words;
+
+    EvaluateTask(List<Geometry> geoms, int start, int end, long[] words)
+    {
+      this.geoms = geoms;
+      this.start = start;
+      this.end = end;
+      this.words = words;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (end - start <= chunkSize) {
+        evaluate(geoms, start, end, words);
+        return;
+      }
+      int halfWords = ((end - start) / 2 + BITS_PER_WORD - 1) / BITS_PER_WORD;
+      int mid = start + halfWords * BITS_PER_WORD;
+      invokeAll(new EvaluateTask(geoms, start, mid, words),
+          new EvaluateTask(geoms, mid, end, words));
+    }
+  }
+}
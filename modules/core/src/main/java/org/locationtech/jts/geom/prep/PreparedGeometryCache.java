@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.prep;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * A thread-safe cache of {@link PreparedGeometry}s.
+ * Prepared geometries are keyed either by the identity of the
+ * source {@link Geometry} (via {@link #get(Geometry)}),
+ * or by a key supplied by the caller (via {@link #get(Object, Geometry)}).
+ * <p>
+ * The indexes of prepared geometries are built lazily as predicates are evaluated,
+ * and they can use much more memory than the geometry itself.
+ * The cache tracks an estimate of the memory used by each entry,
+ * including the indexes which have been built
+ * as of the last time the entry was accessed.
+ * When the total estimated memory size or the number of entries
+ * exceeds the cache limits, 
+ * the least-recently-used entries are evicted.
+ * The most recently accessed entry is never evicted,
+ * even if it is larger than the cache limit by itself.
+ * <p>
+ * The cache keeps counts of hits, misses and evictions,
+ * which can be used to tune its size.
+ * <p>
+ * Example usage:
+ * <pre>
+ * PreparedGeometryCache cache = new PreparedGeometryCache(100 * 1024 * 1024);
+ * ...
+ * boolean isInside = cache.get(adminPoly).contains(pt);
+ * </pre>
+ *
+ * @author agent
+ *
+ * @see PreparedGeometry
+ */
+public class PreparedGeometryCache 
+{
+  private final int maxEntries;
+  private final long maxMemorySize;
+  private final PreparedGeometryFactory prepFactory = new PreparedGeometryFactory();
+  // access-ordered, so the eldest entry is the least recently used
+  private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true);
+  private long memorySize = 0;
+  private long hitCount = 0;
+  private long missCount = 0;
+  private long evictionCount = 0;
+  
+  /**
+   * Creates a new cache with a limit on the estimated memory size of its entries.
+   * 
+   * @param maxMemorySize the maximum estimated memory size of the cache, in bytes
+   */
+  public PreparedGeometryCache(long maxMemorySize)
+  {
+    this(Integer.MAX_VALUE, maxMemorySize);
+  }
+  
+  /**
+   * Creates a new cache with limits on the number of entries
+   * and the estimated memory size of the entries.
+   * 
+   * @param maxEntries the maximum number of entries in the cache
+   * @param maxMemorySize the maximum estimated memory size of the cache, in bytes
+   */
+  public PreparedGeometryCache(int maxEntries, long maxMemorySize)
+  {
+    if (maxEntries < 1)
+      throw new IllegalArgumentException("Maximum entries must be positive");
+    if (maxMemorySize < 0)
+      throw new IllegalArgumentException("Maximum memory size must be non-negative");
+    this.maxEntries = maxEntries;
+    this.maxMemorySize = maxMemorySize;
+  }
+  
+  /**
+   * Gets the prepared geometry for a geometry,
+   * preparing it if it is not in the cache.
+   * The geometry is keyed by its identity,
+   * so it should not be modified while it is in the cache.
+   * 
+   * @param geom the geometry to prepare
+   * @return the prepared geometry
+   */
+  public PreparedGeometry get(Geometry geom)
+  {
+    return get(new IdentityKey(geom), geom);
+  }
+  
+  /**
+   * Gets the prepared geometry for a key,
+   * preparing the given geometry if the key is not in the cache.
+   * If the key is in the cache the geometry is not used.
+   * 
+   * @param key the key for the geometry
+   * @param geom the geometry to prepare if the key is not present
+   * @return the prepared geometry for the key
+   */
+  public synchronized PreparedGeometry get(Object key, Geometry geom)
+  {
+    Entry entry = entries.get(key);
+    if (entry != null) {
+      hitCount++;
+      updateSize(entry);
+    }
+    else {
+      missCount++;
+      entry = new Entry((BasicPreparedGeometry) prepFactory.create(geom));
+      entries.put(key, entry);
+      updateSize(entry);
+    }
+    evict(entry);
+    return entry.prepGeom;
+  }
+  
+  /**
+   * Removes the entry for a geometry added by {@link #get(Geometry)}, if present.
+   * The geometry is matched by identity.
+   * (To remove an entry added with an explicit key which is a geometry,
+   * cast the key to <code>Object</code>.)
+   * 
+   * @param geom the geometry to remove
+   * @return true if the geometry was in the cache
+   */
+  public boolean remove(Geometry geom)
+  {
+    return remove(new IdentityKey(geom));
+  }
+  
+  /**
+   * Removes the entry for a key from the cache, if present.
+   * Removals are not counted as evictions.
+   * 
+   * @param key the key to remove
+   * @return true if the key was in the cache
+   */
+  public synchronized boolean remove(Object key)
+  {
+    Entry entry = entries.remove(key);
+    if (entry == null) return false;
+    memorySize -= entry.size;
+    return true;
+  }
+  
+  /**
+   * Removes all entries from the cache.
+   * The cache statistics are not reset.
+   */
+  public synchronized void clear()
+  {
+    entries.clear();
+    memorySize = 0;
+  }
+  
+  /**
+   * Gets the number of entries in the cache.
+   * 
+   * @return the number of entries
+   */
+  public synchronized int size()
+  {
+    return entries.size();
+  }
+  
+  /**
+   * Gets the estimated memory size of the cache entries,
+   * as of the last time each entry was accessed.
+   * 
+   * @return the estimated memory size in bytes
+   */
+  public synchronized long getMemorySize()
+  {
+    return memorySize;
+  }
+  
+  /**
+   * Gets the number of requests which found their key in the cache.
+   * 
+   * @return the number of cache hits
+   */
+  public synchronized long getHitCount()
+  {
+    return hitCount;
+  }
+
+  /**
+   * Gets the number of requests which did not find their key in the cache.
+   * 
+   * @return the number of cache misses
+   */
+  public synchronized long getMissCount()
+  {
+    return missCount;
+  }
+  
+  /**
+   * Gets the number of entries which have been evicted 
+   * to keep the cache within its limits.
+   * 
+   * @return the number of evictions
+   */
+  public synchronized long getEvictionCount()
+  {
+    return evictionCount;
+  }
+  
+  private void updateSize(Entry entry)
+  {
+    long size = entry.prepGeom.estimateMemorySize();
+    memorySize += size - entry.size;
+    entry.size = size;
+  }
+  
+  /**
+   * Evicts least-recently-used entries until the cache is within its limits,
+   * or only the current entry remains.
+   */
+  private void evict(Entry current)
+  {
+    Iterator<Map.Entry<Object, Entry>> it = entries.entrySet().iterator();
+    while ((memorySize > maxMemorySize || entries.size() > maxEntries) && it.hasNext()) {
+      Entry entry = it.next().getValue();
+      if (entry == current) continue;
+      it.remove();
+      memorySize -= entry.size;
+      evictionCount++;
+    }
+  }
+  
+  private static class Entry
+  {
+    final BasicPreparedGeometry prepGeom;
+    long size = 0;
+    
+    Entry(BasicPreparedGeometry prepGeom)
+    {
+      this.prepGeom = prepGeom;
+    }
+  }
+  
+  /**
+   * A key which compares geometries by identity.
+   */
+  private static class IdentityKey
+  {
+    private final Geometry geom;
+    
+    IdentityKey(Geometry geom)
+    {
+      this.geom = geom;
+    }
+    
+    public boolean equals(Object o)
+    {
+      if (! (o instanceof IdentityKey)) return false;
+      return geom == ((IdentityKey) o).geom;
+    }
+    
+    public int hashCode()
+    {
+      return System.identityHashCode(geom);
+    }
+  }
+}
@@ -27,13 +27,13 @@ import org.locationtech.jts.noding.SegmentStringUtil;
 public class PreparedLineString
   extends BasicPreparedGeometry
 {
-  private FastSegmentSetIntersectionFinder segIntFinder = null;
+  private volatile FastSegmentSetIntersectionFinder segIntFinder = null;
 
   public PreparedLineString(Lineal line) {
     super((Geometry) line);
   }
 
-  public synchronized FastSegmentSetIntersectionFinder getIntersectionFinder()
+  public FastSegmentSetIntersectionFinder getIntersectionFinder()
   {
   	/**
   	 * MD - Another option would be to use a simple scan for 
@@ -41,11 +41,24 @@ public class PreparedLineString
   	 * However, testing indicates that there is no particular advantage 
   	 * to this approach.
   	 */
-  	if (segIntFinder == null)
-  		segIntFinder = new FastSegmentSetIntersectionFinder(SegmentStringUtil.extractSegmentStrings(getGeometry()));
+    // lock only on creation, to avoid contention when used by many threads
+    if (segIntFinder == null) {
+      synchronized (this) {
+        if (segIntFinder == null)
+          segIntFinder = new FastSegmentSetIntersectionFinder(SegmentStringUtil.extractSegmentStrings(getGeometry()));
+      }
+    }
     return segIntFinder;
   }
   
+  long estimateMemorySize()
+  {
+    long size = super.estimateMemorySize();
+    if (segIntFinder != null) 
+      size += (long) getGeometry().getNumPoints() * INTERSECTION_FINDER_BYTES;
+    return size;
+  }
+  
   public boolean intersects(Geometry g)
   {
   	if (! envelopesIntersect(g)) return false;
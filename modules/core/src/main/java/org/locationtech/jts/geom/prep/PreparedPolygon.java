@@ -12,6 +12,7 @@
 package org.locationtech.jts.geom.prep;
 
 
+import org.locationtech.jts.algorithm.locate.GridPointInAreaLocator;
 import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
 import org.locationtech.jts.algorithm.locate.PointOnGeometryLocator;
 import org.locationtech.jts.geom.Geometry;
@@ -40,20 +41,34 @@ public class PreparedPolygon
 {
 	private final boolean isRectangle;
 	// create these lazily, since they are expensive
-	private FastSegmentSetIntersectionFinder segIntFinder = null;
-	private PointOnGeometryLocator pia = null;
+	private volatile FastSegmentSetIntersectionFinder segIntFinder = null;
+	private volatile PointOnGeometryLocator pia = null;
 
   public PreparedPolygon(Polygonal poly) {
     super((Geometry) poly);
     isRectangle = getGeometry().isRectangle();
   }
 
+  /**
+   * Creates a prepared polygon which uses the given locator
+   * to locate points in the polygon.
+   * This allows using a locator which is optimized for a particular workload
+   * (e.g. a {@link GridPointInAreaLocator}).
+   * 
+   * @param poly the polygonal geometry to prepare
+   * @param locator a locator for the geometry
+   */
+  public PreparedPolygon(Polygonal poly, PointOnGeometryLocator locator) {
+    this(poly);
+    pia = locator;
+  }
+
   /**
    * Gets the indexed intersection finder for this geometry.
    * 
    * @return the intersection finder
    */
-  public synchronized FastSegmentSetIntersectionFinder getIntersectionFinder()
+  public FastSegmentSetIntersectionFinder getIntersectionFinder()
   {
   	/**
   	 * MD - Another option would be to use a simple scan for 
@@ -61,19 +76,37 @@ public class PreparedPolygon
   	 * However, testing indicates that there is no particular advantage 
   	 * to this approach.
   	 */
-  	if (segIntFinder == null)
-  		segIntFinder = new FastSegmentSetIntersectionFinder(SegmentStringUtil.extractSegmentStrings(getGeometry()));
+    // lock only on creation, to avoid contention when used by many threads
+    if (segIntFinder == null) {
+      synchronized (this) {
+        if (segIntFinder == null)
+          segIntFinder = new FastSegmentSetIntersectionFinder(SegmentStringUtil.extractSegmentStrings(getGeometry()));
+      }
+    }
   	return segIntFinder;
   }
   
-  public synchronized PointOnGeometryLocator getPointLocator()
+  public PointOnGeometryLocator getPointLocator()
   {
-  	if (pia == null)
-      pia = new IndexedPointInAreaLocator(getGeometry());
- 		
+    // lock only on creation, to avoid contention when used by many threads
+    if (pia == null) {
+      synchronized (this) {
+        if (pia == null)
+          pia = new IndexedPointInAreaLocator(getGeometry());
+      }
+    }
     return pia;
   }
   
+  long estimateMemorySize()
+  {
+    long size = super.estimateMemorySize();
+    long numSegs = getGeometry().getNumPoints();
+    if (segIntFinder != null) size += numSegs * INTERSECTION_FINDER_BYTES;
+    if (pia != null) size += numSegs * POINT_LOCATOR_BYTES;
+    return size;
+  }
+  
   public boolean intersects(Geometry g)
   {
   	// envelope test
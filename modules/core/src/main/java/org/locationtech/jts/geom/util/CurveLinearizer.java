@@ -0,0 +1,411 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.locationtech.jts.algorithm.CircularArcs;
+import org.locationtech.jts.geom.Arc;
+import org.locationtech.jts.geom.CircularString;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiCircularString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+
+/**
+ * Converts curved geometries ({@link CircularString}s and
+ * {@link MultiCircularString}s) to linear geometries
+ * ({@link LineString}s and {@link org.locationtech.jts.geom.MultiLineString}s).
+ * <p>
+ * Arcs are linearized so that the maximum distance between
+ * a chord and the arc it replaces is at most a given tolerance.
+ * The number of segments in each arc is chosen from its radius and sweep angle,
+ * with at least one segment per quarter-circle of sweep.
+ * The arc vertices which are shared between consecutive arcs
+ * are preserved exactly.
+ * <p>
+ * The linearized form of each {@link CircularString} is cached
+ * for the most recent tolerances it is linearized at
+ * (up to {@link #MAX_CACHED_TOLERANCES} per curve).
+ * Callers receive a copy of the cached linearization,
+ * so the returned geometries may be freely modified.
+ * The cache holds the curved geometries by weak reference
+ * (using object identity),
+ * so entries are discarded when the geometry is no longer in use.
+ * This avoids re-linearizing the same curved feature in repeated operations.
+ * As with {@link org.locationtech.jts.geom.prep.PreparedGeometry}s,
+ * a geometry should not be modified after it has been linearized.
+ * <p>
+ * The default tolerance is determined for each {@link CircularString}
+ * from its own extent, so that a curve is linearized in the same way
+ * (and its cached linearization reused) in whatever geometry contains it.
+ * <p>
+ * Geometries which contain no curved components are returned unchanged,
+ * without accessing the cache.
+ * This class is used by overlay, buffer and
+ * {@link org.locationtech.jts.awt.ShapeWriter}
+ * to support curved inputs.
+ * <p>
+ * The methods of this class are thread-safe.
+ *
+ * @author agent
+ *
+ */
+public class CurveLinearizer
+{
+  /**
+   * The factor of the geometry envelope extent used to
+   * determine the default linearization tolerance.
+   */
+  public static final double DEFAULT_TOLERANCE_FACTOR = 1.0e-4;
+
+  /**
+   * Flags that the default tolerance of each arc is to be used.
+   */
+  private static final double DEFAULT_TOLERANCE = -1.0;
+
+  /**
+   * The maximum number of tolerances for which the linearization
+   * of a single {@link CircularString} is cached.
+   * The least-recently used tolerance is evicted first.
+   */
+  public static final int MAX_CACHED_TOLERANCES = 4;
+
+  private static final Map<IdentityWeakReference, ToleranceMap> cache
+      = new HashMap<IdentityWeakReference, ToleranceMap>();
+  private static final ReferenceQueue<CircularString> staleRefs = new ReferenceQueue<CircularString>();
+
+  /**
+   * Tests whether a geometry has curved components.
+   *
+   * @param geom the geometry to test
+   * @return true if the geometry contains a {@link CircularString}
+   */
+  public static boolean hasCurves(Geometry geom)
+  {
+    if (geom instanceof Arc)
+      return true;
+    if (! (geom instanceof GeometryCollection))
+      return false;
+    // typed collections cannot contain curves
+    if (geom instanceof MultiPolygon
+        || geom instanceof MultiLineString
+        || geom instanceof MultiPoint)
+      return false;
+    for (int i = 0; i < geom.getNumGeometries(); i++) {
+      if (hasCurves(geom.getGeometryN(i)))
+        return true;
+    }
+    return false;
+  }
+
+  /**
+   * Computes the default linearization tolerance for a geometry.
+   * This is a fixed fraction of the extent of the geometry envelope.
+   *
+   * @param geom the geometry to be linearized
+   * @return the default linearization tolerance
+   */
+  public static double defaultTolerance(Geometry geom)
+  {
+    Envelope env = geom.getEnvelopeInternal();
+    double extent = Math.max(env.getWidth(), env.getHeight());
+    if (extent <= 0.0)
+      return Double.MAX_VALUE;
+    return DEFAULT_TOLERANCE_FACTOR * extent;
+  }
+
+  /**
+   * Linearizes a geometry using the default tolerance
+   * of each {@link CircularString} it contains.
+   *
+   * @param geom the geometry to linearize
+   * @return a linear geometry, or the input if it has no curved components
+   *
+   * @see #defaultTolerance(Geometry)
+   */
+  public static Geometry linearize(Geometry geom)
+  {
+    if (! hasCurves(geom))
+      return geom;
+    return linearizeComponents(geom, DEFAULT_TOLERANCE);
+  }
+
+  /**
+   * Linearizes a geometry using a given tolerance.
+   * {@link CircularString}s are converted to {@link LineString}s
+   * and {@link MultiCircularString}s to {@link org.locationtech.jts.geom.MultiLineString}s.
+   * Collections are rebuilt with their curved components linearized.
+   *
+   * @param geom the geometry to linearize
+   * @param tolerance the maximum distance between the linearized form and the arcs
+   * @return a linear geometry, or the input if it has no curved components
+   * @throws IllegalArgumentException if the tolerance is not positive
+   */
+  public static Geometry linearize(Geometry geom, double tolerance)
+  {
+    checkTolerance(tolerance);
+    if (! hasCurves(geom))
+      return geom;
+    return linearizeComponents(geom, tolerance);
+  }
+
+  /**
+   * Linearizes the curved components of a geometry.
+   * A tolerance of {@link #DEFAULT_TOLERANCE} uses the default tolerance
+   * of each {@link CircularString}.
+   */
+  private static Geometry linearizeComponents(Geometry geom, double tolerance)
+  {
+    if (geom instanceof CircularString)
+      return linearizeArc((CircularString) geom, tolerance);
+    if (geom instanceof MultiCircularString) {
+      LineString[] lines = new LineString[geom.getNumGeometries()];
+      for (int i = 0; i < lines.length; i++) {
+        lines[i] = linearizeArc((CircularString) geom.getGeometryN(i), tolerance);
+      }
+      return geom.getFactory().createMultiLineString(lines);
+    }
+    if (! hasCurves(geom))
+      return geom;
+    // a general collection containing curves
+    Geometry[] geoms = new Geometry[geom.getNumGeometries()];
+    for (int i = 0; i < geoms.length; i++) {
+      geoms[i] = linearizeComponents(geom.getGeometryN(i), tolerance);
+    }
+    return geom.getFactory().createGeometryCollection(geoms);
+  }
+
+  private static LineString linearizeArc(CircularString arc, double tolerance)
+  {
+    if (tolerance == DEFAULT_TOLERANCE)
+      return linearize(arc, defaultTolerance(arc));
+    return linearize(arc, tolerance);
+  }
+
+  /**
+   * Linearizes a {@link CircularString} using a given tolerance.
+   * The linearization is cached, and a copy of it is returned.
+   *
+   * @param arc the CircularString to linearize
+   * @param tolerance the maximum distance between the linearized form and the arcs
+   * @return the linearized CircularString
+   * @throws IllegalArgumentException if the tolerance is not positive
+   */
+  public static LineString linearize(CircularString arc, double tolerance)
+  {
+    checkTolerance(tolerance);
+    return (LineString) cachedLinearization(arc, tolerance).copy();
+  }
+
+  /**
+   * Gets the cached linearization of a {@link CircularString},
+   * computing and caching it if not present.
+   * The returned geometry is shared and must not be exposed to callers.
+   */
+  private static LineString cachedLinearization(CircularString arc, double tolerance)
+  {
+    Double key = Double.valueOf(tolerance);
+    synchronized (cache) {
+      purgeStaleEntries();
+      ToleranceMap entry = cache.get(new IdentityWeakReference(arc, null));
+      if (entry != null) {
+        LineString line = entry.get(key);
+        if (line != null)
+          return line;
+      }
+    }
+    LineString line = arc.getFactory().createLineString(
+        linearize(arc.getCoordinateSequence(), tolerance));
+    synchronized (cache) {
+      IdentityWeakReference ref = new IdentityWeakReference(arc, staleRefs);
+      ToleranceMap entry = cache.get(ref);
+      if (entry == null) {
+        entry = new ToleranceMap();
+        cache.put(ref, entry);
+      }
+      entry.put(key, line);
+    }
+    return line;
+  }
+
+  /**
+   * Linearizes a sequence of arcs using a given tolerance.
+   * Arc <tt>i</tt> is formed by the points <tt>2i, 2i+1, 2i+2</tt>.
+   * The result is not cached.
+   *
+   * @param pts the points of the arcs
+   * @param tolerance the maximum distance between the linearized form and the arcs
+   * @return the vertices of the linearized arcs
+   * @throws IllegalArgumentException if the tolerance is not positive
+   */
+  public static Coordinate[] linearize(CoordinateSequence pts, double tolerance)
+  {
+    checkTolerance(tolerance);
+    if (pts.size() < 3)
+      return pts.toCoordinateArray();
+    CoordinateList coords = new CoordinateList();
+    coords.add(pts.getCoordinate(0).copy(), true);
+    for (int i = 0; i + 2 < pts.size(); i += 2) {
+      addArc(pts.getCoordinate(i), pts.getCoordinate(i + 1), pts.getCoordinate(i + 2),
+          tolerance, coords);
+    }
+    return coords.toCoordinateArray();
+  }
+
+  private static void checkTolerance(double tolerance)
+  {
+    if (! (tolerance > 0.0))
+      throw new IllegalArgumentException("Tolerance must be positive");
+  }
+
+  /**
+   * Adds the linearized form of an arc,
+   * excluding the start point (which has already been added).
+   */
+  private static void addArc(Coordinate p0, Coordinate p1, Coordinate p2,
+      double tolerance, CoordinateList coords)
+  {
+    Coordinate c = CircularArcs.center(p0, p1, p2);
+    if (c == null) {
+      coords.add(p1.copy(), true);
+      coords.add(p2.copy(), true);
+      return;
+    }
+    double r = c.distance(p0);
+    double sweep = CircularArcs.sweepAngle(p0, p1, p2);
+    int nSeg = numSegments(r, Math.abs(sweep), tolerance);
+    double a0 = Math.atan2(p0.y - c.y, p0.x - c.x);
+    for (int i = 1; i < nSeg; i++) {
+      double a = a0 + sweep * i / nSeg;
+      coords.add(new Coordinate(c.x + r * Math.cos(a), c.y + r * Math.sin(a)), true);
+    }
+    coords.add(p2.copy(), true);
+  }
+
+  /**
+   * Computes the number of chords needed so that the
+   * maximum chord deviation (sagitta) is at most the tolerance.
+   */
+  private static int numSegments(double radius, double sweep, double tolerance)
+  {
+    int minSeg = Math.max(1, (int) Math.ceil(sweep / (Math.PI / 2)));
+    if (tolerance >= radius)
+      return minSeg;
+    // the sagitta of a chord subtending angle t is r (1 - cos(t/2))
+    double maxAngle = 2 * Math.acos(1 - tolerance / radius);
+    int nSeg = (int) Math.ceil(sweep / maxAngle);
+    return Math.max(minSeg, nSeg);
+  }
+
+  /**
+   * Gets the number of curved geometries with cached linearizations.
+   *
+   * @return the number of cache entries
+   */
+  public static int getCacheSize()
+  {
+    synchronized (cache) {
+      purgeStaleEntries();
+      return cache.size();
+    }
+  }
+
+  /**
+   * Gets the number of tolerances for which a curve has a cached linearization.
+   */
+  static int getCachedToleranceCount(CircularString arc)
+  {
+    synchronized (cache) {
+      ToleranceMap entry = cache.get(new IdentityWeakReference(arc, null));
+      return entry == null ? 0 : entry.size();
+    }
+  }
+
+  /**
+   * Removes all cached linearizations.
+   */
+  public static void clearCache()
+  {
+    synchronized (cache) {
+      cache.clear();
+      while (staleRefs.poll() != null) { }
+    }
+  }
+
+  private static void purgeStaleEntries()
+  {
+    Reference<? extends CircularString> ref;
+    while ((ref = staleRefs.poll()) != null) {
+      cache.remove(ref);
+    }
+  }
+
+  /**
+   * The linearizations of a single curve, keyed by tolerance.
+   * Only the {@link #MAX_CACHED_TOLERANCES} most recently used are kept.
+   */
+  private static class ToleranceMap extends LinkedHashMap<Double, LineString>
+  {
+    private static final long serialVersionUID = 1L;
+
+    ToleranceMap()
+    {
+      super(4, 0.75f, true);
+    }
+
+    protected boolean removeEldestEntry(Map.Entry<Double, LineString> eldest)
+    {
+      return size() > MAX_CACHED_TOLERANCES;
+    }
+  }
+
+  /**
+   * A weak reference which uses the identity of its referent for equality.
+   * A cleared reference is equal only to itself.
+   */
+  private static class IdentityWeakReference extends WeakReference<CircularString>
+  {
+    private final int hash;
+
+    IdentityWeakReference(CircularString arc, ReferenceQueue<CircularString> queue)
+    {
+      super(arc, queue);
+      hash = System.identityHashCode(arc);
+    }
+
+    public int hashCode()
+    {
+      return hash;
+    }
+
+    public boolean equals(Object o)
+    {
+      if (this == o) return true;
+      if (! (o instanceof IdentityWeakReference)) return false;
+      Object referent = get();
+      return referent != null && referent == ((IdentityWeakReference) o).get();
+    }
+  }
+}
@@ -12,16 +12,20 @@
 package org.locationtech.jts.index.hprtree;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.index.ArrayListVisitor;
 import org.locationtech.jts.index.ItemVisitor;
 import org.locationtech.jts.index.SpatialIndex;
+import org.locationtech.jts.index.strtree.ItemBoundable;
+import org.locationtech.jts.index.strtree.ItemDistance;
 import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.util.IntPairPriorityQueue;
+import org.locationtech.jts.util.ParallelSort;
 
 /**
  * A Hilbert-Packed R-tree.  This is a static R-tree
@@ -52,6 +56,16 @@ import org.locationtech.jts.index.strtree.STRtree;
  * However, it is not clear whether this 
  * will produce a significant improvement 
  * for use in JTS operations.
+ * <p>
+ * Building a large tree can optionally be done in parallel,
+ * by supplying a {@link ForkJoinPool} via {@link #setForkJoinPool(ForkJoinPool)}.
+ * The items are sorted in parallel, and the nodes of each layer
+ * are computed concurrently.
+ * The tree produced is identical to that built serially.
+ * <p>
+ * The tree supports k-nearest-neighbour queries
+ * and queries for items within a distance of a query item,
+ * using an {@link ItemDistance} metric.
  * 
  * @see STRtree
  * 
@@ -80,6 +94,8 @@ public class HPRtree
 
   private boolean isBuilt = false;
 
+  private ForkJoinPool pool = null;
+
   //public int nodeIntersectsCount;
 
   /**
@@ -98,6 +114,17 @@ public class HPRtree
     this.nodeCapacity = nodeCapacity;
   }
   
+  /**
+   * Sets the {@link ForkJoinPool} used to build the tree in parallel.
+   * If the pool is <code>null</code> (the default)
+   * the tree is built serially in the calling thread.
+   * 
+   * @param pool the pool to use, or null
+   */
+  public void setForkJoinPool(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+  
   /**
    * Gets the number of items in the index.
    * 
@@ -222,6 +249,236 @@ public class HPRtree
     return layerEnd - layerStart;
   }
 
+  /**
+   * Finds the item in this tree which is nearest to the given {@link Object}, 
+   * using {@link ItemDistance} as the distance metric.
+   * The query <tt>object</tt> does <b>not</b> have to be 
+   * contained in the tree, but it does 
+   * have to be compatible with the <tt>itemDist</tt> 
+   * distance metric. 
+   * 
+   * @param env the envelope of the query item
+   * @param item the item to find the nearest neighbour of
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @return the nearest item in this tree
+   *    or <code>null</code> if the tree is empty
+   * 
+   * @see #nearestNeighbour(Envelope, Object, ItemDistance, int)
+   */
+  public Object nearestNeighbour(Envelope env, Object item, ItemDistance itemDist) {
+    Object[] nearest = nearestNeighbour(env, item, itemDist, 1);
+    if (nearest.length == 0) return null;
+    return nearest[0];
+  }
+  
+  /**
+   * Finds the k items in this tree which are nearest to the given {@link Object}, 
+   * using {@link ItemDistance} as the distance metric.
+   * A Branch-and-Bound traversal of the tree nodes is used,
+   * with a priority queue of primitive values 
+   * to avoid allocating an object for each queue entry.
+   * <p>
+   * The query <tt>object</tt> does <b>not</b> have to be 
+   * contained in the tree, but it does 
+   * have to be compatible with the <tt>itemDist</tt> 
+   * distance metric. 
+   * 
+   * @param env the envelope of the query item
+   * @param item the item to find the nearest neighbours of
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @param k the number of nearest items to find
+   * @return the k nearest items in this tree, in order of increasing distance
+   *    (fewer if the tree contains fewer than k items)
+   */
+  public Object[] nearestNeighbour(Envelope env, Object item, ItemDistance itemDist, int k) {
+    build();
+    if (items.isEmpty() || k <= 0) return new Object[0];
+    ItemBoundable queryBnd = new ItemBoundable(env, item);
+
+    // queue entries are (layer index, node offset), or (ITEM_LAYER, item index)
+    IntPairPriorityQueue priQ = new IntPairPriorityQueue();
+    // the k nearest items found so far, as a max-queue using negated distances
+    IntPairPriorityQueue nearest = new IntPairPriorityQueue(k + 1);
+    double distanceBound = Double.POSITIVE_INFINITY;
+    
+    if (layerStartIndex == null) {
+      for (int i = 0; i < items.size(); i++) {
+        priQ.add(itemDistance(i, queryBnd, itemDist), ITEM_LAYER, i);
+      }
+    }
+    else {
+      int layerIndex = layerStartIndex.length - 2;
+      int layerSize = layerSize(layerIndex);
+      for (int i = 0; i < layerSize; i += ENV_SIZE) {
+        priQ.add(distance(layerStartIndex[layerIndex] + i, env), layerIndex, i);
+      }
+    }
+    
+    while (! priQ.isEmpty()) {
+      double dist = priQ.peekPriority();
+      int layerIndex = priQ.peekValue1();
+      int offset = priQ.peekValue2();
+      priQ.poll();
+      
+      /**
+       * If the distance for the head of the queue
+       * is >= the current bound, all other entries
+       * in the queue must also have a greater distance,
+       * so the search is complete.
+       */
+      if (dist >= distanceBound) break;
+      
+      if (layerIndex == ITEM_LAYER) {
+        nearest.add(-dist, ITEM_LAYER, offset);
+        if (nearest.size() > k) nearest.poll();
+        if (nearest.size() == k) distanceBound = -nearest.peekPriority();
+      }
+      else if (layerIndex == 0) {
+        int blockStart = offset / ENV_SIZE * nodeCapacity;
+        for (int i = 0; i < nodeCapacity; i++) {
+          int itemIndex = blockStart + i;
+          if (itemIndex >= items.size()) break;
+          double itemDistance = itemDistance(itemIndex, queryBnd, itemDist);
+          if (itemDistance < distanceBound) priQ.add(itemDistance, ITEM_LAYER, itemIndex);
+        }
+      }
+      else {
+        int childLayer = layerIndex - 1;
+        int childLayerStart = layerStartIndex[childLayer];
+        int childLayerEnd = layerStartIndex[layerIndex];
+        int blockOffset = offset * nodeCapacity;
+        for (int i = 0; i < nodeCapacity; i++) {
+          int childOffset = blockOffset + ENV_SIZE * i;
+          if (childLayerStart + childOffset >= childLayerEnd) break;
+          double nodeDist = distance(childLayerStart + childOffset, env);
+          if (nodeDist < distanceBound) priQ.add(nodeDist, childLayer, childOffset);
+        }
+      }
+    }
+    // extract items, farthest first
+    Object[] result = new Object[nearest.size()];
+    for (int i = result.length - 1; i >= 0; i--) {
+      result[i] = items.get(nearest.peekValue2()).getItem();
+      nearest.poll();
+    }
+    return result;
+  }
+  
+  /**
+   * Finds all items in this tree which are within a given distance 
+   * of the given {@link Object},
+   * using {@link ItemDistance} as the distance metric.
+   * 
+   * @param env the envelope of the query item
+   * @param item the query item
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @param maxDistance the distance limit for the query
+   * @return a list of the items within the distance
+   */
+  public List queryWithinDistance(Envelope env, Object item, ItemDistance itemDist, double maxDistance) {
+    ArrayListVisitor visitor = new ArrayListVisitor();
+    queryWithinDistance(env, item, itemDist, maxDistance, visitor);
+    return visitor.getItems();
+  }
+  
+  /**
+   * Finds all items in this tree which are within a given distance 
+   * of the given {@link Object},
+   * using {@link ItemDistance} as the distance metric,
+   * and passes them to a visitor.
+   * Only nodes within the distance of the query envelope are searched.
+   * 
+   * @param env the envelope of the query item
+   * @param item the query item
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @param maxDistance the distance limit for the query
+   * @param visitor a visitor to pass the items found to
+   */
+  public void queryWithinDistance(Envelope env, Object item, ItemDistance itemDist, double maxDistance,
+      ItemVisitor visitor) {
+    build();
+    if (items.isEmpty()) return;
+    ItemBoundable queryBnd = new ItemBoundable(env, item);
+    if (layerStartIndex == null) {
+      queryItemsWithinDistance(0, queryBnd, itemDist, maxDistance, visitor);
+      return;
+    }
+    int layerIndex = layerStartIndex.length - 2;
+    int layerSize = layerSize(layerIndex);
+    for (int i = 0; i < layerSize; i += ENV_SIZE) {
+      queryNodeWithinDistance(layerIndex, i, queryBnd, itemDist, maxDistance, visitor);
+    }
+  }
+
+  private void queryNodeWithinDistance(int layerIndex, int nodeOffset, ItemBoundable queryBnd, 
+      ItemDistance itemDist, double maxDistance, ItemVisitor visitor) {
+    int nodeIndex = layerStartIndex[layerIndex] + nodeOffset;
+    if (distance(nodeIndex, (Envelope) queryBnd.getBounds()) > maxDistance) return;
+    if (layerIndex == 0) {
+      int blockStart = nodeOffset / ENV_SIZE * nodeCapacity;
+      queryItemsWithinDistance(blockStart, queryBnd, itemDist, maxDistance, visitor);
+      return;
+    }
+    int childLayer = layerIndex - 1;
+    int childLayerStart = layerStartIndex[childLayer];
+    int childLayerEnd = layerStartIndex[layerIndex];
+    int blockOffset = nodeOffset * nodeCapacity;
+    for (int i = 0; i < nodeCapacity; i++) {
+      int childOffset = blockOffset + ENV_SIZE * i;
+      if (childLayerStart + childOffset >= childLayerEnd) break;
+      queryNodeWithinDistance(childLayer, childOffset, queryBnd, itemDist, maxDistance, visitor);
+    }
+  }
+
+  private void queryItemsWithinDistance(int blockStart, ItemBoundable queryBnd, 
+      ItemDistance itemDist, double maxDistance, ItemVisitor visitor) {
+    for (int i = 0; i < nodeCapacity; i++) {
+      int itemIndex = blockStart + i;
+      if (itemIndex >= items.size()) break;
+      if (itemDistance(itemIndex, queryBnd, itemDist) <= maxDistance) {
+        visitor.visitItem(items.get(itemIndex).getItem());
+      }
+    }
+  }
+
+  /**
+   * Value of the layer index used to indicate an item in a search queue.
+   */
+  private static final int ITEM_LAYER = -1;
+  
+  private double itemDistance(int itemIndex, ItemBoundable queryBnd, ItemDistance itemDist) {
+    // items are ItemBoundables, so no object is created per distance
+    return itemDist.distance(items.get(itemIndex), queryBnd);
+  }
+
+  /**
+   * Computes the distance between the bounds of a node and an envelope.
+   * 
+   * @param nodeIndex the index of the node bounds
+   * @param env an envelope
+   * @return the distance between the node bounds and the envelope
+   * 
+   * @see Envelope#distance(Envelope)
+   */
+  private double distance(int nodeIndex, Envelope env) {
+    double dx = 0.0;
+    if (nodeBounds[nodeIndex + 2] < env.getMinX())
+      dx = env.getMinX() - nodeBounds[nodeIndex + 2];
+    else if (nodeBounds[nodeIndex] > env.getMaxX())
+      dx = nodeBounds[nodeIndex] - env.getMaxX();
+    
+    double dy = 0.0;
+    if (nodeBounds[nodeIndex + 3] < env.getMinY())
+      dy = env.getMinY() - nodeBounds[nodeIndex + 3];
+    else if (nodeBounds[nodeIndex + 1] > env.getMaxY())
+      dy = nodeBounds[nodeIndex + 1] - env.getMaxY();
+    
+    // if either is zero, the envelopes overlap either vertically or horizontally
+    if (dx == 0.0) return dy;
+    if (dy == 0.0) return dx;
+    return Math.sqrt(dx * dx + dy * dy);
+  }
+
   @Override
   public boolean remove(Envelope itemEnv, Object item) {
     // TODO Auto-generated method stub
@@ -247,13 +504,69 @@ public class HPRtree
     nodeBounds = createBoundsArray(nodeCount);
     
     // compute tree nodes
-    computeLeafNodes(layerStartIndex[1]);
-    for (int i = 1; i < layerStartIndex.length - 1; i++) {
-      computeLayerNodes(i);
+    if (pool == null) {
+      computeLeafNodes(layerStartIndex[1]);
+      for (int i = 1; i < layerStartIndex.length - 1; i++) {
+        computeLayerNodes(i);
+      }
+    }
+    else {
+      // layers depend on the layer below, but the nodes in a layer are independent
+      for (int i = 0; i < layerStartIndex.length - 1; i++) {
+        pool.invoke(new LayerNodesTask(i, 0, layerSize(i)));
+      }
     }
     //dumpNodes();
   }
 
+  /**
+   * The minimum number of nodes in a layer computed by a single parallel task.
+   */
+  private static final int MIN_PARALLEL_NODES = 4096;
+
+  /**
+   * Computes the bounds of a range of nodes in a layer,
+   * splitting the range in two if it is large.
+   * Each task writes a disjoint range of the node bounds array.
+   */
+  private class LayerNodesTask extends RecursiveAction {
+    private final int layerIndex;
+    private final int start;
+    private final int end;
+
+    LayerNodesTask(int layerIndex, int start, int end) {
+      this.layerIndex = layerIndex;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= ENV_SIZE * MIN_PARALLEL_NODES) {
+        computeLayerNodes(layerIndex, start, end);
+        return;
+      }
+      int mid = start + ENV_SIZE * ((end - start) / ENV_SIZE / 2);
+      invokeAll(new LayerNodesTask(layerIndex, start, mid),
+          new LayerNodesTask(layerIndex, mid, end));
+    }
+  }
+
+  private void computeLayerNodes(int layerIndex, int start, int end) {
+    if (layerIndex == 0) {
+      for (int i = start; i < end; i += ENV_SIZE) {
+        computeLeafNodeBounds(i, nodeCapacity * i/4);
+      }
+      return;
+    }
+    int layerStart = layerStartIndex[layerIndex];
+    int childLayerStart = layerStartIndex[layerIndex - 1];
+    for (int i = start; i < end; i += ENV_SIZE) {
+      int childStart = childLayerStart + nodeCapacity * i;
+      computeNodeBounds(layerStart + i, childStart, layerStart);
+    }
+  }
+
   /*
   private void dumpNodes() {
     GeometryFactory fact = new GeometryFactory();
@@ -365,6 +678,53 @@ public class HPRtree
     return array;
   }
 
+  /**
+   * Gets the node capacity of the tree.
+   * 
+   * @return the node capacity
+   */
+  int getNodeCapacity() {
+    return nodeCapacity;
+  }
+  
+  /**
+   * Gets the extent of all items in the tree.
+   * 
+   * @return the tree extent
+   */
+  Envelope getTotalExtent() {
+    return totalExtent;
+  }
+  
+  /**
+   * Gets the items in the tree.
+   * Once the tree is built the items are in Hilbert order.
+   * 
+   * @return the tree items
+   */
+  List<Item> getItems() {
+    return items;
+  }
+
+  /**
+   * Gets the start index of each layer in the node bounds array,
+   * followed by the size of the array.
+   * 
+   * @return the layer start indexes, or null if the tree has no nodes
+   */
+  int[] getLayerStartIndex() {
+    return layerStartIndex;
+  }
+
+  /**
+   * Gets the node bounds array.
+   * 
+   * @return the node bounds, or null if the tree has no nodes
+   */
+  double[] getNodeBounds() {
+    return nodeBounds;
+  }
+
   /**
    * Gets the extents of the internal index nodes
    * 
@@ -382,24 +742,66 @@ public class HPRtree
     return bounds;
   }
   
+  /**
+   * Sorts the items by the Hilbert code of their envelope midpoint.
+   * To avoid recomputing codes during the sort,
+   * each item is represented by a key containing the Hilbert code
+   * in the high 32 bits and the item index in the low 32 bits.
+   * Sorting the keys orders items by Hilbert code, 
+   * and preserves the insertion order of items with equal codes.
+   */
   private void sortItems() {
-    ItemComparator comp = new ItemComparator(new HilbertEncoder(HILBERT_LEVEL, totalExtent));
-    Collections.sort(items, comp);
+    HilbertEncoder encoder = new HilbertEncoder(HILBERT_LEVEL, totalExtent);
+    long[] keys = new long[items.size()];
+    if (pool == null) {
+      computeSortKeys(encoder, keys, 0, keys.length);
+    }
+    else {
+      pool.invoke(new SortKeyTask(encoder, keys, 0, keys.length));
+    }
+    ParallelSort.sort(keys, pool);
+    
+    List<Item> sortedItems = new ArrayList<Item>(items.size());
+    for (int i = 0; i < keys.length; i++) {
+      sortedItems.add(items.get((int) keys[i]));
+    }
+    items = sortedItems;
   }
-  
-  static class ItemComparator implements Comparator<Item> {
 
-    private HilbertEncoder encoder;
-    
-    public ItemComparator(HilbertEncoder encoder) {
+  private void computeSortKeys(HilbertEncoder encoder, long[] keys, int start, int end) {
+    for (int i = start; i < end; i++) {
+      long hcode = encoder.encode(items.get(i).getEnvelope());
+      keys[i] = (hcode << 32) | i;
+    }
+  }
+
+  /**
+   * The minimum number of items for which sort keys are computed by a single parallel task.
+   */
+  private static final int MIN_PARALLEL_ITEMS = 16384;
+
+  private class SortKeyTask extends RecursiveAction {
+    private final HilbertEncoder encoder;
+    private final long[] keys;
+    private final int start;
+    private final int end;
+
+    SortKeyTask(HilbertEncoder encoder, long[] keys, int start, int end) {
       this.encoder = encoder;
+      this.keys = keys;
+      this.start = start;
+      this.end = end;
     }
 
     @Override
-    public int compare(Item item1, Item item2) {
-      int hcode1 = encoder.encode(item1.getEnvelope());
-      int hcode2 = encoder.encode(item2.getEnvelope());
-      return Integer.compare(hcode1, hcode2);
+    protected void compute() {
+      if (end - start <= MIN_PARALLEL_ITEMS) {
+        computeSortKeys(encoder, keys, start, end);
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new SortKeyTask(encoder, keys, start, mid),
+          new SortKeyTask(encoder, keys, mid, end));
     }
   }
 
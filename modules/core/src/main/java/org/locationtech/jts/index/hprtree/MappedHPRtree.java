@@ -0,0 +1,445 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.hprtree;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ArrayListVisitor;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.SpatialIndex;
+import org.locationtech.jts.util.IntArrayList;
+
+/**
+ * A read-only {@link HPRtree} which queries a persisted tree
+ * directly in a {@link ByteBuffer}.
+ * The tree is written to a file by {@link #write(HPRtree, File)},
+ * and opened by {@link #open(File)}, which maps the file into memory.
+ * Opening a tree does not read or allocate the tree contents,
+ * so it takes constant time independent of the tree size.
+ * A mapped file can be shared by multiple processes on the same host.
+ * <p>
+ * The items of a persisted tree are <code>int</code> identifiers
+ * (for example, indexes into an external array or table of features).
+ * To be written, a tree must contain only {@link Integer} items.
+ * Queries on a <code>MappedHPRtree</code> report the item identifiers.
+ * The identifiers can be retrieved without allocation
+ * using {@link #query(Envelope, IntArrayList)}.
+ * <p>
+ * The file format stores the tree layout of {@link HPRtree}
+ * (the layer offsets and node bounds),
+ * followed by the item envelopes and item identifiers in Hilbert order.
+ * Values are stored in little-endian byte order.
+ * <p>
+ * Querying a mapped tree is thread-safe.
+ *
+ * @see HPRtree
+ *
+ * @author agent
+ *
+ */
+public class MappedHPRtree
+  implements SpatialIndex
+{
+  private static final int MAGIC = 0x48505254; // "HPRT"
+  private static final int VERSION = 1;
+
+  private static final int ENV_SIZE = 4;
+
+  private static final int HEADER_SIZE = 6 * 4 + 4 * 8;
+
+  /**
+   * Files larger than the maximum size of a {@link ByteBuffer}
+   * are mapped as a sequence of segments.
+   * The segment size is a multiple of 8, so values never span segments.
+   */
+  private static final int SEGMENT_BITS = 30;
+  private static final long SEGMENT_SIZE = 1L << SEGMENT_BITS;
+  private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+  /**
+   * Writes a tree to a file.
+   * The tree is built if it is not already built.
+   *
+   * @param tree the tree to write
+   * @param file the file to write to
+   * @throws IOException if an I/O error occurs
+   * @throws IllegalArgumentException if the tree contains an item which is not an Integer
+   */
+  public static void write(HPRtree tree, File file) throws IOException {
+    tree.build();
+    RandomAccessFile raf = new RandomAccessFile(file, "rw");
+    try {
+      raf.setLength(0);
+      write(tree, raf.getChannel());
+    }
+    finally {
+      raf.close();
+    }
+  }
+
+  /**
+   * Writes a tree to a channel.
+   * The tree is built if it is not already built.
+   *
+   * @param tree the tree to write
+   * @param channel the channel to write to
+   * @throws IOException if an I/O error occurs
+   * @throws IllegalArgumentException if the tree contains an item which is not an Integer
+   */
+  public static void write(HPRtree tree, FileChannel channel) throws IOException {
+    tree.build();
+    List<Item> items = tree.getItems();
+    for (Item item : items) {
+      if (! (item.getItem() instanceof Integer)) {
+        throw new IllegalArgumentException("Tree item is not an Integer identifier: " + item.getItem());
+      }
+    }
+    int[] layerStartIndex = tree.getLayerStartIndex();
+    double[] nodeBounds = tree.getNodeBounds();
+    int numLayerIndex = layerStartIndex == null ? 0 : layerStartIndex.length;
+    int numNodeBounds = nodeBounds == null ? 0 : nodeBounds.length;
+    Envelope extent = tree.getTotalExtent();
+
+    ByteBuffer buf = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+    buf.putInt(MAGIC);
+    buf.putInt(VERSION);
+    buf.putInt(tree.getNodeCapacity());
+    buf.putInt(items.size());
+    buf.putInt(numLayerIndex);
+    buf.putInt(numNodeBounds);
+    buf.putDouble(extent.getMinX());
+    buf.putDouble(extent.getMinY());
+    buf.putDouble(extent.getMaxX());
+    buf.putDouble(extent.getMaxY());
+    for (int i = 0; i < numLayerIndex; i++) {
+      ensureSpace(buf, 4, channel);
+      buf.putInt(layerStartIndex[i]);
+    }
+    // align to 8 bytes
+    if (numLayerIndex % 2 != 0) {
+      ensureSpace(buf, 4, channel);
+      buf.putInt(0);
+    }
+
+    for (int i = 0; i < numNodeBounds; i++) {
+      ensureSpace(buf, 8, channel);
+      buf.putDouble(nodeBounds[i]);
+    }
+    for (Item item : items) {
+      Envelope env = item.getEnvelope();
+      ensureSpace(buf, 32, channel);
+      buf.putDouble(env.getMinX());
+      buf.putDouble(env.getMinY());
+      buf.putDouble(env.getMaxX());
+      buf.putDouble(env.getMaxY());
+    }
+    for (Item item : items) {
+      ensureSpace(buf, 4, channel);
+      buf.putInt((Integer) item.getItem());
+    }
+    flush(buf, channel);
+  }
+
+  private static void ensureSpace(ByteBuffer buf, int size, FileChannel channel) throws IOException {
+    if (buf.remaining() < size) {
+      flush(buf, channel);
+    }
+  }
+
+  private static void flush(ByteBuffer buf, FileChannel channel) throws IOException {
+    buf.flip();
+    while (buf.hasRemaining()) {
+      channel.write(buf);
+    }
+    buf.clear();
+  }
+
+  /**
+   * Opens a tree file written by {@link #write(HPRtree, File)},
+   * by mapping it into memory.
+   * The file is not read until the tree is queried.
+   *
+   * @param file the tree file
+   * @return the mapped tree
+   * @throws IOException if an I/O error occurs, or the file is not a tree file
+   */
+  public static MappedHPRtree open(File file) throws IOException {
+    RandomAccessFile raf = new RandomAccessFile(file, "r");
+    try {
+      FileChannel channel = raf.getChannel();
+      long size = channel.size();
+      int numSegments = (int) ((size + SEGMENT_SIZE - 1) >>> SEGMENT_BITS);
+      ByteBuffer[] segments = new ByteBuffer[Math.max(1, numSegments)];
+      for (int i = 0; i < numSegments; i++) {
+        long start = i * SEGMENT_SIZE;
+        long len = Math.min(SEGMENT_SIZE, size - start);
+        segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, len);
+      }
+      if (numSegments == 0) {
+        segments[0] = ByteBuffer.allocate(0);
+      }
+      // the mapping remains valid after the channel is closed
+      return new MappedHPRtree(segments);
+    }
+    finally {
+      raf.close();
+    }
+  }
+
+  private final ByteBuffer[] segments;
+  private final int nodeCapacity;
+  private final int numItems;
+  private final int[] layerStartIndex;
+  private final Envelope totalExtent;
+  private final long nodeBoundsOffset;
+  private final long itemBoundsOffset;
+  private final long itemIdOffset;
+
+  /**
+   * Creates a tree which queries a buffer containing
+   * the contents of a tree file.
+   *
+   * @param buffer the tree data
+   * @throws IOException if the buffer does not contain a valid tree
+   */
+  public MappedHPRtree(ByteBuffer buffer) throws IOException {
+    this(split(buffer));
+  }
+
+  private static ByteBuffer[] split(ByteBuffer buffer) {
+    int size = buffer.limit();
+    int numSegments = (int) Math.max(1, (size + SEGMENT_SIZE - 1) >>> SEGMENT_BITS);
+    ByteBuffer[] segments = new ByteBuffer[numSegments];
+    for (int i = 0; i < numSegments; i++) {
+      ByteBuffer seg = buffer.duplicate();
+      int start = (int) (i * SEGMENT_SIZE);
+      seg.position(start);
+      seg.limit((int) Math.min(size, start + SEGMENT_SIZE));
+      segments[i] = seg.slice();
+    }
+    return segments;
+  }
+
+  private MappedHPRtree(ByteBuffer[] segments) throws IOException {
+    this.segments = new ByteBuffer[segments.length];
+    for (int i = 0; i < segments.length; i++) {
+      this.segments[i] = segments[i].duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+    long size = 0;
+    for (ByteBuffer seg : segments) {
+      size += seg.limit();
+    }
+    if (size < HEADER_SIZE || getInt(0) != MAGIC)
+      throw new IOException("Not an HPRtree file");
+    if (getInt(4) != VERSION)
+      throw new IOException("Unsupported HPRtree file version: " + getInt(4));
+    nodeCapacity = getInt(8);
+    numItems = getInt(12);
+    int numLayerIndex = getInt(16);
+    int numNodeBounds = getInt(20);
+    totalExtent = new Envelope(getDouble(24), getDouble(40), getDouble(32), getDouble(48));
+    if (getDouble(40) < getDouble(24)) {
+      totalExtent.setToNull();
+    }
+
+    long offset = HEADER_SIZE;
+    if (numLayerIndex > 0) {
+      layerStartIndex = new int[numLayerIndex];
+      for (int i = 0; i < numLayerIndex; i++) {
+        layerStartIndex[i] = getInt(offset + 4 * i);
+      }
+    }
+    else {
+      layerStartIndex = null;
+    }
+    offset += 4 * (long) (numLayerIndex + numLayerIndex % 2);
+    nodeBoundsOffset = offset;
+    offset += 8 * (long) numNodeBounds;
+    itemBoundsOffset = offset;
+    offset += 8 * (long) ENV_SIZE * numItems;
+    itemIdOffset = offset;
+    offset += 4 * (long) numItems;
+    if (size < offset)
+      throw new IOException("HPRtree file is truncated");
+  }
+
+  private int getInt(long pos) {
+    return segments[(int) (pos >>> SEGMENT_BITS)].getInt((int) (pos & SEGMENT_MASK));
+  }
+
+  private double getDouble(long pos) {
+    return segments[(int) (pos >>> SEGMENT_BITS)].getDouble((int) (pos & SEGMENT_MASK));
+  }
+
+  /**
+   * Gets the number of items in the index.
+   *
+   * @return the number of items
+   */
+  public int size() {
+    return numItems;
+  }
+
+  /**
+   * Gets the extent of all items in the tree.
+   *
+   * @return the extent of the tree
+   */
+  public Envelope getExtent() {
+    return new Envelope(totalExtent);
+  }
+
+  /**
+   * Mapped trees are read-only.
+   *
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public void insert(Envelope itemEnv, Object item) {
+    throw new UnsupportedOperationException("Mapped tree is read-only");
+  }
+
+  /**
+   * Mapped trees are read-only.
+   *
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public boolean remove(Envelope itemEnv, Object item) {
+    throw new UnsupportedOperationException("Mapped tree is read-only");
+  }
+
+  /**
+   * Queries the tree for all items whose extents intersect the given search envelope.
+   * The items are the {@link Integer} identifiers of the items.
+   *
+   * @param searchEnv the envelope to query for
+   * @return a list of the item identifiers found by the query
+   */
+  @Override
+  public List query(Envelope searchEnv) {
+    ArrayListVisitor visitor = new ArrayListVisitor();
+    query(searchEnv, visitor);
+    return visitor.getItems();
+  }
+
+  /**
+   * Queries the tree and passes the identifier of each item
+   * whose extent intersects the search envelope to the visitor,
+   * as an {@link Integer}.
+   *
+   * @param searchEnv the envelope to query for
+   * @param visitor a visitor to pass the item identifiers to
+   */
+  @Override
+  public void query(Envelope searchEnv, final ItemVisitor visitor) {
+    IntArrayList ids = new IntArrayList();
+    query(searchEnv, ids);
+    int[] idArray = ids.toArray();
+    for (int i = 0; i < idArray.length; i++) {
+      visitor.visitItem(idArray[i]);
+    }
+  }
+
+  /**
+   * Queries the tree for all items whose extents intersect the given search envelope,
+   * and adds their identifiers to a list.
+   *
+   * @param searchEnv the envelope to query for
+   * @param result the list to add the item identifiers to
+   */
+  public void query(Envelope searchEnv, IntArrayList result) {
+    if (! totalExtent.intersects(searchEnv))
+      return;
+    if (layerStartIndex == null) {
+      queryItems(0, searchEnv, result);
+    }
+    else {
+      queryTopLayer(searchEnv, result);
+    }
+  }
+
+  private void queryTopLayer(Envelope searchEnv, IntArrayList result) {
+    int layerIndex = layerStartIndex.length - 2;
+    int layerSize = layerSize(layerIndex);
+    // query each node in layer
+    for (int i = 0; i < layerSize; i += ENV_SIZE) {
+      queryNode(layerIndex, i, searchEnv, result);
+    }
+  }
+
+  private void queryNode(int layerIndex, int nodeOffset, Envelope searchEnv, IntArrayList result) {
+    int layerStart = layerStartIndex[layerIndex];
+    int nodeIndex = layerStart + nodeOffset;
+    if (! intersects(nodeBoundsOffset + 8L * nodeIndex, searchEnv)) return;
+    if (layerIndex == 0) {
+      int childNodesOffset = nodeOffset / ENV_SIZE * nodeCapacity;
+      queryItems(childNodesOffset, searchEnv, result);
+    }
+    else {
+      int childNodesOffset = nodeOffset * nodeCapacity;
+      queryNodeChildren(layerIndex - 1, childNodesOffset, searchEnv, result);
+    }
+  }
+
+  private void queryNodeChildren(int layerIndex, int blockOffset, Envelope searchEnv, IntArrayList result) {
+    int layerStart = layerStartIndex[layerIndex];
+    int layerEnd = layerStartIndex[layerIndex + 1];
+    for (int i = 0; i < nodeCapacity; i++) {
+      int nodeOffset = blockOffset + ENV_SIZE * i;
+      // don't query past layer end
+      if (layerStart + nodeOffset >= layerEnd) break;
+
+      queryNode(layerIndex, nodeOffset, searchEnv, result);
+    }
+  }
+
+  private void queryItems(int blockStart, Envelope searchEnv, IntArrayList result) {
+    for (int i = 0; i < nodeCapacity; i++) {
+      int itemIndex = blockStart + i;
+      // don't query past end of items
+      if (itemIndex >= numItems) break;
+
+      if (intersects(itemBoundsOffset + 8L * ENV_SIZE * itemIndex, searchEnv)) {
+        result.add(getInt(itemIdOffset + 4L * itemIndex));
+      }
+    }
+  }
+
+  /**
+   * Tests whether bounds stored at a position intersect an envelope.
+   *
+   * @param pos the position of the bounds (minX, minY, maxX, maxY)
+   * @param env the envelope to test
+   * @return true if the bounds intersect the envelope
+   */
+  private boolean intersects(long pos, Envelope env) {
+    boolean isBeyond = (env.getMaxX() < getDouble(pos))
+        || (env.getMaxY() < getDouble(pos + 8))
+        || (env.getMinX() > getDouble(pos + 16))
+        || (env.getMinY() > getDouble(pos + 24));
+    return ! isBeyond;
+  }
+
+  private int layerSize(int layerIndex) {
+    int layerStart = layerStartIndex[layerIndex];
+    int layerEnd = layerStartIndex[layerIndex + 1];
+    return layerEnd - layerStart;
+  }
+}
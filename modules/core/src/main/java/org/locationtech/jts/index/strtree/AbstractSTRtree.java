@@ -65,7 +65,8 @@ public abstract class AbstractSTRtree implements Serializable {
 
   protected AbstractNode root;
 
-  private boolean built = false;
+  // volatile so that built trees can be queried concurrently without locking
+  private volatile boolean built = false;
   /**
    * Set to <tt>null</tt> when index is built, to avoid retaining memory.
    */
@@ -100,14 +101,17 @@ public abstract class AbstractSTRtree implements Serializable {
    * called once, and thus can be called only after all of the data has been
    * inserted into the tree.
    */
-  public synchronized void build() {
+  public void build() {
     if (built) return;
-    root = itemBoundables.isEmpty()
-           ? createNode(0)
-           : createHigherLevels(itemBoundables, -1);
-    // the item list is no longer needed
-    itemBoundables = null;
-    built = true;
+    synchronized (this) {
+      if (built) return;
+      root = itemBoundables.isEmpty()
+             ? createNode(0)
+             : createHigherLevels(itemBoundables, -1);
+      // the item list is no longer needed
+      itemBoundables = null;
+      built = true;
+    }
   }
 
   protected abstract AbstractNode createNode(int level);
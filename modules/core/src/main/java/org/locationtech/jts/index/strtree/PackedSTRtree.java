@@ -0,0 +1,925 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.strtree;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ArrayListVisitor;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.SpatialIndex;
+import org.locationtech.jts.util.IntArrayList;
+import org.locationtech.jts.util.IntPairPriorityQueue;
+
+/**
+ * A query-only R-tree created using the Sort-Tile-Recursive (STR) algorithm,
+ * stored in a compact array-based layout.
+ * <p>
+ * The tree structure is identical to that of {@link STRtree},
+ * but no objects are created for tree nodes or items.
+ * Instead:
+ * <ul>
+ * <li>item envelopes are stored in a single <code>double</code> array
+ * (in STR order), with the items stored in a parallel array
+ * <li>node envelopes are stored in a single <code>double</code> array,
+ * layer by layer from the leaf nodes up to the root
+ * <li>the children of each node are the contiguous range of items or nodes
+ * given by a pair of <code>int</code> offsets
+ * </ul>
+ * This reduces the memory used per item to
+ * the item envelope (4 doubles), the item reference,
+ * and a small fraction of a node.
+ * Queries access memory sequentially,
+ * rather than following object references.
+ * <p>
+ * Like {@link STRtree}, the tree supports envelope queries,
+ * nearest-neighbour queries and within-distance tests.
+ * Nearest-neighbour searches use a branch-and-bound traversal
+ * with a priority queue of primitive values
+ * ({@link IntPairPriorityQueue}).
+ * <p>
+ * Once the tree has been built (explicitly or on the first query)
+ * items may not be added.
+ * Inserting items is not thread-safe.
+ * Querying a tree is thread-safe.
+ *
+ * @see STRtree
+ * @see org.locationtech.jts.index.hprtree.HPRtree
+ *
+ * @author agent
+ *
+ */
+public class PackedSTRtree
+  implements SpatialIndex, Serializable
+{
+  private static final long serialVersionUID = -4658239282936437419L;
+
+  private static final int ENV_SIZE = 4;
+
+  private static final int DEFAULT_NODE_CAPACITY = 10;
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final int nodeCapacity;
+
+  private int numItems = 0;
+
+  /**
+   * The item envelopes, as (minX, minY, maxX, maxY)
+   */
+  private double[] itemBounds = new double[ENV_SIZE * INITIAL_CAPACITY];
+
+  private Object[] items = new Object[INITIAL_CAPACITY];
+
+  /**
+   * The node envelopes, as (minX, minY, maxX, maxY),
+   * layer by layer starting with the leaf nodes.
+   * The root is the last node.
+   */
+  private double[] nodeBounds;
+
+  /**
+   * The index of the first child of each node.
+   * The children of leaf nodes are items.
+   */
+  private int[] nodeChildStart;
+
+  /**
+   * The index after the last child of each node.
+   */
+  private int[] nodeChildEnd;
+
+  /**
+   * The number of leaf nodes
+   * (which are the nodes with index less than this value).
+   */
+  private int numLeafNodes;
+
+  private int numLayers = 0;
+
+  private boolean isBuilt = false;
+
+  /**
+   * Creates a new index with the default node capacity.
+   */
+  public PackedSTRtree() {
+    this(DEFAULT_NODE_CAPACITY);
+  }
+
+  /**
+   * Creates a new index with the given node capacity.
+   *
+   * @param nodeCapacity the maximum number of children of a node
+   */
+  public PackedSTRtree(int nodeCapacity) {
+    if (nodeCapacity < 2)
+      throw new IllegalArgumentException("Node capacity must be greater than 1");
+    this.nodeCapacity = nodeCapacity;
+  }
+
+  /**
+   * Gets the maximum number of children of a node.
+   *
+   * @return the node capacity
+   */
+  public int getNodeCapacity() {
+    return nodeCapacity;
+  }
+
+  /**
+   * Gets the number of items in the index.
+   *
+   * @return the number of items
+   */
+  public int size() {
+    return numItems;
+  }
+
+  /**
+   * Tests whether the index contains any items.
+   *
+   * @return true if the index does not contain any items
+   */
+  public boolean isEmpty() {
+    return numItems == 0;
+  }
+
+  /**
+   * Gets the number of levels in the tree
+   * (not including the item level).
+   *
+   * @return the number of node levels in the tree
+   */
+  public int depth() {
+    build();
+    return numLayers;
+  }
+
+  /**
+   * Inserts an item with a given envelope into the tree.
+   * Items with a null envelope are ignored.
+   *
+   * @param itemEnv the envelope of the item
+   * @param item the item to insert
+   * @throws IllegalStateException if the tree has already been built
+   */
+  @Override
+  public void insert(Envelope itemEnv, Object item) {
+    if (isBuilt) {
+      throw new IllegalStateException("Cannot insert items after tree is built.");
+    }
+    if (itemEnv.isNull()) return;
+
+    if (numItems == items.length) {
+      int newCap = 2 * items.length;
+      items = Arrays.copyOf(items, newCap);
+      itemBounds = Arrays.copyOf(itemBounds, ENV_SIZE * newCap);
+    }
+    int index = ENV_SIZE * numItems;
+    itemBounds[index] = itemEnv.getMinX();
+    itemBounds[index + 1] = itemEnv.getMinY();
+    itemBounds[index + 2] = itemEnv.getMaxX();
+    itemBounds[index + 3] = itemEnv.getMaxY();
+    items[numItems] = item;
+    numItems++;
+  }
+
+  /**
+   * Removal of items is not supported.
+   *
+   * @return false always
+   */
+  @Override
+  public boolean remove(Envelope itemEnv, Object item) {
+    return false;
+  }
+
+  @Override
+  public List query(Envelope searchEnv) {
+    ArrayListVisitor visitor = new ArrayListVisitor();
+    query(searchEnv, visitor);
+    return visitor.getItems();
+  }
+
+  @Override
+  public void query(Envelope searchEnv, ItemVisitor visitor) {
+    build();
+    if (isEmpty() || searchEnv.isNull()) return;
+    int root = rootIndex();
+    if (! intersects(nodeBounds, root, searchEnv)) return;
+    queryNode(root, searchEnv, visitor);
+  }
+
+  private void queryNode(int nodeIndex, Envelope searchEnv, ItemVisitor visitor) {
+    int start = nodeChildStart[nodeIndex];
+    int end = nodeChildEnd[nodeIndex];
+    if (nodeIndex < numLeafNodes) {
+      for (int i = start; i < end; i++) {
+        if (intersects(itemBounds, i, searchEnv)) {
+          visitor.visitItem(items[i]);
+        }
+      }
+    }
+    else {
+      for (int i = start; i < end; i++) {
+        if (intersects(nodeBounds, i, searchEnv)) {
+          queryNode(i, searchEnv, visitor);
+        }
+      }
+    }
+  }
+
+  private static boolean intersects(double[] bounds, int index, Envelope env) {
+    int i = ENV_SIZE * index;
+    return ! (env.getMaxX() < bounds[i]
+        || env.getMaxY() < bounds[i + 1]
+        || env.getMinX() > bounds[i + 2]
+        || env.getMinY() > bounds[i + 3]);
+  }
+
+  private int rootIndex() {
+    return nodeChildStart.length - 1;
+  }
+
+  //==========================================================
+  // Tree building
+  //==========================================================
+
+  /**
+   * Builds the index, if not already built.
+   */
+  public synchronized void build() {
+    if (isBuilt) return;
+    isBuilt = true;
+
+    // release unused storage
+    items = Arrays.copyOf(items, numItems);
+    itemBounds = Arrays.copyOf(itemBounds, ENV_SIZE * numItems);
+    if (numItems == 0) return;
+
+    List<double[]> layerBounds = new ArrayList<double[]>();
+    List<int[]> layerChildStart = new ArrayList<int[]>();
+    List<int[]> layerChildEnd = new ArrayList<int[]>();
+
+    // sort items into STR order and create the leaf nodes
+    IntArrayList groups = new IntArrayList();
+    int[] order = strOrder(itemBounds, numItems, groups);
+    itemBounds = permuteBounds(itemBounds, order);
+    Object[] sortedItems = new Object[numItems];
+    for (int i = 0; i < numItems; i++) {
+      sortedItems[i] = items[order[i]];
+    }
+    items = sortedItems;
+    addParentLayer(itemBounds, groups.toArray(), layerBounds, layerChildStart, layerChildEnd);
+
+    // create higher layers until there is a single root node
+    while (true) {
+      int top = layerBounds.size() - 1;
+      double[] bounds = layerBounds.get(top);
+      int layerSize = bounds.length / ENV_SIZE;
+      if (layerSize <= 1) break;
+
+      groups = new IntArrayList();
+      order = strOrder(bounds, layerSize, groups);
+      layerBounds.set(top, permuteBounds(bounds, order));
+      layerChildStart.set(top, permute(layerChildStart.get(top), order));
+      layerChildEnd.set(top, permute(layerChildEnd.get(top), order));
+      addParentLayer(layerBounds.get(top), groups.toArray(), layerBounds, layerChildStart, layerChildEnd);
+    }
+
+    // concatenate layers, offsetting child indices of internal nodes
+    numLayers = layerBounds.size();
+    numLeafNodes = layerChildStart.get(0).length;
+    int numNodes = 0;
+    for (int[] starts : layerChildStart) {
+      numNodes += starts.length;
+    }
+    nodeBounds = new double[ENV_SIZE * numNodes];
+    nodeChildStart = new int[numNodes];
+    nodeChildEnd = new int[numNodes];
+    int layerOffset = 0;
+    int childLayerOffset = 0;
+    for (int layer = 0; layer < numLayers; layer++) {
+      int[] starts = layerChildStart.get(layer);
+      int[] ends = layerChildEnd.get(layer);
+      System.arraycopy(layerBounds.get(layer), 0, nodeBounds, ENV_SIZE * layerOffset, ENV_SIZE * starts.length);
+      for (int i = 0; i < starts.length; i++) {
+        nodeChildStart[layerOffset + i] = childLayerOffset + starts[i];
+        nodeChildEnd[layerOffset + i] = childLayerOffset + ends[i];
+      }
+      // children of the next layer are the nodes of this layer
+      childLayerOffset = layerOffset;
+      layerOffset += starts.length;
+    }
+  }
+
+  /**
+   * Creates a layer of parent nodes for groups of contiguous children.
+   *
+   * @param childBounds the bounds of the children
+   * @param groups the start index of each group, followed by the number of children
+   */
+  private static void addParentLayer(double[] childBounds, int[] groups,
+      List<double[]> layerBounds, List<int[]> layerChildStart, List<int[]> layerChildEnd) {
+    int numNodes = groups.length - 1;
+    double[] bounds = new double[ENV_SIZE * numNodes];
+    int[] childStart = new int[numNodes];
+    int[] childEnd = new int[numNodes];
+    for (int n = 0; n < numNodes; n++) {
+      int start = groups[n];
+      int end = groups[n + 1];
+      childStart[n] = start;
+      childEnd[n] = end;
+      int ni = ENV_SIZE * n;
+      bounds[ni] = Double.MAX_VALUE;
+      bounds[ni + 1] = Double.MAX_VALUE;
+      bounds[ni + 2] = -Double.MAX_VALUE;
+      bounds[ni + 3] = -Double.MAX_VALUE;
+      for (int c = start; c < end; c++) {
+        int ci = ENV_SIZE * c;
+        if (childBounds[ci] < bounds[ni]) bounds[ni] = childBounds[ci];
+        if (childBounds[ci + 1] < bounds[ni + 1]) bounds[ni + 1] = childBounds[ci + 1];
+        if (childBounds[ci + 2] > bounds[ni + 2]) bounds[ni + 2] = childBounds[ci + 2];
+        if (childBounds[ci + 3] > bounds[ni + 3]) bounds[ni + 3] = childBounds[ci + 3];
+      }
+    }
+    layerBounds.add(bounds);
+    layerChildStart.add(childStart);
+    layerChildEnd.add(childEnd);
+  }
+
+  /**
+   * Computes the Sort-Tile-Recursive ordering of a set of envelopes.
+   * The envelopes are sorted by the X ordinate of their centre
+   * and partitioned into vertical slices.
+   * Each slice is sorted by the Y ordinate of the envelope centres
+   * and partitioned into groups of up to the node capacity.
+   * This is the same ordering as computed by {@link STRtree}.
+   *
+   * @param bounds the envelopes to order
+   * @param count the number of envelopes
+   * @param groups the list to add the start of each group to
+   * @return the envelope indices in STR order
+   */
+  private int[] strOrder(double[] bounds, int count, IntArrayList groups) {
+    int[] order = new int[count];
+    double[] keys = new double[count];
+    for (int i = 0; i < count; i++) {
+      order[i] = i;
+      keys[i] = centre(bounds, i, 0);
+    }
+    sort(keys, order, 0, count);
+
+    int leafCount = (int) Math.ceil(count / (double) nodeCapacity);
+    int sliceCount = (int) Math.ceil(Math.sqrt(leafCount));
+    int sliceCapacity = (int) Math.ceil(count / (double) sliceCount);
+    // slices are sorted by position, so that ties keep the X order
+    int[] slicePos = new int[count];
+    int[] sliceOrder = new int[count];
+    for (int sliceStart = 0; sliceStart < count; sliceStart += sliceCapacity) {
+      int sliceEnd = Math.min(sliceStart + sliceCapacity, count);
+      for (int i = sliceStart; i < sliceEnd; i++) {
+        keys[i] = centre(bounds, order[i], 1);
+        slicePos[i] = i;
+      }
+      sort(keys, slicePos, sliceStart, sliceEnd);
+      for (int i = sliceStart; i < sliceEnd; i++) {
+        sliceOrder[i] = order[slicePos[i]];
+      }
+      for (int g = sliceStart; g < sliceEnd; g += nodeCapacity) {
+        groups.add(g);
+      }
+    }
+    groups.add(count);
+    return sliceOrder;
+  }
+
+  private static double centre(double[] bounds, int index, int ordIndex) {
+    int i = ENV_SIZE * index + ordIndex;
+    return (bounds[i] + bounds[i + 2]) / 2d;
+  }
+
+  private static double[] permuteBounds(double[] bounds, int[] order) {
+    double[] result = new double[ENV_SIZE * order.length];
+    for (int i = 0; i < order.length; i++) {
+      System.arraycopy(bounds, ENV_SIZE * order[i], result, ENV_SIZE * i, ENV_SIZE);
+    }
+    return result;
+  }
+
+  private static int[] permute(int[] values, int[] order) {
+    int[] result = new int[order.length];
+    for (int i = 0; i < order.length; i++) {
+      result[i] = values[order[i]];
+    }
+    return result;
+  }
+
+  private static final int INSERTION_SORT_SIZE = 16;
+
+  /**
+   * Sorts a range of keys, applying the same reordering to a parallel array of values.
+   * Equal keys are ordered by their values,
+   * so if the values are distinct and in ascending order
+   * the sort is stable (as is the sort used by {@link STRtree}).
+   *
+   * @param keys the sort keys
+   * @param values the values to reorder along with the keys
+   * @param start the start of the range to sort
+   * @param end the index after the end of the range to sort
+   */
+  static void sort(double[] keys, int[] values, int start, int end) {
+    while (end - start > INSERTION_SORT_SIZE) {
+      // median-of-three pivot
+      int mid = (start + end) >>> 1;
+      int last = end - 1;
+      int p = isLess(keys, values, start, mid)
+          ? (isLess(keys, values, mid, last) ? mid : (isLess(keys, values, start, last) ? last : start))
+          : (isLess(keys, values, start, last) ? start : (isLess(keys, values, mid, last) ? last : mid));
+      double pivotKey = keys[p];
+      int pivotValue = values[p];
+      // Hoare partition
+      int i = start - 1;
+      int j = end;
+      while (true) {
+        do { i++; } while (isLess(keys[i], values[i], pivotKey, pivotValue));
+        do { j--; } while (isLess(pivotKey, pivotValue, keys[j], values[j]));
+        if (i >= j) break;
+        swap(keys, values, i, j);
+      }
+      // recurse on the smaller part, to bound stack depth
+      if (j + 1 - start < end - j - 1) {
+        sort(keys, values, start, j + 1);
+        start = j + 1;
+      }
+      else {
+        sort(keys, values, j + 1, end);
+        end = j + 1;
+      }
+    }
+    // insertion sort for small ranges
+    for (int i = start + 1; i < end; i++) {
+      double key = keys[i];
+      int value = values[i];
+      int j = i - 1;
+      while (j >= start && isLess(key, value, keys[j], values[j])) {
+        keys[j + 1] = keys[j];
+        values[j + 1] = values[j];
+        j--;
+      }
+      keys[j + 1] = key;
+      values[j + 1] = value;
+    }
+  }
+
+  private static boolean isLess(double[] keys, int[] values, int i, int j) {
+    return isLess(keys[i], values[i], keys[j], values[j]);
+  }
+
+  private static boolean isLess(double key1, int value1, double key2, int value2) {
+    return key1 < key2 || (key1 == key2 && value1 < value2);
+  }
+
+  private static void swap(double[] keys, int[] values, int i, int j) {
+    double k = keys[i];
+    keys[i] = keys[j];
+    keys[j] = k;
+    int v = values[i];
+    values[i] = values[j];
+    values[j] = v;
+  }
+
+  //==========================================================
+  // Nearest neighbour and distance searches
+  //==========================================================
+
+  /*
+   * Nodes and items are referenced in the search queues by a single int.
+   * Nodes are referenced by their index (>= 0),
+   * and items by -(index + 1).
+   */
+
+  private static boolean isItem(int ref) {
+    return ref < 0;
+  }
+
+  private static int itemIndex(int ref) {
+    return -ref - 1;
+  }
+
+  private static int itemRef(int index) {
+    return -index - 1;
+  }
+
+  private double[] boundsArray(int ref) {
+    return isItem(ref) ? itemBounds : nodeBounds;
+  }
+
+  private static int boundsIndex(int ref) {
+    return ENV_SIZE * (isItem(ref) ? itemIndex(ref) : ref);
+  }
+
+  /**
+   * Sets a reusable boundable to an item of this tree.
+   *
+   * @return the boundable
+   */
+  private ItemBoundable itemBoundable(int ref, ReusableItemBoundable bnd) {
+    int i = itemIndex(ref);
+    int bi = ENV_SIZE * i;
+    bnd.init(itemBounds[bi], itemBounds[bi + 2], itemBounds[bi + 1], itemBounds[bi + 3], items[i]);
+    return bnd;
+  }
+
+  /**
+   * Finds the item in this tree which is nearest to the given {@link Object},
+   * using {@link ItemDistance} as the distance metric.
+   * A Branch-and-Bound tree traversal algorithm is used
+   * to provide an efficient search.
+   * <p>
+   * The query <tt>object</tt> does <b>not</b> have to be
+   * contained in the tree, but it does
+   * have to be compatible with the <tt>itemDist</tt>
+   * distance metric.
+   *
+   * @param env the envelope of the query item
+   * @param item the item to find the nearest neighbour of
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @return the nearest item in this tree
+   *    or <code>null</code> if the tree is empty
+   */
+  public Object nearestNeighbour(Envelope env, Object item, ItemDistance itemDist)
+  {
+    Object[] result = nearestNeighbour(env, item, itemDist, 1);
+    if (result.length == 0) return null;
+    return result[0];
+  }
+
+  /**
+   * Finds the k items in this tree which are nearest to the given {@link Object},
+   * using {@link ItemDistance} as the distance metric.
+   * A Branch-and-Bound tree traversal algorithm is used
+   * to provide an efficient search.
+   *
+   * @param env the envelope of the query item
+   * @param item the item to find the nearest neighbours of
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @param k the number of nearest items to find
+   * @return the nearest items in this tree, in order of increasing distance
+   */
+  public Object[] nearestNeighbour(Envelope env, Object item, ItemDistance itemDist, int k)
+  {
+    build();
+    if (isEmpty() || k <= 0) return new Object[0];
+    ItemBoundable queryBnd = new ItemBoundable(env, item);
+    ReusableItemBoundable itemBnd = new ReusableItemBoundable();
+    double[] queryBounds = new double[] { env.getMinX(), env.getMinY(), env.getMaxX(), env.getMaxY() };
+
+    IntPairPriorityQueue priQ = new IntPairPriorityQueue();
+    // the k nearest items found so far, as a max-queue using negated distances
+    IntPairPriorityQueue nearest = new IntPairPriorityQueue(k + 1);
+    double distanceBound = Double.POSITIVE_INFINITY;
+
+    int root = rootIndex();
+    priQ.add(distance(nodeBounds, ENV_SIZE * root, queryBounds, 0), root, 0);
+    while (! priQ.isEmpty()) {
+      double dist = priQ.peekPriority();
+      int ref = priQ.peekValue1();
+      priQ.poll();
+
+      /**
+       * If the distance for the head of the queue
+       * is >= the current bound, all other entries
+       * in the queue must also have a greater distance,
+       * so the search is complete.
+       */
+      if (dist >= distanceBound) break;
+
+      if (isItem(ref)) {
+        nearest.add(-dist, ref, 0);
+        if (nearest.size() > k) nearest.poll();
+        if (nearest.size() == k) distanceBound = -nearest.peekPriority();
+        continue;
+      }
+      // expand node
+      int start = nodeChildStart[ref];
+      int end = nodeChildEnd[ref];
+      boolean isLeaf = ref < numLeafNodes;
+      for (int i = start; i < end; i++) {
+        double childDist;
+        int childRef;
+        if (isLeaf) {
+          childRef = itemRef(i);
+          childDist = itemDist.distance(itemBoundable(childRef, itemBnd), queryBnd);
+        }
+        else {
+          childRef = i;
+          childDist = distance(nodeBounds, ENV_SIZE * i, queryBounds, 0);
+        }
+        if (childDist < distanceBound) {
+          priQ.add(childDist, childRef, 0);
+        }
+      }
+    }
+    // extract items, farthest first
+    Object[] result = new Object[nearest.size()];
+    for (int i = result.length - 1; i >= 0; i--) {
+      result[i] = items[itemIndex(nearest.peekValue1())];
+      nearest.poll();
+    }
+    return result;
+  }
+
+  /**
+   * Finds the two nearest items in the tree,
+   * using {@link ItemDistance} as the distance metric.
+   * A Branch-and-Bound tree traversal algorithm is used
+   * to provide an efficient search.
+   * <p>
+   * If the tree is empty, the return value is <code>null</code>.
+   * If the tree contains only one item,
+   * the return value is a pair containing that item.
+   * If it is required to find only pairs of distinct items,
+   * the {@link ItemDistance} function must be <b>anti-reflexive</b>.
+   *
+   * @param itemDist a distance metric applicable to the items in this tree
+   * @return the pair of the nearest items
+   *    or <code>null</code> if the tree is empty
+   */
+  public Object[] nearestNeighbour(ItemDistance itemDist)
+  {
+    return nearestNeighbour(this, itemDist);
+  }
+
+  /**
+   * Finds the two nearest items from this tree
+   * and another tree,
+   * using {@link ItemDistance} as the distance metric.
+   * A Branch-and-Bound tree traversal algorithm is used
+   * to provide an efficient search.
+   * The result value is a pair of items,
+   * the first from this tree and the second
+   * from the argument tree.
+   *
+   * @param tree another tree
+   * @param itemDist a distance metric applicable to the items in the trees
+   * @return the pair of the nearest items, one from each tree
+   *    or <code>null</code> if no pair of distinct items can be found
+   */
+  public Object[] nearestNeighbour(PackedSTRtree tree, ItemDistance itemDist)
+  {
+    build();
+    tree.build();
+    if (isEmpty() || tree.isEmpty()) return null;
+
+    double distanceLowerBound = Double.POSITIVE_INFINITY;
+    int minRef1 = 0;
+    int minRef2 = 0;
+    boolean isFound = false;
+
+    IntPairPriorityQueue priQ = new IntPairPriorityQueue();
+    ReusableItemBoundable bnd1 = new ReusableItemBoundable();
+    ReusableItemBoundable bnd2 = new ReusableItemBoundable();
+    int root1 = rootIndex();
+    int root2 = tree.rootIndex();
+    priQ.add(pairDistance(root1, tree, root2, itemDist, bnd1, bnd2), root1, root2);
+
+    while (! priQ.isEmpty() && distanceLowerBound > 0.0) {
+      double pairDist = priQ.peekPriority();
+      int ref1 = priQ.peekValue1();
+      int ref2 = priQ.peekValue2();
+      priQ.poll();
+
+      if (pairDist >= distanceLowerBound)
+        break;
+
+      if (isItem(ref1) && isItem(ref2)) {
+        distanceLowerBound = pairDist;
+        minRef1 = ref1;
+        minRef2 = ref2;
+        isFound = true;
+      }
+      else {
+        expandPair(ref1, tree, ref2, itemDist, bnd1, bnd2, priQ, distanceLowerBound);
+      }
+    }
+    if (! isFound)
+      return null;
+    return new Object[] {
+        items[itemIndex(minRef1)],
+        tree.items[itemIndex(minRef2)]
+      };
+  }
+
+  /**
+   * Tests whether some two items from this tree and another tree
+   * lie within a given distance.
+   * {@link ItemDistance} is used as the distance metric.
+   * A Branch-and-Bound tree traversal algorithm is used
+   * to provide an efficient search.
+   *
+   * @param tree another tree
+   * @param itemDist a distance metric applicable to the items in the trees
+   * @param maxDistance the distance limit for the search
+   * @return true if there are items within the distance
+   */
+  public boolean isWithinDistance(PackedSTRtree tree, ItemDistance itemDist, double maxDistance)
+  {
+    build();
+    tree.build();
+    if (isEmpty() || tree.isEmpty()) return false;
+
+    double distanceUpperBound = Double.POSITIVE_INFINITY;
+    IntPairPriorityQueue priQ = new IntPairPriorityQueue();
+    ReusableItemBoundable bnd1 = new ReusableItemBoundable();
+    ReusableItemBoundable bnd2 = new ReusableItemBoundable();
+    int root1 = rootIndex();
+    int root2 = tree.rootIndex();
+    priQ.add(pairDistance(root1, tree, root2, itemDist, bnd1, bnd2), root1, root2);
+
+    while (! priQ.isEmpty()) {
+      double pairDist = priQ.peekPriority();
+      int ref1 = priQ.peekValue1();
+      int ref2 = priQ.peekValue2();
+      priQ.poll();
+
+      /**
+       * If the distance for the first pair in the queue
+       * is > maxDistance, all other pairs
+       * in the queue must have a greater distance as well.
+       */
+      if (pairDist > maxDistance)
+        return false;
+
+      /**
+       * If the maximum distance between the nodes
+       * is less than the maxDistance,
+       * than all items in the nodes must be
+       * closer than the max distance.
+       */
+      if (maximumDistance(ref1, tree, ref2) <= maxDistance)
+        return true;
+
+      if (isItem(ref1) && isItem(ref2)) {
+        distanceUpperBound = pairDist;
+        if (distanceUpperBound <= maxDistance)
+          return true;
+      }
+      else {
+        expandPair(ref1, tree, ref2, itemDist, bnd1, bnd2, priQ, distanceUpperBound);
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Expands one side of a pair of which at least one member is a node,
+   * and adds the pairs of children with the other member
+   * which are closer than a given distance to the queue.
+   * If both members are nodes, the one with larger area is expanded.
+   */
+  private void expandPair(int ref1, PackedSTRtree tree, int ref2, ItemDistance itemDist,
+      ReusableItemBoundable bnd1, ReusableItemBoundable bnd2,
+      IntPairPriorityQueue priQ, double minDistance) {
+    boolean isExpand1;
+    if (! isItem(ref1) && ! isItem(ref2)) {
+      isExpand1 = area(nodeBounds, ref1) > area(tree.nodeBounds, ref2);
+    }
+    else {
+      isExpand1 = ! isItem(ref1);
+    }
+
+    if (isExpand1) {
+      int start = nodeChildStart[ref1];
+      int end = nodeChildEnd[ref1];
+      boolean isLeaf = ref1 < numLeafNodes;
+      for (int i = start; i < end; i++) {
+        int child = isLeaf ? itemRef(i) : i;
+        double dist = pairDistance(child, tree, ref2, itemDist, bnd1, bnd2);
+        if (dist < minDistance) priQ.add(dist, child, ref2);
+      }
+    }
+    else {
+      int start = tree.nodeChildStart[ref2];
+      int end = tree.nodeChildEnd[ref2];
+      boolean isLeaf = ref2 < tree.numLeafNodes;
+      for (int i = start; i < end; i++) {
+        int child = isLeaf ? itemRef(i) : i;
+        double dist = pairDistance(ref1, tree, child, itemDist, bnd1, bnd2);
+        if (dist < minDistance) priQ.add(dist, ref1, child);
+      }
+    }
+  }
+
+  private static double area(double[] bounds, int index) {
+    int i = ENV_SIZE * index;
+    return (bounds[i + 2] - bounds[i]) * (bounds[i + 3] - bounds[i + 1]);
+  }
+
+  /**
+   * Computes the distance between a node or item of this tree
+   * and a node or item of another tree.
+   * If both are items the distance is computed by the {@link ItemDistance},
+   * otherwise it is the distance between the envelopes.
+   * Items are passed to the {@link ItemDistance} using the reusable boundables,
+   * so that no objects are created for each distance computed.
+   */
+  private double pairDistance(int ref1, PackedSTRtree tree, int ref2, ItemDistance itemDist,
+      ReusableItemBoundable bnd1, ReusableItemBoundable bnd2) {
+    if (isItem(ref1) && isItem(ref2)) {
+      ItemBoundable item1 = itemBoundable(ref1, bnd1);
+      // supply the same item instance when comparing an item to itself,
+      // to allow anti-reflexive distance functions
+      ItemBoundable item2 = (tree == this && ref1 == ref2) ? item1 : tree.itemBoundable(ref2, bnd2);
+      return itemDist.distance(item1, item2);
+    }
+    return distance(boundsArray(ref1), boundsIndex(ref1),
+        tree.boundsArray(ref2), boundsIndex(ref2));
+  }
+
+  /**
+   * Computes the maximum distance between the points of
+   * the envelopes of a node or item of this tree
+   * and a node or item of another tree.
+   *
+   * @see EnvelopeDistance#maximumDistance(Envelope, Envelope)
+   */
+  private double maximumDistance(int ref1, PackedSTRtree tree, int ref2) {
+    double[] a = boundsArray(ref1);
+    int ai = boundsIndex(ref1);
+    double[] b = tree.boundsArray(ref2);
+    int bi = boundsIndex(ref2);
+    double minx = Math.min(a[ai], b[bi]);
+    double miny = Math.min(a[ai + 1], b[bi + 1]);
+    double maxx = Math.max(a[ai + 2], b[bi + 2]);
+    double maxy = Math.max(a[ai + 3], b[bi + 3]);
+    double dx = maxx - minx;
+    double dy = maxy - miny;
+    return Math.sqrt(dx * dx + dy * dy);
+  }
+
+  /**
+   * Computes the distance between two envelopes stored in bounds arrays.
+   *
+   * @see Envelope#distance(Envelope)
+   */
+  private static double distance(double[] a, int ai, double[] b, int bi) {
+    double dx = 0.0;
+    if (a[ai + 2] < b[bi])
+      dx = b[bi] - a[ai + 2];
+    else if (a[ai] > b[bi + 2])
+      dx = a[ai] - b[bi + 2];
+
+    double dy = 0.0;
+    if (a[ai + 3] < b[bi + 1])
+      dy = b[bi + 1] - a[ai + 3];
+    else if (a[ai + 1] > b[bi + 3])
+      dy = a[ai + 1] - b[bi + 3];
+
+    // if either is zero, the envelopes overlap either vertically or horizontally
+    if (dx == 0.0) return dy;
+    if (dy == 0.0) return dx;
+    return Math.sqrt(dx * dx + dy * dy);
+  }
+
+  /**
+   * An {@link ItemBoundable} which is reset to each item
+   * passed to an {@link ItemDistance} during a search.
+   * {@link ItemDistance}s must not retain the boundables they are passed.
+   */
+  private static class ReusableItemBoundable extends ItemBoundable {
+    private static final long serialVersionUID = 1L;
+
+    private final Envelope env = new Envelope();
+    private Object item;
+
+    ReusableItemBoundable() {
+      super(null, null);
+    }
+
+    void init(double x1, double x2, double y1, double y2, Object item) {
+      env.init(x1, x2, y1, y2);
+      this.item = item;
+    }
+
+    public Object getBounds() {
+      return env;
+    }
+
+    public Object getItem() {
+      return item;
+    }
+  }
+}
@@ -15,15 +15,19 @@ package org.locationtech.jts.index.strtree;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.index.ItemVisitor;
 import org.locationtech.jts.index.SpatialIndex;
 import org.locationtech.jts.util.Assert;
+import org.locationtech.jts.util.ParallelSort;
 import org.locationtech.jts.util.PriorityQueue;
 
 
@@ -47,6 +51,12 @@ import org.locationtech.jts.util.PriorityQueue;
  * Querying a tree is thread-safe.  
  * The building phase is done synchronously, 
  * and querying is stateless.
+ * <p>
+ * Building a large tree can optionally be done in parallel,
+ * by supplying a {@link ForkJoinPool} via {@link #setForkJoinPool(ForkJoinPool)}.
+ * The boundables of each level are sorted in parallel,
+ * and the vertical slices are packed into nodes concurrently.
+ * The tree produced is identical to that built serially.
  *
  * @version 1.7
  */
@@ -124,13 +134,63 @@ implements SpatialIndex, Serializable
   protected List createParentBoundables(List childBoundables, int newLevel) {
     Assert.isTrue(!childBoundables.isEmpty());
     int minLeafCount = (int) Math.ceil((childBoundables.size() / (double) getNodeCapacity()));
-    ArrayList sortedChildBoundables = new ArrayList(childBoundables);
-    Collections.sort(sortedChildBoundables, xComparator);
+    List sortedChildBoundables;
+    if (pool == null) {
+      sortedChildBoundables = new ArrayList(childBoundables);
+      Collections.sort(sortedChildBoundables, xComparator);
+    }
+    else {
+      Object[] sorted = childBoundables.toArray();
+      ParallelSort.sort(sorted, xComparator, pool);
+      sortedChildBoundables = Arrays.asList(sorted);
+    }
     List[] verticalSlices = verticalSlices(sortedChildBoundables,
         (int) Math.ceil(Math.sqrt(minLeafCount)));
+    if (pool != null) {
+      return createParentBoundablesFromVerticalSlicesParallel(verticalSlices, newLevel);
+    }
     return createParentBoundablesFromVerticalSlices(verticalSlices, newLevel);
   }
 
+  /**
+   * Creates the parent boundables for a range of vertical slices,
+   * splitting the range in two if it contains more than one slice.
+   * The bounds of the new nodes are computed in the task,
+   * so that they are not computed lazily by concurrent
+   * sorts of the next level.
+   */
+  private class VerticalSlicesTask extends RecursiveAction
+  {
+    private final List[] verticalSlices;
+    private final List[] sliceParents;
+    private final int start;
+    private final int end;
+    private final int newLevel;
+
+    VerticalSlicesTask(List[] verticalSlices, List[] sliceParents, int start, int end, int newLevel) {
+      this.verticalSlices = verticalSlices;
+      this.sliceParents = sliceParents;
+      this.start = start;
+      this.end = end;
+      this.newLevel = newLevel;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start == 1) {
+        List parents = createParentBoundablesFromVerticalSlice(verticalSlices[start], newLevel);
+        for (Iterator i = parents.iterator(); i.hasNext(); ) {
+          ((Boundable) i.next()).getBounds();
+        }
+        sliceParents[start] = parents;
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new VerticalSlicesTask(verticalSlices, sliceParents, start, mid, newLevel),
+          new VerticalSlicesTask(verticalSlices, sliceParents, mid, end, newLevel));
+    }
+  }
+
   private List createParentBoundablesFromVerticalSlices(List[] verticalSlices, int newLevel) {
     Assert.isTrue(verticalSlices.length > 0);
     List parentBoundables = new ArrayList();
@@ -141,6 +201,17 @@ implements SpatialIndex, Serializable
     return parentBoundables;
   }
 
+  private List createParentBoundablesFromVerticalSlicesParallel(List[] verticalSlices, int newLevel) {
+    Assert.isTrue(verticalSlices.length > 0);
+    List[] sliceParents = new List[verticalSlices.length];
+    pool.invoke(new VerticalSlicesTask(verticalSlices, sliceParents, 0, verticalSlices.length, newLevel));
+    List parentBoundables = new ArrayList();
+    for (int i = 0; i < sliceParents.length; i++) {
+      parentBoundables.addAll(sliceParents[i]);
+    }
+    return parentBoundables;
+  }
+
   protected List createParentBoundablesFromVerticalSlice(List childBoundables, int newLevel) {
     return super.createParentBoundables(childBoundables, newLevel);
   }
@@ -165,6 +236,8 @@ implements SpatialIndex, Serializable
   }
 
   private static final int DEFAULT_NODE_CAPACITY = 10;
+
+  private transient ForkJoinPool pool = null;
   
   /**
    * Constructs an STRtree with the default node capacity.
@@ -185,6 +258,17 @@ implements SpatialIndex, Serializable
     super(nodeCapacity);
   }
 
+  /**
+   * Sets the {@link ForkJoinPool} used to build the tree in parallel.
+   * If the pool is <code>null</code> (the default)
+   * the tree is built serially in the calling thread.
+   * 
+   * @param pool the pool to use, or null
+   */
+  public void setForkJoinPool(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
   protected AbstractNode createNode(int level) {
     return new STRtreeNode(level);
   }
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.util.List;
+
+import org.locationtech.jts.geom.CircularString;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.CoordinateSequences;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.util.CurveLinearizer;
+
+/**
+ * Builds geometries for the ISO/OGC curved geometry types
+ * read by {@link WKTReader} and {@link WKBReader}.
+ * Since JTS models curves only as {@link CircularString}s
+ * (and their collections), the curved types are mapped as follows:
+ * <ul>
+ * <li><b>CircularString</b> is read as a {@link CircularString}
+ * <li><b>CompoundCurve</b> is read as a single {@link CircularString}.
+ * Linear sections are represented as arcs with collinear interior points,
+ * which are treated as straight segments.
+ * A CompoundCurve with only linear sections is read as a {@link LineString}.
+ * <li><b>MultiCurve</b> is read as a {@link org.locationtech.jts.geom.MultiCircularString},
+ * or as a {@link org.locationtech.jts.geom.MultiLineString}
+ * if all its elements are linear
+ * <li><b>CurvePolygon</b> is read as a {@link Polygon}
+ * with curved rings linearized by {@link CurveLinearizer}
+ * using the default tolerance
+ * </ul>
+ *
+ * @author agent
+ *
+ */
+class CurvedGeometryBuilder
+{
+  private GeometryFactory factory;
+
+  CurvedGeometryBuilder(GeometryFactory factory)
+  {
+    this.factory = factory;
+  }
+
+  /**
+   * Creates a CircularString from a coordinate sequence,
+   * reporting an invalid number of points as a parse error.
+   */
+  CircularString createCircularString(CoordinateSequence seq) throws ParseException
+  {
+    try {
+      return factory.createCircularString(seq);
+    }
+    catch (IllegalArgumentException ex) {
+      throw new ParseException(ex.getMessage());
+    }
+  }
+
+  /**
+   * Creates the geometry for a CompoundCurve.
+   *
+   * @param sections the LineString and CircularString sections of the curve
+   * @return a CircularString, or a LineString if all sections are linear
+   * @throws ParseException if a section is not a curve, or the sections are not contiguous
+   */
+  Geometry createCompoundCurve(List<Geometry> sections) throws ParseException
+  {
+    boolean isLinear = true;
+    int size = 0;
+    for (int i = 0; i < sections.size(); i++) {
+      Geometry section = sections.get(i);
+      checkCurve(section, "CompoundCurve");
+      if (section.isEmpty())
+        throw new ParseException("Empty section encountered in CompoundCurve");
+      if (i > 0) {
+        Geometry prev = sections.get(i - 1);
+        if (! endPoint(prev).equals2D(startPoint(section)))
+          throw new ParseException("CompoundCurve sections are not contiguous");
+      }
+      if (section instanceof CircularString)
+        isLinear = false;
+      // shared endpoints are counted once
+      size += curveSize(section) - (i > 0 ? 1 : 0);
+    }
+    if (sections.size() == 0)
+      return factory.createCircularString();
+    if (isLinear) {
+      size = 0;
+      for (int i = 0; i < sections.size(); i++) {
+        size += sequence(sections.get(i)).size() - (i > 0 ? 1 : 0);
+      }
+    }
+
+    CoordinateSequence seq = createSequence(size, sections);
+    int index = 0;
+    for (int i = 0; i < sections.size(); i++) {
+      Geometry section = sections.get(i);
+      CoordinateSequence sectionSeq = sequence(section);
+      int start = i > 0 ? 1 : 0;
+      if (isLinear || section instanceof CircularString) {
+        CoordinateSequences.copy(sectionSeq, start, seq, index, sectionSeq.size() - start);
+        index += sectionSeq.size() - start;
+      }
+      else {
+        index = copyAsArcs(sectionSeq, start, seq, index);
+      }
+    }
+    if (isLinear)
+      return factory.createLineString(seq);
+    return createCircularString(seq);
+  }
+
+  /**
+   * Creates the geometry for a MultiCurve.
+   *
+   * @param curves the curve elements
+   * @return a MultiCircularString, or a MultiLineString if all elements are linear
+   * @throws ParseException if an element is not a curve
+   */
+  Geometry createMultiCurve(List<Geometry> curves) throws ParseException
+  {
+    boolean isLinear = true;
+    for (Geometry curve : curves) {
+      checkCurve(curve, "MultiCurve");
+      if (curve instanceof CircularString)
+        isLinear = false;
+    }
+    if (isLinear) {
+      return factory.createMultiLineString(curves.toArray(new LineString[curves.size()]));
+    }
+    CircularString[] arcs = new CircularString[curves.size()];
+    for (int i = 0; i < arcs.length; i++) {
+      arcs[i] = toCircularString(curves.get(i));
+    }
+    return factory.createMultiCircularString(arcs);
+  }
+
+  /**
+   * Creates the geometry for a CurvePolygon.
+   *
+   * @param rings the shell and hole curves
+   * @return a polygon with the curved rings linearized
+   * @throws ParseException if a ring is not a curve
+   */
+  Polygon createCurvePolygon(List<Geometry> rings) throws ParseException
+  {
+    if (rings.size() == 0)
+      return factory.createPolygon();
+    LinearRing[] linearRings = new LinearRing[rings.size()];
+    for (int i = 0; i < linearRings.length; i++) {
+      Geometry ring = rings.get(i);
+      checkCurve(ring, "CurvePolygon");
+      try {
+        linearRings[i] = createRing(ring);
+      }
+      catch (IllegalArgumentException ex) {
+        throw new ParseException(ex.getMessage());
+      }
+    }
+    LinearRing[] holes = new LinearRing[linearRings.length - 1];
+    System.arraycopy(linearRings, 1, holes, 0, holes.length);
+    return factory.createPolygon(linearRings[0], holes);
+  }
+
+  /**
+   * Creates a ring from a curve, linearizing it if it is curved.
+   * Curves are linearized without using the {@link CurveLinearizer} cache,
+   * since the parsed curve is discarded.
+   */
+  private LinearRing createRing(Geometry curve)
+  {
+    CoordinateSequence seq = sequence(curve);
+    if (! (curve instanceof CircularString))
+      return factory.createLinearRing(seq);
+    Coordinate[] pts = CurveLinearizer.linearize(seq, CurveLinearizer.defaultTolerance(curve));
+    return factory.createLinearRing(pts);
+  }
+
+  private CircularString toCircularString(Geometry curve) throws ParseException
+  {
+    if (curve instanceof CircularString)
+      return (CircularString) curve;
+    CoordinateSequence lineSeq = sequence(curve);
+    if (lineSeq.size() == 0)
+      return factory.createCircularString();
+    CoordinateSequence seq = createSequence(2 * lineSeq.size() - 1, curve);
+    copyAsArcs(lineSeq, 0, seq, 0);
+    return createCircularString(seq);
+  }
+
+  /**
+   * Copies the vertices of a linestring into a sequence,
+   * inserting the midpoint of each segment as an arc interior point.
+   *
+   * @return the index following the last copied vertex
+   */
+  private static int copyAsArcs(CoordinateSequence lineSeq, int start,
+      CoordinateSequence seq, int index)
+  {
+    int dim = Math.min(lineSeq.getDimension(), seq.getDimension());
+    for (int i = start; i < lineSeq.size(); i++) {
+      if (i > 0) {
+        for (int j = 0; j < dim; j++) {
+          double mid = (lineSeq.getOrdinate(i - 1, j) + lineSeq.getOrdinate(i, j)) / 2;
+          seq.setOrdinate(index, j, mid);
+        }
+        index++;
+      }
+      CoordinateSequences.copyCoord(lineSeq, i, seq, index++);
+    }
+    return index;
+  }
+
+  private CoordinateSequence createSequence(int size, List<Geometry> geoms)
+  {
+    int dim = 0;
+    int measures = 0;
+    for (Geometry g : geoms) {
+      CoordinateSequence seq = sequence(g);
+      dim = Math.max(dim, seq.getDimension());
+      measures = Math.max(measures, seq.getMeasures());
+    }
+    return createSequence(size, dim, measures);
+  }
+
+  private CoordinateSequence createSequence(int size, Geometry geom)
+  {
+    CoordinateSequence seq = sequence(geom);
+    return createSequence(size, seq.getDimension(), seq.getMeasures());
+  }
+
+  private CoordinateSequence createSequence(int size, int dim, int measures)
+  {
+    CoordinateSequenceFactory csFactory = factory.getCoordinateSequenceFactory();
+    return csFactory.create(size, dim, measures);
+  }
+
+  private static void checkCurve(Geometry geom, String type) throws ParseException
+  {
+    if (! (geom instanceof LineString || geom instanceof CircularString))
+      throw new ParseException("Invalid geometry type encountered in " + type);
+  }
+
+  /**
+   * Computes the number of points in a section when represented as arcs.
+   */
+  private static int curveSize(Geometry curve)
+  {
+    int n = sequence(curve).size();
+    if (curve instanceof CircularString || n == 0)
+      return n;
+    return 2 * n - 1;
+  }
+
+  private static CoordinateSequence sequence(Geometry curve)
+  {
+    if (curve instanceof CircularString)
+      return ((CircularString) curve).getCoordinateSequence();
+    return ((LineString) curve).getCoordinateSequence();
+  }
+
+  private static Coordinate startPoint(Geometry curve)
+  {
+    return sequence(curve).getCoordinate(0);
+  }
+
+  private static Coordinate endPoint(Geometry curve)
+  {
+    CoordinateSequence seq = sequence(curve);
+    return seq.getCoordinate(seq.size() - 1);
+  }
+}
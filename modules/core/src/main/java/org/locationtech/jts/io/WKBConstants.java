@@ -25,4 +25,8 @@ public interface WKBConstants {
   int wkbMultiLineString = 5;
   int wkbMultiPolygon = 6;
   int wkbGeometryCollection = 7;
+  int wkbCircularString = 8;
+  int wkbCompoundCurve = 9;
+  int wkbCurvePolygon = 10;
+  int wkbMultiCurve = 11;
 }
@@ -12,7 +12,13 @@
 package org.locationtech.jts.io;
 
 import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.locationtech.jts.geom.CircularString;
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.CoordinateSequenceFactory;
 import org.locationtech.jts.geom.CoordinateSequences;
@@ -27,11 +33,15 @@ import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 
 /**
  * Reads a {@link Geometry}from a byte stream in Well-Known Binary format.
  * Supports use of an {@link InStream}, which allows easy use
  * with arbitrary byte stream sources.
+ * Geometries can also be read directly from a {@link ByteBuffer}
+ * (which may be direct or memory-mapped)
+ * using {@link #read(ByteBuffer)}.
  * <p>
  * This class reads the format describe in {@link WKBWriter}.  
  * It also partially handles
@@ -46,6 +56,10 @@ import org.locationtech.jts.geom.PrecisionModel;
  * geometries. This class is not thread-safe; each thread should create its own
  * instance.
  * <p>
+ * If the geometry factory uses a {@link PackedCoordinateSequenceFactory},
+ * coordinate sequences are created directly from the ordinate values read,
+ * without creating intermediate {@link org.locationtech.jts.geom.Coordinate}s.
+ * <p>
  * As of version 1.15, the reader can read geometries following OGC 06-103r4
  * speification used by Spatialite/Geopackage.
  * <p>
@@ -57,6 +71,14 @@ import org.locationtech.jts.geom.PrecisionModel;
  * <p>
  * Note that the {@link WKBWriter} is not changed and still write PostGIS WKB
  * geometries
+ * <p>
+ * The ISO/OGC curved types are read as follows:
+ * CircularString as {@link CircularString},
+ * CompoundCurve as a single {@link CircularString}
+ * (or a {@link LineString} if it has only linear sections),
+ * MultiCurve as a {@link org.locationtech.jts.geom.MultiCircularString}
+ * (or a {@link MultiLineString} if it has only linear elements),
+ * and CurvePolygon as a {@link Polygon} with its curved rings linearized.
  * @see WKBWriter for a formal format specification
  */
 public class WKBReader
@@ -110,6 +132,11 @@ public class WKBReader
    */
   private boolean isStrict = false;
   private ByteOrderDataInStream dis = new ByteOrderDataInStream();
+  private ByteArrayInStream byteStream = null;
+  /**
+   * The buffer being read, or null if reading from an {@link InStream}
+   */
+  private ByteBuffer buf = null;
   private double[] ordValues;
 
   public WKBReader() {
@@ -131,16 +158,54 @@ public class WKBReader
    */
   public Geometry read(byte[] bytes) throws ParseException
   {
-    // possibly reuse the ByteArrayInStream?
+    if (byteStream == null) {
+      byteStream = new ByteArrayInStream(bytes);
+    }
+    else {
+      byteStream.setBytes(bytes);
+    }
     // don't throw IOExceptions, since we are not doing any I/O
     try {
-      return read(new ByteArrayInStream(bytes));
+      return read(byteStream);
     }
     catch (IOException ex) {
       throw new RuntimeException("Unexpected IOException caught: " + ex.getMessage());
     }
   }
 
+  /**
+   * Reads a single {@link Geometry} in WKB format from a {@link ByteBuffer}.
+   * The geometry is read starting at the current position of the buffer,
+   * and the position is advanced to the end of the geometry.
+   * The byte order of the buffer is used if the WKB does not specify
+   * a valid byte order, and is restored after reading.
+   * <p>
+   * This allows reading a sequence of geometries from a single buffer.
+   * The buffer may be a heap, direct or memory-mapped buffer.
+   *
+   * @param buffer the buffer to read from
+   * @return the geometry read
+   * @throws ParseException if the WKB is ill-formed
+   */
+  public Geometry read(ByteBuffer buffer) throws ParseException
+  {
+    ByteOrder bufferOrder = buffer.order();
+    buf = buffer;
+    try {
+      return readGeometry();
+    }
+    catch (BufferUnderflowException ex) {
+      throw new ParseException("Unexpected end of WKB buffer");
+    }
+    catch (IOException ex) {
+      throw new RuntimeException("Unexpected IOException caught: " + ex.getMessage());
+    }
+    finally {
+      buf = null;
+      buffer.order(bufferOrder);
+    }
+  }
+
   /**
    * Reads a {@link Geometry} in binary WKB format from an {@link InStream}.
    *
@@ -162,16 +227,16 @@ public class WKBReader
   {
 
       // determine byte order
-      byte byteOrderWKB = dis.readByte();
+      byte byteOrderWKB = readByte();
 
       // always set byte order, since it may change from geometry to geometry
      if(byteOrderWKB == WKBConstants.wkbNDR)
      {
-        dis.setOrder(ByteOrderValues.LITTLE_ENDIAN);
+        setOrder(ByteOrderValues.LITTLE_ENDIAN);
      }
      else if(byteOrderWKB == WKBConstants.wkbXDR)
      {
-        dis.setOrder(ByteOrderValues.BIG_ENDIAN);
+        setOrder(ByteOrderValues.BIG_ENDIAN);
      }
      else if(isStrict)
      {
@@ -183,7 +248,7 @@ public class WKBReader
      //specify endian-ness at the start of the multigeometry.
 
 
-    int typeInt = dis.readInt();
+    int typeInt = readInt();
     // Adds %1000 to make it compatible with OGC 06-103r4
     int geometryType = (typeInt & 0xffff)%1000;
 
@@ -201,7 +266,7 @@ public class WKBReader
     hasSRID = (typeInt & 0x20000000) != 0;
     int SRID = 0;
     if (hasSRID) {
-      SRID = dis.readInt();
+      SRID = readInt();
     }
 
     // only allocate ordValues buffer if necessary
@@ -231,6 +296,18 @@ public class WKBReader
       case WKBConstants.wkbGeometryCollection :
         geom = readGeometryCollection();
         break;
+      case WKBConstants.wkbCircularString :
+        geom = readCircularString();
+        break;
+      case WKBConstants.wkbCompoundCurve :
+        geom = curveBuilder().createCompoundCurve(readCurves());
+        break;
+      case WKBConstants.wkbCurvePolygon :
+        geom = curveBuilder().createCurvePolygon(readCurves());
+        break;
+      case WKBConstants.wkbMultiCurve :
+        geom = curveBuilder().createMultiCurve(readCurves());
+        break;
       default: 
         throw new ParseException("Unknown WKB type " + geometryType);
     }
@@ -259,21 +336,21 @@ public class WKBReader
 
   private LineString readLineString() throws IOException
   {
-    int size = dis.readInt();
+    int size = readInt();
     CoordinateSequence pts = readCoordinateSequenceLineString(size);
     return factory.createLineString(pts);
   }
 
   private LinearRing readLinearRing() throws IOException
   {
-    int size = dis.readInt();
+    int size = readInt();
     CoordinateSequence pts = readCoordinateSequenceRing(size);
     return factory.createLinearRing(pts);
   }
 
   private Polygon readPolygon() throws IOException
   {
-    int numRings = dis.readInt();
+    int numRings = readInt();
     LinearRing[] holes = null;
     if (numRings > 1)
       holes = new LinearRing[numRings - 1];
@@ -287,7 +364,7 @@ public class WKBReader
 
   private MultiPoint readMultiPoint() throws IOException, ParseException
   {
-    int numGeom = dis.readInt();
+    int numGeom = readInt();
     Point[] geoms = new Point[numGeom];
     for (int i = 0; i < numGeom; i++) {
       Geometry g = readGeometry();
@@ -300,7 +377,7 @@ public class WKBReader
 
   private MultiLineString readMultiLineString() throws IOException, ParseException
   {
-    int numGeom = dis.readInt();
+    int numGeom = readInt();
     LineString[] geoms = new LineString[numGeom];
     for (int i = 0; i < numGeom; i++) {
       Geometry g = readGeometry();
@@ -313,7 +390,7 @@ public class WKBReader
 
   private MultiPolygon readMultiPolygon() throws IOException, ParseException
   {
-    int numGeom = dis.readInt();
+    int numGeom = readInt();
     Polygon[] geoms = new Polygon[numGeom];
 
     for (int i = 0; i < numGeom; i++) {
@@ -327,7 +404,7 @@ public class WKBReader
 
   private GeometryCollection readGeometryCollection() throws IOException, ParseException
   {
-    int numGeom = dis.readInt();
+    int numGeom = readInt();
     Geometry[] geoms = new Geometry[numGeom];
     for (int i = 0; i < numGeom; i++) {
       geoms[i] = readGeometry();
@@ -335,8 +412,37 @@ public class WKBReader
     return factory.createGeometryCollection(geoms);
   }
 
+  private CircularString readCircularString() throws IOException, ParseException
+  {
+    int size = readInt();
+    CoordinateSequence pts = readCoordinateSequence(size);
+    return curveBuilder().createCircularString(pts);
+  }
+
+  /**
+   * Reads the elements of a curved type.
+   * Elements are checked to be curves when the geometry is built.
+   */
+  private List<Geometry> readCurves() throws IOException, ParseException
+  {
+    int numGeom = readInt();
+    List<Geometry> curves = new ArrayList<Geometry>();
+    for (int i = 0; i < numGeom; i++) {
+      curves.add(readGeometry());
+    }
+    return curves;
+  }
+
+  private CurvedGeometryBuilder curveBuilder()
+  {
+    return new CurvedGeometryBuilder(factory);
+  }
+
   private CoordinateSequence readCoordinateSequence(int size) throws IOException
   {
+    if (csFactory instanceof PackedCoordinateSequenceFactory) {
+      return readPackedCoordinateSequence(size);
+    }
     CoordinateSequence seq = csFactory.create(size, inputDimension);
     int targetDim = seq.getDimension();
     if (targetDim > inputDimension)
@@ -350,6 +456,27 @@ public class WKBReader
     return seq;
   }
 
+  /**
+   * Reads a coordinate sequence directly into a packed array of ordinates.
+   */
+  private CoordinateSequence readPackedCoordinateSequence(int size) throws IOException
+  {
+    // avoid allocating an oversized array for truncated input
+    if (buf != null && buf.remaining() / 8 < (long) size * inputDimension)
+      throw new BufferUnderflowException();
+    double[] ords = new double[size * inputDimension];
+    int index = 0;
+    for (int i = 0; i < size; i++) {
+      ords[index] = precisionModel.makePrecise(readDouble());
+      ords[index + 1] = precisionModel.makePrecise(readDouble());
+      for (int j = 2; j < inputDimension; j++) {
+        ords[index + j] = readDouble();
+      }
+      index += inputDimension;
+    }
+    return ((PackedCoordinateSequenceFactory) csFactory).create(ords, inputDimension);
+  }
+
   private CoordinateSequence readCoordinateSequenceLineString(int size) throws IOException
   {
     CoordinateSequence seq = readCoordinateSequence(size);
@@ -375,13 +502,42 @@ public class WKBReader
   {
     for (int i = 0; i < inputDimension; i++) {
       if (i <= 1) {
-        ordValues[i] = precisionModel.makePrecise(dis.readDouble());
+        ordValues[i] = precisionModel.makePrecise(readDouble());
       }
       else {
-        ordValues[i] = dis.readDouble();
+        ordValues[i] = readDouble();
       }
 
     }
   }
 
+  private void setOrder(int byteOrder)
+  {
+    if (buf != null) {
+      buf.order(byteOrder == ByteOrderValues.LITTLE_ENDIAN 
+          ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+    }
+    else {
+      dis.setOrder(byteOrder);
+    }
+  }
+
+  private byte readByte() throws IOException
+  {
+    if (buf != null) return buf.get();
+    return dis.readByte();
+  }
+
+  private int readInt() throws IOException
+  {
+    if (buf != null) return buf.getInt();
+    return dis.readInt();
+  }
+
+  private double readDouble() throws IOException
+  {
+    if (buf != null) return buf.getDouble();
+    return dis.readDouble();
+  }
+
 }
\ No newline at end of file
@@ -11,20 +11,26 @@
  */
 package org.locationtech.jts.io;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
 
+import org.locationtech.jts.geom.CircularString;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiCircularString;
 import org.locationtech.jts.geom.MultiLineString;
 import org.locationtech.jts.geom.MultiPoint;
 import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
 import org.locationtech.jts.util.Assert;
 
 /**
@@ -51,6 +57,9 @@ import org.locationtech.jts.util.Assert;
  * The WKB specification does not support representing {@link LinearRing}s;
  * they will be written as {@link LineString}s.
  * <p>
+ * {@link CircularString}s are written as the ISO WKB <tt>CircularString</tt> type (8),
+ * and {@link MultiCircularString}s as the <tt>MultiCurve</tt> type (11).
+ * <p>
  * This class is designed to support reuse of a single instance to read multiple
  * geometries. This class is not thread-safe; each thread should create its own
  * instance.
@@ -200,10 +209,15 @@ public class WKBWriter
   private int outputDimension = 2;
   private int byteOrder;
   private boolean includeSRID = false;
-  private ByteArrayOutputStream byteArrayOS = new ByteArrayOutputStream();
-  private OutStream byteArrayOutStream = new OutputStreamOutStream(byteArrayOS);
-  // holds output data values
-  private byte[] buf = new byte[8];
+
+  /**
+   * The size of the buffer used to write to {@link OutStream}s.
+   */
+  private static final int STREAM_BUFFER_SIZE = 4096;
+  private ByteBuffer streamBuffer = null;
+  // the buffer and stream being written to, if any
+  private ByteBuffer buffer = null;
+  private OutStream stream = null;
 
   /**
    * Creates a writer that writes {@link Geometry}s with
@@ -285,18 +299,101 @@ public class WKBWriter
    */
   public byte[] write(Geometry geom)
   {
+    byte[] bytes = new byte[computeSize(geom)];
+    write(geom, ByteBuffer.wrap(bytes));
+    return bytes;
+  }
+
+  /**
+   * Computes the exact number of bytes in the WKB
+   * written for a {@link Geometry} by this writer.
+   * This can be used to allocate or check the size of
+   * a buffer before calling {@link #write(Geometry, ByteBuffer)}.
+   *
+   * @param geom the geometry to be written
+   * @return the size of the WKB for the geometry
+   */
+  public int computeSize(Geometry geom)
+  {
+    int headerSize = 1 + 4 + (includeSRID ? 4 : 0);
+    int coordSize = 8 * outputDimension;
+    if (geom instanceof Point) {
+      if (((Point) geom).getCoordinateSequence().size() == 0)
+        throw new IllegalArgumentException("Empty Points cannot be represented in WKB");
+      return headerSize + coordSize;
+    }
+    if (geom instanceof LineString) {
+      return headerSize + 4 + coordSize * ((LineString) geom).getCoordinateSequence().size();
+    }
+    if (geom instanceof CircularString) {
+      return headerSize + 4 + coordSize * ((CircularString) geom).getCoordinateSequence().size();
+    }
+    if (geom instanceof Polygon) {
+      Polygon poly = (Polygon) geom;
+      int size = headerSize + 4;
+      size += 4 + coordSize * poly.getExteriorRing().getCoordinateSequence().size();
+      for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+        size += 4 + coordSize * poly.getInteriorRingN(i).getCoordinateSequence().size();
+      }
+      return size;
+    }
+    if (geom instanceof GeometryCollection) {
+      int size = headerSize + 4;
+      for (int i = 0; i < geom.getNumGeometries(); i++) {
+        size += computeSize(geom.getGeometryN(i));
+      }
+      return size;
+    }
+    Assert.shouldNeverReachHere("Unknown Geometry type");
+    return 0;
+  }
+
+  /**
+   * Writes a {@link Geometry} into a {@link ByteBuffer}.
+   * The WKB is written starting at the current position of the buffer,
+   * and the position is advanced to the end of the WKB.
+   * This allows a buffer to be reused,
+   * and multiple geometries to be written to a single buffer.
+   * The buffer may be a heap or direct buffer.
+   * The byte order of the buffer is restored after writing.
+   * <p>
+   * Ordinates are written in bulk when the
+   * coordinate sequence is a {@link PackedCoordinateSequence.Double}
+   * with dimension equal to the output dimension.
+   *
+   * @param geom the geometry to write
+   * @param buffer the buffer to write to
+   * @throws BufferOverflowException if the buffer has insufficient space remaining
+   *   (in which case nothing is written)
+   *
+   * @see #computeSize(Geometry)
+   */
+  public void write(Geometry geom, ByteBuffer buffer)
+  {
+    if (buffer.remaining() < computeSize(geom))
+      throw new BufferOverflowException();
+    ByteOrder bufferOrder = buffer.order();
+    buffer.order(byteOrder());
+    this.buffer = buffer;
     try {
-      byteArrayOS.reset();
-      write(geom, byteArrayOutStream);
+      writeGeometry(geom);
     }
     catch (IOException ex) {
-      throw new RuntimeException("Unexpected IO exception: " + ex.getMessage());
+      // cannot occur, since no stream is written to
+      Assert.shouldNeverReachHere(ex.getMessage());
+    }
+    finally {
+      this.buffer = null;
+      buffer.order(bufferOrder);
     }
-    return byteArrayOS.toByteArray();
   }
 
   /**
    * Writes a {@link Geometry} to an {@link OutStream}.
+   * The WKB is encoded into a small buffer owned by this writer,
+   * which is written to the stream each time it fills.
+   * This allows geometries of any size to be written
+   * without creating objects for each geometry.
    *
    * @param geom the geometry to write
    * @param os the out stream to write to
@@ -304,124 +401,149 @@ public class WKBWriter
    */
   public void write(Geometry geom, OutStream os) throws IOException
   {
-    if (geom instanceof Point)
-      writePoint((Point) geom, os);
-    // LinearRings will be written as LineStrings
-    else if (geom instanceof LineString)
-      writeLineString((LineString) geom, os);
-    else if (geom instanceof Polygon)
-      writePolygon((Polygon) geom, os);
-    else if (geom instanceof MultiPoint)
-      writeGeometryCollection(WKBConstants.wkbMultiPoint, 
-          (MultiPoint) geom, os);
-    else if (geom instanceof MultiLineString)
-      writeGeometryCollection(WKBConstants.wkbMultiLineString,
-          (MultiLineString) geom, os);
-    else if (geom instanceof MultiPolygon)
-      writeGeometryCollection(WKBConstants.wkbMultiPolygon,
-          (MultiPolygon) geom, os);
-    else if (geom instanceof GeometryCollection)
-      writeGeometryCollection(WKBConstants.wkbGeometryCollection,
-          (GeometryCollection) geom, os);
-    else {
-      Assert.shouldNeverReachHere("Unknown Geometry type");
+    if (streamBuffer == null)
+      streamBuffer = ByteBuffer.allocate(STREAM_BUFFER_SIZE);
+    streamBuffer.clear();
+    streamBuffer.order(byteOrder());
+    buffer = streamBuffer;
+    stream = os;
+    try {
+      writeGeometry(geom);
+      flush();
+    }
+    finally {
+      buffer = null;
+      stream = null;
     }
   }
 
-  private void writePoint(Point pt, OutStream os) throws IOException
+  private ByteOrder byteOrder()
   {
-    if (pt.getCoordinateSequence().size() == 0)
-      throw new IllegalArgumentException("Empty Points cannot be represented in WKB");
-    writeByteOrder(os);
-    writeGeometryType(WKBConstants.wkbPoint, pt, os);
-    writeCoordinateSequence(pt.getCoordinateSequence(), false, os);
+    return byteOrder == ByteOrderValues.LITTLE_ENDIAN 
+        ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
   }
 
-  private void writeLineString(LineString line, OutStream os)
-      throws IOException
+  /**
+   * Ensures that the buffer has space for a number of bytes,
+   * by writing its contents to the stream if one is being written to.
+   * (When writing directly to a buffer the space has already been checked.)
+   */
+  private void ensureRemaining(int len) throws IOException
   {
-    writeByteOrder(os);
-    writeGeometryType(WKBConstants.wkbLineString, line, os);
-    writeCoordinateSequence(line.getCoordinateSequence(), true, os);
+    if (stream != null && buffer.remaining() < len)
+      flush();
   }
 
-  private void writePolygon(Polygon poly, OutStream os) throws IOException
+  private void flush() throws IOException
   {
-    writeByteOrder(os);
-    writeGeometryType(WKBConstants.wkbPolygon, poly, os);
-    writeInt(poly.getNumInteriorRing() + 1, os);
-    writeCoordinateSequence(poly.getExteriorRing().getCoordinateSequence(), true, os);
-    for (int i = 0; i < poly.getNumInteriorRing(); i++) {
-      writeCoordinateSequence(poly.getInteriorRingN(i).getCoordinateSequence(), true,
-          os);
-    }
+    if (buffer.position() > 0)
+      stream.write(buffer.array(), buffer.position());
+    buffer.clear();
   }
 
-  private void writeGeometryCollection(int geometryType, GeometryCollection gc,
-      OutStream os) throws IOException
+  private void writeGeometry(Geometry geom) throws IOException
   {
-    writeByteOrder(os);
-    writeGeometryType(geometryType, gc, os);
-    writeInt(gc.getNumGeometries(), os);
-    for (int i = 0; i < gc.getNumGeometries(); i++) {
-      write(gc.getGeometryN(i), os);
+    int geometryType;
+    if (geom instanceof Point) {
+      if (((Point) geom).getCoordinateSequence().size() == 0)
+        throw new IllegalArgumentException("Empty Points cannot be represented in WKB");
+      geometryType = WKBConstants.wkbPoint;
     }
-  }
-
-  private void writeByteOrder(OutStream os) throws IOException
-  {
-    if (byteOrder == ByteOrderValues.LITTLE_ENDIAN)
-      buf[0] = WKBConstants.wkbNDR;
+    // LinearRings will be written as LineStrings
+    else if (geom instanceof LineString)
+      geometryType = WKBConstants.wkbLineString;
+    else if (geom instanceof Polygon)
+      geometryType = WKBConstants.wkbPolygon;
+    else if (geom instanceof CircularString)
+      geometryType = WKBConstants.wkbCircularString;
+    else if (geom instanceof MultiCircularString)
+      geometryType = WKBConstants.wkbMultiCurve;
+    else if (geom instanceof MultiPoint)
+      geometryType = WKBConstants.wkbMultiPoint;
+    else if (geom instanceof MultiLineString)
+      geometryType = WKBConstants.wkbMultiLineString;
+    else if (geom instanceof MultiPolygon)
+      geometryType = WKBConstants.wkbMultiPolygon;
     else
-      buf[0] = WKBConstants.wkbXDR;
-    os.write(buf, 1);
-  }
-
-  private void writeGeometryType(int geometryType, Geometry g, OutStream os)
-      throws IOException
-  {
+      geometryType = WKBConstants.wkbGeometryCollection;
+    
+    // byte order, type and SRID
+    ensureRemaining(9);
+    buffer.put((byte) (byteOrder == ByteOrderValues.LITTLE_ENDIAN
+        ? WKBConstants.wkbNDR : WKBConstants.wkbXDR));
     int flag3D = (outputDimension == 3) ? 0x80000000 : 0;
     int typeInt = geometryType | flag3D;
     typeInt |= includeSRID ? 0x20000000 : 0;
-    writeInt(typeInt, os);
+    buffer.putInt(typeInt);
     if (includeSRID) {
-        writeInt(g.getSRID(), os);
+      buffer.putInt(geom.getSRID());
+    }
+    
+    switch (geometryType) {
+    case WKBConstants.wkbPoint:
+      writeCoordinateSequence(((Point) geom).getCoordinateSequence(), false);
+      break;
+    case WKBConstants.wkbLineString:
+      writeCoordinateSequence(((LineString) geom).getCoordinateSequence(), true);
+      break;
+    case WKBConstants.wkbCircularString:
+      writeCoordinateSequence(((CircularString) geom).getCoordinateSequence(), true);
+      break;
+    case WKBConstants.wkbPolygon:
+      Polygon poly = (Polygon) geom;
+      ensureRemaining(4);
+      buffer.putInt(poly.getNumInteriorRing() + 1);
+      writeCoordinateSequence(poly.getExteriorRing().getCoordinateSequence(), true);
+      for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+        writeCoordinateSequence(poly.getInteriorRingN(i).getCoordinateSequence(), true);
+      }
+      break;
+    default:
+      ensureRemaining(4);
+      buffer.putInt(geom.getNumGeometries());
+      for (int i = 0; i < geom.getNumGeometries(); i++) {
+        writeGeometry(geom.getGeometryN(i));
+      }
     }
   }
 
-  private void writeInt(int intValue, OutStream os) throws IOException
-  {
-    ByteOrderValues.putInt(intValue, buf, byteOrder);
-    os.write(buf, 4);
-  }
-
-  private void writeCoordinateSequence(CoordinateSequence seq, boolean writeSize, OutStream os)
-      throws IOException
+  private void writeCoordinateSequence(CoordinateSequence seq, boolean writeSize) throws IOException
   {
-    if (writeSize)
-      writeInt(seq.size(), os);
-
-    for (int i = 0; i < seq.size(); i++) {
-      writeCoordinate(seq, i, os);
+    int size = seq.size();
+    if (writeSize) {
+      ensureRemaining(4);
+      buffer.putInt(size);
     }
-  }
 
-  private void writeCoordinate(CoordinateSequence seq, int index, OutStream os)
-  throws IOException
-  {
-    ByteOrderValues.putDouble(seq.getX(index), buf, byteOrder);
-    os.write(buf, 8);
-    ByteOrderValues.putDouble(seq.getY(index), buf, byteOrder);
-    os.write(buf, 8);
-    
-    // only write 3rd dim if caller has requested it for this writer
-    if (outputDimension >= 3) {
-      // if 3rd dim is requested, only write it if the CoordinateSequence provides it
-    	double ordVal = Coordinate.NULL_ORDINATE;
-    	if (seq.getDimension() >= 3)
-    		ordVal = seq.getOrdinate(index, 2);
-      ByteOrderValues.putDouble(ordVal, buf, byteOrder);
-      os.write(buf, 8);
+    if (seq instanceof PackedCoordinateSequence.Double
+        && seq.getDimension() == outputDimension) {
+      // bulk copy the ordinates, in chunks which fit the buffer
+      double[] ords = ((PackedCoordinateSequence.Double) seq).getRawCoordinates();
+      int numOrds = size * outputDimension;
+      int i = 0;
+      while (i < numOrds) {
+        ensureRemaining(8);
+        int len = Math.min(numOrds - i, buffer.remaining() / 8);
+        DoubleBuffer doubleBuf = buffer.asDoubleBuffer();
+        doubleBuf.put(ords, i, len);
+        buffer.position(buffer.position() + 8 * len);
+        i += len;
+      }
+      return;
+    }
+    int coordSize = 8 * outputDimension;
+    for (int i = 0; i < size; i++) {
+      ensureRemaining(coordSize);
+      buffer.putDouble(seq.getX(i));
+      buffer.putDouble(seq.getY(i));
+      // only write 3rd dim if caller has requested it for this writer
+      if (outputDimension >= 3) {
+        // if 3rd dim is requested, only write it if the CoordinateSequence provides it
+        double ordVal = Coordinate.NULL_ORDINATE;
+        if (seq.getDimension() >= 3)
+          ordVal = seq.getOrdinate(i, 2);
+        buffer.putDouble(ordVal);
+      }
     }
   }
 }
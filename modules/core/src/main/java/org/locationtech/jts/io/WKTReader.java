@@ -14,12 +14,12 @@ package org.locationtech.jts.io;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.io.StreamTokenizer;
-import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Locale;
 
+import org.locationtech.jts.geom.CircularString;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.CoordinateSequenceFactory;
@@ -36,8 +36,6 @@ import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.PrecisionModel;
 import org.locationtech.jts.geom.impl.CoordinateArraySequenceFactory;
-import org.locationtech.jts.util.Assert;
-import org.locationtech.jts.util.AssertionFailedException;
 
 /**
  * Converts a geometry in Well-Known Text format to a {@link Geometry}.
@@ -60,9 +58,12 @@ import org.locationtech.jts.util.AssertionFailedException;
  * <ul>
  * <li>Keywords are case-insensitive.
  * <li>The reader supports non-standard "LINEARRING" tags.
- * <li>The reader uses <tt>Double.parseDouble</tt> to perform the conversion of ASCII
- * numbers to floating point.  This means it supports the Java
- * syntax for floating point literals (including scientific notation).
+ * <li>Numbers are converted to floating point directly from the input characters.
+ * Numbers which cannot be converted exactly by this fast path
+ * fall back to <tt>Double.parseDouble</tt>,
+ * so the result is always correctly rounded,
+ * and the Java syntax for floating point literals
+ * (including scientific notation) is supported.
  * </ul>
  *
  * <h3>Syntax</h3>
@@ -81,7 +82,8 @@ import org.locationtech.jts.util.AssertionFailedException;
  *
  *       WKTPoint  WKTLineString  WKTLinearRing  WKTPolygon
  *       WKTMultiPoint  WKTMultiLineString  WKTMultiPolygon
- *       WKTGeometryCollection</i>
+ *       WKTGeometryCollection
+ *       WKTCircularString  WKTCompoundCurve  WKTCurvePolygon  WKTMultiCurve</i>
  *
  * <i>WKTPoint:</i> <b>POINT</b><i>[Dimension]</i> <b>( </b><i>Coordinate</i> <b>)</b>
  *
@@ -101,6 +103,24 @@ import org.locationtech.jts.util.AssertionFailedException;
  * <i>WKTGeometryCollection: </i>
  *         <b>GEOMETRYCOLLECTION</b><i>[Dimension]</i> <b> (</b> <i>WKTGeometry {</i> , <i>WKTGeometry }</i> <b>)</b>
  *
+ * <i>WKTCircularString:</i> <b>CIRCULARSTRING</b><i>[Dimension]</i> <i>CoordinateSequence</i>
+ *
+ * <i>WKTCompoundCurve:</i>
+ *         <b>COMPOUNDCURVE</b><i>[Dimension]</i> <b>(</b> <i>CurveSection {</i> , <i>CurveSection }</i> <b>)</b>
+ *         | <b>COMPOUNDCURVE</b><i>[Dimension]</i> <b>EMPTY</b>
+ *
+ * <i>WKTCurvePolygon:</i>
+ *         <b>CURVEPOLYGON</b><i>[Dimension]</i> <b>(</b> <i>Curve {</i> , <i>Curve }</i> <b>)</b>
+ *         | <b>CURVEPOLYGON</b><i>[Dimension]</i> <b>EMPTY</b>
+ *
+ * <i>WKTMultiCurve:</i>
+ *         <b>MULTICURVE</b><i>[Dimension]</i> <b>(</b> <i>Curve {</i> , <i>Curve }</i> <b>)</b>
+ *         | <b>MULTICURVE</b><i>[Dimension]</i> <b>EMPTY</b>
+ *
+ * <i>CurveSection:</i> <i>CoordinateSequence</i> | <i>WKTCircularString</i>
+ *
+ * <i>Curve:</i> <i>CoordinateSequence</i> | <i>WKTCircularString</i> | <i>WKTCompoundCurve</i>
+ *
  * <i>CoordinateSingletonList:</i>
  *         <b>(</b> <i>CoordinateSingleton {</i> <b>,</b> <i>CoordinateSingleton }</i> <b>)</b>
  *         | <b>EMPTY</b>
@@ -126,7 +146,13 @@ import org.locationtech.jts.util.AssertionFailedException;
  *         <b>Z</b>|<b> Z</b>|<b>M</b>|<b> M</b>|<b>ZM</b>|<b> ZM</b>
  *
  * </pre></blockquote>
- *
+ * <p>
+ * Since JTS has no compound curve or curve polygon types,
+ * a CompoundCurve is read as a single {@link CircularString}
+ * (or a {@link LineString} if it contains only linear sections),
+ * a MultiCurve is read as a {@link org.locationtech.jts.geom.MultiCircularString}
+ * (or a {@link MultiLineString} if it contains only linear elements)
+ * and a CurvePolygon is read as a {@link Polygon} with its curved rings linearized.
  *
  *@version 1.7
  * @see WKTWriter
@@ -137,7 +163,6 @@ public class WKTReader
   private static final String COMMA = ",";
   private static final String L_PAREN = "(";
   private static final String R_PAREN = ")";
-  private static final String NAN_SYMBOL = "NaN";
 
   private GeometryFactory geometryFactory;
   private CoordinateSequenceFactory csFactory;
@@ -208,13 +233,7 @@ public class WKTReader
    *             if a parsing problem occurs
    */
   public Geometry read(String wellKnownText) throws ParseException {
-    StringReader reader = new StringReader(wellKnownText);
-    try {
-      return read(reader);
-    }
-    finally {
-      reader.close();
-    }
+    return read(new WKTTokenizer(wellKnownText.toCharArray()));
   }
 
   /**
@@ -227,7 +246,10 @@ public class WKTReader
    *@throws  ParseException  if a parsing problem occurs
    */
   public Geometry read(Reader reader) throws ParseException {
-    StreamTokenizer tokenizer = createTokenizer(reader);
+    return read(new WKTTokenizer(reader));
+  }
+
+  private Geometry read(WKTTokenizer tokenizer) throws ParseException {
     try {
       return readGeometryTaggedText(tokenizer);
     }
@@ -237,124 +259,126 @@ public class WKTReader
   }
 
   /**
-   * Utility function to create the tokenizer
-   * @param reader a reader
-   *
-   * @return a WKT Tokenizer.
-   */
-  private static StreamTokenizer createTokenizer(Reader reader) {
-    StreamTokenizer tokenizer = new StreamTokenizer(reader);
-    // set tokenizer to NOT parse numbers
-    tokenizer.resetSyntax();
-    tokenizer.wordChars('a', 'z');
-    tokenizer.wordChars('A', 'Z');
-    tokenizer.wordChars(128 + 32, 255);
-    tokenizer.wordChars('0', '9');
-    tokenizer.wordChars('-', '-');
-    tokenizer.wordChars('+', '+');
-    tokenizer.wordChars('.', '.');
-    tokenizer.whitespaceChars(0, ' ');
-    tokenizer.commentChar('#');
-
-    return tokenizer;
-  }
-
-  /**
-   * Reads a <code>Coordinate</Code> from a stream using the given {@link StreamTokenizer}.
+   * Reads a <code>Coordinate</Code> from a stream using the given {@link WKTTokenizer}.
    * <p>
    *   All ordinate values are read, but -depending on the {@link CoordinateSequenceFactory} of the
    *   underlying {@link GeometryFactory}- not necessarily all can be handled. Those are silently dropped.
    * </p>
+   * <p>
+   *
+   * </p>
    * @param tokenizer the tokenizer to use
    * @param ordinateFlags a bit-mask defining the ordinates to read.
-   * @param tryParen a value indicating if a starting {@link #L_PAREN} should be probed.
    * @return a {@link CoordinateSequence} of length 1 containing the read ordinate values
    *
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private CoordinateSequence getCoordinate(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags, boolean tryParen)
-          throws IOException, ParseException
-  {
-
-    boolean opened = false;
-    if (tryParen && isOpenerNext(tokenizer) ) {
-      tokenizer.nextToken();
-      opened = true;
-    }
-
-    // create a sequence for one coordinate
-    int offsetM = ordinateFlags.contains(Ordinate.Z) ? 1 : 0;
-    CoordinateSequence sequence = csFactory.create(1, toDimension(ordinateFlags), ordinateFlags.contains(Ordinate.M) ? 1 : 0);
-    sequence.setOrdinate(0, CoordinateSequence.X, precisionModel.makePrecise(getNextNumber(tokenizer)));
-    sequence.setOrdinate(0, CoordinateSequence.Y, precisionModel.makePrecise(getNextNumber(tokenizer)));
-
-    // additionally read other vertices
-    if (ordinateFlags.contains(Ordinate.Z))
-      sequence.setOrdinate(0, CoordinateSequence.Z, getNextNumber(tokenizer));
-    if (ordinateFlags.contains(Ordinate.M))
-      sequence.setOrdinate(0, CoordinateSequence.Z + offsetM, getNextNumber(tokenizer));
-
-    if (ordinateFlags.size() == 2 && this.isAllowOldJtsCoordinateSyntax && isNumberNext(tokenizer)) {
-      sequence.setOrdinate(0, CoordinateSequence.Z, getNextNumber(tokenizer));
-    }
-
-    // read close token if it was opened here
-    if (opened) {
-      getNextCloser(tokenizer);
-    }
-
-    return sequence;
+  private CoordinateSequence getCoordinateSequence(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
+          throws IOException, ParseException {
+    return getCoordinateSequence(tokenizer, ordinateFlags, false);
   }
 
   /**
-   * Reads a <code>Coordinate</Code> from a stream using the given {@link StreamTokenizer}.
+   * Reads a <code>CoordinateSequence</Code> from a stream using the given {@link WKTTokenizer}.
    * <p>
    *   All ordinate values are read, but -depending on the {@link CoordinateSequenceFactory} of the
    *   underlying {@link GeometryFactory}- not necessarily all can be handled. Those are silently dropped.
    * </p>
-   * <p>
-   *
-   * </p>
    * @param tokenizer the tokenizer to use
    * @param ordinateFlags a bit-mask defining the ordinates to read.
+   * @param tryParen a value indicating if a starting {@link #L_PAREN} should be probed for each coordinate.
    * @return a {@link CoordinateSequence} of length 1 containing the read ordinate values
    *
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
-   */
-  private CoordinateSequence getCoordinateSequence(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
+S   */
+  private CoordinateSequence getCoordinateSequence(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags,
+                                                   boolean tryParen)
           throws IOException, ParseException {
-    return getCoordinateSequence(tokenizer, ordinateFlags, false);
+
+    int dimension = toDimension(ordinateFlags);
+    int measures = ordinateFlags.contains(Ordinate.M) ? 1 : 0;
+    if (getNextEmptyOrOpener(tokenizer).equals(EMPTY))
+      return this.csFactory.create(0, dimension, measures);
+
+    // read the ordinates into a buffer, and then copy them into a sequence of the final size
+    boolean isZOptional = ordinateFlags.size() == 2 && this.isAllowOldJtsCoordinateSyntax;
+    int size = 0;
+    do {
+      readCoordinate(tokenizer, ordinateFlags, tryParen, size, isZOptional);
+      size++;
+    } while (getNextCloserOrComma(tokenizer).equals(COMMA));
+
+    CoordinateSequence sequence = this.csFactory.create(size, dimension, measures);
+    boolean hasZ = ordinateFlags.contains(Ordinate.Z) || isZOptional;
+    int offsetM = CoordinateSequence.Z + (ordinateFlags.contains(Ordinate.Z) ? 1 : 0);
+    double[] ordinateBuffer = tokenizer.ordinateBuffer(0);
+    boolean[] isZReadBuffer = isZOptional ? tokenizer.isZReadBuffer(0) : null;
+    int ordIndex = 0;
+    for (int i = 0; i < size; i++) {
+      sequence.setOrdinate(i, CoordinateSequence.X, ordinateBuffer[ordIndex++]);
+      sequence.setOrdinate(i, CoordinateSequence.Y, ordinateBuffer[ordIndex++]);
+      if (hasZ) {
+        // an optional Z which was not supplied is left as the sequence default
+        if (! isZOptional || isZReadBuffer[i])
+          sequence.setOrdinate(i, CoordinateSequence.Z, ordinateBuffer[ordIndex]);
+        ordIndex++;
+      }
+      if (measures > 0)
+        sequence.setOrdinate(i, offsetM, ordinateBuffer[ordIndex++]);
+    }
+    return sequence;
   }
 
   /**
-   * Reads a <code>CoordinateSequence</Code> from a stream using the given {@link StreamTokenizer}.
+   * Reads the ordinates of a coordinate into the ordinate buffer of the tokenizer.
    * <p>
    *   All ordinate values are read, but -depending on the {@link CoordinateSequenceFactory} of the
    *   underlying {@link GeometryFactory}- not necessarily all can be handled. Those are silently dropped.
    * </p>
    * @param tokenizer the tokenizer to use
    * @param ordinateFlags a bit-mask defining the ordinates to read.
-   * @param tryParen a value indicating if a starting {@link #L_PAREN} should be probed for each coordinate.
-   * @return a {@link CoordinateSequence} of length 1 containing the read ordinate values
+   * @param tryParen a value indicating if a starting {@link #L_PAREN} should be probed.
+   * @param index the index of the coordinate in the buffer
+   * @param isZOptional a value indicating if a Z ordinate may be present (old JTS syntax)
    *
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
-S   */
-  private CoordinateSequence getCoordinateSequence(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags,
-                                                   boolean tryParen)
-          throws IOException, ParseException {
+   */
+  private void readCoordinate(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags, boolean tryParen,
+                              int index, boolean isZOptional)
+          throws IOException, ParseException
+  {
+    boolean opened = false;
+    if (tryParen && isOpenerNext(tokenizer) ) {
+      tokenizer.nextToken();
+      opened = true;
+    }
 
-    if (getNextEmptyOrOpener(tokenizer).equals(EMPTY))
-      return this.csFactory.create(0, toDimension(ordinateFlags), ordinateFlags.contains(Ordinate.M) ? 1 : 0);
+    int ordDim = isZOptional ? 3 : ordinateFlags.size();
+    int ordIndex = index * ordDim;
+    double[] ordinateBuffer = tokenizer.ordinateBuffer(ordIndex + ordDim);
+    ordinateBuffer[ordIndex++] = precisionModel.makePrecise(getNextNumber(tokenizer));
+    ordinateBuffer[ordIndex++] = precisionModel.makePrecise(getNextNumber(tokenizer));
 
-    ArrayList coordinates = new ArrayList();
-    do {
-      coordinates.add(getCoordinate(tokenizer, ordinateFlags, tryParen));
-    } while (getNextCloserOrComma(tokenizer).equals(COMMA));
+    // additionally read other vertices
+    if (ordinateFlags.contains(Ordinate.Z))
+      ordinateBuffer[ordIndex++] = getNextNumber(tokenizer);
+    if (ordinateFlags.contains(Ordinate.M))
+      ordinateBuffer[ordIndex++] = getNextNumber(tokenizer);
 
-    return mergeSequences(coordinates, ordinateFlags);
+    if (isZOptional) {
+      boolean isZRead = isNumberNext(tokenizer);
+      if (isZRead)
+        ordinateBuffer[ordIndex] = getNextNumber(tokenizer);
+      tokenizer.isZReadBuffer(index + 1)[index] = isZRead;
+    }
+
+    // read close token if it was opened here
+    if (opened) {
+      getNextCloser(tokenizer);
+    }
   }
 
   /**
@@ -377,54 +401,6 @@ S   */
     return dimension;
   }
 
-  /**
-   * Merges an array of one-coordinate-{@link CoordinateSequence}s into one {@link CoordinateSequence}.
-   *
-   * @param sequences an array of coordinate sequences. Each sequence contains <b>exactly one</b> coordinate.
-   * @param ordinateFlags a bit-mask of required ordinates.
-   * @return a coordinate sequence containing all coordinate
-   */
-  private CoordinateSequence mergeSequences(ArrayList sequences, EnumSet<Ordinate> ordinateFlags) {
-
-    // if the sequences array is empty or null create an empty sequence
-    if (sequences == null || sequences.size() == 0)
-      return csFactory.create(0, toDimension(ordinateFlags));
-
-    if (sequences.size() == 1)
-      return (CoordinateSequence) sequences.get(0);
-
-    EnumSet<Ordinate> mergeOrdinates;
-    if (this.isAllowOldJtsCoordinateSyntax && ordinateFlags.size() == 2) {
-      mergeOrdinates = ordinateFlags.clone();
-      for (int i = 0; i < sequences.size(); i++) {
-        if (((CoordinateSequence)sequences.get(i)).hasZ()) {
-          mergeOrdinates.add(Ordinate.Z);
-          break;
-        }
-      }
-    }
-    else
-      mergeOrdinates = ordinateFlags;
-
-    // create and fill the result sequence
-    CoordinateSequence sequence = this.csFactory.create(sequences.size(), toDimension(mergeOrdinates),
-            mergeOrdinates.contains(Ordinate.M) ? 1 : 0);
-
-    int offsetM = CoordinateSequence.Z + (mergeOrdinates.contains(Ordinate.Z) ? 1 : 0);
-    for (int i = 0; i < sequences.size(); i++) {
-      CoordinateSequence item = (CoordinateSequence)sequences.get(i);
-      sequence.setOrdinate(i, CoordinateSequence.X, item.getOrdinate(0, CoordinateSequence.X));
-      sequence.setOrdinate(i, CoordinateSequence.Y, item.getOrdinate(0, CoordinateSequence.Y));
-      if (mergeOrdinates.contains(Ordinate.Z))
-        sequence.setOrdinate(i, CoordinateSequence.Z, item.getOrdinate(0, CoordinateSequence.Z));
-      if (mergeOrdinates.contains(Ordinate.M))
-        sequence.setOrdinate(i, offsetM, item.getOrdinate(0, offsetM));
-    }
-
-    // return it
-    return sequence;
-  }
-
   /**
    * Returns the next array of <code>Coordinate</code>s in the stream.
    *
@@ -439,7 +415,7 @@ S   */
    *
    *@deprecated in favor of functions returning {@link CoordinateSequence}s
    */
-  private Coordinate[] getCoordinates(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private Coordinate[] getCoordinates(WKTTokenizer tokenizer) throws IOException, ParseException {
     String nextToken = getNextEmptyOrOpener(tokenizer);
     if (nextToken.equals(EMPTY)) {
       return new Coordinate[] {};
@@ -467,7 +443,7 @@ S   */
    *
    *@deprecated in favor of functions returning {@link CoordinateSequence}s
    */
-  private Coordinate[] getCoordinatesNoLeftParen(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private Coordinate[] getCoordinatesNoLeftParen(WKTTokenizer tokenizer) throws IOException, ParseException {
     String nextToken = null;
     ArrayList coordinates = new ArrayList();
     coordinates.add(getPreciseCoordinate(tokenizer));
@@ -492,7 +468,7 @@ S   */
    *
    *@deprecated in favor of functions returning {@link CoordinateSequence}s
    */
-  private Coordinate getPreciseCoordinate(StreamTokenizer tokenizer)
+  private Coordinate getPreciseCoordinate(WKTTokenizer tokenizer)
       throws IOException, ParseException
   {
     Coordinate coord = new Coordinate();
@@ -515,10 +491,10 @@ S   */
    * @return {@code true} if the next token is a number, otherwise {@code false}
    * @throws  IOException     if an I/O error occurs
    */
-  private static boolean isNumberNext(StreamTokenizer tokenizer) throws IOException {
+  private static boolean isNumberNext(WKTTokenizer tokenizer) throws IOException {
     int type = tokenizer.nextToken();
     tokenizer.pushBack();
-    return type == StreamTokenizer.TT_WORD;
+    return type == WKTTokenizer.TT_WORD;
   }
 
   /**
@@ -528,7 +504,7 @@ S   */
    * @return {@code true} if the next token is a {@link #L_PAREN}, otherwise {@code false}
    * @throws  IOException     if an I/O error occurs
    */
-  private static boolean isOpenerNext(StreamTokenizer tokenizer) throws IOException {
+  private static boolean isOpenerNext(WKTTokenizer tokenizer) throws IOException {
     int type = tokenizer.nextToken();
     tokenizer.pushBack();
     return type == '(';
@@ -545,23 +521,16 @@ S   */
    * @throws  ParseException  if the next token is not a valid number
    * @throws  IOException     if an I/O error occurs
    */
-  private double getNextNumber(StreamTokenizer tokenizer) throws IOException,
+  private double getNextNumber(WKTTokenizer tokenizer) throws IOException,
       ParseException {
     int type = tokenizer.nextToken();
-    switch (type) {
-      case StreamTokenizer.TT_WORD:
-      {
-        if (tokenizer.sval.equalsIgnoreCase(NAN_SYMBOL)) {
-          return Double.NaN;
-        }
-        else {
-          try {
-            return Double.parseDouble(tokenizer.sval);
-          }
-          catch (NumberFormatException ex) {
-            throw parseErrorWithLine(tokenizer, "Invalid number: " + tokenizer.sval);
-          }
-        }
+    if (type == WKTTokenizer.TT_WORD) {
+      try {
+        // NaN symbol is handled by the tokenizer
+        return tokenizer.getNumber();
+      }
+      catch (NumberFormatException ex) {
+        throw parseErrorWithLine(tokenizer, "Invalid number: " + tokenizer.getWord());
       }
     }
     throw parseErrorExpected(tokenizer, "number");
@@ -576,7 +545,7 @@ S   */
    *@throws  IOException     if an I/O error occurs
    * @param  tokenizer        tokenizer over a stream of text in Well-known Text
    */
-  private static String getNextEmptyOrOpener(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private static String getNextEmptyOrOpener(WKTTokenizer tokenizer) throws IOException, ParseException {
     String nextWord = getNextWord(tokenizer);
     if (nextWord.equalsIgnoreCase("Z")) {
       //z = true;
@@ -607,7 +576,7 @@ S   */
    *@throws  IOException     if an I/O error occurs
    * @param  tokenizer        tokenizer over a stream of text in Well-known Text
    */
-  private static EnumSet<Ordinate> getNextOrdinateFlags(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private static EnumSet<Ordinate> getNextOrdinateFlags(WKTTokenizer tokenizer) throws IOException, ParseException {
 
     EnumSet<Ordinate> result = EnumSet.of(Ordinate.X, Ordinate.Y);
 
@@ -637,7 +606,7 @@ S   */
    *@throws  ParseException  if the next token is not a word
    *@throws  IOException     if an I/O error occurs
    */
-  private static String lookAheadWord(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private static String lookAheadWord(WKTTokenizer tokenizer) throws IOException, ParseException {
     String nextWord = getNextWord(tokenizer);
     tokenizer.pushBack();
     return nextWord;
@@ -651,7 +620,7 @@ S   */
    *@throws  IOException     if an I/O error occurs
    * @param  tokenizer        tokenizer over a stream of text in Well-known Text
    */
-  private static String getNextCloserOrComma(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private static String getNextCloserOrComma(WKTTokenizer tokenizer) throws IOException, ParseException {
     String nextWord = getNextWord(tokenizer);
     if (nextWord.equals(COMMA) || nextWord.equals(R_PAREN)) {
       return nextWord;
@@ -668,7 +637,7 @@ S   */
    *@throws  ParseException  if the next token is not R_PAREN
    *@throws  IOException     if an I/O error occurs
    */
-  private String getNextCloser(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private String getNextCloser(WKTTokenizer tokenizer) throws IOException, ParseException {
     String nextWord = getNextWord(tokenizer);
     if (nextWord.equals(R_PAREN)) {
       return nextWord;
@@ -684,12 +653,12 @@ S   */
    *@throws  IOException     if an I/O error occurs
    * @param  tokenizer        tokenizer over a stream of text in Well-known Text
    */
-  private static String getNextWord(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private static String getNextWord(WKTTokenizer tokenizer) throws IOException, ParseException {
     int type = tokenizer.nextToken();
     switch (type) {
-    case StreamTokenizer.TT_WORD:
+    case WKTTokenizer.TT_WORD:
 
-      String word = tokenizer.sval;
+      String word = tokenizer.getWord();
       if (word.equalsIgnoreCase(EMPTY))
           return EMPTY;
       return word;
@@ -706,16 +675,9 @@ S   */
    * was unexpected.
    *
    * @param expected a description of what was expected
-   * @throws AssertionFailedException if an invalid token is encountered
    */
-  private static ParseException parseErrorExpected(StreamTokenizer tokenizer, String expected)
+  private static ParseException parseErrorExpected(WKTTokenizer tokenizer, String expected)
   {
-    // throws Asserts for tokens that should never be seen
-    if (tokenizer.ttype == StreamTokenizer.TT_NUMBER)
-      Assert.shouldNeverReachHere("Unexpected NUMBER token");
-    if (tokenizer.ttype == StreamTokenizer.TT_EOL)
-      Assert.shouldNeverReachHere("Unexpected EOL token");
-
     String tokenStr = tokenString(tokenizer);
     return parseErrorWithLine(tokenizer, "Expected " + expected + " but found " + tokenStr);
   }
@@ -725,9 +687,8 @@ S   */
    * was unexpected.
    *
    * @param msg a description of what was expected
-   * @throws AssertionFailedException if an invalid token is encountered
    */
-  private static ParseException parseErrorWithLine(StreamTokenizer tokenizer, String msg)
+  private static ParseException parseErrorWithLine(WKTTokenizer tokenizer, String msg)
   {
     return new ParseException(msg + " (line " + tokenizer.lineno() + ")");
   }
@@ -737,15 +698,11 @@ S   */
    * @param tokenizer the tokenizer
    * @return a description of the current token
    */
-  private static String tokenString(StreamTokenizer tokenizer)
+  private static String tokenString(WKTTokenizer tokenizer)
   {
     switch (tokenizer.ttype) {
-      case StreamTokenizer.TT_NUMBER:
-        return "<NUMBER>";
-      case StreamTokenizer.TT_EOL:
-        return "End-of-Line";
-      case StreamTokenizer.TT_EOF: return "End-of-Stream";
-      case StreamTokenizer.TT_WORD: return "'" + tokenizer.sval + "'";
+      case WKTTokenizer.TT_EOF: return "End-of-Stream";
+      case WKTTokenizer.TT_WORD: return "'" + tokenizer.getWord() + "'";
     }
     return "'" + (char) tokenizer.ttype + "'";
   }
@@ -761,7 +718,7 @@ S   */
    *@throws  IOException     if an I/O error occurs
    * @param  tokenizer        tokenizer over a stream of text in Well-known Text
    */
-  private Geometry readGeometryTaggedText(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private Geometry readGeometryTaggedText(WKTTokenizer tokenizer) throws IOException, ParseException {
     String type;
 
     EnumSet<Ordinate> ordinateFlags = EnumSet.of(Ordinate.X, Ordinate.Y);
@@ -784,7 +741,7 @@ S   */
     return readGeometryTaggedText(tokenizer, type, ordinateFlags);
   }
 
-  private Geometry readGeometryTaggedText(StreamTokenizer tokenizer, String type, EnumSet<Ordinate> ordinateFlags)
+  private Geometry readGeometryTaggedText(WKTTokenizer tokenizer, String type, EnumSet<Ordinate> ordinateFlags)
           throws IOException, ParseException {
 
     if (ordinateFlags.size() == 2) {
@@ -828,6 +785,18 @@ S   */
     else if (type.startsWith("GEOMETRYCOLLECTION")) {
       return readGeometryCollectionText(tokenizer, ordinateFlags);
     }
+    else if (type.startsWith("CIRCULARSTRING")) {
+      return readCircularStringText(tokenizer, ordinateFlags);
+    }
+    else if (type.startsWith("COMPOUNDCURVE")) {
+      return readCompoundCurveText(tokenizer, ordinateFlags);
+    }
+    else if (type.startsWith("CURVEPOLYGON")) {
+      return readCurvePolygonText(tokenizer, ordinateFlags);
+    }
+    else if (type.startsWith("MULTICURVE")) {
+      return readMultiCurveText(tokenizer, ordinateFlags);
+    }
     throw parseErrorWithLine(tokenizer, "Unknown geometry type: " + type);
   }
 
@@ -841,7 +810,7 @@ S   */
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private Point readPointText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
+  private Point readPointText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
     Point point = geometryFactory.createPoint(getCoordinateSequence(tokenizer, ordinateFlags));
     return point;
   }
@@ -856,7 +825,7 @@ S   */
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private LineString readLineStringText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
+  private LineString readLineStringText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
     return geometryFactory.createLineString(getCoordinateSequence(tokenizer, ordinateFlags));
   }
 
@@ -872,7 +841,7 @@ S   */
    *      do not form a closed linestring, or if an unexpected token was
    *      encountered
    */
-  private LinearRing readLinearRingText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
+  private LinearRing readLinearRingText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
     throws IOException, ParseException
   {
     return geometryFactory.createLinearRing(getCoordinateSequence(tokenizer, ordinateFlags));
@@ -888,7 +857,7 @@ S   */
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private MultiPoint readMultiPointText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException
+  private MultiPoint readMultiPointText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException
   {
     return geometryFactory.createMultiPoint(
             getCoordinateSequence(tokenizer, ordinateFlags, this.isAllowOldJtsMultipointSyntax));
@@ -907,7 +876,7 @@ S   */
    *      token was encountered.
    *@throws  IOException     if an I/O error occurs
    */
-  private Polygon readPolygonText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
+  private Polygon readPolygonText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
     String nextToken = getNextEmptyOrOpener(tokenizer);
     if (nextToken.equals(EMPTY)) {
         return geometryFactory.createPolygon();
@@ -934,7 +903,7 @@ S   */
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private MultiLineString readMultiLineStringText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
+  private MultiLineString readMultiLineStringText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
           throws IOException, ParseException {
     String nextToken = getNextEmptyOrOpener(tokenizer);
     if (nextToken.equals(EMPTY)) {
@@ -963,7 +932,7 @@ S   */
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private MultiPolygon readMultiPolygonText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
+  private MultiPolygon readMultiPolygonText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
     String nextToken = getNextEmptyOrOpener(tokenizer);
     if (nextToken.equals(EMPTY)) {
       return geometryFactory.createMultiPolygon();
@@ -991,7 +960,7 @@ S   */
    *      token was encountered
    *@throws  IOException     if an I/O error occurs
    */
-  private GeometryCollection readGeometryCollectionText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
+  private GeometryCollection readGeometryCollectionText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
     String nextToken = getNextEmptyOrOpener(tokenizer);
     if (nextToken.equals(EMPTY)) {
       return geometryFactory.createGeometryCollection();
@@ -1007,5 +976,113 @@ S   */
     return geometryFactory.createGeometryCollection((Geometry[]) geometries.toArray(array));
   }
 
-}
+  /**
+   *  Creates a <code>CircularString</code> using the next token in the stream.
+   *
+   *@param  tokenizer        tokenizer over a stream of text in Well-known Text
+   *      format. The next tokens must form a &lt;CircularString Text&gt;.
+   *@return                  a <code>CircularString</code> specified by the next
+   *      token in the stream
+   *@throws  IOException     if an I/O error occurs
+   *@throws  ParseException  if the number of points is invalid, or if an unexpected
+   *      token was encountered
+   */
+  private CircularString readCircularStringText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
+      throws IOException, ParseException
+  {
+    return curveBuilder().createCircularString(getCoordinateSequence(tokenizer, ordinateFlags));
+  }
+
+  /**
+   *  Creates the geometry for a <code>CompoundCurve</code> using the next token in the stream.
+   *
+   *@param  tokenizer        tokenizer over a stream of text in Well-known Text
+   *      format. The next tokens must form a &lt;CompoundCurve Text&gt;.
+   *@return                  a <code>CircularString</code> or <code>LineString</code>
+   *      specified by the next token in the stream
+   *@throws  IOException     if an I/O error occurs
+   *@throws  ParseException  if the sections are not contiguous, or if an unexpected
+   *      token was encountered
+   */
+  private Geometry readCompoundCurveText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
+      throws IOException, ParseException
+  {
+    return curveBuilder().createCompoundCurve(readCurveListText(tokenizer, ordinateFlags));
+  }
+
+  /**
+   *  Creates the geometry for a <code>CurvePolygon</code> using the next token in the stream.
+   *
+   *@param  tokenizer        tokenizer over a stream of text in Well-known Text
+   *      format. The next tokens must form a &lt;CurvePolygon Text&gt;.
+   *@return                  a <code>Polygon</code> specified by the next token in the stream
+   *@throws  IOException     if an I/O error occurs
+   *@throws  ParseException  if the rings are not closed, or if an unexpected
+   *      token was encountered
+   */
+  private Polygon readCurvePolygonText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
+      throws IOException, ParseException
+  {
+    return curveBuilder().createCurvePolygon(readCurveListText(tokenizer, ordinateFlags));
+  }
 
+  /**
+   *  Creates the geometry for a <code>MultiCurve</code> using the next token in the stream.
+   *
+   *@param  tokenizer        tokenizer over a stream of text in Well-known Text
+   *      format. The next tokens must form a &lt;MultiCurve Text&gt;.
+   *@return                  a <code>MultiCircularString</code> or <code>MultiLineString</code>
+   *      specified by the next token in the stream
+   *@throws  IOException     if an I/O error occurs
+   *@throws  ParseException  if an unexpected token was encountered
+   */
+  private Geometry readMultiCurveText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
+      throws IOException, ParseException
+  {
+    return curveBuilder().createMultiCurve(readCurveListText(tokenizer, ordinateFlags));
+  }
+
+  /**
+   * Reads a parenthesized list of curves, each of which is either an untagged
+   * coordinate sequence (a linear curve) or a tagged curve.
+   */
+  private List<Geometry> readCurveListText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
+      throws IOException, ParseException
+  {
+    List<Geometry> curves = new ArrayList<Geometry>();
+    String nextToken = getNextEmptyOrOpener(tokenizer);
+    if (nextToken.equals(EMPTY)) {
+      return curves;
+    }
+    do {
+      curves.add(readCurveText(tokenizer, ordinateFlags));
+      nextToken = getNextCloserOrComma(tokenizer);
+    } while (nextToken.equals(COMMA));
+    return curves;
+  }
+
+  private Geometry readCurveText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
+      throws IOException, ParseException
+  {
+    if (isOpenerNext(tokenizer)) {
+      return readLineStringText(tokenizer, ordinateFlags);
+    }
+    String type = getNextWord(tokenizer).toUpperCase(Locale.ROOT);
+    // nested curves use the dimension of the container
+    if (type.startsWith("CIRCULARSTRING")) {
+      return readCircularStringText(tokenizer, ordinateFlags);
+    }
+    else if (type.startsWith("COMPOUNDCURVE")) {
+      return readCompoundCurveText(tokenizer, ordinateFlags);
+    }
+    else if (type.startsWith("LINESTRING")) {
+      return readLineStringText(tokenizer, ordinateFlags);
+    }
+    throw parseErrorWithLine(tokenizer, "Invalid curve type: " + type);
+  }
+
+  private CurvedGeometryBuilder curveBuilder()
+  {
+    return new CurvedGeometryBuilder(geometryFactory);
+  }
+}
@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Splits Well-Known Text into tokens.
+ * This is a specialized replacement for {@link java.io.StreamTokenizer},
+ * with the same token syntax as the tokenizer previously configured by {@link WKTReader}:
+ * <ul>
+ * <li>Words are sequences of letters, digits, <code>'+'</code>, <code>'-'</code> and <code>'.'</code>
+ * (so numbers are returned as words)
+ * <li>Characters up to and including space are whitespace
+ * <li><code>'#'</code> starts a comment which extends to the end of the line
+ * <li>All other characters are returned as single-character tokens
+ * </ul>
+ * Input can be a character array or a {@link Reader}.
+ * Words in an array are not copied, and numbers are parsed 
+ * directly from the characters of the word, so that no objects are
+ * created while reading coordinates.
+ * When reading from a <code>Reader</code>, characters are read one at a time,
+ * and at most one character is read past the end of a token.
+ * This allows several geometries to be read in turn from the same stream.
+ *
+ * @author agent
+ *
+ */
+class WKTTokenizer 
+{
+  /**
+   * The token type indicating the end of the input.
+   */
+  static final int TT_EOF = -1;
+  
+  /**
+   * The token type indicating a word.
+   */
+  static final int TT_WORD = -3;
+  
+  private static final int NO_CHAR = -2;
+  
+  /**
+   * The maximum mantissa value which can be represented exactly by a double.
+   */
+  private static final long MAX_EXACT_MANTISSA = 1L << 53;
+  
+  /**
+   * The powers of ten which are exactly representable by a double.
+   */
+  private static final double[] POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 
+    1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 
+  };
+
+  /**
+   * The type of the current token.
+   * This is either {@link #TT_EOF}, {@link #TT_WORD}, 
+   * or the character of a single-character token.
+   */
+  int ttype = NO_CHAR;
+  
+  private final char[] text;
+  private final int end;
+  private int pos;
+  private final Reader reader;
+  private int peekc = NO_CHAR;
+  
+  private char[] wordChars;
+  private int wordStart;
+  private int wordLen;
+  private String word;
+  
+  private boolean isPushedBack = false;
+  private int lineno = 1;
+  
+  // scratch buffers used by WKTReader while reading a coordinate sequence
+  private double[] ordinateBuffer = null;
+  private boolean[] isZReadBuffer = null;
+  
+  /**
+   * Creates a tokenizer for a character array.
+   * 
+   * @param text the characters to tokenize
+   */
+  WKTTokenizer(char[] text)
+  {
+    this.text = text;
+    this.end = text.length;
+    this.reader = null;
+  }
+  
+  /**
+   * Creates a tokenizer for a stream of characters.
+   * 
+   * @param reader the reader to tokenize
+   */
+  WKTTokenizer(Reader reader)
+  {
+    this.text = null;
+    this.end = 0;
+    this.reader = reader;
+    wordChars = new char[32];
+  }
+  
+  /**
+   * Gets the current line number.
+   * 
+   * @return the current line number
+   */
+  int lineno()
+  {
+    return lineno;
+  }
+  
+  /**
+   * Causes the next call to {@link #nextToken()} to return the current token again.
+   */
+  void pushBack()
+  {
+    if (ttype != NO_CHAR)
+      isPushedBack = true;
+  }
+  
+  /**
+   * Gets the current word token.
+   * 
+   * @return the text of the current word, or null if the current token is not a word
+   */
+  String getWord()
+  {
+    if (ttype != TT_WORD) 
+      return null;
+    if (word == null)
+      word = new String(wordChars, wordStart, wordLen);
+    return word;
+  }
+  
+  /**
+   * Reads the next token.
+   * 
+   * @return the type of the token read
+   * @throws IOException if an I/O error occurs
+   */
+  int nextToken() throws IOException
+  {
+    if (isPushedBack) {
+      isPushedBack = false;
+      return ttype;
+    }
+    word = null;
+    int c = read();
+    // skip whitespace and comments
+    while (true) {
+      if (c < 0) {
+        return ttype = TT_EOF;
+      }
+      if (c == '\n') {
+        lineno++;
+      }
+      else if (c == '\r') {
+        lineno++;
+        c = read();
+        if (c == '\n') c = read();
+        continue;
+      }
+      else if (c == '#') {
+        do {
+          c = read();
+        } while (c >= 0 && c != '\n' && c != '\r');
+        continue;
+      }
+      else if (c > ' ') {
+        break;
+      }
+      c = read();
+    }
+    if (! isWordChar(c)) {
+      return ttype = c;
+    }
+    if (text != null) {
+      // words in an array are referenced in place
+      wordChars = text;
+      wordStart = pos - 1;
+      while (pos < end && isWordChar(text[pos])) {
+        pos++;
+      }
+      wordLen = pos - wordStart;
+    }
+    else {
+      wordStart = 0;
+      wordLen = 0;
+      do {
+        if (wordLen == wordChars.length) {
+          char[] newChars = new char[2 * wordLen];
+          System.arraycopy(wordChars, 0, newChars, 0, wordLen);
+          wordChars = newChars;
+        }
+        wordChars[wordLen++] = (char) c;
+        c = read();
+      } while (isWordChar(c));
+      peekc = c;
+    }
+    return ttype = TT_WORD;
+  }
+  
+  private int read() throws IOException
+  {
+    if (text != null) {
+      if (pos < end) 
+        return text[pos++];
+      return -1;
+    }
+    if (peekc != NO_CHAR) {
+      int c = peekc;
+      peekc = NO_CHAR;
+      return c;
+    }
+    return reader.read();
+  }
+  
+  private static boolean isWordChar(int c)
+  {
+    return (c >= 'a' && c <= 'z')
+        || (c >= 'A' && c <= 'Z')
+        || (c >= '0' && c <= '9')
+        || c == '.' || c == '-' || c == '+'
+        || c >= 128 + 32;
+  }
+  
+  /**
+   * Parses the current word as a number.
+   * The symbol <tt>NaN</tt> is accepted in any case.
+   * 
+   * @return the value of the number
+   * @throws NumberFormatException if the current token is not a valid number
+   */
+  double getNumber()
+  {
+    if (ttype != TT_WORD)
+      throw new NumberFormatException();
+    if (isNaN(wordChars, wordStart, wordLen))
+      return Double.NaN;
+    return parseDouble(wordChars, wordStart, wordLen);
+  }
+  
+  private static boolean isNaN(char[] chars, int start, int len)
+  {
+    return len == 3
+        && (chars[start] == 'N' || chars[start] == 'n')
+        && (chars[start + 1] == 'A' || chars[start + 1] == 'a')
+        && (chars[start + 2] == 'N' || chars[start + 2] == 'n');
+  }
+  
+  /**
+   * Gets a buffer for the ordinates of a coordinate sequence being read,
+   * with at least the given size.
+   * The buffer belongs to this tokenizer, so it is not shared between
+   * reads, and it is grown preserving its contents.
+   * 
+   * @param size the minimum buffer size
+   * @return the ordinate buffer
+   */
+  double[] ordinateBuffer(int size)
+  {
+    if (ordinateBuffer == null || ordinateBuffer.length < size) {
+      double[] newBuffer = new double[Math.max(16, 2 * size)];
+      if (ordinateBuffer != null)
+        System.arraycopy(ordinateBuffer, 0, newBuffer, 0, ordinateBuffer.length);
+      ordinateBuffer = newBuffer;
+    }
+    return ordinateBuffer;
+  }
+  
+  /**
+   * Gets a buffer for flags recording whether each coordinate 
+   * of a sequence being read has a Z ordinate,
+   * with at least the given size.
+   * 
+   * @param size the minimum buffer size
+   * @return the flag buffer
+   * @see #ordinateBuffer(int)
+   */
+  boolean[] isZReadBuffer(int size)
+  {
+    if (isZReadBuffer == null || isZReadBuffer.length < size) {
+      boolean[] newBuffer = new boolean[Math.max(8, 2 * size)];
+      if (isZReadBuffer != null)
+        System.arraycopy(isZReadBuffer, 0, newBuffer, 0, isZReadBuffer.length);
+      isZReadBuffer = newBuffer;
+    }
+    return isZReadBuffer;
+  }
+  
+  /**
+   * Parses a decimal number from a range of characters.
+   * Numbers of the form <code>[+-]digits[.digits][(e|E)[+-]digits]</code>
+   * whose value can be computed exactly 
+   * (i.e. with at most 15 significant digits and a small exponent)
+   * are parsed directly.
+   * All other strings are parsed by {@link Double#parseDouble(String)}.
+   * In both cases the result is the correctly rounded value.
+   * 
+   * @param chars the characters to parse
+   * @param start the index of the first character
+   * @param len the number of characters
+   * @return the parsed value
+   * @throws NumberFormatException if the characters are not a valid number
+   */
+  static double parseDouble(char[] chars, int start, int len)
+  {
+    int i = start;
+    int end = start + len;
+    boolean isNegative = false;
+    if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+      isNegative = chars[i] == '-';
+      i++;
+    }
+    long mantissa = 0;
+    int exp10 = 0;
+    boolean hasDigits = false;
+    while (i < end && chars[i] >= '0' && chars[i] <= '9') {
+      mantissa = 10 * mantissa + (chars[i++] - '0');
+      if (mantissa >= MAX_EXACT_MANTISSA) 
+        return parseDoubleSlow(chars, start, len);
+      hasDigits = true;
+    }
+    if (i < end && chars[i] == '.') {
+      i++;
+      while (i < end && chars[i] >= '0' && chars[i] <= '9') {
+        mantissa = 10 * mantissa + (chars[i++] - '0');
+        if (mantissa >= MAX_EXACT_MANTISSA) 
+          return parseDoubleSlow(chars, start, len);
+        exp10--;
+        hasDigits = true;
+      }
+    }
+    if (! hasDigits) 
+      return parseDoubleSlow(chars, start, len);
+    
+    if (i < end && (chars[i] == 'e' || chars[i] == 'E')) {
+      i++;
+      boolean isExpNegative = false;
+      if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+        isExpNegative = chars[i] == '-';
+        i++;
+      }
+      if (i == end) 
+        return parseDoubleSlow(chars, start, len);
+      int exp = 0;
+      while (i < end && chars[i] >= '0' && chars[i] <= '9') {
+        exp = 10 * exp + (chars[i++] - '0');
+        if (exp > 1000) 
+          return parseDoubleSlow(chars, start, len);
+      }
+      exp10 += isExpNegative ? -exp : exp;
+    }
+    if (i != end) 
+      return parseDoubleSlow(chars, start, len);
+
+    // the mantissa and the power of ten are both exact,
+    // so a single multiplication or division is correctly rounded
+    double value;
+    if (mantissa == 0) {
+      value = 0.0;
+    }
+    else if (exp10 >= 0 && exp10 < POWERS_OF_TEN.length) {
+      value = mantissa * POWERS_OF_TEN[exp10];
+    }
+    else if (exp10 < 0 && -exp10 < POWERS_OF_TEN.length) {
+      value = mantissa / POWERS_OF_TEN[-exp10];
+    }
+    else {
+      return parseDoubleSlow(chars, start, len);
+    }
+    return isNegative ? -value : value;
+  }
+
+  private static double parseDoubleSlow(char[] chars, int start, int len)
+  {
+    return Double.parseDouble(new String(chars, start, len));
+  }
+}
@@ -529,6 +529,10 @@ public class WKTWriter
       appendMultiPolygonTaggedText((MultiPolygon) geometry, outputOrdinates,
               useFormatting, level, writer, formatter);
     }
+    else if (geometry instanceof MultiCircularString) {
+      appendMultiCurveTaggedText((MultiCircularString) geometry, outputOrdinates,
+              useFormatting, level, writer, formatter);
+    }
     else if (geometry instanceof GeometryCollection) {
       appendGeometryCollectionTaggedText((GeometryCollection) geometry, outputOrdinates,
               useFormatting, level, writer, formatter);
@@ -691,6 +695,29 @@ public class WKTWriter
             level, /*false, */writer, formatter);
   }
 
+  /**
+   *  Converts a <code>MultiCircularString</code> to &lt;MultiCurve Tagged
+   *  Text&gt; format, then appends it to the writer.
+   *
+   * @param  multiCircularString  the <code>MultiCircularString</code> to process
+   * @param  useFormatting      flag indicating that the output should be formatted
+   * @param  level              the indentation level
+   * @param  writer             the output writer to append to
+   * @param  formatter       the <code>DecimalFormatter</code> to use to convert
+   *      from a precise coordinate to an external coordinate
+   */
+  private void appendMultiCurveTaggedText(
+          MultiCircularString multiCircularString, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
+          int level, Writer writer, OrdinateFormat formatter)
+    throws IOException
+  {
+    writer.write("MULTICURVE ");
+    appendOrdinateText(outputOrdinates, writer);
+    // elements are written as tagged CircularStrings
+    appendGeometryCollectionText(multiCircularString, outputOrdinates, useFormatting,
+            level, writer, formatter);
+  }
+
   /**
    *  Converts a <code>MultiPolygon</code> to &lt;MultiPolygon Tagged Text&gt;
    *  format, then appends it to the writer.
@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.noding;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.locationtech.jts.algorithm.RobustLineIntersector;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.index.chain.MonotoneChain;
+import org.locationtech.jts.index.chain.MonotoneChainBuilder;
+import org.locationtech.jts.index.chain.MonotoneChainOverlapAction;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * Nodes a set of {@link SegmentString}s using an index based
+ * on {@link MonotoneChain}s, 
+ * computing the chain overlaps in parallel.
+ * <p>
+ * The monotone chains are indexed in an {@link STRtree} in the same way as
+ * {@link MCIndexNoder}.
+ * The chains are then partitioned into contiguous ranges, 
+ * and the overlap queries for each range are 
+ * executed as a separate task in a {@link ForkJoinPool}.
+ * Each task uses its own {@link SegmentIntersector}, 
+ * obtained from a {@link SegmentIntersectorFactory},
+ * and its own copies of the {@link NodedSegmentString}s it intersects,
+ * so that tasks do not share any mutable state.
+ * (The copies have the same coordinates and data as the input segment strings.)
+ * When all tasks are complete the nodes found by each task
+ * are merged into the input segment strings, in the order of the ranges.
+ * This produces nodes which are identical to those computed
+ * by {@link MCIndexNoder} using the same kind of {@link SegmentIntersector}
+ * (including the first-found Z values of coincident nodes).
+ * <p>
+ * If a pool is not provided the chains are intersected serially 
+ * in the calling thread, 
+ * adding nodes directly to the input segment strings.
+ * <p>
+ * If a task's intersector reports that it is done
+ * (see {@link SegmentIntersector#isDone()}) all remaining
+ * tasks are stopped, so in this case the result
+ * may differ from the serial noder.
+ *
+ * @author agent
+ * 
+ * @see MCIndexNoder
+ */
+public class ParallelMCIndexNoder
+    implements Noder
+{
+  /**
+   * Creates the {@link SegmentIntersector} used by a single 
+   * task of a {@link ParallelMCIndexNoder}.
+   * A new intersector is created for each task, 
+   * so intersectors do not need to be thread-safe.
+   */
+  public interface SegmentIntersectorFactory
+  {
+    /**
+     * Creates a new segment intersector.
+     * 
+     * @return a new segment intersector
+     */
+    SegmentIntersector create();
+  }
+  
+  /**
+   * A factory for {@link IntersectionAdder}s 
+   * using a {@link RobustLineIntersector} with a given precision model.
+   */
+  private static class IntersectionAdderFactory 
+    implements SegmentIntersectorFactory
+  {
+    private PrecisionModel precModel;
+    
+    IntersectionAdderFactory(PrecisionModel precModel) {
+      this.precModel = precModel;
+    }
+    
+    public SegmentIntersector create() {
+      RobustLineIntersector li = new RobustLineIntersector();
+      li.setPrecisionModel(precModel);
+      return new IntersectionAdder(li);
+    }
+  }
+  
+  /**
+   * The minimum number of chains queried by a single task.
+   */
+  private static final int MIN_CHUNK_SIZE = 256;
+
+  private SegmentIntersectorFactory segIntFactory;
+  private ForkJoinPool pool = null;
+  private List monoChains = new ArrayList();
+  private STRtree index = new STRtree();
+  private Collection nodedSegStrings;
+  private OverlapTask[] tasks;
+  private volatile boolean isDone = false;
+
+  /**
+   * Creates a noder which adds nodes at all intersections,
+   * using the given precision model.
+   * 
+   * @param precModel the precision model to use for computing intersections
+   */
+  public ParallelMCIndexNoder(PrecisionModel precModel)
+  {
+    this(new IntersectionAdderFactory(precModel));
+  }
+
+  /**
+   * Creates a noder which processes intersections using
+   * {@link SegmentIntersector}s created by a factory.
+   * 
+   * @param segIntFactory the factory for segment intersectors
+   */
+  public ParallelMCIndexNoder(SegmentIntersectorFactory segIntFactory)
+  {
+    this.segIntFactory = segIntFactory;
+  }
+
+  /**
+   * Sets the {@link ForkJoinPool} used to compute the noding in parallel.
+   * If the pool is <code>null</code> (the default)
+   * the noding is computed serially in the calling thread.
+   *
+   * @param pool the pool to use, or null
+   */
+  public void setForkJoinPool(ForkJoinPool pool)
+  {
+    this.pool = pool;
+  }
+
+  /**
+   * Gets the segment intersectors used by the tasks 
+   * of the last noding computation, in the order of the chain ranges.
+   * These can be inspected to obtain information about
+   * the intersections found.
+   * 
+   * @return a list of the segment intersectors used
+   */
+  public List getSegmentIntersectors()
+  {
+    List segInts = new ArrayList();
+    if (tasks == null) return segInts;
+    for (int i = 0; i < tasks.length; i++) {
+      segInts.add(tasks[i].segInt);
+    }
+    return segInts;
+  }
+
+  public Collection getNodedSubstrings()
+  {
+    return NodedSegmentString.getNodedSubstrings(nodedSegStrings);
+  }
+
+  public void computeNodes(Collection inputSegStrings)
+  {
+    this.nodedSegStrings = inputSegStrings;
+    monoChains.clear();
+    index = new STRtree();
+    isDone = false;
+    int idCounter = 0;
+    for (Iterator i = inputSegStrings.iterator(); i.hasNext(); ) {
+      SegmentString segStr = (SegmentString) i.next();
+      List segChains = MonotoneChainBuilder.getChains(segStr.getCoordinates(), segStr);
+      for (Iterator j = segChains.iterator(); j.hasNext(); ) {
+        MonotoneChain mc = (MonotoneChain) j.next();
+        mc.setId(idCounter++);
+        index.insert(mc.getEnvelope(), mc);
+        monoChains.add(mc);
+      }
+    }
+    // build before querying concurrently
+    index.build();
+    
+    tasks = createTasks();
+    if (pool == null) {
+      for (int i = 0; i < tasks.length; i++) {
+        tasks[i].compute();
+      }
+    }
+    else {
+      pool.invoke(new RecursiveAction() {
+        protected void compute() {
+          invokeAll(tasks);
+        }
+      });
+    }
+    // merge in range order, to produce the same nodes as the serial noder
+    for (int i = 0; i < tasks.length; i++) {
+      tasks[i].mergeNodes();
+    }
+  }
+
+  private OverlapTask[] createTasks()
+  {
+    int nChains = monoChains.size();
+    int chunkSize = nChains;
+    if (pool != null) {
+      chunkSize = nChains / (4 * pool.getParallelism()) + 1;
+      if (chunkSize < MIN_CHUNK_SIZE) chunkSize = MIN_CHUNK_SIZE;
+    }
+    int nTasks = Math.max(1, (nChains + chunkSize - 1) / chunkSize);
+    OverlapTask[] overlapTasks = new OverlapTask[nTasks];
+    for (int i = 0; i < nTasks; i++) {
+      int start = i * chunkSize;
+      int end = Math.min(start + chunkSize, nChains);
+      overlapTasks[i] = new OverlapTask(start, end, segIntFactory.create(), pool != null);
+    }
+    return overlapTasks;
+  }
+
+  /**
+   * Computes the overlaps of a range of query chains,
+   * using task-local copies of the noded segment strings.
+   */
+  private class OverlapTask extends RecursiveAction
+  {
+    private final int start;
+    private final int end;
+    final SegmentIntersector segInt;
+    private final boolean isLocal;
+    /**
+     * Maps input noded segment strings to the copies used by this task
+     */
+    private final Map localSegStrings = new IdentityHashMap();
+
+    OverlapTask(int start, int end, SegmentIntersector segInt, boolean isLocal)
+    {
+      this.start = start;
+      this.end = end;
+      this.segInt = segInt;
+      this.isLocal = isLocal;
+    }
+
+    protected void compute()
+    {
+      MonotoneChainOverlapAction overlapAction = new LocalSegmentOverlapAction(this);
+      for (int i = start; i < end; i++) {
+        MonotoneChain queryChain = (MonotoneChain) monoChains.get(i);
+        List overlapChains = index.query(queryChain.getEnvelope());
+        for (Iterator j = overlapChains.iterator(); j.hasNext(); ) {
+          MonotoneChain testChain = (MonotoneChain) j.next();
+          /**
+           * following test makes sure we only compare each pair of chains once
+           * and that we don't compare a chain to itself
+           */
+          if (testChain.getId() > queryChain.getId()) {
+            queryChain.computeOverlaps(testChain, overlapAction);
+          }
+          // short-circuit if possible
+          if (segInt.isDone())
+            isDone = true;
+          if (isDone)
+            return;
+        }
+      }
+    }
+
+    /**
+     * Gets the segment string to be used by this task
+     * in place of an input segment string.
+     * 
+     * @param segStr an input segment string
+     * @return the segment string to use
+     */
+    SegmentString getLocal(SegmentString segStr)
+    {
+      if (! isLocal || ! (segStr instanceof NodedSegmentString)) 
+        return segStr;
+      SegmentString local = (SegmentString) localSegStrings.get(segStr);
+      if (local == null) {
+        local = new NodedSegmentString(segStr.getCoordinates(), segStr.getData());
+        localSegStrings.put(segStr, local);
+      }
+      return local;
+    }
+
+    /**
+     * Adds the nodes found by this task to the input segment strings.
+     * Existing nodes at the same location are retained,
+     * so the nodes found by earlier tasks take precedence.
+     */
+    void mergeNodes()
+    {
+      for (Iterator i = localSegStrings.entrySet().iterator(); i.hasNext(); ) {
+        Map.Entry entry = (Map.Entry) i.next();
+        NodedSegmentString segStr = (NodedSegmentString) entry.getKey();
+        NodedSegmentString local = (NodedSegmentString) entry.getValue();
+        SegmentNodeList nodeList = segStr.getNodeList();
+        for (Iterator it = local.getNodeList().iterator(); it.hasNext(); ) {
+          SegmentNode node = (SegmentNode) it.next();
+          nodeList.add(node.coord, node.segmentIndex);
+        }
+      }
+      localSegStrings.clear();
+    }
+  }
+
+  /**
+   * Processes segment overlaps using the task-local segment strings.
+   */
+  private static class LocalSegmentOverlapAction
+      extends MonotoneChainOverlapAction
+  {
+    private final OverlapTask task;
+
+    LocalSegmentOverlapAction(OverlapTask task)
+    {
+      this.task = task;
+    }
+
+    public void overlap(MonotoneChain mc1, int start1, MonotoneChain mc2, int start2)
+    {
+      SegmentString ss1 = task.getLocal((SegmentString) mc1.getContext());
+      SegmentString ss2 = task.getLocal((SegmentString) mc2.getContext());
+      task.segInt.processIntersections(ss1, start1, ss2, start2);
+    }
+  }
+}
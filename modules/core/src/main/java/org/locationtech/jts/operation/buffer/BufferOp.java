@@ -19,6 +19,7 @@ import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.PrecisionModel;
 import org.locationtech.jts.geom.TopologyException;
+import org.locationtech.jts.geom.util.CurveLinearizer;
 import org.locationtech.jts.math.MathUtil;
 import org.locationtech.jts.noding.Noder;
 import org.locationtech.jts.noding.ScaledNoder;
@@ -246,12 +247,13 @@ public class BufferOp
   private RuntimeException saveException;   // debugging only
 
   /**
-   * Initializes a buffer computation for the given geometry
+   * Initializes a buffer computation for the given geometry.
+   * Curved geometries are linearized using {@link CurveLinearizer}.
    *
    * @param g the geometry to buffer
    */
   public BufferOp(Geometry g) {
-    argGeom = g;
+    argGeom = CurveLinearizer.linearize(g);
   }
 
   /**
@@ -262,7 +264,7 @@ public class BufferOp
    * @param bufParams the buffer parameters to use
    */
   public BufferOp(Geometry g, BufferParameters bufParams) {
-    argGeom = g;
+    argGeom = CurveLinearizer.linearize(g);
     this.bufParams = bufParams;
   }
 
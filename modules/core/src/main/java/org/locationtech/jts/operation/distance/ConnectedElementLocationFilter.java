@@ -15,6 +15,7 @@ package org.locationtech.jts.operation.distance;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.locationtech.jts.geom.CircularString;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFilter;
 import org.locationtech.jts.geom.LineString;
@@ -35,7 +36,7 @@ public class ConnectedElementLocationFilter
 {
 
   /**
-   * Returns a list containing a point from each Polygon, LineString, and Point
+   * Returns a list containing a point from each Polygon, LineString, CircularString and Point
    * found inside the specified geometry. Thus, if the specified geometry is
    * not a GeometryCollection, an empty list will be returned. The elements of the list 
    * are {@link org.locationtech.jts.operation.distance.GeometryLocation}s.
@@ -58,6 +59,7 @@ public class ConnectedElementLocationFilter
   {
     if (geom instanceof Point
       || geom instanceof LineString
+      || geom instanceof CircularString
       || geom instanceof Polygon )
       locations.add(new GeometryLocation(geom, 0, geom.getCoordinate()));
   }
@@ -11,12 +11,18 @@
  */
 package org.locationtech.jts.operation.distance;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import org.locationtech.jts.algorithm.CircularArcs;
 import org.locationtech.jts.algorithm.Distance;
 import org.locationtech.jts.algorithm.PointLocator;
+import org.locationtech.jts.geom.CircularString;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFilter;
 import org.locationtech.jts.geom.LineSegment;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.Location;
@@ -38,6 +44,9 @@ import org.locationtech.jts.geom.util.PolygonExtracter;
  * the coordinate computed is a close
  * approximation to the exact point.
  * <p>
+ * {@link CircularString}s are handled using exact arc geometry
+ * (they are not linearized).
+ * <p>
  * The algorithms used are straightforward O(n^2)
  * comparisons.  This worst-case performance could be improved on
  * by using Voronoi techniques or spatial indexes.
@@ -327,6 +336,131 @@ public class DistanceOp
     locGeom[1] = null;
     computeMinDistancePoints(pts0, pts1, locGeom);
     updateMinDistance(locGeom, false);
+    if (minDistance <= terminateDistance) return;
+
+    List arcs0 = getCircularStrings(geom[0]);
+    List arcs1 = getCircularStrings(geom[1]);
+    if (arcs0.isEmpty() && arcs1.isEmpty()) return;
+
+    locGeom[0] = null;
+    locGeom[1] = null;
+    computeMinDistanceArcs(arcs0, lines1, pts1, arcs1, locGeom);
+    updateMinDistance(locGeom, false);
+    if (minDistance <= terminateDistance) return;
+
+    locGeom[0] = null;
+    locGeom[1] = null;
+    computeMinDistanceArcs(arcs1, lines0, pts0, Collections.EMPTY_LIST, locGeom);
+    updateMinDistance(locGeom, true);
+  }
+
+  private static List getCircularStrings(Geometry geom)
+  {
+    final List arcs = new ArrayList();
+    geom.apply(new GeometryFilter() {
+      public void filter(Geometry g) {
+        if (g instanceof CircularString && ! g.isEmpty())
+          arcs.add(g);
+      }
+    });
+    return arcs;
+  }
+
+  /**
+   * Computes the distance from arcs to the lines, points and arcs of the other geometry.
+   * The locations are returned with the arc location first.
+   */
+  private void computeMinDistanceArcs(List arcs, List lines, List points, List otherArcs,
+      GeometryLocation[] locGeom)
+  {
+    for (int i = 0; i < arcs.size(); i++) {
+      CircularString arc = (CircularString) arcs.get(i);
+      for (int j = 0; j < lines.size(); j++) {
+        computeMinDistance(arc, (LineString) lines.get(j), locGeom);
+        if (minDistance <= terminateDistance) return;
+      }
+      for (int j = 0; j < points.size(); j++) {
+        computeMinDistance(arc, (Point) points.get(j), locGeom);
+        if (minDistance <= terminateDistance) return;
+      }
+      for (int j = 0; j < otherArcs.size(); j++) {
+        computeMinDistance(arc, (CircularString) otherArcs.get(j), locGeom);
+        if (minDistance <= terminateDistance) return;
+      }
+    }
+  }
+
+  private void computeMinDistance(CircularString arc, LineString line,
+      GeometryLocation[] locGeom)
+  {
+    if (arc.getEnvelopeInternal().distance(line.getEnvelopeInternal())
+        > minDistance)
+          return;
+    CoordinateSequence arcPts = arc.getCoordinateSequence();
+    Coordinate[] coord = line.getCoordinates();
+    for (int i = 0; i + 2 < arcPts.size(); i += 2) {
+      Coordinate p0 = arcPts.getCoordinate(i);
+      Coordinate p1 = arcPts.getCoordinate(i + 1);
+      Coordinate p2 = arcPts.getCoordinate(i + 2);
+      for (int j = 0; j < coord.length - 1; j++) {
+        Coordinate[] closestPt = CircularArcs.closestPoints(p0, p1, p2, coord[j], coord[j + 1]);
+        double dist = closestPt[0].distance(closestPt[1]);
+        if (dist < minDistance) {
+          minDistance = dist;
+          locGeom[0] = new GeometryLocation(arc, i, closestPt[0]);
+          locGeom[1] = new GeometryLocation(line, j, closestPt[1]);
+        }
+        if (minDistance <= terminateDistance) return;
+      }
+    }
+  }
+
+  private void computeMinDistance(CircularString arc, Point pt,
+      GeometryLocation[] locGeom)
+  {
+    if (arc.getEnvelopeInternal().distance(pt.getEnvelopeInternal())
+        > minDistance)
+          return;
+    CoordinateSequence arcPts = arc.getCoordinateSequence();
+    Coordinate coord = pt.getCoordinate();
+    for (int i = 0; i + 2 < arcPts.size(); i += 2) {
+      Coordinate p0 = arcPts.getCoordinate(i);
+      Coordinate p1 = arcPts.getCoordinate(i + 1);
+      Coordinate p2 = arcPts.getCoordinate(i + 2);
+      double dist = CircularArcs.pointToArc(coord, p0, p1, p2);
+      if (dist < minDistance) {
+        minDistance = dist;
+        locGeom[0] = new GeometryLocation(arc, i, CircularArcs.closestPoint(coord, p0, p1, p2));
+        locGeom[1] = new GeometryLocation(pt, 0, coord);
+      }
+      if (minDistance <= terminateDistance) return;
+    }
+  }
+
+  private void computeMinDistance(CircularString arc0, CircularString arc1,
+      GeometryLocation[] locGeom)
+  {
+    if (arc0.getEnvelopeInternal().distance(arc1.getEnvelopeInternal())
+        > minDistance)
+          return;
+    CoordinateSequence pts0 = arc0.getCoordinateSequence();
+    CoordinateSequence pts1 = arc1.getCoordinateSequence();
+    for (int i = 0; i + 2 < pts0.size(); i += 2) {
+      Coordinate p0 = pts0.getCoordinate(i);
+      Coordinate p1 = pts0.getCoordinate(i + 1);
+      Coordinate p2 = pts0.getCoordinate(i + 2);
+      for (int j = 0; j + 2 < pts1.size(); j += 2) {
+        Coordinate[] closestPt = CircularArcs.closestPoints(p0, p1, p2,
+            pts1.getCoordinate(j), pts1.getCoordinate(j + 1), pts1.getCoordinate(j + 2));
+        double dist = closestPt[0].distance(closestPt[1]);
+        if (dist < minDistance) {
+          minDistance = dist;
+          locGeom[0] = new GeometryLocation(arc0, i, closestPt[0]);
+          locGeom[1] = new GeometryLocation(arc1, j, closestPt[1]);
+        }
+        if (minDistance <= terminateDistance) return;
+      }
+    }
   }
 
   private void computeMinDistanceLines(List lines0, List lines1, GeometryLocation[] locGeom)
@@ -23,6 +23,7 @@ import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Location;
 import org.locationtech.jts.geom.TopologyException;
+import org.locationtech.jts.geom.util.CurveLinearizer;
 import org.locationtech.jts.geomgraph.Depth;
 import org.locationtech.jts.geomgraph.DirectedEdge;
 import org.locationtech.jts.geomgraph.DirectedEdgeStar;
@@ -154,12 +155,13 @@ public class OverlayOp
   /**
    * Constructs an instance to compute a single overlay operation
    * for the given geometries.
+   * Curved geometries are linearized using {@link CurveLinearizer}.
    * 
    * @param g0 the first geometry argument
    * @param g1 the second geometry argument
    */
   public OverlayOp(Geometry g0, Geometry g1) {
-    super(g0, g1);
+    super(CurveLinearizer.linearize(g0), CurveLinearizer.linearize(g1));
     graph = new PlanarGraph(new OverlayNodeFactory());
     /**
      * Use factory of primary geometry.
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.overlay.grid;
+
+import java.util.Arrays;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * Splits the edges of polygons at the lines of a grid,
+ * by inserting a vertex wherever an edge crosses a grid line.
+ * After splitting, no edge crosses a grid line in its interior
+ * (although edges may touch or lie along grid lines).
+ * This allows polygons to be clipped to grid cells
+ * without computing any new vertices on the cell boundaries
+ * (other than the cell corners),
+ * so that the clipped pieces in adjacent cells match exactly.
+ * <p>
+ * The inserted vertices are computed in a canonical direction
+ * along each edge, so that edges which are shared by 
+ * different rings are split identically.
+ *
+ * @author agent
+ *
+ */
+class GridEdgeSplitter 
+{
+  private final double[] xLines;
+  private final double[] yLines;
+  
+  /**
+   * Creates a splitter for the given grid lines.
+   * 
+   * @param xLines the X ordinates of the vertical grid lines, in increasing order
+   * @param yLines the Y ordinates of the horizontal grid lines, in increasing order
+   */
+  GridEdgeSplitter(double[] xLines, double[] yLines)
+  {
+    this.xLines = xLines;
+    this.yLines = yLines;
+  }
+  
+  /**
+   * Splits the edges of a polygon at the grid lines.
+   * 
+   * @param poly the polygon to split
+   * @return a polygon with the same rings as the input, with split edges
+   */
+  Polygon split(Polygon poly)
+  {
+    GeometryFactory geomFact = poly.getFactory();
+    LinearRing shell = split(poly.getExteriorRing());
+    LinearRing[] holes = new LinearRing[poly.getNumInteriorRing()];
+    for (int i = 0; i < holes.length; i++) {
+      holes[i] = split(poly.getInteriorRingN(i));
+    }
+    return geomFact.createPolygon(shell, holes);
+  }
+  
+  private LinearRing split(LinearRing ring)
+  {
+    return ring.getFactory().createLinearRing(split(ring.getCoordinates()));
+  }
+  
+  /**
+   * Splits the segments of a line at the grid lines.
+   * 
+   * @param pts the line vertices
+   * @return the vertices of the split line
+   */
+  Coordinate[] split(Coordinate[] pts)
+  {
+    CoordinateList splitPts = new CoordinateList();
+    CoordinateList segPts = new CoordinateList();
+    for (int i = 0; i < pts.length - 1; i++) {
+      splitPts.add(pts[i], false);
+      Coordinate p0 = pts[i];
+      Coordinate p1 = pts[i + 1];
+      boolean isReversed = p0.compareTo(p1) > 0;
+      segPts.clear();
+      if (isReversed) {
+        addCrossings(p1, p0, segPts);
+        for (int j = segPts.size() - 1; j >= 0; j--) {
+          splitPts.add(segPts.getCoordinate(j), false);
+        }
+      }
+      else {
+        addCrossings(p0, p1, segPts);
+        splitPts.addAll(segPts, false);
+      }
+    }
+    if (pts.length > 0) {
+      splitPts.add(pts[pts.length - 1], false);
+    }
+    return splitPts.toCoordinateArray();
+  }
+
+  /**
+   * Adds the points where a segment crosses the grid lines,
+   * in order along the segment.
+   * The segment must be oriented so that X is non-decreasing.
+   * <p>
+   * The computed ordinates are clamped so that the points are
+   * monotonic along the segment, and every point lies
+   * in the same grid cell as the preceding point.
+   * 
+   * @param p0 the segment start point
+   * @param p1 the segment end point
+   * @param crossPts the list to add the crossing points to
+   */
+  private void addCrossings(Coordinate p0, Coordinate p1, CoordinateList crossPts)
+  {
+    double dx = p1.x - p0.x;
+    double dy = p1.y - p0.y;
+    boolean isYIncreasing = dy > 0;
+    
+    // ranges of grid lines strictly between the segment endpoints
+    int ix = firstAbove(xLines, p0.x);
+    int ixEnd = firstAtOrAbove(xLines, p1.x);
+    int iy, iyEnd, iyStep;
+    if (dy == 0) {
+      // horizontal segments do not cross any horizontal lines
+      iy = iyEnd = 0;
+      iyStep = 1;
+    }
+    else if (isYIncreasing) {
+      iy = firstAbove(yLines, p0.y);
+      iyEnd = firstAtOrAbove(yLines, p1.y);
+      iyStep = 1;
+    }
+    else {
+      iy = firstAtOrAbove(yLines, p0.y) - 1;
+      iyEnd = firstAbove(yLines, p1.y) - 1;
+      iyStep = -1;
+    }
+    if (ix >= ixEnd && iy == iyEnd) return;
+    
+    double prevX = p0.x;
+    double prevY = p0.y;
+    while (ix < ixEnd || iy != iyEnd) {
+      double tx = ix < ixEnd ? (xLines[ix] - p0.x) / dx : Double.POSITIVE_INFINITY;
+      double ty = iy != iyEnd ? (yLines[iy] - p0.y) / dy : Double.POSITIVE_INFINITY;
+      double x, y, t;
+      if (tx <= ty) {
+        t = tx;
+        x = xLines[ix++];
+        y = p0.y + (x - p0.x) * dy / dx;
+        double yBound = iy != iyEnd ? yLines[iy] : p1.y;
+        y = isYIncreasing ? clamp(y, prevY, yBound) : clamp(y, yBound, prevY);
+      }
+      else {
+        t = ty;
+        y = yLines[iy];
+        iy += iyStep;
+        x = p0.x + (y - p0.y) * dx / dy;
+        double xBound = ix < ixEnd ? xLines[ix] : p1.x;
+        x = clamp(x, prevX, xBound);
+      }
+      if (x == prevX && y == prevY) continue;
+      Coordinate pt = new Coordinate(x, y, p0.getZ() + t * (p1.getZ() - p0.getZ()));
+      crossPts.add(pt, false);
+      prevX = x;
+      prevY = y;
+    }
+  }
+  
+  private static double clamp(double v, double min, double max)
+  {
+    if (v < min) return min;
+    if (v > max) return max;
+    return v;
+  }
+  
+  /**
+   * Finds the index of the first line which is greater than a value.
+   */
+  private static int firstAbove(double[] lines, double v)
+  {
+    int i = Arrays.binarySearch(lines, v);
+    if (i >= 0) {
+      return i + 1;
+    }
+    return -(i + 1);
+  }
+  
+  /**
+   * Finds the index of the first line which is greater than or equal to a value.
+   */
+  private static int firstAtOrAbove(double[] lines, double v)
+  {
+    int i = Arrays.binarySearch(lines, v);
+    if (i >= 0) {
+      return i;
+    }
+    return -(i + 1);
+  }
+}
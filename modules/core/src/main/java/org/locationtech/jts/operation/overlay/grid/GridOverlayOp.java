@@ -0,0 +1,558 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.overlay.grid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.operation.overlay.OverlayOp;
+import org.locationtech.jts.operation.overlay.snap.SnapIfNeededOverlayOp;
+import org.locationtech.jts.operation.union.CascadedPolygonUnion;
+
+/**
+ * Computes the overlay of two large polygonal geometries
+ * by partitioning their extent into a grid of cells,
+ * overlaying the parts of the geometries in each cell separately,
+ * and then stitching the cell results together.
+ * This limits the size of the topology graph 
+ * built by each {@link OverlayOp},
+ * and allows the cells to be processed in parallel
+ * by supplying a {@link ForkJoinPool} via {@link #setForkJoinPool(ForkJoinPool)}.
+ * <p>
+ * The algorithm is:
+ * <ol>
+ * <li>The edges of input polygons which cross grid lines are split 
+ * by inserting a vertex at each crossing point
+ * (see {@link GridEdgeSplitter}).
+ * Each crossing point is computed once, so the parts of an edge
+ * in adjacent cells meet at exactly the same point.
+ * <li>The input polygons are clipped to the cells,
+ * by recursively bisecting the grid.
+ * Since no edge crosses a grid line, the clipped boundaries 
+ * consist only of input vertices and grid line intersections.
+ * <li>The clipped operands are overlaid in each cell.
+ * <li>Result polygons which do not touch a cell boundary are output unchanged.
+ * Result polygons which touch a cell boundary have 
+ * exactly matching edges along the cell boundaries,
+ * and are merged using {@link CascadedPolygonUnion}.
+ * </ol>
+ * The result is topologically equal to the result of {@link OverlayOp}, 
+ * but it may contain extra vertices
+ * where input edges cross grid lines.
+ * <p>
+ * If either input is not polygonal, 
+ * or the grid contains only a single cell,
+ * the overlay is computed directly.
+ * <p>
+ * The result is deterministic,
+ * and is the same whether or not it is computed in parallel.
+ *
+ * @author agent
+ *
+ * @see OverlayOp
+ */
+public class GridOverlayOp 
+{
+  /**
+   * Computes an overlay operation for two polygonal geometries
+   * using a grid sized automatically.
+   * 
+   * @param geom0 the first geometry
+   * @param geom1 the second geometry
+   * @param opCode the code for the overlay operation (e.g. {@link OverlayOp#INTERSECTION})
+   * @return the result of the overlay operation
+   */
+  public static Geometry overlay(Geometry geom0, Geometry geom1, int opCode)
+  {
+    GridOverlayOp op = new GridOverlayOp(geom0, geom1);
+    return op.getResultGeometry(opCode);
+  }
+
+  /**
+   * Computes an overlay operation for two polygonal geometries
+   * in parallel, using a grid sized automatically.
+   * 
+   * @param geom0 the first geometry
+   * @param geom1 the second geometry
+   * @param opCode the code for the overlay operation (e.g. {@link OverlayOp#INTERSECTION})
+   * @param pool the pool to execute the overlay in
+   * @return the result of the overlay operation
+   */
+  public static Geometry overlay(Geometry geom0, Geometry geom1, int opCode, ForkJoinPool pool)
+  {
+    GridOverlayOp op = new GridOverlayOp(geom0, geom1);
+    op.setForkJoinPool(pool);
+    return op.getResultGeometry(opCode);
+  }
+
+  /**
+   * The target number of input vertices in a grid cell,
+   * used to determine the default grid size.
+   */
+  public static final int DEFAULT_CELL_VERTICES = 50000;
+  
+  /**
+   * The maximum number of cells along each axis of an automatically-sized grid.
+   */
+  private static final int MAX_GRID_SIZE = 256;
+
+  private Geometry[] geom = new Geometry[2];
+  private GeometryFactory geomFact;
+  private int numCellsX = -1;
+  private int numCellsY = -1;
+  private ForkJoinPool pool = null;
+  
+  private double[] xs;
+  private double[] ys;
+  private int nx;
+  private int ny;
+  private List<Polygon>[] interiorResult;
+  private List<Polygon>[] seamResult;
+
+  /**
+   * Creates a new overlay operation for two geometries.
+   * 
+   * @param geom0 the first geometry
+   * @param geom1 the second geometry
+   */
+  public GridOverlayOp(Geometry geom0, Geometry geom1)
+  {
+    geom[0] = geom0;
+    geom[1] = geom1;
+    geomFact = geom0.getFactory();
+  }
+
+  /**
+   * Sets the number of cells in the grid.
+   * If not set, the grid size is determined from the
+   * number of input vertices.
+   * 
+   * @param numCellsX the number of cells along the X axis
+   * @param numCellsY the number of cells along the Y axis
+   */
+  public void setGridSize(int numCellsX, int numCellsY)
+  {
+    if (numCellsX < 1 || numCellsY < 1)
+      throw new IllegalArgumentException("Grid size must be positive");
+    this.numCellsX = numCellsX;
+    this.numCellsY = numCellsY;
+  }
+
+  /**
+   * Sets the {@link ForkJoinPool} used to compute the overlay in parallel.
+   * If the pool is <code>null</code> (the default)
+   * the overlay is computed serially in the calling thread.
+   *
+   * @param pool the pool to use, or null
+   */
+  public void setForkJoinPool(ForkJoinPool pool)
+  {
+    this.pool = pool;
+  }
+
+  /**
+   * Gets the result of the overlay for a given overlay operation.
+   * 
+   * @param opCode the code for the overlay operation (e.g. {@link OverlayOp#INTERSECTION})
+   * @return the result of the overlay operation
+   */
+  public Geometry getResultGeometry(int opCode)
+  {
+    if (! isPolygonal(geom[0]) || ! isPolygonal(geom[1])) {
+      return SnapIfNeededOverlayOp.overlayOp(geom[0], geom[1], opCode);
+    }
+    Envelope extent = resultExtent(opCode);
+    if (extent.isNull()) {
+      return OverlayOp.createEmptyResult(opCode, geom[0], geom[1], geomFact);
+    }
+    computeGrid(extent);
+    if (nx * ny == 1) {
+      return SnapIfNeededOverlayOp.overlayOp(geom[0], geom[1], opCode);
+    }
+    
+    List<Polygon> elements0 = extractElements(geom[0], extent);
+    List<Polygon> elements1 = extractElements(geom[1], extent);
+    
+    int numCells = nx * ny;
+    interiorResult = new List[numCells];
+    seamResult = new List[numCells];
+    BlockOverlayTask task = new BlockOverlayTask(opCode, 0, nx, 0, ny, elements0, elements1);
+    if (pool == null) {
+      task.compute();
+    }
+    else {
+      pool.invoke(task);
+    }
+    return stitch(opCode);
+  }
+
+  private static boolean isPolygonal(Geometry g)
+  {
+    return g instanceof Polygonal && ! g.isEmpty();
+  }
+  
+  /**
+   * Computes the extent which contains the result of an operation.
+   */
+  private Envelope resultExtent(int opCode)
+  {
+    Envelope env0 = geom[0].getEnvelopeInternal();
+    Envelope env1 = geom[1].getEnvelopeInternal();
+    switch (opCode) {
+    case OverlayOp.INTERSECTION:
+      return env0.intersection(env1);
+    case OverlayOp.DIFFERENCE:
+      return new Envelope(env0);
+    }
+    Envelope env = new Envelope(env0);
+    env.expandToInclude(env1);
+    return env;
+  }
+  
+  private void computeGrid(Envelope extent)
+  {
+    nx = numCellsX;
+    ny = numCellsY;
+    if (nx < 0) {
+      int numPts = geom[0].getNumPoints() + geom[1].getNumPoints();
+      int size = (int) Math.ceil(Math.sqrt(numPts / (double) DEFAULT_CELL_VERTICES));
+      nx = ny = Math.max(1, Math.min(size, MAX_GRID_SIZE));
+    }
+    xs = gridLines(extent.getMinX(), extent.getMaxX(), nx);
+    ys = gridLines(extent.getMinY(), extent.getMaxY(), ny);
+  }
+  
+  /**
+   * Computes the ordinates of the lines of a grid axis,
+   * including the extent boundaries.
+   * All cells use these values, so that adjacent cells have identical boundaries.
+   */
+  private static double[] gridLines(double min, double max, int n)
+  {
+    double[] lines = new double[n + 1];
+    double width = (max - min) / n;
+    for (int i = 0; i < n; i++) {
+      lines[i] = min + i * width;
+    }
+    lines[n] = max;
+    return lines;
+  }
+  
+  /**
+   * Extracts the polygons of a geometry which intersect the extent,
+   * splitting their edges at the interior grid lines.
+   */
+  private List<Polygon> extractElements(Geometry g, Envelope extent)
+  {
+    List<Polygon> polys = new ArrayList<Polygon>();
+    for (int i = 0; i < g.getNumGeometries(); i++) {
+      Polygon poly = (Polygon) g.getGeometryN(i);
+      if (poly.isEmpty()) continue;
+      if (! extent.intersects(poly.getEnvelopeInternal())) continue;
+      polys.add(poly);
+    }
+    Polygon[] elems = polys.toArray(new Polygon[0]);
+    GridEdgeSplitter splitter = new GridEdgeSplitter(
+        Arrays.copyOfRange(xs, 1, nx), Arrays.copyOfRange(ys, 1, ny));
+    SplitTask task = new SplitTask(splitter, elems, 0, elems.length);
+    if (pool == null) {
+      task.compute();
+    }
+    else {
+      pool.invoke(task);
+    }
+    return Arrays.asList(elems);
+  }
+  
+  /**
+   * Finds the cell containing a minimum or maximum ordinate of an envelope.
+   * A value lying on a grid line is assigned to the cell 
+   * on the side the envelope extends into.
+   */
+  private static int cellIndex(double[] lines, double v, boolean isMin)
+  {
+    int n = lines.length - 1;
+    int i = Arrays.binarySearch(lines, v);
+    int cell;
+    if (i >= 0) {
+      cell = isMin ? i : i - 1;
+    }
+    else {
+      cell = -(i + 1) - 1;
+    }
+    if (cell < 0) return 0;
+    if (cell >= n) return n - 1;
+    return cell;
+  }
+  
+  private boolean isCellSplit(Envelope env)
+  {
+    return cellIndex(xs, env.getMinX(), true) != cellIndex(xs, env.getMaxX(), false)
+        || cellIndex(ys, env.getMinY(), true) != cellIndex(ys, env.getMaxY(), false);
+  }
+  
+  /**
+   * Partitions the elements of a block of cells between two sub-blocks.
+   * Elements which lie on both sides of the partition line
+   * are clipped to each sub-block.
+   */
+  private void partition(List<Polygon> elems, boolean isX, double line,
+      Envelope lowEnv, Envelope highEnv, List<Polygon> low, List<Polygon> high)
+  {
+    for (Polygon elem : elems) {
+      Envelope env = elem.getEnvelopeInternal();
+      double min = isX ? env.getMinX() : env.getMinY();
+      double max = isX ? env.getMaxX() : env.getMaxY();
+      if (max <= line) {
+        low.add(elem);
+      }
+      else if (min >= line) {
+        high.add(elem);
+      }
+      else {
+        clip(elem, lowEnv, low);
+        clip(elem, highEnv, high);
+      }
+    }
+  }
+  
+  /**
+   * Clips a polygon to a rectangle, adding the resulting polygons to a list.
+   * Since the polygon edges have been split at the grid lines,
+   * the clipped boundary contains only polygon vertices and rectangle corners.
+   */
+  private void clip(Polygon elem, Envelope clipEnv, List<Polygon> clipped)
+  {
+    if (clipEnv.covers(elem.getEnvelopeInternal())) {
+      clipped.add(elem);
+      return;
+    }
+    if (! clipEnv.intersects(elem.getEnvelopeInternal())) return;
+    Geometry clip = SnapIfNeededOverlayOp.overlayOp(elem, 
+        geomFact.toGeometry(clipEnv), OverlayOp.INTERSECTION);
+    addPolygons(clip, clipped);
+  }
+  
+  private void computeCell(int i, int j, int opCode, List<Polygon> elems0, List<Polygon> elems1)
+  {
+    // elements may still extend outside the outer edges of the grid
+    Envelope cellEnv = new Envelope(xs[i], xs[i + 1], ys[j], ys[j + 1]);
+    List<Polygon> clip0 = new ArrayList<Polygon>();
+    for (Polygon elem : elems0) {
+      clip(elem, cellEnv, clip0);
+    }
+    List<Polygon> clip1 = new ArrayList<Polygon>();
+    for (Polygon elem : elems1) {
+      clip(elem, cellEnv, clip1);
+    }
+    
+    List<Polygon> result = overlay(opCode, clip0, clip1);
+    if (result.isEmpty()) return;
+    
+    List<Polygon> interior = new ArrayList<Polygon>();
+    List<Polygon> seam = new ArrayList<Polygon>();
+    for (Polygon poly : result) {
+      Envelope env = poly.getEnvelopeInternal();
+      boolean isSeam = (i > 0 && env.getMinX() <= xs[i])
+          || (i < nx - 1 && env.getMaxX() >= xs[i + 1])
+          || (j > 0 && env.getMinY() <= ys[j])
+          || (j < ny - 1 && env.getMaxY() >= ys[j + 1]);
+      if (isSeam) {
+        seam.add(poly);
+      }
+      else {
+        interior.add(poly);
+      }
+    }
+    int cell = j * nx + i;
+    interiorResult[cell] = interior;
+    seamResult[cell] = seam;
+  }
+  
+  private List<Polygon> overlay(int opCode, List<Polygon> clip0, List<Polygon> clip1)
+  {
+    boolean isEmpty0 = clip0.isEmpty();
+    boolean isEmpty1 = clip1.isEmpty();
+    switch (opCode) {
+    case OverlayOp.INTERSECTION:
+      if (isEmpty0 || isEmpty1) return new ArrayList<Polygon>();
+      break;
+    case OverlayOp.DIFFERENCE:
+      if (isEmpty0 || isEmpty1) return clip0;
+      break;
+    default:
+      if (isEmpty0) return clip1;
+      if (isEmpty1) return clip0;
+    }
+    Geometry g0 = geomFact.buildGeometry(clip0);
+    Geometry g1 = geomFact.buildGeometry(clip1);
+    Geometry result = SnapIfNeededOverlayOp.overlayOp(g0, g1, opCode);
+    List<Polygon> polys = new ArrayList<Polygon>();
+    addPolygons(result, polys);
+    return polys;
+  }
+  
+  /**
+   * Adds the non-empty polygons in a geometry to a list.
+   */
+  private static void addPolygons(Geometry g, List<Polygon> polys)
+  {
+    for (int i = 0; i < g.getNumGeometries(); i++) {
+      Geometry elem = g.getGeometryN(i);
+      if (elem instanceof Polygon && ! elem.isEmpty()) {
+        polys.add((Polygon) elem);
+      }
+    }
+  }
+  
+  /**
+   * Combines the cell results into the final result.
+   */
+  private Geometry stitch(int opCode)
+  {
+    List<Polygon> resultPolys = new ArrayList<Polygon>();
+    List<Polygon> seamPolys = new ArrayList<Polygon>();
+    for (int cell = 0; cell < interiorResult.length; cell++) {
+      if (interiorResult[cell] != null) {
+        resultPolys.addAll(interiorResult[cell]);
+        seamPolys.addAll(seamResult[cell]);
+      }
+    }
+    if (! seamPolys.isEmpty()) {
+      Geometry seamUnion = CascadedPolygonUnion.union(seamPolys, pool);
+      addPolygons(seamUnion, resultPolys);
+    }
+    if (resultPolys.isEmpty()) {
+      return OverlayOp.createEmptyResult(opCode, geom[0], geom[1], geomFact);
+    }
+    return geomFact.buildGeometry(resultPolys);
+  }
+  
+  /**
+   * Splits the edges of a range of elements at the grid lines.
+   */
+  private class SplitTask extends RecursiveAction
+  {
+    private static final int THRESHOLD = 64;
+    private final GridEdgeSplitter splitter;
+    private final Polygon[] elems;
+    private final int start;
+    private final int end;
+    
+    SplitTask(GridEdgeSplitter splitter, Polygon[] elems, int start, int end)
+    {
+      this.splitter = splitter;
+      this.elems = elems;
+      this.start = start;
+      this.end = end;
+    }
+    
+    @Override
+    protected void compute()
+    {
+      if (pool != null && end - start > THRESHOLD) {
+        int mid = (start + end) >>> 1;
+        invokeAll(new SplitTask(splitter, elems, start, mid),
+            new SplitTask(splitter, elems, mid, end));
+        return;
+      }
+      for (int i = start; i < end; i++) {
+        if (isCellSplit(elems[i].getEnvelopeInternal())) {
+          elems[i] = splitter.split(elems[i]);
+        }
+      }
+    }
+  }
+  
+  /**
+   * Computes the overlay for a block of cells.
+   * Blocks are recursively bisected along a grid line,
+   * with the input elements clipped to each half.
+   * This clips large elements in a logarithmic number of steps,
+   * rather than once for every cell they overlap.
+   */
+  private class BlockOverlayTask extends RecursiveAction
+  {
+    private final int opCode;
+    private final int i0;
+    private final int i1;
+    private final int j0;
+    private final int j1;
+    private final List<Polygon> elems0;
+    private final List<Polygon> elems1;
+    
+    BlockOverlayTask(int opCode, int i0, int i1, int j0, int j1,
+        List<Polygon> elems0, List<Polygon> elems1)
+    {
+      this.opCode = opCode;
+      this.i0 = i0;
+      this.i1 = i1;
+      this.j0 = j0;
+      this.j1 = j1;
+      this.elems0 = elems0;
+      this.elems1 = elems1;
+    }
+    
+    @Override
+    protected void compute()
+    {
+      if (i1 - i0 == 1 && j1 - j0 == 1) {
+        computeCell(i0, j0, opCode, elems0, elems1);
+        return;
+      }
+      if (elems0.isEmpty() && elems1.isEmpty()) return;
+      
+      boolean isX = i1 - i0 >= j1 - j0;
+      int li0 = i0, li1 = i1, lj0 = j0, lj1 = j1;
+      int hi0 = i0, hi1 = i1, hj0 = j0, hj1 = j1;
+      double line;
+      if (isX) {
+        int mid = (i0 + i1) >>> 1;
+        li1 = mid;
+        hi0 = mid;
+        line = xs[mid];
+      }
+      else {
+        int mid = (j0 + j1) >>> 1;
+        lj1 = mid;
+        hj0 = mid;
+        line = ys[mid];
+      }
+      Envelope lowEnv = new Envelope(xs[li0], xs[li1], ys[lj0], ys[lj1]);
+      Envelope highEnv = new Envelope(xs[hi0], xs[hi1], ys[hj0], ys[hj1]);
+      List<Polygon> low0 = new ArrayList<Polygon>();
+      List<Polygon> high0 = new ArrayList<Polygon>();
+      partition(elems0, isX, line, lowEnv, highEnv, low0, high0);
+      List<Polygon> low1 = new ArrayList<Polygon>();
+      List<Polygon> high1 = new ArrayList<Polygon>();
+      partition(elems1, isX, line, lowEnv, highEnv, low1, high1);
+      
+      BlockOverlayTask lowTask = new BlockOverlayTask(opCode, li0, li1, lj0, lj1, low0, low1);
+      BlockOverlayTask highTask = new BlockOverlayTask(opCode, hi0, hi1, hj0, hj1, high0, high1);
+      if (pool == null) {
+        lowTask.compute();
+        highTask.compute();
+      }
+      else {
+        invokeAll(lowTask, highTask);
+      }
+    }
+  }
+}
@@ -14,6 +14,7 @@ package org.locationtech.jts.operation.overlay.snap;
 
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.TopologyException;
+import org.locationtech.jts.geom.util.CurveLinearizer;
 import org.locationtech.jts.operation.overlay.OverlayOp;
 
 
@@ -61,8 +62,9 @@ public class SnapIfNeededOverlayOp
 
   public SnapIfNeededOverlayOp(Geometry g1, Geometry g2)
   {
-    geom[0] = g1;
-    geom[1] = g2;
+    // linearize here so that the snapping fallback also sees linear inputs
+    geom[0] = CurveLinearizer.linearize(g1);
+    geom[1] = CurveLinearizer.linearize(g2);
   }
 
   public Geometry getResultGeometry(int opCode)
@@ -15,6 +15,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
@@ -50,6 +53,14 @@ import org.locationtech.jts.index.strtree.STRtree;
  * The best situation for using <tt>buffer(0)</tt> is the trivial case
  * where there is <i>no</i> overlap between the input geometries. 
  * However, this case is likely rare in practice.
+ * <p>
+ * The union can optionally be computed in parallel,
+ * by supplying a {@link ForkJoinPool} via {@link #setForkJoinPool(ForkJoinPool)}.
+ * In this mode independent subtrees of the index are unioned concurrently,
+ * and the results are merged up the tree in exactly the same order 
+ * as the serial algorithm.
+ * Because each individual union is deterministic,
+ * the parallel result is identical to the serial result.
  * 
  * @author Martin Davis
  *
@@ -68,8 +79,33 @@ public class CascadedPolygonUnion
 		return op.union();
 	}
 	
+	/**
+	 * Computes the union of
+	 * a collection of {@link Polygonal} {@link Geometry}s,
+	 * unioning independent subtrees in parallel
+	 * using the given {@link ForkJoinPool}.
+	 * 
+	 * @param polys a collection of {@link Polygonal} {@link Geometry}s
+	 * @param pool the pool to execute the union in
+	 * @return the union of the input geometries
+	 */
+	public static Geometry union(Collection polys, ForkJoinPool pool)
+	{
+		CascadedPolygonUnion op = new CascadedPolygonUnion(polys);
+		op.setForkJoinPool(pool);
+		return op.union();
+	}
+	
+	/**
+	 * The default minimum number of input geometries in a subtree
+	 * for it to be unioned as a separate parallel task.
+	 */
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 64;
+	
 	private Collection inputPolys;
 	private GeometryFactory geomFactory = null;
+	private ForkJoinPool pool = null;
+	private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
 	
 	/**
 	 * Creates a new instance to union
@@ -94,6 +130,32 @@ public class CascadedPolygonUnion
    */
   private static final int STRTREE_NODE_CAPACITY = 4;
   
+  /**
+   * Sets the {@link ForkJoinPool} used to union subtrees in parallel.
+   * If the pool is <code>null</code> (the default) the union 
+   * is computed serially in the calling thread.
+   * 
+   * @param pool the pool to use, or null
+   */
+  public void setForkJoinPool(ForkJoinPool pool)
+  {
+    this.pool = pool;
+  }
+  
+  /**
+   * Sets the minimum number of input geometries a subtree
+   * must contain for it to be unioned as a separate parallel task.
+   * Smaller subtrees are unioned serially,
+   * to avoid the overhead of task creation for cheap unions.
+   * The default is {@link #DEFAULT_PARALLEL_THRESHOLD}.
+   * 
+   * @param parallelThreshold the minimum subtree size to union in parallel
+   */
+  public void setParallelThreshold(int parallelThreshold)
+  {
+    this.parallelThreshold = parallelThreshold;
+  }
+  
 	/**
 	 * Computes the union of the input geometries.
 	 * <p>
@@ -133,19 +195,30 @@ public class CascadedPolygonUnion
     
     List itemTree = index.itemsTree();
 //    printItemEnvelopes(itemTree);
-    Geometry unionAll = unionTree(itemTree);
+    Geometry unionAll;
+    if (pool == null) {
+      unionAll = unionTree(itemTree);
+    }
+    else {
+      unionAll = pool.invoke(new UnionTreeTask(itemTree));
+    }
     return unionAll;
 	}
 	
   private Geometry unionTree(List geomTree)
+  {
+    return unionTree(geomTree, false);
+  }
+  
+  private Geometry unionTree(List geomTree, boolean isParallel)
   {
     /**
      * Recursively unions all subtrees in the list into single geometries.
      * The result is a list of Geometrys only
      */
-    List geoms = reduceToGeometries(geomTree);
+    List geoms = reduceToGeometries(geomTree, isParallel);
 //    Geometry union = bufferUnion(geoms);
-    Geometry union = binaryUnion(geoms);
+    Geometry union = binaryUnion(geoms, 0, geoms.size(), isParallel);
     
     // print out union (allows visualizing hierarchy)
 //    System.out.println(union);
@@ -196,7 +269,7 @@ public class CascadedPolygonUnion
    */
   private Geometry binaryUnion(List geoms)
   {
-  	return binaryUnion(geoms, 0, geoms.size());
+  	return binaryUnion(geoms, 0, geoms.size(), false);
   }
   
   /**
@@ -206,9 +279,11 @@ public class CascadedPolygonUnion
    * @param geoms the list of geometries containing the section to union
    * @param start the start index of the section
    * @param end the index after the end of the section
+   * @param isParallel whether the halves of sections of at least
+   * the parallel threshold may be unioned in parallel
    * @return the union of the list section
    */
-  private Geometry binaryUnion(List geoms, int start, int end)
+  private Geometry binaryUnion(List geoms, int start, int end, boolean isParallel)
   {
   	if (end - start <= 1) {
   		Geometry g0 = getGeometry(geoms, start);
@@ -220,8 +295,15 @@ public class CascadedPolygonUnion
   	else {
   		// recurse on both halves of the list
   		int mid = (end + start) / 2;
-  		Geometry g0 = binaryUnion(geoms, start, mid);
-  		Geometry g1 = binaryUnion(geoms, mid, end);
+  		if (isParallel && end - start >= parallelThreshold) {
+  		  BinaryUnionTask task0 = new BinaryUnionTask(geoms, start, mid);
+  		  task0.fork();
+  		  Geometry g1 = binaryUnion(geoms, mid, end, true);
+  		  Geometry g0 = task0.join();
+  		  return unionSafe(g0, g1);
+  		}
+  		Geometry g0 = binaryUnion(geoms, start, mid, false);
+  		Geometry g1 = binaryUnion(geoms, mid, end, false);
   		return unionSafe(g0, g1);
   	}
   }
@@ -246,15 +328,25 @@ public class CascadedPolygonUnion
    * by recursively unioning the subtrees in the list.
    * 
    * @param geomTree a tree-structured list of geometries
+   * @param isParallel whether large subtrees may be unioned in parallel
    * @return a list of Geometrys
    */
-  private List reduceToGeometries(List geomTree)
+  private List reduceToGeometries(List geomTree, boolean isParallel)
   {
     List geoms = new ArrayList();
+    boolean hasTasks = false;
     for (Iterator i = geomTree.iterator(); i.hasNext(); ) {
       Object o = i.next();
       Geometry geom = null;
       if (o instanceof List) {
+        if (isParallel && isParallelSubtree((List) o)) {
+          UnionTreeTask task = new UnionTreeTask((List) o);
+          task.fork();
+          // placeholder, replaced by the task result below
+          geoms.add(task);
+          hasTasks = true;
+          continue;
+        }
         geom = unionTree((List) o);
       }
       else if (o instanceof Geometry) {
@@ -262,9 +354,96 @@ public class CascadedPolygonUnion
       }
       geoms.add(geom);
     }
+    if (hasTasks) {
+      // join in list order, so the result list order matches the serial case
+      for (int i = 0; i < geoms.size(); i++) {
+        Object o = geoms.get(i);
+        if (o instanceof ForkJoinTask) {
+          geoms.set(i, ((ForkJoinTask<Geometry>) o).join());
+        }
+      }
+    }
     return geoms;
   }
   
+  /**
+   * Tests whether a subtree contains enough geometries 
+   * to be worth unioning as a separate parallel task.
+   * 
+   * @param geomTree a tree-structured list of geometries
+   * @return true if the subtree should be unioned in parallel
+   */
+  private boolean isParallelSubtree(List geomTree)
+  {
+    return countItems(geomTree, parallelThreshold) >= parallelThreshold;
+  }
+  
+  /**
+   * Counts the geometries in a subtree,
+   * stopping once a given limit is reached.
+   * 
+   * @param geomTree a tree-structured list of geometries
+   * @param limit the count at which to stop counting
+   * @return the number of geometries, up to the limit
+   */
+  private static int countItems(List geomTree, int limit)
+  {
+    int count = 0;
+    for (Iterator i = geomTree.iterator(); i.hasNext(); ) {
+      Object o = i.next();
+      if (o instanceof List) {
+        count += countItems((List) o, limit - count);
+      }
+      else {
+        count++;
+      }
+      if (count >= limit) break;
+    }
+    return count;
+  }
+  
+  /**
+   * Unions a subtree of the item tree as a fork/join task.
+   */
+  private class UnionTreeTask extends RecursiveTask<Geometry>
+  {
+    private List geomTree;
+    
+    UnionTreeTask(List geomTree)
+    {
+      this.geomTree = geomTree;
+    }
+    
+    @Override
+    protected Geometry compute()
+    {
+      return unionTree(geomTree, true);
+    }
+  }
+  
+  /**
+   * Unions a section of a list of geometries as a fork/join task.
+   */
+  private class BinaryUnionTask extends RecursiveTask<Geometry>
+  {
+    private List geoms;
+    private int start;
+    private int end;
+    
+    BinaryUnionTask(List geoms, int start, int end)
+    {
+      this.geoms = geoms;
+      this.start = start;
+      this.end = end;
+    }
+    
+    @Override
+    protected Geometry compute()
+    {
+      return binaryUnion(geoms, start, end, true);
+    }
+  }
+  
   /**
    * Computes the union of two geometries, 
    * either or both of which may be null.
@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import org.locationtech.jts.geom.CircularString;
 import org.locationtech.jts.geom.Dimension;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
@@ -23,6 +24,7 @@ import org.locationtech.jts.geom.GeometryFilter;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.util.CurveLinearizer;
 import org.locationtech.jts.util.Assert;
 
 
@@ -32,6 +34,7 @@ import org.locationtech.jts.util.Assert;
  * recording the dimension found.
  * Empty geometries are discarded since they 
  * do not contribute to the result of {@link UnaryUnionOp}.
+ * {@link CircularString}s are linearized using {@link CurveLinearizer}.
  * 
  * @author Martin Davis
  *
@@ -157,6 +160,10 @@ class InputExtracter implements GeometryFilter
       lines.add((LineString) geom);
       return;
     }
+    else if (geom instanceof CircularString) {
+      lines.add((LineString) CurveLinearizer.linearize(geom));
+      return;
+    }
     else if (geom instanceof Point) {
       points.add((Point) geom);
       return;
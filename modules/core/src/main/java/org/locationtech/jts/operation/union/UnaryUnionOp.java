@@ -14,6 +14,7 @@ package org.locationtech.jts.operation.union;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
@@ -57,6 +58,10 @@ import org.locationtech.jts.operation.overlay.snap.SnapIfNeededOverlayOp;
  * <tt>UnaryUnion</tt> always operates on the individual components of MultiGeometries.
  * So it is possible to use it to "clean" invalid self-intersecting MultiPolygons
  * (although the polygon components must all still be individually valid.)
+ * <p>
+ * Polygonal components can be unioned in parallel 
+ * by supplying a {@link ForkJoinPool} via {@link #setForkJoinPool(ForkJoinPool)}
+ * (see {@link CascadedPolygonUnion}).
  * 
  * @author mbdavis
  *
@@ -111,6 +116,8 @@ public class UnaryUnionOp
 	
 	private GeometryFactory geomFact = null;
   private InputExtracter extracter;
+  private ForkJoinPool pool = null;
+  private int parallelThreshold = CascadedPolygonUnion.DEFAULT_PARALLEL_THRESHOLD;
 	
 	/**
 	 * Constructs a unary union operation for a {@link Collection} 
@@ -147,6 +154,31 @@ public class UnaryUnionOp
 		extract(geom);
 	}
 	
+	/**
+	 * Sets the {@link ForkJoinPool} used to union polygonal components in parallel.
+	 * If the pool is <code>null</code> (the default) 
+	 * the union is computed serially in the calling thread.
+	 * 
+	 * @param pool the pool to use, or null
+	 * @see CascadedPolygonUnion#setForkJoinPool(ForkJoinPool)
+	 */
+	public void setForkJoinPool(ForkJoinPool pool)
+	{
+	  this.pool = pool;
+	}
+	
+	/**
+	 * Sets the minimum number of polygons in a subtree
+	 * for it to be unioned as a separate parallel task.
+	 * 
+	 * @param parallelThreshold the minimum subtree size to union in parallel
+	 * @see CascadedPolygonUnion#setParallelThreshold(int)
+	 */
+	public void setParallelThreshold(int parallelThreshold)
+	{
+	  this.parallelThreshold = parallelThreshold;
+	}
+	
 	private void extract(Collection geoms)
 	{
 	  extracter = InputExtracter.extract(geoms);
@@ -212,7 +244,7 @@ public class UnaryUnionOp
 		
 		Geometry unionPolygons = null;
 		if (polygons.size() > 0) {
-			unionPolygons = CascadedPolygonUnion.union(polygons);
+			unionPolygons = unionPolygons(polygons);
 		}
 		
     /**
@@ -256,6 +288,14 @@ public class UnaryUnionOp
   	return g0.union(g1);
   }
 
+  private Geometry unionPolygons(List polygons)
+  {
+    CascadedPolygonUnion op = new CascadedPolygonUnion(polygons);
+    op.setForkJoinPool(pool);
+    op.setParallelThreshold(parallelThreshold);
+    return op.union();
+  }
+  
   /**
    * Computes a unary union with no extra optimization,
    * and no short-circuiting.
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.valid;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.locationtech.jts.algorithm.locate.SimplePointInAreaLocator;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.noding.FastSegmentSetIntersectionFinder;
+import org.locationtech.jts.noding.SegmentStringUtil;
+
+/**
+ * Validates a {@link MultiPolygon} by checking each element polygon
+ * separately, and then checking the interactions between 
+ * pairs of elements whose envelopes intersect.
+ * This avoids building a topology graph for the entire geometry,
+ * and avoids the quadratic cost of testing every pair of
+ * shells for nesting.
+ * <p>
+ * A pair of elements whose boundaries do not intersect 
+ * is valid unless one element lies in the interior of the other.
+ * This is determined using a monotone-chain segment intersection test
+ * and a single point-in-polygon test,
+ * without building a topology graph.
+ * Pairs whose boundaries do intersect are checked by
+ * validating a {@link MultiPolygon} containing just the pair.
+ * <p>
+ * Element and pair checks can be run in parallel in a {@link ForkJoinPool}.
+ * If the validator is short-circuited, checking stops 
+ * as soon as any error is found.
+ * Otherwise the error reported is the one with the lowest element index
+ * (where element errors are reported before pair errors),
+ * so the result does not depend on the order in which checks are run.
+ * 
+ * @author agent
+ *
+ */
+class IndexedMultiPolygonValidator 
+{
+  private static final int NO_ERROR = Integer.MAX_VALUE;
+  
+  private MultiPolygon multiPoly;
+  private boolean isSelfTouchingRingFormingHoleValid;
+  private ForkJoinPool pool;
+  private boolean isShortCircuit = false;
+  
+  private Polygon[] polys;
+  private TopologyValidationError[] errors;
+  private AtomicInteger firstErrorIndex = new AtomicInteger(NO_ERROR);
+  private STRtree index;
+  
+  /**
+   * Creates a validator for a MultiPolygon.
+   * 
+   * @param multiPoly the geometry to validate
+   * @param isSelfTouchingRingFormingHoleValid whether self-touching rings forming holes are valid
+   * @param pool the pool to run checks in, or null to run them serially
+   */
+  public IndexedMultiPolygonValidator(MultiPolygon multiPoly, 
+      boolean isSelfTouchingRingFormingHoleValid, ForkJoinPool pool)
+  {
+    this.multiPoly = multiPoly;
+    this.isSelfTouchingRingFormingHoleValid = isSelfTouchingRingFormingHoleValid;
+    this.pool = pool;
+  }
+  
+  /**
+   * Sets whether validation stops as soon as any error is found.
+   * In this case the error reported may depend on the order
+   * in which checks are run.
+   * 
+   * @param isShortCircuit true if validation stops at the first error found
+   */
+  public void setShortCircuit(boolean isShortCircuit)
+  {
+    this.isShortCircuit = isShortCircuit;
+  }
+
+  /**
+   * Validates the geometry.
+   * 
+   * @return the validation error, or null if the geometry is valid
+   */
+  public TopologyValidationError getValidationError()
+  {
+    int n = multiPoly.getNumGeometries();
+    polys = new Polygon[n];
+    for (int i = 0; i < n; i++) {
+      polys[i] = (Polygon) multiPoly.getGeometryN(i);
+    }
+    
+    errors = new TopologyValidationError[n];
+    run(new CheckTask(false, 0, n));
+    if (firstErrorIndex.get() != NO_ERROR)
+      return errors[firstErrorIndex.get()];
+    
+    index = new STRtree();
+    for (int i = 0; i < n; i++) {
+      if (polys[i].isEmpty()) continue;
+      index.insert(polys[i].getEnvelopeInternal(), i);
+    }
+    index.build();
+    run(new CheckTask(true, 0, n));
+    if (firstErrorIndex.get() != NO_ERROR)
+      return errors[firstErrorIndex.get()];
+    return null;
+  }
+  
+  private void run(CheckTask task)
+  {
+    if (pool == null) {
+      task.compute();
+    }
+    else {
+      pool.invoke(task);
+    }
+  }
+  
+  private boolean isSkipped(int i)
+  {
+    int first = firstErrorIndex.get();
+    if (isShortCircuit) return first != NO_ERROR;
+    return i > first;
+  }
+  
+  private void setError(int i, TopologyValidationError err)
+  {
+    errors[i] = err;
+    while (true) {
+      int first = firstErrorIndex.get();
+      if (i >= first || firstErrorIndex.compareAndSet(first, i))
+        return;
+    }
+  }
+  
+  private void checkElement(int i)
+  {
+    IsValidOp op = new IsValidOp(polys[i]);
+    op.setSelfTouchingRingFormingHoleValid(isSelfTouchingRingFormingHoleValid);
+    TopologyValidationError err = op.getValidationError();
+    if (err != null) {
+      setError(i, err);
+    }
+  }
+  
+  /**
+   * Checks the interactions of an element 
+   * with the elements with higher index
+   * whose envelopes intersect it.
+   */
+  private void checkPairs(int i)
+  {
+    Polygon poly = polys[i];
+    if (poly.isEmpty()) return;
+    List<Integer> nbrs = index.query(poly.getEnvelopeInternal());
+    Collections.sort(nbrs);
+    FastSegmentSetIntersectionFinder finder = null;
+    for (int j : nbrs) {
+      if (j <= i) continue;
+      if (finder == null) {
+        finder = new FastSegmentSetIntersectionFinder(
+            SegmentStringUtil.extractSegmentStrings(poly));
+      }
+      TopologyValidationError err = checkPair(poly, polys[j], finder);
+      if (err != null) {
+        setError(i, err);
+        return;
+      }
+    }
+  }
+  
+  private TopologyValidationError checkPair(Polygon poly0, Polygon poly1, 
+      FastSegmentSetIntersectionFinder finder0)
+  {
+    if (finder0.intersects(SegmentStringUtil.extractSegmentStrings(poly1))) {
+      Geometry pair = multiPoly.getFactory().createMultiPolygon(new Polygon[] { poly0, poly1 });
+      IsValidOp op = new IsValidOp(pair);
+      op.setSelfTouchingRingFormingHoleValid(isSelfTouchingRingFormingHoleValid);
+      return op.getValidationError();
+    }
+    // boundaries are disjoint, so elements are either disjoint or nested
+    Coordinate nestedPt = findNestedPoint(poly0, poly1);
+    if (nestedPt == null) {
+      nestedPt = findNestedPoint(poly1, poly0);
+    }
+    if (nestedPt != null) {
+      return new TopologyValidationError(TopologyValidationError.NESTED_SHELLS, nestedPt);
+    }
+    return null;
+  }
+
+  /**
+   * Finds a point of a polygon which lies in the interior of another polygon,
+   * if any.
+   * Assumes the polygon boundaries are disjoint.
+   */
+  private static Coordinate findNestedPoint(Polygon poly, Polygon container)
+  {
+    Envelope env = container.getEnvelopeInternal();
+    if (! env.covers(poly.getEnvelopeInternal())) return null;
+    Coordinate pt = poly.getExteriorRing().getCoordinateN(0);
+    if (Location.INTERIOR == SimplePointInAreaLocator.locate(pt, container))
+      return pt;
+    return null;
+  }
+  
+  /**
+   * Checks a range of elements or element pairs,
+   * splitting the range in two if it is large.
+   */
+  private class CheckTask extends RecursiveAction
+  {
+    private static final int THRESHOLD = 16;
+    
+    private final boolean isPairs;
+    private final int start;
+    private final int end;
+
+    CheckTask(boolean isPairs, int start, int end)
+    {
+      this.isPairs = isPairs;
+      this.start = start;
+      this.end = end;
+    }
+    
+    @Override
+    protected void compute()
+    {
+      if (pool != null && end - start > THRESHOLD) {
+        int mid = (start + end) >>> 1;
+        invokeAll(new CheckTask(isPairs, start, mid), 
+            new CheckTask(isPairs, mid, end));
+        return;
+      }
+      for (int i = start; i < end; i++) {
+        if (isSkipped(i)) return;
+        if (isPairs) {
+          checkPairs(i);
+        }
+        else {
+          checkElement(i);
+        }
+      }
+    }
+  }
+}
@@ -16,6 +16,7 @@ package org.locationtech.jts.operation.valid;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
 
 import org.locationtech.jts.algorithm.LineIntersector;
 import org.locationtech.jts.algorithm.PointLocation;
@@ -105,6 +106,8 @@ public class IsValidOp
    */
   private boolean isSelfTouchingRingFormingHoleValid = false;
   private TopologyValidationError validErr;
+  private ForkJoinPool pool = null;
+  private boolean isShortCircuit = false;
 
   public IsValidOp(Geometry parentGeometry)
   {
@@ -140,15 +143,43 @@ public class IsValidOp
     isSelfTouchingRingFormingHoleValid = isValid;
   }
 
+  /**
+   * Sets the {@link ForkJoinPool} used to validate {@link MultiPolygon}s in parallel.
+   * If a pool is provided, the element polygons are validated 
+   * concurrently, and then the pairs of elements with intersecting envelopes
+   * are checked for valid interaction.
+   * This is much faster for MultiPolygons with many elements,
+   * since no topology graph is built for the entire geometry.
+   * The validity result is the same,
+   * but for an invalid geometry a different error may be reported.
+   * <p>
+   * If the pool is <code>null</code> (the default)
+   * the geometry is validated serially in the calling thread.
+   *
+   * @param pool the pool to use, or null
+   */
+  public void setForkJoinPool(ForkJoinPool pool)
+  {
+    this.pool = pool;
+  }
+
   /**
    * Computes the validity of the geometry,
    * and returns <tt>true</tt> if it is valid.
+   * When a {@link ForkJoinPool} is used, 
+   * validation stops as soon as any error is found.
    * 
    * @return true if the geometry is valid
    */
   public boolean isValid()
   {
-    checkValid(parentGeometry);
+    isShortCircuit = true;
+    try {
+      checkValid(parentGeometry);
+    }
+    finally {
+      isShortCircuit = false;
+    }
     return validErr == null;
   }
 
@@ -260,6 +291,13 @@ public class IsValidOp
 
   private void checkValid(MultiPolygon g)
   {
+    if (pool != null) {
+      IndexedMultiPolygonValidator validator = new IndexedMultiPolygonValidator(g, 
+          isSelfTouchingRingFormingHoleValid, pool);
+      validator.setShortCircuit(isShortCircuit);
+      validErr = validator.getValidationError();
+      return;
+    }
     for (int i = 0; i < g.getNumGeometries(); i++) {
       Polygon p = (Polygon) g.getGeometryN(i);
       checkInvalidCoordinates(p);
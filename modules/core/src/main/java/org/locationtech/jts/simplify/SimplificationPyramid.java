@@ -0,0 +1,493 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryComponentFilter;
+import org.locationtech.jts.geom.LineSegment;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Triangle;
+
+/**
+ * Simplifies a {@link Geometry} at many tolerances,
+ * computing the significance of each vertex only once.
+ * This is useful for generating the levels of a tile pyramid
+ * (where the same geometry is simplified for many zoom levels).
+ * <p>
+ * The significance of the vertices of each line is computed 
+ * when the pyramid is created, using either
+ * the Douglas-Peucker algorithm ({@link #DOUGLAS_PEUCKER}) 
+ * or the Visvalingam-Whyatt algorithm ({@link #VISVALINGAM_WHYATT}).
+ * The significance of a vertex is the largest tolerance
+ * at which it is retained in the simplified line.
+ * For Douglas-Peucker this is the flattening distance 
+ * of the section the vertex splits,
+ * and for Visvalingam-Whyatt it is the effective area of the vertex
+ * when it is removed.
+ * The vertices of each line are organized in a tree
+ * in which the significance decreases from parent to child,
+ * so the vertices retained at a given tolerance
+ * are extracted (in order) in time proportional to the size of the output.
+ * <p>
+ * The result at each tolerance is identical to the result of 
+ * {@link DouglasPeuckerSimplifier} or {@link VWSimplifier} respectively,
+ * including the fixing of polygonal topology (which is not avoided by the pyramid).
+ * Once created, a pyramid can be used concurrently
+ * to simplify at different tolerances.
+ * 
+ * @author agent
+ * @see DouglasPeuckerSimplifier
+ * @see VWSimplifier
+ */
+public class SimplificationPyramid
+{
+  /**
+   * Specifies simplification using the Douglas-Peucker algorithm.
+   */
+  public static final int DOUGLAS_PEUCKER = 1;
+  
+  /**
+   * Specifies simplification using the Visvalingam-Whyatt algorithm.
+   */
+  public static final int VISVALINGAM_WHYATT = 2;
+  
+  private Geometry inputGeom;
+  private int method;
+  private boolean isEnsureValidTopology = true;
+  private Map<Geometry, LineSignificance> lineMap = new IdentityHashMap<Geometry, LineSignificance>();
+
+  /**
+   * Creates a simplification pyramid for a geometry,
+   * computing the significance of the vertices of all linear components.
+   * 
+   * @param inputGeom the geometry to simplify
+   * @param method the simplification method ({@link #DOUGLAS_PEUCKER} or {@link #VISVALINGAM_WHYATT})
+   * @throws IllegalArgumentException if the method is not valid
+   */
+  public SimplificationPyramid(Geometry inputGeom, final int method)
+  {
+    if (method != DOUGLAS_PEUCKER && method != VISVALINGAM_WHYATT)
+      throw new IllegalArgumentException("Unknown simplification method: " + method);
+    this.inputGeom = inputGeom;
+    this.method = method;
+    inputGeom.apply(new GeometryComponentFilter() {
+      public void filter(Geometry geom) {
+        if (! (geom instanceof LineString) || geom.isEmpty()) return;
+        Coordinate[] pts = geom.getCoordinates();
+        LineSignificance sig = method == DOUGLAS_PEUCKER 
+            ? LineSignificance.douglasPeucker(pts) 
+            : LineSignificance.visvalingamWhyatt(pts);
+        lineMap.put(geom, sig);
+      }
+    });
+  }
+
+  /**
+   * Controls whether simplified polygons will be "fixed"
+   * to have valid topology.
+   * The default is to fix polygon topology.
+   * 
+   * @param isEnsureValidTopology
+   * 
+   * @see DouglasPeuckerSimplifier#setEnsureValid(boolean)
+   */
+  public void setEnsureValid(boolean isEnsureValidTopology)
+  {
+    this.isEnsureValidTopology = isEnsureValidTopology;
+  }
+
+  /**
+   * Gets the geometry simplified using a given distance tolerance.
+   * 
+   * @param distanceTolerance the approximation tolerance to use
+   * @return the simplified geometry
+   * @throws IllegalArgumentException if the tolerance is negative
+   */
+  public Geometry getResultGeometry(double distanceTolerance)
+  {
+    if (distanceTolerance < 0.0)
+      throw new IllegalArgumentException("Tolerance must be non-negative");
+    // empty input produces an empty result
+    if (inputGeom.isEmpty()) return inputGeom.copy();
+    
+    if (method == DOUGLAS_PEUCKER)
+      return new DPPyramidTransformer(isEnsureValidTopology, distanceTolerance).transform(inputGeom);
+    return new VWPyramidTransformer(isEnsureValidTopology, distanceTolerance).transform(inputGeom);
+  }
+  
+  private class DPPyramidTransformer extends DouglasPeuckerSimplifier.DPTransformer
+  {
+    private double distanceTolerance;
+    
+    public DPPyramidTransformer(boolean isEnsureValidTopology, double distanceTolerance)
+    {
+      super(isEnsureValidTopology, distanceTolerance);
+      this.distanceTolerance = distanceTolerance;
+    }
+
+    protected CoordinateSequence transformCoordinates(CoordinateSequence coords, Geometry parent)
+    {
+      LineSignificance sig = lineMap.get(parent);
+      if (sig == null) 
+        return super.transformCoordinates(coords, parent);
+      return factory.getCoordinateSequenceFactory().create(sig.extract(distanceTolerance, true));
+    }
+  }
+  
+  private class VWPyramidTransformer extends VWSimplifier.VWTransformer
+  {
+    private double areaTolerance;
+    
+    public VWPyramidTransformer(boolean isEnsureValidTopology, double distanceTolerance)
+    {
+      super(isEnsureValidTopology, distanceTolerance);
+      this.areaTolerance = distanceTolerance * distanceTolerance;
+    }
+
+    protected CoordinateSequence transformCoordinates(CoordinateSequence coords, Geometry parent)
+    {
+      LineSignificance sig = lineMap.get(parent);
+      if (sig == null) 
+        return super.transformCoordinates(coords, parent);
+      // the extracted line always has at least 2 points
+      return factory.getCoordinateSequenceFactory().create(sig.extract(areaTolerance, false));
+    }
+  }
+  
+  /**
+   * The significance of the vertices of a line,
+   * organized as a binary tree on the interior vertices.
+   * The in-order traversal of the tree is the vertex order, 
+   * and the significance of a vertex is no greater than that of its parent.
+   * The endpoints are always retained.
+   */
+  private static class LineSignificance
+  {
+    /**
+     * Computes the significance of vertices by running the 
+     * Douglas-Peucker algorithm with zero tolerance.
+     * The tree is the tree of split vertices,
+     * and the significance of a vertex is the distance
+     * of the furthest point from its section
+     * (limited by the significance of the enclosing section).
+     * A vertex is retained if its significance is greater than the tolerance.
+     */
+    static LineSignificance douglasPeucker(Coordinate[] pts)
+    {
+      LineSignificance sig = new LineSignificance(pts, true);
+      int n = pts.length;
+      if (n < 3) return sig;
+      
+      LineSegment seg = new LineSegment();
+      // stack of sections, with the vertex splitting the enclosing section
+      int[] stack = new int[4 * n];
+      int top = 0;
+      stack[top++] = 0;
+      stack[top++] = n - 1;
+      stack[top++] = -1;
+      stack[top++] = 0;
+      while (top > 0) {
+        boolean isLeft = stack[--top] == 0;
+        int parent = stack[--top];
+        int j = stack[--top];
+        int i = stack[--top];
+        if (i + 1 >= j) continue;
+        
+        seg.p0 = pts[i];
+        seg.p1 = pts[j];
+        double maxDistance = -1.0;
+        int maxIndex = i;
+        for (int k = i + 1; k < j; k++) {
+          double distance = seg.distance(pts[k]);
+          if (distance > maxDistance) {
+            maxDistance = distance;
+            maxIndex = k;
+          }
+        }
+        if (parent < 0) {
+          sig.root = maxIndex;
+          sig.significance[maxIndex] = maxDistance;
+        }
+        else {
+          sig.significance[maxIndex] = Math.min(maxDistance, sig.significance[parent]);
+          if (isLeft) 
+            sig.left[parent] = maxIndex;
+          else
+            sig.right[parent] = maxIndex;
+        }
+        stack[top++] = i;
+        stack[top++] = maxIndex;
+        stack[top++] = maxIndex;
+        stack[top++] = 0;
+        stack[top++] = maxIndex;
+        stack[top++] = j;
+        stack[top++] = maxIndex;
+        stack[top++] = 1;
+      }
+      return sig;
+    }
+    
+    /**
+     * Computes the significance of vertices by running the 
+     * Visvalingam-Whyatt algorithm until only the endpoints remain.
+     * The vertex with the smallest area (and then the smallest index) 
+     * is removed first, as in {@link VWLineSimplifier}.
+     * The significance of a vertex is its area when removed
+     * (raised to the maximum area of the vertices removed before it).
+     * The tree is the Cartesian tree of the removal order,
+     * so a section between two vertices is headed by
+     * the last vertex removed from it.
+     * A vertex is retained if its significance is at least the tolerance.
+     */
+    static LineSignificance visvalingamWhyatt(Coordinate[] pts)
+    {
+      LineSignificance sig = new LineSignificance(pts, false);
+      int n = pts.length;
+      if (n < 3) return sig;
+      
+      int[] prev = new int[n];
+      int[] next = new int[n];
+      for (int i = 0; i < n; i++) {
+        prev[i] = i - 1;
+        next[i] = i + 1;
+      }
+      VertexAreaHeap heap = new VertexAreaHeap(n);
+      for (int i = 1; i < n - 1; i++) {
+        heap.add(i, area(pts, i - 1, i, i + 1));
+      }
+      
+      int[] removeOrder = new int[n];
+      double maxArea = 0.0;
+      int time = 0;
+      while (! heap.isEmpty()) {
+        int v = heap.poll();
+        maxArea = Math.max(maxArea, heap.getArea(v));
+        sig.significance[v] = maxArea;
+        removeOrder[v] = time++;
+        int p = prev[v];
+        int q = next[v];
+        next[p] = q;
+        prev[q] = p;
+        if (p > 0) 
+          heap.update(p, area(pts, prev[p], p, q));
+        if (q < n - 1) 
+          heap.update(q, area(pts, p, q, next[q]));
+      }
+      
+      // build the Cartesian tree with the last vertex removed at the root
+      int[] stack = new int[n];
+      int top = 0;
+      for (int i = 1; i < n - 1; i++) {
+        int last = -1;
+        while (top > 0 && removeOrder[stack[top - 1]] < removeOrder[i]) {
+          last = stack[--top];
+        }
+        sig.left[i] = last;
+        if (top > 0) 
+          sig.right[stack[top - 1]] = i;
+        stack[top++] = i;
+      }
+      sig.root = stack[0];
+      return sig;
+    }
+    
+    private static double area(Coordinate[] pts, int i0, int i1, int i2)
+    {
+      return Math.abs(Triangle.area(pts[i0], pts[i1], pts[i2]));
+    }
+    
+    private static final int INITIAL_STACK_SIZE = 32;
+    
+    private Coordinate[] pts;
+    private boolean isStrict;
+    private double[] significance;
+    private int[] left;
+    private int[] right;
+    private int root = -1;
+    
+    private LineSignificance(Coordinate[] pts, boolean isStrict)
+    {
+      this.pts = pts;
+      this.isStrict = isStrict;
+      int n = pts.length;
+      significance = new double[n];
+      left = new int[n];
+      right = new int[n];
+      for (int i = 0; i < n; i++) {
+        left[i] = -1;
+        right[i] = -1;
+      }
+    }
+    
+    private boolean isRetained(int i, double tolerance)
+    {
+      if (isStrict) 
+        return significance[i] > tolerance;
+      return significance[i] >= tolerance;
+    }
+    
+    /**
+     * Extracts the vertices retained at a tolerance,
+     * by an in-order traversal of the retained part of the tree.
+     * For Visvalingam-Whyatt, repeated consecutive points are dropped
+     * and a collapsed line is returned with two points,
+     * as in {@link VWLineSimplifier}.
+     * 
+     * @param tolerance the simplification tolerance
+     * @param isCopy whether to copy the retained coordinates
+     * @return the retained vertices
+     */
+    Coordinate[] extract(double tolerance, boolean isCopy)
+    {
+      List<Coordinate> result = new ArrayList<Coordinate>();
+      add(0, isCopy, result);
+      // the stack grows with the depth reached, so extraction is output-sensitive
+      int[] stack = new int[INITIAL_STACK_SIZE];
+      int top = 0;
+      int node = root;
+      while (true) {
+        while (node >= 0 && isRetained(node, tolerance)) {
+          if (top == stack.length)
+            stack = Arrays.copyOf(stack, 2 * top);
+          stack[top++] = node;
+          node = left[node];
+        }
+        if (top == 0) break;
+        node = stack[--top];
+        add(node, isCopy, result);
+        node = right[node];
+      }
+      if (pts.length > 1) {
+        add(pts.length - 1, isCopy, result);
+        if (result.size() < 2)
+          result.add(new Coordinate(result.get(0)));
+      }
+      return result.toArray(new Coordinate[result.size()]);
+    }
+    
+    private void add(int i, boolean isCopy, List<Coordinate> result)
+    {
+      if (! isStrict && ! result.isEmpty() 
+          && pts[i].equals2D(result.get(result.size() - 1)))
+        return;
+      result.add(isCopy ? new Coordinate(pts[i]) : pts[i]);
+    }
+  }
+  
+  /**
+   * A binary min-heap of vertices keyed by area,
+   * with ties broken by vertex index.
+   * The area of a vertex in the heap can be updated.
+   */
+  private static class VertexAreaHeap
+  {
+    private int[] heap;
+    private int[] pos;
+    private double[] area;
+    private int size = 0;
+    
+    VertexAreaHeap(int n)
+    {
+      heap = new int[n];
+      pos = new int[n];
+      area = new double[n];
+    }
+    
+    boolean isEmpty() 
+    {
+      return size == 0;
+    }
+    
+    double getArea(int v)
+    {
+      return area[v];
+    }
+    
+    void add(int v, double a)
+    {
+      area[v] = a;
+      heap[size] = v;
+      pos[v] = size;
+      size++;
+      siftUp(size - 1);
+    }
+    
+    int poll()
+    {
+      int v = heap[0];
+      size--;
+      if (size > 0) {
+        place(heap[size], 0);
+        siftDown(0);
+      }
+      return v;
+    }
+    
+    void update(int v, double a)
+    {
+      double old = area[v];
+      area[v] = a;
+      if (a < old)
+        siftUp(pos[v]);
+      else
+        siftDown(pos[v]);
+    }
+    
+    private boolean isLess(int v1, int v2)
+    {
+      if (area[v1] < area[v2]) return true;
+      if (area[v1] > area[v2]) return false;
+      return v1 < v2;
+    }
+    
+    private void place(int v, int i)
+    {
+      heap[i] = v;
+      pos[v] = i;
+    }
+    
+    private void siftUp(int i)
+    {
+      int v = heap[i];
+      while (i > 0) {
+        int parent = (i - 1) / 2;
+        if (! isLess(v, heap[parent])) break;
+        place(heap[parent], i);
+        i = parent;
+      }
+      place(v, i);
+    }
+    
+    private void siftDown(int i)
+    {
+      int v = heap[i];
+      while (true) {
+        int child = 2 * i + 1;
+        if (child >= size) break;
+        if (child + 1 < size && isLess(heap[child + 1], heap[child]))
+          child++;
+        if (! isLess(heap[child], v)) break;
+        place(heap[child], i);
+        i = child;
+      }
+      place(v, i);
+    }
+  }
+}
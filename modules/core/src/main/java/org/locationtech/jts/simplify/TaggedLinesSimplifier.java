@@ -12,20 +12,41 @@
 
 package org.locationtech.jts.simplify;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.LineSegment;
+import org.locationtech.jts.index.strtree.STRtree;
 
 /**
  * Simplifies a collection of TaggedLineStrings, preserving topology
  * (in the sense that no new intersections are introduced).
  * This class is essentially just a container for the common
  * indexes used by {@link TaggedLineStringSimplifier}.
+ * <p>
+ * If a {@link ForkJoinPool} is provided, lines are simplified in parallel.
+ * Each line is simplified with the same index contents 
+ * it would see in the serial algorithm, so the result is identical.
+ * A line only queries segments inside its own envelope,
+ * so it can only interact with lines whose envelopes intersect it.
+ * Each line is assigned to a level one greater than 
+ * the maximum level of the interacting lines which precede it,
+ * and the lines in each level are simplified concurrently.
+ * Each line has its own input and output segment index.
+ * A segment query visits only the indexes of the lines whose envelopes
+ * intersect the query segment, found using an index of the line envelopes.
  */
 class TaggedLinesSimplifier
 {
   private LineSegmentIndex inputIndex = new LineSegmentIndex();
   private LineSegmentIndex outputIndex = new LineSegmentIndex();
   private double distanceTolerance = 0.0;
+  private ForkJoinPool pool = null;
 
   public TaggedLinesSimplifier()
   {
@@ -43,12 +64,27 @@ class TaggedLinesSimplifier
     this.distanceTolerance = distanceTolerance;
   }
 
+  /**
+   * Sets the {@link ForkJoinPool} used to simplify lines in parallel.
+   * If the pool is <code>null</code> (the default) the lines
+   * are simplified serially in the calling thread.
+   *
+   * @param pool the pool to use, or null
+   */
+  public void setForkJoinPool(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
   /**
    * Simplify a collection of TaggedLineStrings
    *
    * @param taggedLines the collection of lines to simplify
    */
   public void simplify(Collection taggedLines) {
+    if (pool != null) {
+      simplifyParallel(taggedLines);
+      return;
+    }
     for (Iterator i = taggedLines.iterator(); i.hasNext(); ) {
       inputIndex.add((TaggedLineString) i.next());
     }
@@ -60,4 +96,135 @@ class TaggedLinesSimplifier
     }
   }
 
+  private void simplifyParallel(Collection taggedLines) {
+    int n = taggedLines.size();
+    TaggedLineString[] lines = new TaggedLineString[n];
+    LineSegmentIndex[] inputIndexes = new LineSegmentIndex[n];
+    LineSegmentIndex[] outputIndexes = new LineSegmentIndex[n];
+    STRtree lineIndex = new STRtree();
+    int k = 0;
+    for (Iterator i = taggedLines.iterator(); i.hasNext(); k++) {
+      lines[k] = (TaggedLineString) i.next();
+      inputIndexes[k] = new LineSegmentIndex();
+      inputIndexes[k].add(lines[k]);
+      outputIndexes[k] = new LineSegmentIndex();
+      lineIndex.insert(lines[k].getParent().getEnvelopeInternal(), k);
+    }
+
+    // assign lines to levels, in the serial simplification order
+    List<List<Integer>> levels = new ArrayList<List<Integer>>();
+    int[] level = new int[n];
+    for (int i = 0; i < n; i++) {
+      Envelope env = lines[i].getParent().getEnvelopeInternal();
+      List hits = lineIndex.query(env);
+      int lev = 0;
+      for (int j = 0; j < hits.size(); j++) {
+        int hit = (Integer) hits.get(j);
+        if (hit < i) 
+          lev = Math.max(lev, level[hit] + 1);
+      }
+      level[i] = lev;
+      if (lev == levels.size()) 
+        levels.add(new ArrayList<Integer>());
+      levels.get(lev).add(i);
+    }
+
+    for (List<Integer> levelLines : levels) {
+      pool.invoke(new SimplifyTask(lines, lineIndex, inputIndexes, outputIndexes, 
+          levelLines, 0, levelLines.size()));
+    }
+  }
+
+  /**
+   * Simplifies a range of the lines in a level.
+   * The lines do not interact, so they can be simplified concurrently.
+   */
+  private class SimplifyTask extends RecursiveAction
+  {
+    private static final int THRESHOLD = 8;
+    private final TaggedLineString[] lines;
+    private final STRtree lineIndex;
+    private final LineSegmentIndex[] inputIndexes;
+    private final LineSegmentIndex[] outputIndexes;
+    private final List<Integer> levelLines;
+    private final int start;
+    private final int end;
+
+    SimplifyTask(TaggedLineString[] lines, STRtree lineIndex, 
+        LineSegmentIndex[] inputIndexes, LineSegmentIndex[] outputIndexes,
+        List<Integer> levelLines, int start, int end)
+    {
+      this.lines = lines;
+      this.lineIndex = lineIndex;
+      this.inputIndexes = inputIndexes;
+      this.outputIndexes = outputIndexes;
+      this.levelLines = levelLines;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (end - start > THRESHOLD) {
+        int mid = (start + end) >>> 1;
+        invokeAll(new SimplifyTask(lines, lineIndex, inputIndexes, outputIndexes, levelLines, start, mid),
+            new SimplifyTask(lines, lineIndex, inputIndexes, outputIndexes, levelLines, mid, end));
+        return;
+      }
+      for (int k = start; k < end; k++) {
+        int i = levelLines.get(k);
+        TaggedLineStringSimplifier tlss = new TaggedLineStringSimplifier(
+            new InteractingLineSegmentIndex(inputIndexes, i, lineIndex), 
+            new InteractingLineSegmentIndex(outputIndexes, i, lineIndex));
+        tlss.setDistanceTolerance(distanceTolerance);
+        tlss.simplify(lines[i]);
+      }
+    }
+  }
+
+  /**
+   * A view of the segment indexes of the lines interacting with a line.
+   * Updates are made to the index of the line itself.
+   * Queries visit only the indexes of lines whose envelope 
+   * intersects the query segment, 
+   * since the segments of other lines cannot intersect it.
+   * (The output segments of a line lie within its envelope,
+   * since their vertices are a subset of the line vertices.)
+   */
+  private static class InteractingLineSegmentIndex extends LineSegmentIndex
+  {
+    private final LineSegmentIndex[] indexes;
+    private final int line;
+    private final STRtree lineIndex;
+
+    InteractingLineSegmentIndex(LineSegmentIndex[] indexes, int line, STRtree lineIndex)
+    {
+      this.indexes = indexes;
+      this.line = line;
+      this.lineIndex = lineIndex;
+    }
+
+    public void add(LineSegment seg)
+    {
+      indexes[line].add(seg);
+    }
+
+    public void remove(LineSegment seg)
+    {
+      indexes[line].remove(seg);
+    }
+
+    public List query(LineSegment querySeg)
+    {
+      List hits = lineIndex.query(new Envelope(querySeg.p0, querySeg.p1));
+      if (hits.size() == 1)
+        return indexes[(Integer) hits.get(0)].query(querySeg);
+      List items = new ArrayList();
+      for (int i = 0; i < hits.size(); i++) {
+        items.addAll(indexes[(Integer) hits.get(i)].query(querySeg));
+      }
+      return items;
+    }
+  }
 }
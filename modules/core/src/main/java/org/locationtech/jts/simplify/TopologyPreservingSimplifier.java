@@ -14,6 +14,7 @@ package org.locationtech.jts.simplify;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
@@ -57,6 +58,12 @@ import org.locationtech.jts.geom.util.GeometryTransformer;
  * <p>
  * The simplification uses a maximum-distance difference algorithm
  * similar to the Douglas-Peucker algorithm.
+ * <p>
+ * Lines can be simplified in parallel
+ * by supplying a {@link ForkJoinPool} via {@link #setForkJoinPool(ForkJoinPool)}.
+ * Lines whose envelopes are disjoint cannot affect each other, 
+ * so they are simplified concurrently.
+ * The result is identical to the serial result.
  *
  * <h3>KNOWN BUGS</h3>
  * <ul>
@@ -108,6 +115,17 @@ public class TopologyPreservingSimplifier
     lineSimplifier.setDistanceTolerance(distanceTolerance);
   }
 
+  /**
+   * Sets the {@link ForkJoinPool} used to simplify lines in parallel.
+   * If the pool is <code>null</code> (the default) the lines
+   * are simplified serially in the calling thread.
+   * 
+   * @param pool the pool to use, or null
+   */
+  public void setForkJoinPool(ForkJoinPool pool) {
+    lineSimplifier.setForkJoinPool(pool);
+  }
+
   public Geometry getResultGeometry() 
   {
     // empty input produces an empty result
@@ -0,0 +1,722 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.locationtech.jts.algorithm.CGAlgorithmsDD;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.math.DD;
+import org.locationtech.jts.shape.fractal.HilbertCode;
+
+/**
+ * Computes the Delaunay triangulation of a set of sites,
+ * using a compact mesh representation stored in primitive arrays.
+ * This requires much less memory than {@link DelaunayTriangulationBuilder},
+ * which represents the triangulation as a {@link org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision}
+ * (about 70 bytes per site, compared to several hundred).
+ * It is intended for triangulating very large point sets, such as LiDAR surveys.
+ * <p>
+ * The triangulation is computed by incremental insertion with edge flipping.
+ * The mesh is stored as arrays of triangle vertex indexes and
+ * adjacent half-edges.
+ * The region outside the convex hull is covered by "ghost" triangles
+ * which have a symbolic vertex at infinity,
+ * so that no bounding frame is needed
+ * and the triangulation always covers the convex hull of the sites.
+ * <p>
+ * Sites are inserted in a Biased Randomized Insertion Order (BRIO):
+ * they are assigned randomly to rounds of doubling size,
+ * and are sorted along a Hilbert curve within each round.
+ * This keeps the point location walks short, 
+ * while avoiding the worst cases of a purely spatial ordering.
+ * The random assignment uses a fixed seed, so results are reproducible.
+ * <p>
+ * The orientation and in-circle predicates use a floating-point filter
+ * with an extended-precision fallback.
+ * Duplicate sites are ignored.
+ * If the sites are all collinear there are no triangles,
+ * and the edges are the segments between consecutive sites.
+ * <p>
+ * The output is a superset of that of {@link DelaunayTriangulationBuilder}.
+ * The compact mesh always covers the full convex hull of the sites,
+ * whereas the {@link org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision}
+ * used by the builder can omit triangles along the convex hull
+ * (since they are affected by its bounding frame).
+ * The triangles computed by the builder are all present in the output.
+ * Sites which are cocircular may be triangulated differently,
+ * since in that case the Delaunay triangulation is not unique.
+ * 
+ * @author agent
+ *
+ */
+public class CompactDelaunayTriangulator 
+{
+  /**
+   * The vertex index of the symbolic vertex at infinity.
+   */
+  private static final int GHOST = -1;
+  
+  private static final int NO_EDGE = -1;
+  
+  private static final int HILBERT_LEVEL = 13;
+  
+  private static final long RANDOM_SEED = 1234567;
+  
+  /**
+   * The error bound factor for the floating-point in-circle filter
+   * (from Shewchuk).
+   */
+  private static final double INCIRCLE_ERR_BOUND = 1.1102230246251577e-15;
+
+  private final int numSites;
+  private double[] xy;
+  private double[] z = null;
+  
+  private int[] triVerts;
+  private int[] twins;
+  private int numTri = 0;
+  private int numFinite = 0;
+  private boolean isCollinear = false;
+  private boolean isComputed = false;
+  
+  private int seedSite1;
+  private int seedSite2;
+  private int lastTri = 0;
+  /**
+   * The edge containing the last located site, or -1 if it is in the interior of a triangle.
+   */
+  private int locatedEdge;
+  private int walkCount = 0;
+  private int[] flipStack = new int[64];
+  
+  /**
+   * Creates a triangulator for an array of sites.
+   * 
+   * @param sites the sites to triangulate
+   */
+  public CompactDelaunayTriangulator(Coordinate[] sites)
+  {
+    numSites = sites.length;
+    boolean hasZ = false;
+    for (int i = 0; i < sites.length; i++) {
+      if (! Double.isNaN(sites[i].getZ())) {
+        hasZ = true;
+        break;
+      }
+    }
+    double[] inputXY = new double[2 * numSites];
+    double[] inputZ = hasZ ? new double[numSites] : null;
+    for (int i = 0; i < numSites; i++) {
+      inputXY[2 * i] = sites[i].x;
+      inputXY[2 * i + 1] = sites[i].y;
+      if (hasZ) inputZ[i] = sites[i].getZ();
+    }
+    init(inputXY, inputZ);
+  }
+  
+  /**
+   * Creates a triangulator for a sequence of sites.
+   * The Z ordinates of the sites are retained if the sequence has them.
+   * 
+   * @param sites the sites to triangulate
+   */
+  public CompactDelaunayTriangulator(CoordinateSequence sites)
+  {
+    numSites = sites.size();
+    boolean hasZ = sites.hasZ();
+    double[] inputXY = new double[2 * numSites];
+    double[] inputZ = hasZ ? new double[numSites] : null;
+    for (int i = 0; i < numSites; i++) {
+      inputXY[2 * i] = sites.getX(i);
+      inputXY[2 * i + 1] = sites.getY(i);
+      if (hasZ) inputZ[i] = sites.getZ(i);
+    }
+    init(inputXY, inputZ);
+  }
+  
+  /**
+   * Copies the sites into insertion order.
+   */
+  private void init(double[] inputXY, double[] inputZ)
+  {
+    int[] order = insertionOrder(inputXY, numSites);
+    xy = new double[2 * numSites];
+    if (inputZ != null) z = new double[numSites];
+    for (int i = 0; i < numSites; i++) {
+      int src = order[i];
+      xy[2 * i] = inputXY[2 * src];
+      xy[2 * i + 1] = inputXY[2 * src + 1];
+      if (z != null) z[i] = inputZ[src];
+    }
+  }
+  
+  /**
+   * Computes the BRIO insertion order of the sites.
+   * Each site is represented by a key containing its round number,
+   * its Hilbert code and its index, so that sorting the keys
+   * gives the insertion order.
+   */
+  private static int[] insertionOrder(double[] xy, int n)
+  {
+    double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+    double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < n; i++) {
+      minX = Math.min(minX, xy[2 * i]);
+      maxX = Math.max(maxX, xy[2 * i]);
+      minY = Math.min(minY, xy[2 * i + 1]);
+      maxY = Math.max(maxY, xy[2 * i + 1]);
+    }
+    int maxOrd = HilbertCode.maxOrdinate(HILBERT_LEVEL);
+    double scaleX = maxX > minX ? maxOrd / (maxX - minX) : 0;
+    double scaleY = maxY > minY ? maxOrd / (maxY - minY) : 0;
+    
+    // the last round contains about half of the sites, the one before a quarter, etc.
+    int maxRound = Math.min(31, 32 - Integer.numberOfLeadingZeros(Math.max(n, 1)));
+    Random random = new Random(RANDOM_SEED);
+    long[] keys = new long[n];
+    for (int i = 0; i < n; i++) {
+      int round = maxRound - Math.min(maxRound, Integer.numberOfTrailingZeros(random.nextInt()));
+      int hx = (int) ((xy[2 * i] - minX) * scaleX);
+      int hy = (int) ((xy[2 * i + 1] - minY) * scaleY);
+      long hcode = HilbertCode.encode(HILBERT_LEVEL, hx, hy);
+      keys[i] = ((long) round << 58) | (hcode << 32) | i;
+    }
+    Arrays.sort(keys);
+    int[] order = new int[n];
+    for (int i = 0; i < n; i++) {
+      order[i] = (int) keys[i];
+    }
+    return order;
+  }
+  
+  /**
+   * Gets the number of sites, including any duplicates.
+   * 
+   * @return the number of sites
+   */
+  public int getNumSites()
+  {
+    return numSites;
+  }
+  
+  /**
+   * Gets the coordinate of a vertex of the triangulation.
+   * 
+   * @param vertex a vertex index
+   * @return the coordinate of the vertex
+   */
+  public Coordinate getCoordinate(int vertex)
+  {
+    if (z != null)
+      return new Coordinate(xy[2 * vertex], xy[2 * vertex + 1], z[vertex]);
+    return new Coordinate(xy[2 * vertex], xy[2 * vertex + 1]);
+  }
+  
+  /**
+   * Gets the number of triangles in the triangulation.
+   * 
+   * @return the number of triangles
+   */
+  public int getNumTriangles()
+  {
+    create();
+    return numFinite;
+  }
+  
+  /**
+   * Gets the vertex indexes of the triangles.
+   * The indexes of each triangle are stored consecutively, 
+   * in counter-clockwise order.
+   * The coordinates of the vertices are obtained from {@link #getCoordinate(int)}.
+   * 
+   * @return an array of 3 vertex indexes for each triangle
+   */
+  public int[] getTriangleVertices()
+  {
+    create();
+    int[] verts = new int[3 * numFinite];
+    int n = 0;
+    for (int t = 0; t < numTri; t++) {
+      if (isGhost(t)) continue;
+      System.arraycopy(triVerts, 3 * t, verts, n, 3);
+      n += 3;
+    }
+    return verts;
+  }
+  
+  /**
+   * Gets the faces of the computed triangulation as a {@link GeometryCollection} 
+   * of {@link Polygon}.
+   * 
+   * @param geomFact the geometry factory to use to create the output
+   * @return the faces of the triangulation
+   */
+  public Geometry getTriangles(GeometryFactory geomFact)
+  {
+    create();
+    Polygon[] tris = new Polygon[numFinite];
+    int n = 0;
+    for (int t = 0; t < numTri; t++) {
+      if (isGhost(t)) continue;
+      int base = 3 * t;
+      Coordinate p0 = getCoordinate(triVerts[base]);
+      tris[n++] = geomFact.createPolygon(new Coordinate[] { 
+          p0, getCoordinate(triVerts[base + 1]), getCoordinate(triVerts[base + 2]), p0.copy() });
+    }
+    return geomFact.createGeometryCollection(tris);
+  }
+  
+  /**
+   * Gets the edges of the computed triangulation as a {@link MultiLineString}.
+   * 
+   * @param geomFact the geometry factory to use to create the output
+   * @return the edges of the triangulation
+   */
+  public Geometry getEdges(GeometryFactory geomFact)
+  {
+    create();
+    if (isCollinear) 
+      return getCollinearEdges(geomFact);
+    
+    // each edge has two sides, except for the hull edges
+    int numEdges = (3 * numFinite + (numTri - numFinite)) / 2;
+    LineString[] edges = new LineString[numEdges];
+    int n = 0;
+    for (int t = 0; t < numTri; t++) {
+      if (isGhost(t)) continue;
+      for (int e = 3 * t; e < 3 * t + 3; e++) {
+        int twin = twins[e];
+        if (e < twin || isGhost(twin / 3)) {
+          edges[n++] = geomFact.createLineString(new Coordinate[] { 
+              getCoordinate(triVerts[e]), getCoordinate(triVerts[next(e)]) });
+        }
+      }
+    }
+    return geomFact.createMultiLineString(edges);
+  }
+  
+  private Geometry getCollinearEdges(GeometryFactory geomFact)
+  {
+    Coordinate[] pts = new Coordinate[numSites];
+    for (int i = 0; i < numSites; i++) {
+      pts[i] = getCoordinate(i);
+    }
+    // collinear points are ordered along their line
+    Arrays.sort(pts);
+    int n = 0;
+    LineString[] edges = new LineString[Math.max(0, numSites - 1)];
+    for (int i = 1; i < numSites; i++) {
+      if (pts[i].equals2D(pts[i - 1])) continue;
+      edges[n++] = geomFact.createLineString(new Coordinate[] { pts[i - 1], pts[i] });
+    }
+    return geomFact.createMultiLineString(Arrays.copyOf(edges, n));
+  }
+  
+  private void create()
+  {
+    if (isComputed) return;
+    isComputed = true;
+    
+    int capacity = Math.max(4, 2 * numSites);
+    triVerts = new int[3 * capacity];
+    twins = new int[3 * capacity];
+    
+    if (! createSeedTriangle()) {
+      isCollinear = true;
+      return;
+    }
+    // sites before the seed sites are duplicates or collinear, 
+    // and are inserted in order with the others
+    for (int i = 1; i < numSites; i++) {
+      if (i == seedSite1 || i == seedSite2) continue;
+      insert(i);
+    }
+    for (int t = 0; t < numTri; t++) {
+      if (! isGhost(t)) numFinite++;
+    }
+  }
+  
+  /**
+   * Creates the initial triangle from site 0, 
+   * the first site which differs from it,
+   * and the first site which is not collinear with these.
+   * 
+   * @return false if the sites are collinear
+   */
+  private boolean createSeedTriangle()
+  {
+    int i1 = 1;
+    while (i1 < numSites && equals2D(0, i1)) {
+      i1++;
+    }
+    int i2 = i1 + 1;
+    while (i2 < numSites && orient(0, i1, i2) == 0) {
+      i2++;
+    }
+    if (i2 >= numSites) return false;
+    
+    int a = 0, b = i1, c = i2;
+    if (orient(a, b, c) < 0) {
+      b = i2;
+      c = i1;
+    }
+    int t = addTriangle(a, b, c);
+    int g0 = addTriangle(b, a, GHOST);
+    int g1 = addTriangle(c, b, GHOST);
+    int g2 = addTriangle(a, c, GHOST);
+    link(3 * t, 3 * g0);
+    link(3 * t + 1, 3 * g1);
+    link(3 * t + 2, 3 * g2);
+    link(3 * g0 + 1, 3 * g2 + 2);
+    link(3 * g0 + 2, 3 * g1 + 1);
+    link(3 * g2 + 1, 3 * g1 + 2);
+    lastTri = t;
+    seedSite1 = i1;
+    seedSite2 = i2;
+    return true;
+  }
+  
+  private void insert(int p)
+  {
+    int t = locate(p);
+    if (t < 0) return;
+    if (locatedEdge >= 0)
+      splitEdge(locatedEdge, p);
+    else
+      splitTriangle(t, p);
+  }
+  
+  /**
+   * Finds the triangle containing a site, by walking from the last triangle created.
+   * If the site lies on an edge of a finite triangle, 
+   * the edge is recorded in {@link #locatedEdge}.
+   * A ghost triangle contains a site if it lies strictly outside its hull edge.
+   * 
+   * @param p the site to locate
+   * @return the containing triangle, or -1 if the site is a duplicate
+   */
+  private int locate(int p)
+  {
+    int t = lastTri;
+    int maxSteps = numTri + 10;
+    for (int step = 0; step < maxSteps; step++) {
+      int next = isGhost(t) ? walkGhost(t, p) : walkFinite(t, p);
+      if (next == t) return t;
+      if (next < 0) return -1;
+      t = next;
+    }
+    // should not happen, but if the walk cycles fall back to a scan
+    for (t = 0; t < numTri; t++) {
+      int next = isGhost(t) ? walkGhost(t, p) : walkFinite(t, p);
+      if (next == t || next < 0) return next;
+    }
+    throw new IllegalStateException("Unable to locate site " + getCoordinate(p));
+  }
+  
+  /**
+   * Checks whether a finite triangle contains a site.
+   * 
+   * @return the triangle if it contains the site, 
+   * or the adjacent triangle to walk to, 
+   * or -1 if the site is a vertex of the triangle
+   */
+  private int walkFinite(int t, int p)
+  {
+    int base = 3 * t;
+    // start at a varying edge to avoid cycling
+    int start = walkCount;
+    walkCount = (walkCount + 1) % 3;
+    int onEdge = NO_EDGE;
+    for (int i = 0; i < 3; i++) {
+      int e = base + (start + i) % 3;
+      int o = orient(triVerts[e], triVerts[next(e)], p);
+      if (o < 0) 
+        return twins[e] / 3;
+      if (o == 0) 
+        onEdge = e;
+    }
+    for (int e = base; e < base + 3; e++) {
+      if (equals2D(triVerts[e], p)) return -1;
+    }
+    locatedEdge = onEdge;
+    return t;
+  }
+  
+  /**
+   * Checks whether a ghost triangle contains a site.
+   * 
+   * @return the triangle if it contains the site, 
+   * or the adjacent triangle to walk to
+   */
+  private int walkGhost(int t, int p)
+  {
+    int fe = hullEdge(t);
+    int u = triVerts[fe];
+    int v = triVerts[next(fe)];
+    int o = orient(u, v, p);
+    if (o > 0) {
+      locatedEdge = NO_EDGE;
+      return t;
+    }
+    if (o < 0) 
+      return twins[fe] / 3;
+    
+    // site is on the line of the hull edge
+    double ux = xy[2 * u], uy = xy[2 * u + 1];
+    double dx = xy[2 * v] - ux, dy = xy[2 * v + 1] - uy;
+    double proj = (xy[2 * p] - ux) * dx + (xy[2 * p + 1] - uy) * dy;
+    if (proj < 0) 
+      return twins[prev(fe)] / 3;
+    if (proj > dx * dx + dy * dy) 
+      return twins[next(fe)] / 3;
+    return twins[fe] / 3;
+  }
+  
+  /**
+   * Splits a triangle into three triangles with a new vertex in its interior.
+   * For a ghost triangle, the vertex lies outside the hull edge,
+   * and one finite triangle and two ghost triangles are created.
+   */
+  private void splitTriangle(int t, int p)
+  {
+    int e0 = isGhost(t) ? hullEdge(t) : 3 * t;
+    int e1 = next(e0);
+    int e2 = next(e1);
+    int a = triVerts[e0], b = triVerts[e1], c = triVerts[e2];
+    int n0 = twins[e0], n1 = twins[e1], n2 = twins[e2];
+    
+    setTriangle(t, a, b, p);
+    int t1 = addTriangle(b, c, p);
+    int t2 = addTriangle(c, a, p);
+    link(3 * t, n0);
+    link(3 * t1, n1);
+    link(3 * t2, n2);
+    link(3 * t + 1, 3 * t1 + 2);
+    link(3 * t1 + 1, 3 * t2 + 2);
+    link(3 * t2 + 1, 3 * t + 2);
+    
+    lastTri = t;
+    legalize(3 * t);
+    legalize(3 * t1);
+    legalize(3 * t2);
+  }
+  
+  /**
+   * Splits the two triangles adjacent to an edge
+   * into four triangles with a new vertex on the edge.
+   */
+  private void splitEdge(int e, int p)
+  {
+    int e1 = next(e), e2 = next(e1);
+    int f = twins[e];
+    int f1 = next(f), f2 = next(f1);
+    int a = triVerts[e], b = triVerts[e1], c = triVerts[e2];
+    int d = triVerts[f2];
+    int nbc = twins[e1], nca = twins[e2], nad = twins[f1], ndb = twins[f2];
+    int t = e / 3;
+    int u = f / 3;
+    
+    setTriangle(t, c, a, p);
+    int t1 = addTriangle(b, c, p);
+    setTriangle(u, a, d, p);
+    int u1 = addTriangle(d, b, p);
+    link(3 * t, nca);
+    link(3 * t1, nbc);
+    link(3 * u, nad);
+    link(3 * u1, ndb);
+    link(3 * t + 1, 3 * u + 2);
+    link(3 * t + 2, 3 * t1 + 1);
+    link(3 * t1 + 2, 3 * u1 + 1);
+    link(3 * u + 1, 3 * u1 + 2);
+    
+    lastTri = t;
+    legalize(3 * t);
+    legalize(3 * t1);
+    legalize(3 * u);
+    legalize(3 * u1);
+  }
+  
+  /**
+   * Restores the Delaunay condition after a vertex is inserted,
+   * by flipping edges opposite the new vertex which are not locally Delaunay.
+   * 
+   * @param edge an edge opposite the new vertex
+   */
+  private void legalize(int edge)
+  {
+    int stackSize = 0;
+    flipStack[stackSize++] = edge;
+    while (stackSize > 0) {
+      int e = flipStack[--stackSize];
+      int f = twins[e];
+      int e1 = next(e), e2 = next(e1);
+      int f1 = next(f), f2 = next(f1);
+      int s = triVerts[e], t = triVerts[e1], p = triVerts[e2];
+      int q = triVerts[f2];
+      if (! isFlipRequired(s, t, p, q)) continue;
+      
+      // flip (s,t,p) + (t,s,q) to (p,s,q) + (q,t,p)
+      int ne1 = twins[e1], ne2 = twins[e2], nf1 = twins[f1], nf2 = twins[f2];
+      triVerts[e] = p;
+      triVerts[e1] = s;
+      triVerts[e2] = q;
+      triVerts[f] = q;
+      triVerts[f1] = t;
+      triVerts[f2] = p;
+      link(e, ne2);
+      link(e1, nf1);
+      link(e2, f2);
+      link(f, nf2);
+      link(f1, ne1);
+      
+      if (stackSize + 2 > flipStack.length) 
+        flipStack = Arrays.copyOf(flipStack, 2 * flipStack.length);
+      flipStack[stackSize++] = e1;
+      flipStack[stackSize++] = f;
+    }
+  }
+  
+  /**
+   * Tests whether the edge s-t between triangles (s,t,p) and (t,s,q)
+   * must be flipped, because q lies inside the circumcircle of (s,t,p).
+   * The "circumcircle" of a ghost triangle is the open half-plane 
+   * outside its hull edge.
+   */
+  private boolean isFlipRequired(int s, int t, int p, int q)
+  {
+    if (q == GHOST) return false;
+    if (s == GHOST) return orient(t, p, q) > 0;
+    if (t == GHOST) return orient(p, s, q) > 0;
+    return inCircle(s, t, p, q) > 0;
+  }
+  
+  private int addTriangle(int a, int b, int c)
+  {
+    int t = numTri++;
+    if (3 * numTri > triVerts.length) {
+      triVerts = Arrays.copyOf(triVerts, 2 * triVerts.length);
+      twins = Arrays.copyOf(twins, 2 * twins.length);
+    }
+    setTriangle(t, a, b, c);
+    return t;
+  }
+  
+  private void setTriangle(int t, int a, int b, int c)
+  {
+    int base = 3 * t;
+    triVerts[base] = a;
+    triVerts[base + 1] = b;
+    triVerts[base + 2] = c;
+  }
+  
+  private void link(int e, int f)
+  {
+    twins[e] = f;
+    twins[f] = e;
+  }
+  
+  private boolean isGhost(int t)
+  {
+    int base = 3 * t;
+    return triVerts[base] == GHOST || triVerts[base + 1] == GHOST || triVerts[base + 2] == GHOST;
+  }
+  
+  /**
+   * Gets the finite edge of a ghost triangle.
+   */
+  private int hullEdge(int t)
+  {
+    int base = 3 * t;
+    if (triVerts[base + 2] == GHOST) return base;
+    if (triVerts[base] == GHOST) return base + 1;
+    return base + 2;
+  }
+  
+  private static int next(int e)
+  {
+    return e % 3 == 2 ? e - 2 : e + 1;
+  }
+  
+  private static int prev(int e)
+  {
+    return e % 3 == 0 ? e + 2 : e - 1;
+  }
+  
+  private boolean equals2D(int i, int j)
+  {
+    return xy[2 * i] == xy[2 * j] && xy[2 * i + 1] == xy[2 * j + 1];
+  }
+  
+  private int orient(int a, int b, int c)
+  {
+    return CGAlgorithmsDD.orientationIndex(xy[2 * a], xy[2 * a + 1], 
+        xy[2 * b], xy[2 * b + 1], xy[2 * c], xy[2 * c + 1]);
+  }
+  
+  /**
+   * Computes the sign of the in-circle determinant,
+   * which is positive if d lies inside the circumcircle 
+   * of the counter-clockwise triangle (a,b,c).
+   * A floating-point filter is used, with a fallback to DD arithmetic.
+   */
+  private int inCircle(int a, int b, int c, int d)
+  {
+    double dx = xy[2 * d], dy = xy[2 * d + 1];
+    double adx = xy[2 * a] - dx, ady = xy[2 * a + 1] - dy;
+    double bdx = xy[2 * b] - dx, bdy = xy[2 * b + 1] - dy;
+    double cdx = xy[2 * c] - dx, cdy = xy[2 * c + 1] - dy;
+    
+    double bdxcdy = bdx * cdy, cdxbdy = cdx * bdy;
+    double cdxady = cdx * ady, adxcdy = adx * cdy;
+    double adxbdy = adx * bdy, bdxady = bdx * ady;
+    double alift = adx * adx + ady * ady;
+    double blift = bdx * bdx + bdy * bdy;
+    double clift = cdx * cdx + cdy * cdy;
+    
+    double det = alift * (bdxcdy - cdxbdy) 
+        + blift * (cdxady - adxcdy) 
+        + clift * (adxbdy - bdxady);
+    double permanent = (Math.abs(bdxcdy) + Math.abs(cdxbdy)) * alift
+        + (Math.abs(cdxady) + Math.abs(adxcdy)) * blift
+        + (Math.abs(adxbdy) + Math.abs(bdxady)) * clift;
+    double errBound = INCIRCLE_ERR_BOUND * permanent;
+    if (det > errBound) return 1;
+    if (-det > errBound) return -1;
+    return inCircleDD(a, b, c, d);
+  }
+  
+  private int inCircleDD(int a, int b, int c, int d)
+  {
+    double dx = xy[2 * d], dy = xy[2 * d + 1];
+    DD adx = DD.valueOf(xy[2 * a]).selfSubtract(dx), ady = DD.valueOf(xy[2 * a + 1]).selfSubtract(dy);
+    DD bdx = DD.valueOf(xy[2 * b]).selfSubtract(dx), bdy = DD.valueOf(xy[2 * b + 1]).selfSubtract(dy);
+    DD cdx = DD.valueOf(xy[2 * c]).selfSubtract(dx), cdy = DD.valueOf(xy[2 * c + 1]).selfSubtract(dy);
+    
+    DD alift = adx.multiply(adx).selfAdd(ady.multiply(ady));
+    DD blift = bdx.multiply(bdx).selfAdd(bdy.multiply(bdy));
+    DD clift = cdx.multiply(cdx).selfAdd(cdy.multiply(cdy));
+    
+    DD det = alift.selfMultiply(bdx.multiply(cdy).selfSubtract(cdx.multiply(bdy)))
+        .selfAdd(blift.selfMultiply(cdx.multiply(ady).selfSubtract(adx.multiply(cdy))))
+        .selfAdd(clift.selfMultiply(adx.multiply(bdy).selfSubtract(bdx.multiply(ady))));
+    return det.signum();
+  }
+}
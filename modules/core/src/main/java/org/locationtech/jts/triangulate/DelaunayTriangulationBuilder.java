@@ -16,6 +16,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateArrays;
@@ -34,6 +35,9 @@ import org.locationtech.jts.triangulate.quadedge.Vertex;
  * A utility class which creates Delaunay Triangulations
  * from collections of points and extract the resulting 
  * triangulation edges or triangles as geometries. 
+ * <p>
+ * For very large numbers of sites, 
+ * {@link CompactDelaunayTriangulator} uses much less memory.
  * 
  * @author Martin Davis
  *
@@ -96,6 +100,7 @@ public class DelaunayTriangulationBuilder
 	private Collection siteCoords;
 	private double tolerance = 0.0;
 	private QuadEdgeSubdivision subdiv = null;
+	private ForkJoinPool pool = null;
 	
 	/**
 	 * Creates a new triangulation builder.
@@ -141,6 +146,24 @@ public class DelaunayTriangulationBuilder
 		this.tolerance = tolerance;
 	}
 	
+	/**
+	 * Sets the {@link ForkJoinPool} used to compute the triangulation in parallel.
+	 * If a pool is supplied the triangulation is computed by a 
+	 * {@link DivideAndConquerDelaunayTriangulator},
+	 * which triangulates partitions of the sites concurrently
+	 * and merges them along the seams between them.
+	 * Sites which lie within the snapping tolerance of each other
+	 * are merged before the sites are triangulated.
+	 * If the pool is <code>null</code> (the default) the sites 
+	 * are inserted serially in the calling thread.
+	 * 
+	 * @param pool the pool to use, or null
+	 */
+	public void setForkJoinPool(ForkJoinPool pool)
+	{
+		this.pool = pool;
+	}
+	
 	private void create()
 	{
 		if (subdiv != null) return;
@@ -148,8 +171,15 @@ public class DelaunayTriangulationBuilder
 		Envelope siteEnv = envelope(siteCoords);
 		List vertices = toVertices(siteCoords);
 		subdiv = new QuadEdgeSubdivision(siteEnv, tolerance);
-		IncrementalDelaunayTriangulator triangulator = new IncrementalDelaunayTriangulator(subdiv);
-		triangulator.insertSites(vertices);
+		if (pool != null) {
+			DivideAndConquerDelaunayTriangulator triangulator = new DivideAndConquerDelaunayTriangulator(subdiv);
+			triangulator.setForkJoinPool(pool);
+			triangulator.insertSites(vertices);
+		}
+		else {
+			IncrementalDelaunayTriangulator triangulator = new IncrementalDelaunayTriangulator(subdiv);
+			triangulator.insertSites(vertices);
+		}
 	}
 	
 	/**
@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.index.kdtree.KdNode;
+import org.locationtech.jts.index.kdtree.KdTree;
+import org.locationtech.jts.triangulate.quadedge.QuadEdge;
+import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
+import org.locationtech.jts.triangulate.quadedge.Vertex;
+
+/**
+ * Computes a Delaunay triangulation in a {@link QuadEdgeSubdivision}
+ * using the divide-and-conquer algorithm of Guibas and Stolfi (1985).
+ * The sites (together with the subdivision frame vertices)
+ * are sorted by X and then Y, and recursively split into 
+ * left and right halves.
+ * Each half is triangulated independently,
+ * and the two triangulations are merged along the seam between them
+ * by zipping upwards from their lower common tangent.
+ * <p>
+ * The halves share no edges until they are merged,
+ * so they can be triangulated concurrently.
+ * Supplying a {@link ForkJoinPool} via {@link #setForkJoinPool(ForkJoinPool)}
+ * triangulates partitions larger than a threshold in parallel.
+ * Only the merges near the top of the recursion are serial,
+ * and each of these visits only the edges near its seam.
+ * <p>
+ * The result is the Delaunay triangulation of the sites and the frame vertices,
+ * which is the triangulation computed by {@link IncrementalDelaunayTriangulator}
+ * (apart from sites which are cocircular, 
+ * where the Delaunay triangulation is not unique).
+ * The orientation and in-circle predicates are robust.
+ * Sites which are exact duplicates are ignored.
+ * If the subdivision has a non-zero tolerance,
+ * sites which lie within the tolerance of a site earlier in the input
+ * are merged with it before triangulating,
+ * as {@link IncrementalDelaunayTriangulator} does when inserting them.
+ * 
+ * @author agent
+ *
+ */
+public class DivideAndConquerDelaunayTriangulator 
+{
+  /**
+   * The default minimum number of sites in a partition 
+   * for it to be triangulated as a separate parallel task.
+   */
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 10000;
+  
+  private static final Comparator<Vertex> VERTEX_ORDER = new Comparator<Vertex>() {
+    public int compare(Vertex v1, Vertex v2) {
+      return v1.getCoordinate().compareTo(v2.getCoordinate());
+    }
+  };
+  
+  private QuadEdgeSubdivision subdiv;
+  private ForkJoinPool pool = null;
+  private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+  /**
+   * Creates a new triangulator using the given {@link QuadEdgeSubdivision}.
+   * The subdivision must be newly created, 
+   * so that it contains only the frame triangle.
+   * 
+   * @param subdiv a subdivision in which to build the TIN
+   */
+  public DivideAndConquerDelaunayTriangulator(QuadEdgeSubdivision subdiv) {
+    this.subdiv = subdiv;
+  }
+  
+  /**
+   * Sets the {@link ForkJoinPool} used to triangulate partitions in parallel.
+   * If the pool is <code>null</code> (the default) the triangulation 
+   * is computed serially in the calling thread.
+   * 
+   * @param pool the pool to use, or null
+   */
+  public void setForkJoinPool(ForkJoinPool pool)
+  {
+    this.pool = pool;
+  }
+  
+  /**
+   * Sets the minimum number of sites a partition
+   * must contain for it to be triangulated as a separate parallel task.
+   * The default is {@link #DEFAULT_PARALLEL_THRESHOLD}.
+   * 
+   * @param parallelThreshold the minimum partition size to triangulate in parallel
+   */
+  public void setParallelThreshold(int parallelThreshold)
+  {
+    this.parallelThreshold = Math.max(4, parallelThreshold);
+  }
+
+  /**
+   * Triangulates a collection of sites, 
+   * replacing the frame triangle of the subdivision 
+   * with the Delaunay triangulation of the sites and the frame vertices.
+   * The sites must lie inside the frame.
+   * 
+   * @param vertices a Collection of Vertex
+   * @throws IllegalStateException if the subdivision already contains sites
+   */
+  public void insertSites(Collection vertices) {
+    Collection frame = subdiv.getVertices(true);
+    if (subdiv.getEdges().size() != 3 || frame.size() != 3)
+      throw new IllegalStateException("Subdivision must contain only the frame triangle");
+    if (subdiv.getTolerance() > 0.0)
+      vertices = mergeWithinTolerance(vertices, subdiv.getTolerance());
+    
+    Vertex[] sites = new Vertex[vertices.size() + 3];
+    int n = 0;
+    for (Iterator i = frame.iterator(); i.hasNext(); ) {
+      sites[n++] = (Vertex) i.next();
+    }
+    for (Iterator i = vertices.iterator(); i.hasNext(); ) {
+      sites[n++] = (Vertex) i.next();
+    }
+    Arrays.sort(sites, VERTEX_ORDER);
+    n = removeDuplicates(sites);
+    /**
+     * If the sites all coincide the frame is degenerate,
+     * and there is nothing to divide.
+     */
+    if (n < 3) {
+      new IncrementalDelaunayTriangulator(subdiv).insertSites(vertices);
+      return;
+    }
+    
+    TriangulateTask task = new TriangulateTask(sites, 0, n);
+    if (pool != null && n > parallelThreshold) {
+      pool.invoke(task);
+    }
+    else {
+      task.compute();
+    }
+    
+    List edges = new ArrayList();
+    for (QuadEdge e : task.edges) {
+      if (e.isLive())
+        edges.add(e);
+    }
+    subdiv.setEdges(edges);
+  }
+  
+  /**
+   * Removes the sites which lie within the tolerance 
+   * of a site occurring earlier in the collection.
+   */
+  private static Collection mergeWithinTolerance(Collection vertices, double tolerance) {
+    KdTree index = new KdTree(tolerance);
+    List merged = new ArrayList();
+    for (Iterator i = vertices.iterator(); i.hasNext(); ) {
+      Vertex v = (Vertex) i.next();
+      KdNode node = index.insert(v.getCoordinate(), v);
+      if (node.getData() == v)
+        merged.add(v);
+    }
+    return merged;
+  }
+  
+  private static int removeDuplicates(Vertex[] sites) {
+    int n = 1;
+    for (int i = 1; i < sites.length; i++) {
+      if (! sites[i].getCoordinate().equals2D(sites[n - 1].getCoordinate())) {
+        sites[n++] = sites[i];
+      }
+    }
+    return n;
+  }
+  
+  /**
+   * Triangulates a range of the sorted sites.
+   * On completion the hull edges {@link #le} and {@link #re}
+   * are set, and {@link #edges} contains the edges created
+   * (some of which may since have been deleted).
+   */
+  private class TriangulateTask extends RecursiveAction
+  {
+    private final Vertex[] sites;
+    private final int start;
+    private final int end;
+    /**
+     * The counter-clockwise hull edge out of the leftmost site
+     */
+    QuadEdge le;
+    /**
+     * The clockwise hull edge out of the rightmost site
+     */
+    QuadEdge re;
+    List<QuadEdge> edges;
+    
+    TriangulateTask(Vertex[] sites, int start, int end)
+    {
+      this.sites = sites;
+      this.start = start;
+      this.end = end;
+    }
+    
+    @Override
+    protected void compute()
+    {
+      int n = end - start;
+      if (n <= 3) {
+        edges = new ArrayList<QuadEdge>();
+        if (n == 2) {
+          triangulate2();
+        }
+        else {
+          triangulate3();
+        }
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      TriangulateTask left = new TriangulateTask(sites, start, mid);
+      TriangulateTask right = new TriangulateTask(sites, mid, end);
+      if (pool != null && n > parallelThreshold) {
+        invokeAll(left, right);
+      }
+      else {
+        left.compute();
+        right.compute();
+      }
+      edges = left.edges;
+      edges.addAll(right.edges);
+      merge(left.le, left.re, right.le, right.re);
+    }
+
+    private void triangulate2() {
+      QuadEdge a = makeEdge(sites[start], sites[start + 1]);
+      le = a;
+      re = a.sym();
+    }
+    
+    private void triangulate3() {
+      Vertex s1 = sites[start];
+      Vertex s2 = sites[start + 1];
+      Vertex s3 = sites[start + 2];
+      QuadEdge a = makeEdge(s1, s2);
+      QuadEdge b = makeEdge(s2, s3);
+      QuadEdge.splice(a.sym(), b);
+      if (isCCW(s1, s2, s3)) {
+        connect(b, a);
+        le = a;
+        re = b.sym();
+      }
+      else if (isCCW(s1, s3, s2)) {
+        QuadEdge c = connect(b, a);
+        le = c.sym();
+        re = c;
+      }
+      else {
+        // collinear
+        le = a;
+        re = b.sym();
+      }
+    }
+    
+    /**
+     * Merges the triangulations of two adjacent ranges of sites.
+     * 
+     * @param ldo the counter-clockwise hull edge out of the leftmost site of the left triangulation
+     * @param ldi the clockwise hull edge out of the rightmost site of the left triangulation
+     * @param rdi the counter-clockwise hull edge out of the leftmost site of the right triangulation
+     * @param rdo the clockwise hull edge out of the rightmost site of the right triangulation
+     */
+    private void merge(QuadEdge ldo, QuadEdge ldi, QuadEdge rdi, QuadEdge rdo) {
+      // find the lower common tangent of the two hulls
+      while (true) {
+        if (isLeftOf(rdi.orig(), ldi)) {
+          ldi = ldi.lNext();
+        }
+        else if (isRightOf(ldi.orig(), rdi)) {
+          rdi = rdi.rPrev();
+        }
+        else {
+          break;
+        }
+      }
+      
+      QuadEdge basel = connect(rdi.sym(), ldi);
+      if (ldi.orig() == ldo.orig()) ldo = basel.sym();
+      if (rdi.orig() == rdo.orig()) rdo = basel;
+      
+      // zip upwards, adding the cross edge to the left or right candidate
+      while (true) {
+        QuadEdge lcand = basel.sym().oNext();
+        if (isValid(lcand, basel)) {
+          while (lcand.oNext().dest().isInCircle(basel.dest(), basel.orig(), lcand.dest())) {
+            QuadEdge t = lcand.oNext();
+            deleteEdge(lcand);
+            lcand = t;
+          }
+        }
+        QuadEdge rcand = basel.oPrev();
+        if (isValid(rcand, basel)) {
+          while (rcand.oPrev().dest().isInCircle(basel.dest(), basel.orig(), rcand.dest())) {
+            QuadEdge t = rcand.oPrev();
+            deleteEdge(rcand);
+            rcand = t;
+          }
+        }
+        boolean isLeftValid = isValid(lcand, basel);
+        boolean isRightValid = isValid(rcand, basel);
+        // the upper common tangent has been reached
+        if (! isLeftValid && ! isRightValid) break;
+        
+        if (! isLeftValid 
+            || (isRightValid 
+                && rcand.dest().isInCircle(lcand.dest(), lcand.orig(), rcand.orig()))) {
+          basel = connect(rcand, basel.sym());
+        }
+        else {
+          basel = connect(basel.sym(), lcand.sym());
+        }
+      }
+      le = ldo;
+      re = rdo;
+    }
+    
+    private QuadEdge makeEdge(Vertex o, Vertex d) {
+      QuadEdge e = QuadEdge.makeEdge(o, d);
+      edges.add(e);
+      return e;
+    }
+    
+    private QuadEdge connect(QuadEdge a, QuadEdge b) {
+      QuadEdge e = QuadEdge.connect(a, b);
+      edges.add(e);
+      return e;
+    }
+  }
+  
+  private static void deleteEdge(QuadEdge e) {
+    QuadEdge.splice(e, e.oPrev());
+    QuadEdge.splice(e.sym(), e.sym().oPrev());
+    
+    QuadEdge eSym = e.sym();
+    QuadEdge eRot = e.rot();
+    QuadEdge eRotSym = e.rot().sym();
+    e.delete();
+    eSym.delete();
+    eRot.delete();
+    eRotSym.delete();
+  }
+  
+  /**
+   * Tests whether a candidate edge lies above the base edge of a merge,
+   * so that its destination can be connected to the base edge.
+   */
+  private static boolean isValid(QuadEdge e, QuadEdge basel) {
+    return isRightOf(e.dest(), basel);
+  }
+  
+  private static boolean isRightOf(Vertex v, QuadEdge e) {
+    return isCCW(v, e.dest(), e.orig());
+  }
+  
+  private static boolean isLeftOf(Vertex v, QuadEdge e) {
+    return isCCW(v, e.orig(), e.dest());
+  }
+  
+  private static boolean isCCW(Vertex a, Vertex b, Vertex c) {
+    return Orientation.index(a.getCoordinate(), b.getCoordinate(), c.getCoordinate())
+        == Orientation.COUNTERCLOCKWISE;
+  }
+}
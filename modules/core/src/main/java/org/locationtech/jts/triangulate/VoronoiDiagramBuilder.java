@@ -14,6 +14,7 @@ package org.locationtech.jts.triangulate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateArrays;
@@ -47,6 +48,7 @@ public class VoronoiDiagramBuilder
 	private Collection siteCoords;
 	private double tolerance = 0.0;
 	private QuadEdgeSubdivision subdiv = null;
+	private ForkJoinPool pool = null;
 	private Envelope clipEnv = null;
 	private Envelope diagramEnv = null; 
 	
@@ -105,6 +107,24 @@ public class VoronoiDiagramBuilder
 		this.tolerance = tolerance;
 	}
 	
+	/**
+	 * Sets the {@link ForkJoinPool} used to compute the triangulation in parallel.
+	 * If a pool is supplied the triangulation is computed by a 
+	 * {@link DivideAndConquerDelaunayTriangulator},
+	 * which triangulates partitions of the sites concurrently
+	 * and merges them along the seams between them.
+	 * Sites which lie within the snapping tolerance of each other
+	 * are merged before the sites are triangulated.
+	 * If the pool is <code>null</code> (the default) the sites 
+	 * are inserted serially in the calling thread.
+	 * 
+	 * @param pool the pool to use, or null
+	 */
+	public void setForkJoinPool(ForkJoinPool pool)
+	{
+		this.pool = pool;
+	}
+	
 	private void create()
 	{
 		if (subdiv != null) return;
@@ -125,8 +145,15 @@ public class VoronoiDiagramBuilder
 
 		List vertices = DelaunayTriangulationBuilder.toVertices(siteCoords);
 		subdiv = new QuadEdgeSubdivision(siteEnv, tolerance);
-		IncrementalDelaunayTriangulator triangulator = new IncrementalDelaunayTriangulator(subdiv);
-		triangulator.insertSites(vertices);
+		if (pool != null) {
+			DivideAndConquerDelaunayTriangulator triangulator = new DivideAndConquerDelaunayTriangulator(subdiv);
+			triangulator.setForkJoinPool(pool);
+			triangulator.insertSites(vertices);
+		}
+		else {
+			IncrementalDelaunayTriangulator triangulator = new IncrementalDelaunayTriangulator(subdiv);
+			triangulator.insertSites(vertices);
+		}
 	}
 	
 	/**
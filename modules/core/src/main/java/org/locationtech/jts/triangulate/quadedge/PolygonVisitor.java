@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate.quadedge;
+
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * An interface for processing the faces of a {@link QuadEdgeSubdivision}
+ * (such as triangles or Voronoi cells) as {@link Polygon}s,
+ * one at a time as they are created.
+ * This allows the faces of large subdivisions to be written out
+ * without holding all of them in memory.
+ * 
+ * @author agent
+ * 
+ * @see QuadEdgeSubdivision#visitTrianglePolygons(org.locationtech.jts.geom.GeometryFactory, PolygonVisitor)
+ * @see QuadEdgeSubdivision#visitVoronoiCellPolygons(org.locationtech.jts.geom.GeometryFactory, PolygonVisitor)
+ */
+public interface PolygonVisitor {
+  /**
+   * Visits a face polygon.
+   * The polygon is not retained by the subdivision.
+   * 
+   * @param poly the polygon for a face 
+   */
+  void visit(Polygon poly);
+}
@@ -177,6 +177,34 @@ public class QuadEdgeSubdivision {
 		return quadEdges;
 	}
 
+	/**
+	 * Replaces the edges of this subdivision with those of a triangulation
+	 * built directly from {@link QuadEdge}s
+	 * (for instance by a divide-and-conquer algorithm,
+	 * rather than by inserting sites into this subdivision).
+	 * The triangulation must include the frame vertices
+	 * of this subdivision, which form its convex hull.
+	 * The current edges are marked as deleted.
+	 *
+	 * @param edges
+	 *          a non-empty collection of the QuadEdges of the triangulation
+	 */
+	public void setEdges(Collection edges) {
+		for (Iterator i = quadEdges.iterator(); i.hasNext();) {
+			QuadEdge e = (QuadEdge) i.next();
+			if (! e.isLive()) continue;
+			QuadEdge eSym = e.sym();
+			QuadEdge eRot = e.rot();
+			QuadEdge eRotSym = e.rot().sym();
+			e.delete();
+			eSym.delete();
+			eRot.delete();
+			eRotSym.delete();
+		}
+		quadEdges = new ArrayList(edges);
+		startingEdge = (QuadEdge) quadEdges.get(0);
+	}
+
 	/**
 	 * Sets the {@link QuadEdgeLocator} to use for locating containing triangles
 	 * in this subdivision.
@@ -846,15 +874,57 @@ public class QuadEdgeSubdivision {
 	 * @return a GeometryCollection of triangular Polygons
 	 */
 	public Geometry getTriangles(GeometryFactory geomFact) {
-		List triPtsList = getTriangleCoordinates(false);
-		Polygon[] tris = new Polygon[triPtsList.size()];
-		int i = 0;
-		for (Iterator it = triPtsList.iterator(); it.hasNext();) {
-			Coordinate[] triPt = (Coordinate[]) it.next();
-			tris[i++] = geomFact
-					.createPolygon(geomFact.createLinearRing(triPt));
+		PolygonListVisitor visitor = new PolygonListVisitor();
+		visitTrianglePolygons(geomFact, visitor);
+		return geomFact.createGeometryCollection(GeometryFactory.toPolygonArray(visitor.getPolygons()));
+	}
+
+	/**
+	 * Visits the triangles in a triangulated subdivision as triangular {@link Polygon}s.
+	 * Each polygon is created as its triangle is traversed,
+	 * and is not retained,
+	 * so a large triangulation can be written out 
+	 * without materializing all the triangles at once.
+	 * (To avoid creating polygons, use {@link #visitTriangles(TriangleVisitor, boolean)}
+	 * to visit the edges and vertices of each triangle.)
+	 * 
+	 * @param geomFact the GeometryFactory to use
+	 * @param visitor the visitor to pass each triangle to
+	 */
+	public void visitTrianglePolygons(GeometryFactory geomFact, PolygonVisitor visitor) {
+		visitTriangles(new TrianglePolygonVisitor(geomFact, visitor), false);
+	}
+
+	private static class TrianglePolygonVisitor implements TriangleVisitor {
+		private GeometryFactory geomFact;
+		private PolygonVisitor visitor;
+
+		public TrianglePolygonVisitor(GeometryFactory geomFact, PolygonVisitor visitor) {
+			this.geomFact = geomFact;
+			this.visitor = visitor;
+		}
+
+		public void visit(QuadEdge[] triEdges) {
+			Coordinate p0 = triEdges[0].orig().getCoordinate();
+			Coordinate[] pts = new Coordinate[] { 
+					p0, 
+					triEdges[1].orig().getCoordinate(),
+					triEdges[2].orig().getCoordinate(),
+					p0.copy() };
+			visitor.visit(geomFact.createPolygon(geomFact.createLinearRing(pts)));
+		}
+	}
+
+	private static class PolygonListVisitor implements PolygonVisitor {
+		private List polys = new ArrayList();
+
+		public void visit(Polygon poly) {
+			polys.add(poly);
+		}
+
+		public List getPolygons() {
+			return polys;
 		}
-		return geomFact.createGeometryCollection(tris);
 	}
 
 	/**
@@ -886,6 +956,27 @@ public class QuadEdgeSubdivision {
 	 * @return a List of Polygons
 	 */
   public List getVoronoiCellPolygons(GeometryFactory geomFact)
+  {
+    PolygonListVisitor visitor = new PolygonListVisitor();
+    visitVoronoiCellPolygons(geomFact, visitor);
+    return visitor.getPolygons();
+  }
+  
+  /**
+   * Visits the {@link Polygon}s for the Voronoi cells 
+   * of this triangulation.
+   * Each cell polygon is created as its site is traversed,
+   * and is not retained,
+   * so the diagram for a large triangulation can be written out 
+   * without materializing all the cells at once.
+   * <p>
+   * The userData of each polygon is set to be the {@link Coordinate}
+   * of the cell site. 
+   * 
+   * @param geomFact a geometry factory
+   * @param visitor the visitor to pass each cell polygon to
+   */
+  public void visitVoronoiCellPolygons(GeometryFactory geomFact, PolygonVisitor visitor)
   {
   	/*
   	 * Compute circumcentres of triangles as vertices for dual edges.
@@ -895,13 +986,22 @@ public class QuadEdgeSubdivision {
   	 */ 
   	visitTriangles(new TriangleCircumcentreVisitor(), true);
   	
-    List cells = new ArrayList();
-    Collection edges = getVertexUniqueEdges(false);
-    for (Iterator i = edges.iterator(); i.hasNext(); ) {
-    	QuadEdge qe = (QuadEdge) i.next();
-      cells.add(getVoronoiCellPolygon(qe, geomFact));
+    // visit a cell for the origin of each unique vertex, as in getVertexUniqueEdges
+    Set visitedVertices = new HashSet();
+    for (Iterator i = quadEdges.iterator(); i.hasNext();) {
+      QuadEdge qe = (QuadEdge) i.next();
+      visitVoronoiCell(qe, visitedVertices, geomFact, visitor);
+      visitVoronoiCell(qe.sym(), visitedVertices, geomFact, visitor);
     }
-    return cells;
+  }
+  
+  private void visitVoronoiCell(QuadEdge qe, Set visitedVertices, GeometryFactory geomFact, PolygonVisitor visitor)
+  {
+    Vertex v = qe.orig();
+    if (visitedVertices.contains(v)) return;
+    visitedVertices.add(v);
+    if (isFrameVertex(v)) return;
+    visitor.visit(getVoronoiCellPolygon(qe, geomFact));
   }
   
   /**
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.util;
+
+import java.util.Arrays;
+
+/**
+ * A minimum priority queue of pairs of <code>int</code> values,
+ * keyed by a <code>double</code> priority.
+ * The queue is stored in primitive arrays,
+ * so adding and removing entries does not allocate objects.
+ * This is intended for use in branch-and-bound searches
+ * over flat (array-based) spatial indexes,
+ * where the values are indexes of nodes or items.
+ * <p>
+ * The values of the entry at the head of the queue
+ * are accessed via {@link #peekValue1()} and {@link #peekValue2()}
+ * before removing it with {@link #poll()}.
+ *
+ * @author agent
+ *
+ */
+public class IntPairPriorityQueue {
+
+  private double[] priority;
+  private int[] value1;
+  private int[] value2;
+  private int size = 0;
+
+  /**
+   * Creates a new empty queue.
+   */
+  public IntPairPriorityQueue() {
+    this(16);
+  }
+
+  /**
+   * Creates a new empty queue with the given initial capacity.
+   *
+   * @param initialCapacity the initial capacity of the queue
+   */
+  public IntPairPriorityQueue(int initialCapacity) {
+    int cap = Math.max(1, initialCapacity);
+    priority = new double[cap];
+    value1 = new int[cap];
+    value2 = new int[cap];
+  }
+
+  /**
+   * Tests if the queue is empty.
+   *
+   * @return true if the queue is empty
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Gets the number of entries in the queue.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Removes all entries from the queue.
+   */
+  public void clear() {
+    size = 0;
+  }
+
+  /**
+   * Adds an entry to the queue.
+   * Duplicates are allowed.
+   *
+   * @param pri the priority of the entry
+   * @param v1 the first value of the entry
+   * @param v2 the second value of the entry
+   */
+  public void add(double pri, int v1, int v2) {
+    if (size == priority.length) {
+      int newCap = 2 * size;
+      priority = Arrays.copyOf(priority, newCap);
+      value1 = Arrays.copyOf(value1, newCap);
+      value2 = Arrays.copyOf(value2, newCap);
+    }
+    // sift the hole up from the end of the heap
+    int hole = size++;
+    while (hole > 0) {
+      int parent = (hole - 1) / 2;
+      if (priority[parent] <= pri) break;
+      move(parent, hole);
+      hole = parent;
+    }
+    set(hole, pri, v1, v2);
+  }
+
+  /**
+   * Gets the priority of the entry at the head of the queue.
+   *
+   * @return the minimum priority in the queue
+   * @throws IllegalStateException if the queue is empty
+   */
+  public double peekPriority() {
+    checkNotEmpty();
+    return priority[0];
+  }
+
+  /**
+   * Gets the first value of the entry at the head of the queue.
+   *
+   * @return the first value of the head entry
+   * @throws IllegalStateException if the queue is empty
+   */
+  public int peekValue1() {
+    checkNotEmpty();
+    return value1[0];
+  }
+
+  /**
+   * Gets the second value of the entry at the head of the queue.
+   *
+   * @return the second value of the head entry
+   * @throws IllegalStateException if the queue is empty
+   */
+  public int peekValue2() {
+    checkNotEmpty();
+    return value2[0];
+  }
+
+  /**
+   * Removes the entry at the head of the queue.
+   *
+   * @throws IllegalStateException if the queue is empty
+   */
+  public void poll() {
+    checkNotEmpty();
+    size--;
+    if (size == 0) return;
+
+    // sift the last entry down from the root
+    double pri = priority[size];
+    int v1 = value1[size];
+    int v2 = value2[size];
+    int hole = 0;
+    while (true) {
+      int child = 2 * hole + 1;
+      if (child >= size) break;
+      if (child + 1 < size && priority[child + 1] < priority[child])
+        child++;
+      if (priority[child] >= pri) break;
+      move(child, hole);
+      hole = child;
+    }
+    set(hole, pri, v1, v2);
+  }
+
+  private void move(int from, int to) {
+    priority[to] = priority[from];
+    value1[to] = value1[from];
+    value2[to] = value2[from];
+  }
+
+  private void set(int index, double pri, int v1, int v2) {
+    priority[index] = pri;
+    value1[index] = v1;
+    value2[index] = v2;
+  }
+
+  private void checkNotEmpty() {
+    if (size == 0)
+      throw new IllegalStateException("Queue is empty");
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sorts arrays in parallel using a supplied {@link ForkJoinPool}.
+ * The algorithm is a merge sort.
+ * Ranges smaller than a threshold are sorted serially
+ * using {@link Arrays#sort}, and sorted ranges are merged
+ * concurrently up to the full array.
+ * <p>
+ * The sort of objects is stable, so the result is identical to that of
+ * {@link Arrays#sort(Object[], Comparator)}.
+ * Unlike {@link Arrays#parallelSort(long[])}, the sort runs in the
+ * given pool, independent of the parallelism of the common pool.
+ * If the pool is <code>null</code> the array is sorted serially.
+ *
+ * @author agent
+ *
+ */
+public class ParallelSort {
+
+  /**
+   * The size of range below which arrays are sorted serially.
+   */
+  private static final int SERIAL_THRESHOLD = 8192;
+
+  /**
+   * Sorts an array of <code>long</code> values into ascending order.
+   *
+   * @param a the array to sort
+   * @param pool the pool to sort in, or null to sort serially
+   */
+  public static void sort(long[] a, ForkJoinPool pool) {
+    if (pool == null || a.length <= SERIAL_THRESHOLD) {
+      Arrays.sort(a);
+      return;
+    }
+    pool.invoke(new LongSortTask(a, new long[a.length], 0, a.length));
+  }
+
+  /**
+   * Sorts an array of objects into the order induced by a comparator.
+   * The sort is stable.
+   *
+   * @param a the array to sort
+   * @param comp the comparator determining the order
+   * @param pool the pool to sort in, or null to sort serially
+   */
+  public static <T> void sort(T[] a, Comparator<? super T> comp, ForkJoinPool pool) {
+    if (pool == null || a.length <= SERIAL_THRESHOLD) {
+      Arrays.sort(a, comp);
+      return;
+    }
+    Object[] buf = new Object[a.length];
+    pool.invoke(new ObjectSortTask<T>(a, buf, comp, 0, a.length));
+  }
+
+  private static class LongSortTask extends RecursiveAction {
+    private final long[] a;
+    private final long[] buf;
+    private final int start;
+    private final int end;
+
+    LongSortTask(long[] a, long[] buf, int start, int end) {
+      this.a = a;
+      this.buf = buf;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= SERIAL_THRESHOLD) {
+        Arrays.sort(a, start, end);
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new LongSortTask(a, buf, start, mid),
+          new LongSortTask(a, buf, mid, end));
+      // skip merge if halves are already in order
+      if (a[mid - 1] <= a[mid]) return;
+
+      int i = start;
+      int j = mid;
+      int k = start;
+      while (i < mid && j < end) {
+        buf[k++] = a[i] <= a[j] ? a[i++] : a[j++];
+      }
+      while (i < mid) buf[k++] = a[i++];
+      while (j < end) buf[k++] = a[j++];
+      System.arraycopy(buf, start, a, start, end - start);
+    }
+  }
+
+  private static class ObjectSortTask<T> extends RecursiveAction {
+    private final T[] a;
+    private final Object[] buf;
+    private final Comparator<? super T> comp;
+    private final int start;
+    private final int end;
+
+    ObjectSortTask(T[] a, Object[] buf, Comparator<? super T> comp, int start, int end) {
+      this.a = a;
+      this.buf = buf;
+      this.comp = comp;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= SERIAL_THRESHOLD) {
+        Arrays.sort(a, start, end, comp);
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new ObjectSortTask<T>(a, buf, comp, start, mid),
+          new ObjectSortTask<T>(a, buf, comp, mid, end));
+      // skip merge if halves are already in order
+      if (comp.compare(a[mid - 1], a[mid]) <= 0) return;
+
+      // take from the left half on ties, to keep the sort stable
+      int i = start;
+      int j = mid;
+      int k = start;
+      while (i < mid && j < end) {
+        buf[k++] = comp.compare(a[i], a[j]) <= 0 ? a[i++] : a[j++];
+      }
+      while (i < mid) buf[k++] = a[i++];
+      while (j < end) buf[k++] = a[j++];
+      System.arraycopy(buf, start, a, start, end - start);
+    }
+  }
+}
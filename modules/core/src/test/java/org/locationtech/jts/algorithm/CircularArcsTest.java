@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm;
+
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class CircularArcsTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(CircularArcsTest.class);
+  }
+
+  public CircularArcsTest(String name) {
+    super(name);
+  }
+
+  private static final double TOL = 1.0e-9;
+
+  public void testLengthHalfCircle() {
+    assertEquals(Math.PI * 10, CircularArcs.length(c(-10, 0), c(0, 10), c(10, 0)), TOL);
+    assertEquals(Math.PI * 10, CircularArcs.length(c(-10, 0), c(0, -10), c(10, 0)), TOL);
+  }
+
+  public void testLengthMajorArc() {
+    // three-quarters of a circle of radius 1
+    double len = CircularArcs.length(c(1, 0), c(-1, 0), c(0, -1));
+    assertEquals(1.5 * Math.PI, len, TOL);
+  }
+
+  public void testLengthFullCircle() {
+    assertEquals(2 * Math.PI * 5, CircularArcs.length(c(0, 0), c(10, 0), c(0, 0)), TOL);
+  }
+
+  public void testLengthLinear() {
+    assertEquals(10, CircularArcs.length(c(0, 0), c(5, 0), c(10, 0)), TOL);
+  }
+
+  public void testCenter() {
+    checkEqualXY(c(0, 0), CircularArcs.center(c(-10, 0), c(0, 10), c(10, 0)));
+    checkEqualXY(c(5, 0), CircularArcs.center(c(0, 0), c(10, 0), c(0, 0)));
+    assertNull(CircularArcs.center(c(0, 0), c(1, 1), c(2, 2)));
+  }
+
+  public void testEnvelopeBulge() {
+    Envelope env = new Envelope();
+    CircularArcs.expandEnvelope(c(-10, 0), c(0, 10), c(10, 0), env);
+    assertEquals(new Envelope(-10, 10, 0, 10), env);
+  }
+
+  public void testEnvelopeMajorArc() {
+    Envelope env = new Envelope();
+    CircularArcs.expandEnvelope(c(1, 0), c(-1, 0), c(0, -1), env);
+    assertEquals(new Envelope(-1, 1, -1, 1), env);
+  }
+
+  public void testEnvelopeMinorArc() {
+    // arc does not reach any axis extreme
+    Envelope env = new Envelope();
+    double s = Math.sqrt(0.5);
+    CircularArcs.expandEnvelope(c(1, 0.1), c(s, s), c(0.1, 1), env);
+    assertEquals(1, env.getMaxX(), 0.0);
+    assertEquals(1, env.getMaxY(), 0.0);
+    assertEquals(0.1, env.getMinX(), 0.0);
+    assertEquals(0.1, env.getMinY(), 0.0);
+  }
+
+  public void testPointToArc() {
+    Coordinate p0 = c(-10, 0), p1 = c(0, 10), p2 = c(10, 0);
+    assertEquals(5, CircularArcs.pointToArc(c(0, 15), p0, p1, p2), TOL);
+    assertEquals(5, CircularArcs.pointToArc(c(0, 5), p0, p1, p2), TOL);
+    assertEquals(10, CircularArcs.pointToArc(c(0, 0), p0, p1, p2), TOL);
+    // nearest point is an endpoint
+    assertEquals(5, CircularArcs.pointToArc(c(10, -5), p0, p1, p2), TOL);
+    checkEqualXY(c(0, 10), CircularArcs.closestPoint(c(0, 20), p0, p1, p2));
+  }
+
+  public void testArcSegmentIntersection() {
+    Coordinate p0 = c(-10, 0), p1 = c(0, 10), p2 = c(10, 0);
+    assertTrue(CircularArcs.intersects(p0, p1, p2, c(0, 0), c(0, 20)));
+    checkEqualXY(c(0, 10), CircularArcs.intersection(p0, p1, p2, c(0, 0), c(0, 20)));
+    // crosses circle only on the other side of the chord
+    assertTrue(! CircularArcs.intersects(p0, p1, p2, c(0, 0), c(0, -20)));
+    // inside the circle
+    assertTrue(! CircularArcs.intersects(p0, p1, p2, c(-1, 1), c(1, 1)));
+    // shared endpoint
+    assertTrue(CircularArcs.intersects(p0, p1, p2, c(10, 0), c(20, 0)));
+    // tangent
+    assertTrue(CircularArcs.intersects(p0, p1, p2, c(-5, 10), c(5, 10)));
+  }
+
+  public void testArcArcIntersection() {
+    Coordinate p0 = c(-10, 0), p1 = c(0, 10), p2 = c(10, 0);
+    assertTrue(CircularArcs.intersects(p0, p1, p2, c(0, 0), c(10, 10), c(20, 0)));
+    assertTrue(! CircularArcs.intersects(p0, p1, p2, c(-5, 0), c(0, -5), c(5, 0)));
+    // same circle, overlapping
+    assertTrue(CircularArcs.intersects(p0, p1, p2, c(0, 10), c(10, 0), c(0, -10)));
+    // same circle, disjoint
+    double s = 10 * Math.sqrt(0.5);
+    assertTrue(! CircularArcs.intersects(c(-s, s), p1, c(s, s), c(-s, -s), c(0, -10), c(s, -s)));
+  }
+
+  public void testArcToSegment() {
+    Coordinate p0 = c(-10, 0), p1 = c(0, 10), p2 = c(10, 0);
+    assertEquals(5, CircularArcs.arcToSegment(p0, p1, p2, c(-20, 15), c(20, 15)), TOL);
+    assertEquals(0, CircularArcs.arcToSegment(p0, p1, p2, c(0, 0), c(0, 20)), TOL);
+    // segment below the chord
+    assertEquals(5, CircularArcs.arcToSegment(p0, p1, p2, c(-20, -5), c(20, -5)), TOL);
+  }
+
+  public void testArcToArc() {
+    Coordinate p0 = c(-10, 0), p1 = c(0, 10), p2 = c(10, 0);
+    // concentric, larger
+    assertEquals(5, CircularArcs.arcToArc(p0, p1, p2, c(-15, 0), c(0, 15), c(15, 0)), TOL);
+    // separated along the centre line
+    assertEquals(10, CircularArcs.arcToArc(p0, p1, p2, c(-10, 30), c(0, 20), c(10, 30)), TOL);
+  }
+
+  public void testRandomDistanceAgainstDensified() {
+    Random rnd = new Random(1234);
+    for (int n = 0; n < 200; n++) {
+      Coordinate p0 = rc(rnd), p1 = rc(rnd), p2 = rc(rnd);
+      if (CircularArcs.isLinear(p0, p1, p2)) continue;
+      Coordinate q0 = rc(rnd), q1 = rc(rnd), q2 = rc(rnd);
+      Coordinate[] arc = densify(p0, p1, p2, 2000);
+
+      double expectedPt = Double.MAX_VALUE;
+      double expectedSeg = Double.MAX_VALUE;
+      for (int i = 0; i < arc.length - 1; i++) {
+        expectedPt = Math.min(expectedPt, Distance.pointToSegment(q0, arc[i], arc[i + 1]));
+        expectedSeg = Math.min(expectedSeg, Distance.segmentToSegment(arc[i], arc[i + 1], q0, q1));
+      }
+      double tol = 1.0e-3 * Math.max(1, c(0, 0).distance(CircularArcs.center(p0, p1, p2)));
+      assertEquals(expectedPt, CircularArcs.pointToArc(q0, p0, p1, p2), tol);
+      assertEquals(expectedSeg, CircularArcs.arcToSegment(p0, p1, p2, q0, q1), tol);
+
+      if (CircularArcs.isLinear(q0, q1, q2)) continue;
+      Coordinate[] arc2 = densify(q0, q1, q2, 2000);
+      double expectedArc = Double.MAX_VALUE;
+      for (int i = 0; i < arc2.length - 1; i++) {
+        expectedArc = Math.min(expectedArc, CircularArcs.arcToSegment(p0, p1, p2, arc2[i], arc2[i + 1]));
+      }
+      assertEquals(expectedArc, CircularArcs.arcToArc(p0, p1, p2, q0, q1, q2), tol);
+
+      Envelope env = new Envelope();
+      CircularArcs.expandEnvelope(p0, p1, p2, env);
+      Envelope expectedEnv = new Envelope();
+      for (Coordinate p : arc) expectedEnv.expandToInclude(p);
+      assertEquals(expectedEnv.getMinX(), env.getMinX(), tol);
+      assertEquals(expectedEnv.getMaxX(), env.getMaxX(), tol);
+      assertEquals(expectedEnv.getMinY(), env.getMinY(), tol);
+      assertEquals(expectedEnv.getMaxY(), env.getMaxY(), tol);
+    }
+  }
+
+  private static Coordinate[] densify(Coordinate p0, Coordinate p1, Coordinate p2, int n) {
+    Coordinate c = CircularArcs.center(p0, p1, p2);
+    double r = c.distance(p0);
+    double a0 = Angle.angle(c, p0);
+    double a2 = Angle.angle(c, p2);
+    boolean isCCW = Orientation.index(p0, p1, p2) == Orientation.COUNTERCLOCKWISE;
+    double sweep = isCCW ? Angle.normalizePositive(a2 - a0) : -Angle.normalizePositive(a0 - a2);
+    Coordinate[] pts = new Coordinate[n + 1];
+    for (int i = 0; i <= n; i++) {
+      double a = a0 + sweep * i / n;
+      pts[i] = c(c.x + r * Math.cos(a), c.y + r * Math.sin(a));
+    }
+    return pts;
+  }
+
+  private static Coordinate rc(Random rnd) {
+    return c(100 * rnd.nextDouble(), 100 * rnd.nextDouble());
+  }
+
+  private static Coordinate c(double x, double y) {
+    return new Coordinate(x, y);
+  }
+
+  private static void checkEqualXY(Coordinate expected, Coordinate actual) {
+    assertEquals(expected.x, actual.x, TOL);
+    assertEquals(expected.y, actual.y, TOL);
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm.locate;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class BatchPointInAreaLocatorTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(BatchPointInAreaLocatorTest.class);
+  }
+
+  public BatchPointInAreaLocatorTest(String name) {
+    super(name);
+  }
+
+  private static final String POLY = "POLYGON ((10 10, 10 90, 50 50, 90 90, 90 10, 10 10), (20 20, 20 30, 30 30, 30 20, 20 20))";
+
+  public void testLocate() {
+    BatchPointInAreaLocator locator = new BatchPointInAreaLocator(read(POLY));
+    assertEquals(Location.INTERIOR, locator.locate(new Coordinate(50, 20)));
+    assertEquals(Location.EXTERIOR, locator.locate(new Coordinate(25, 25)));
+    assertEquals(Location.BOUNDARY, locator.locate(new Coordinate(20, 25)));
+    assertEquals(Location.BOUNDARY, locator.locate(new Coordinate(50, 50)));
+    assertEquals(Location.EXTERIOR, locator.locate(new Coordinate(50, 70)));
+  }
+
+  public void testGridPoints() {
+    // grid points hit vertices and horizontal and vertical segments
+    checkBatch(POLY, gridOrdinates(0, 100, 101, true), gridOrdinates(0, 100, 101, false));
+  }
+
+  public void testRandomPointsLargePolygon() {
+    Geometry poly = read("POINT (0 0)").buffer(100, 2000);
+    double[][] pts = randomOrdinates(poly.getEnvelopeInternal(), 20000);
+    checkBatch(poly, pts[0], pts[1]);
+  }
+
+  public void testMultiPolygon() {
+    double[][] pts = randomOrdinates(new Envelope(0, 100, 0, 100), 5000);
+    checkBatch("MULTIPOLYGON (((0 0, 0 40, 40 40, 40 0, 0 0)), ((50 50, 50 100, 100 100, 100 50, 50 50), (60 60, 60 70, 70 70, 70 60, 60 60)))",
+        pts[0], pts[1]);
+  }
+
+  public void testEmpty() {
+    BatchPointInAreaLocator locator = new BatchPointInAreaLocator(read("POLYGON EMPTY"));
+    int[] locs = new int[2];
+    locator.locate(new double[] { 0, 1 }, new double[] { 0, 1 }, locs);
+    assertEquals(Location.EXTERIOR, locs[0]);
+    assertEquals(Location.EXTERIOR, locs[1]);
+  }
+
+  public void testCoordinateSequence() {
+    BatchPointInAreaLocator locator = new BatchPointInAreaLocator(read(POLY));
+    CoordinateSequence seq = PackedCoordinateSequenceFactory.DOUBLE_FACTORY.create(
+        new Coordinate[] { new Coordinate(50, 20), new Coordinate(25, 25), new Coordinate(10, 50) });
+    int[] locs = new int[3];
+    locator.locate(seq, locs);
+    assertEquals(Location.INTERIOR, locs[0]);
+    assertEquals(Location.EXTERIOR, locs[1]);
+    assertEquals(Location.BOUNDARY, locs[2]);
+  }
+
+  public void testInvalidGeometry() {
+    try {
+      new BatchPointInAreaLocator(read("LINESTRING (0 0, 1 1)"));
+      fail();
+    }
+    catch (IllegalArgumentException ex) {
+      // expected
+    }
+  }
+
+  private void checkBatch(String wkt, double[] xs, double[] ys) {
+    checkBatch(read(wkt), xs, ys);
+  }
+
+  private void checkBatch(Geometry geom, double[] xs, double[] ys) {
+    IndexedPointInAreaLocator expectedLocator = new IndexedPointInAreaLocator(geom);
+    int[] expected = new int[xs.length];
+    for (int i = 0; i < xs.length; i++) {
+      expected[i] = expectedLocator.locate(new Coordinate(xs[i], ys[i]));
+    }
+
+    BatchPointInAreaLocator locator = new BatchPointInAreaLocator(geom);
+    checkLocations(expected, locator, xs, ys);
+    locator.setSortPoints(true);
+    checkLocations(expected, locator, xs, ys);
+    locator.setForkJoinPool(ForkJoinPool.commonPool());
+    locator.setChunkSize(100);
+    checkLocations(expected, locator, xs, ys);
+    locator.setSortPoints(false);
+    checkLocations(expected, locator, xs, ys);
+  }
+
+  private void checkLocations(int[] expected, BatchPointInAreaLocator locator, double[] xs, double[] ys) {
+    int[] locs = new int[xs.length];
+    locator.locate(xs, ys, locs);
+    for (int i = 0; i < xs.length; i++) {
+      assertEquals("point " + i, expected[i], locs[i]);
+    }
+  }
+
+  private static double[] gridOrdinates(double min, double max, int side, boolean isX) {
+    double[] ords = new double[side * side];
+    double step = (max - min) / (side - 1);
+    for (int i = 0; i < side; i++) {
+      for (int j = 0; j < side; j++) {
+        ords[i * side + j] = min + (isX ? i : j) * step;
+      }
+    }
+    return ords;
+  }
+
+  private static double[][] randomOrdinates(Envelope env, int n) {
+    Random rnd = new Random(1234);
+    double[][] pts = new double[2][n];
+    for (int i = 0; i < n; i++) {
+      pts[0][i] = env.getMinX() + rnd.nextDouble() * env.getWidth();
+      pts[1][i] = env.getMinY() + rnd.nextDouble() * env.getHeight();
+    }
+    return pts;
+  }
+}
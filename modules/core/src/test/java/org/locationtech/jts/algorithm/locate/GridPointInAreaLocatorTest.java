@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm.locate;
+
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.geom.prep.PreparedPolygon;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class GridPointInAreaLocatorTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(GridPointInAreaLocatorTest.class);
+  }
+
+  public GridPointInAreaLocatorTest(String name) {
+    super(name);
+  }
+
+  private static final String POLY = "POLYGON ((10 10, 10 90, 50 50, 90 90, 90 10, 10 10), (20 20, 20 30, 30 30, 30 20, 20 20))";
+
+  public void testLocate() {
+    GridPointInAreaLocator locator = new GridPointInAreaLocator(read(POLY));
+    assertEquals(Location.INTERIOR, locator.locate(new Coordinate(50, 20)));
+    assertEquals(Location.EXTERIOR, locator.locate(new Coordinate(25, 25)));
+    assertEquals(Location.BOUNDARY, locator.locate(new Coordinate(20, 25)));
+    assertEquals(Location.BOUNDARY, locator.locate(new Coordinate(50, 50)));
+    assertEquals(Location.EXTERIOR, locator.locate(new Coordinate(50, 70)));
+    assertEquals(Location.EXTERIOR, locator.locate(new Coordinate(200, 70)));
+  }
+
+  public void testGridPoints() {
+    // grid points hit vertices, horizontal and vertical segments, and cell edges
+    for (int maxCells = 1; maxCells <= 10000; maxCells *= 10) {
+      checkGrid(POLY, maxCells, 0, 100, 101);
+    }
+    checkGrid(POLY, 0, 0, 100, 101);
+  }
+
+  public void testVertices() {
+    Geometry geom = read("POINT (0 0)").buffer(100, 50);
+    GridPointInAreaLocator locator = new GridPointInAreaLocator(geom);
+    for (Coordinate p : geom.getCoordinates()) {
+      assertEquals(Location.BOUNDARY, locator.locate(p));
+    }
+  }
+
+  public void testRandomPoints() {
+    checkRandom(read("POINT (0 0)").buffer(100, 500), 0, 20000);
+    checkRandom(read("POINT (0 0)").buffer(100, 500), 100, 20000);
+    checkRandom(read("MULTIPOLYGON (((0 0, 0 40, 40 40, 40 0, 0 0)), ((50 50, 50 100, 100 100, 100 50, 50 50), (60 60, 60 70, 70 70, 70 60, 60 60)))"),
+        0, 20000);
+  }
+
+  public void testThinPolygon() {
+    checkRandom(read("POLYGON ((0 0, 1000 1, 1000 2, 0 1, 0 0))"), 0, 20000);
+    checkGrid("POLYGON ((0 0, 100 0, 100 1, 0 1, 0 0))", 64, 0, 100, 101);
+  }
+
+  public void testZeroArea() {
+    checkGrid("POLYGON ((0 0, 10 10, 20 20, 0 0))", 0, 0, 20, 21);
+    checkGrid("POLYGON ((0 0, 10 0, 20 0, 0 0))", 0, 0, 20, 21);
+  }
+
+  public void testEmpty() {
+    GridPointInAreaLocator locator = new GridPointInAreaLocator(read("POLYGON EMPTY"));
+    assertEquals(Location.EXTERIOR, locator.locate(new Coordinate(0, 0)));
+  }
+
+  public void testPreparedPolygon() {
+    Geometry geom = read(POLY);
+    PreparedPolygon prep = new PreparedPolygon((Polygonal) geom, new GridPointInAreaLocator(geom));
+    assertTrue(prep.contains(read("POINT (50 20)")));
+    assertTrue(! prep.intersects(read("POINT (25 25)")));
+    assertTrue(prep.intersects(read("POINT (20 25)")));
+    assertTrue(prep.covers(read("LINESTRING (40 15, 60 15)")));
+  }
+
+  public void testInvalidGeometry() {
+    try {
+      new GridPointInAreaLocator(read("LINESTRING (0 0, 1 1)"));
+      fail();
+    }
+    catch (IllegalArgumentException ex) {
+      // expected
+    }
+  }
+
+  private void checkGrid(String wkt, int maxCells, double min, double max, int side) {
+    Geometry geom = read(wkt);
+    IndexedPointInAreaLocator expected = new IndexedPointInAreaLocator(geom);
+    GridPointInAreaLocator locator = new GridPointInAreaLocator(geom, maxCells);
+    double step = (max - min) / (side - 1);
+    for (int i = 0; i < side; i++) {
+      for (int j = 0; j < side; j++) {
+        Coordinate p = new Coordinate(min + i * step, min + j * step);
+        assertEquals(p.toString(), expected.locate(p), locator.locate(p));
+      }
+    }
+  }
+
+  private void checkRandom(Geometry geom, int maxCells, int n) {
+    IndexedPointInAreaLocator expected = new IndexedPointInAreaLocator(geom);
+    GridPointInAreaLocator locator = new GridPointInAreaLocator(geom, maxCells);
+    Envelope env = geom.getEnvelopeInternal();
+    Random rnd = new Random(1234);
+    for (int i = 0; i < n; i++) {
+      Coordinate p = new Coordinate(env.getMinX() + rnd.nextDouble() * env.getWidth(),
+          env.getMinY() + rnd.nextDouble() * env.getHeight());
+      assertEquals(p.toString(), expected.locate(p), locator.locate(p));
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom;
+
+import org.locationtech.jts.index.strtree.STRtree;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class CircularStringTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(CircularStringTest.class);
+  }
+
+  public CircularStringTest(String name) {
+    super(name);
+  }
+
+  private static final double TOL = 1.0e-9;
+
+  private GeometryFactory factory = new GeometryFactory();
+
+  public void testLength() {
+    CircularString arc = arc(-10, 0, 0, 10, 10, 0, 0, -10, -10, 0);
+    assertEquals(2 * Math.PI * 10, arc.getLength(), TOL);
+  }
+
+  public void testEnvelope() {
+    CircularString arc = arc(-10, 0, 0, 10, 10, 0);
+    assertEquals(new Envelope(-10, 10, 0, 10), arc.getEnvelopeInternal());
+    assertTrue(factory.createCircularString().getEnvelopeInternal().isNull());
+  }
+
+  public void testMultiCircularString() {
+    MultiCircularString multi = factory.createMultiCircularString(new CircularString[] {
+        arc(-10, 0, 0, 10, 10, 0), arc(20, 0, 30, -10, 40, 0) });
+    assertEquals(20 * Math.PI, multi.getLength(), TOL);
+    assertEquals(new Envelope(-10, 40, -10, 10), multi.getEnvelopeInternal());
+  }
+
+  public void testDistancePoint() {
+    CircularString arc = arc(-10, 0, 0, 10, 10, 0);
+    assertEquals(5, arc.distance(read("POINT (0 15)")), TOL);
+    assertEquals(5, read("POINT (0 5)").distance(arc), TOL);
+    assertTrue(arc.isWithinDistance(read("POINT (0 15)"), 5.1));
+    assertTrue(! arc.isWithinDistance(read("POINT (0 15)"), 4.9));
+  }
+
+  public void testDistanceLine() {
+    CircularString arc = arc(-10, 0, 0, 10, 10, 0);
+    assertEquals(5, arc.distance(read("LINESTRING (-20 15, 20 15)")), TOL);
+    assertEquals(0, arc.distance(read("LINESTRING (0 0, 0 20)")), TOL);
+  }
+
+  public void testDistancePolygon() {
+    CircularString arc = arc(-10, 0, 0, 10, 10, 0);
+    assertEquals(5, arc.distance(read("POLYGON ((-20 15, 20 15, 20 30, -20 30, -20 15))")), TOL);
+    // arc inside polygon
+    assertEquals(0, arc.distance(read("POLYGON ((-20 -5, 20 -5, 20 30, -20 30, -20 -5))")), TOL);
+  }
+
+  public void testDistanceArc() {
+    CircularString arc = arc(-10, 0, 0, 10, 10, 0);
+    CircularString arc2 = arc(-15, 0, 0, 15, 15, 0);
+    assertEquals(5, arc.distance(arc2), TOL);
+    assertEquals(5, arc2.distance(arc), TOL);
+  }
+
+  public void testIndex() {
+    STRtree tree = new STRtree();
+    CircularString arc = arc(-10, 0, 0, 10, 10, 0);
+    tree.insert(arc.getEnvelopeInternal(), arc);
+    // query only touches the bulge of the arc, not its vertices
+    assertEquals(1, tree.query(new Envelope(-1, 1, 9, 11)).size());
+  }
+
+  private CircularString arc(double... ords) {
+    Coordinate[] pts = new Coordinate[ords.length / 2];
+    for (int i = 0; i < pts.length; i++) {
+      pts[i] = new Coordinate(ords[2 * i], ords[2 * i + 1]);
+    }
+    return factory.createCircularString(pts);
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.prep;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Geometry;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class PreparedGeometryBatchTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(PreparedGeometryBatchTest.class);
+  }
+
+  public PreparedGeometryBatchTest(String name) {
+    super(name);
+  }
+
+  private static final String POLY = "POLYGON ((10 10, 10 90, 50 50, 90 90, 90 10, 10 10), (20 20, 20 30, 30 30, 30 20, 20 20))";
+
+  public void testPointsInPolygon() {
+    checkAllPredicates(POLY, createGridPoints(50, 2));
+  }
+
+  public void testPolygonsInPolygon() {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (Geometry pt : createGridPoints(20, 5)) {
+      geoms.add(pt.buffer(3));
+    }
+    checkAllPredicates(POLY, geoms);
+  }
+
+  public void testLinesAgainstLine() {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (Geometry pt : createGridPoints(20, 5)) {
+      geoms.add(pt.buffer(3).getBoundary());
+    }
+    checkAllPredicates("LINESTRING (0 0, 50 60, 100 0)", geoms);
+  }
+
+  public void testEmpty() {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    geoms.add(read("POINT EMPTY"));
+    geoms.add(read("POINT (50 20)"));
+    checkAllPredicates(POLY, geoms);
+    checkAllPredicates("POLYGON EMPTY", geoms);
+  }
+
+  public void testStaticIntersects() {
+    PreparedGeometry prep = PreparedGeometryFactory.prepare(read(POLY));
+    Geometry[] geoms = new Geometry[] {
+        read("POINT (0 0)"), read("POINT (50 20)"), read("POINT (25 25)") };
+    BitSet result = PreparedGeometryBatch.intersects(prep, geoms);
+    assertEquals(1, result.cardinality());
+    assertTrue(result.get(1));
+  }
+
+  public void testInvalidPredicate() {
+    PreparedGeometry prep = PreparedGeometryFactory.prepare(read(POLY));
+    try {
+      new PreparedGeometryBatch(prep, 0);
+      fail();
+    }
+    catch (IllegalArgumentException ex) {
+      // expected
+    }
+  }
+
+  private List<Geometry> createGridPoints(int side, double spacing) {
+    List<Geometry> pts = new ArrayList<Geometry>();
+    for (int i = 0; i < side; i++) {
+      for (int j = 0; j < side; j++) {
+        pts.add(read("POINT (" + (i * spacing) + " " + (j * spacing) + ")"));
+      }
+    }
+    return pts;
+  }
+
+  private void checkAllPredicates(String wkt, List<Geometry> geoms) {
+    PreparedGeometry prep = PreparedGeometryFactory.prepare(read(wkt));
+    for (int pred = PreparedGeometryBatch.CONTAINS; pred <= PreparedGeometryBatch.WITHIN; pred++) {
+      BitSet expected = evaluate(prep, pred, geoms);
+
+      PreparedGeometryBatch batch = new PreparedGeometryBatch(prep, pred);
+      assertEquals(expected, batch.evaluate(geoms));
+
+      batch.setForkJoinPool(ForkJoinPool.commonPool());
+      batch.setChunkSize(100);
+      assertEquals(expected, batch.evaluate(geoms.toArray(new Geometry[0])));
+    }
+  }
+
+  private static BitSet evaluate(PreparedGeometry prep, int predicate, List<Geometry> geoms) {
+    BitSet result = new BitSet();
+    for (int i = 0; i < geoms.size(); i++) {
+      Geometry g = geoms.get(i);
+      boolean value = false;
+      switch (predicate) {
+      case PreparedGeometryBatch.CONTAINS: value = prep.contains(g); break;
+      case PreparedGeometryBatch.CONTAINS_PROPERLY: value = prep.containsProperly(g); break;
+      case PreparedGeometryBatch.COVERED_BY: value = prep.coveredBy(g); break;
+      case PreparedGeometryBatch.COVERS: value = prep.covers(g); break;
+      case PreparedGeometryBatch.CROSSES: value = prep.crosses(g); break;
+      case PreparedGeometryBatch.DISJOINT: value = prep.disjoint(g); break;
+      case PreparedGeometryBatch.INTERSECTS: value = prep.intersects(g); break;
+      case PreparedGeometryBatch.OVERLAPS: value = prep.overlaps(g); break;
+      case PreparedGeometryBatch.TOUCHES: value = prep.touches(g); break;
+      case PreparedGeometryBatch.WITHIN: value = prep.within(g); break;
+      }
+      if (value) result.set(i);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.prep;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Geometry;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class PreparedGeometryCacheTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(PreparedGeometryCacheTest.class);
+  }
+
+  public PreparedGeometryCacheTest(String name) {
+    super(name);
+  }
+
+  private static final String POLY = "POLYGON ((10 10, 10 90, 50 50, 90 90, 90 10, 10 10))";
+
+  public void testIdentityKey() {
+    PreparedGeometryCache cache = new PreparedGeometryCache(Long.MAX_VALUE);
+    Geometry geom = read(POLY);
+    PreparedGeometry prep = cache.get(geom);
+    assertTrue(prep.getGeometry() == geom);
+    assertTrue(prep == cache.get(geom));
+    // an equal but distinct geometry is a different key
+    assertTrue(prep != cache.get(read(POLY)));
+    assertEquals(1, cache.getHitCount());
+    assertEquals(2, cache.getMissCount());
+    assertEquals(2, cache.size());
+  }
+
+  public void testUserKey() {
+    PreparedGeometryCache cache = new PreparedGeometryCache(Long.MAX_VALUE);
+    PreparedGeometry prep = cache.get("a", read(POLY));
+    assertTrue(prep == cache.get("a", read("POINT (1 1)")));
+    assertTrue(cache.remove("a"));
+    assertTrue(! cache.remove("a"));
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getMemorySize());
+  }
+
+  public void testRemoveGeometry() {
+    PreparedGeometryCache cache = new PreparedGeometryCache(Long.MAX_VALUE);
+    Geometry geom = read(POLY);
+    cache.get(geom);
+    cache.get(read(POLY));
+    long memSize = cache.getMemorySize();
+    assertTrue(cache.remove(geom));
+    assertTrue(! cache.remove(geom));
+    assertEquals(1, cache.size());
+    assertTrue(cache.getMemorySize() < memSize);
+  }
+
+  public void testMemorySizeIncludesIndexes() {
+    PreparedGeometryCache cache = new PreparedGeometryCache(Long.MAX_VALUE);
+    Geometry geom = read(POLY);
+    PreparedGeometry prep = cache.get(geom);
+    long initSize = cache.getMemorySize();
+    assertTrue(initSize > 0);
+    prep.contains(read("POINT (20 20)"));
+    prep.intersects(read("LINESTRING (0 0, 100 100)"));
+    cache.get(geom);
+    assertTrue(cache.getMemorySize() > initSize);
+  }
+
+  public void testEvictByEntries() {
+    PreparedGeometryCache cache = new PreparedGeometryCache(2, Long.MAX_VALUE);
+    Geometry a = read(POLY);
+    Geometry b = read(POLY);
+    Geometry c = read(POLY);
+    cache.get(a);
+    cache.get(b);
+    cache.get(a);
+    // b is least recently used
+    cache.get(c);
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.getEvictionCount());
+    cache.get(a);
+    assertEquals(2, cache.getHitCount());
+    cache.get(b);
+    assertEquals(4, cache.getMissCount());
+  }
+
+  public void testEvictByMemorySize() {
+    Geometry geom = read(POLY);
+    long entrySize = new PreparedGeometryCache(Long.MAX_VALUE).get(geom).getGeometry().getNumPoints()
+        * BasicPreparedGeometry.COORDINATE_BYTES;
+    PreparedGeometryCache cache = new PreparedGeometryCache(3 * entrySize);
+    for (int i = 0; i < 10; i++) {
+      cache.get(read(POLY));
+    }
+    assertEquals(3, cache.size());
+    assertEquals(7, cache.getEvictionCount());
+    assertEquals(3 * entrySize, cache.getMemorySize());
+  }
+
+  public void testOversizeEntryRetained() {
+    PreparedGeometryCache cache = new PreparedGeometryCache(1);
+    Geometry geom = read(POLY);
+    PreparedGeometry prep = cache.get(geom);
+    assertEquals(1, cache.size());
+    assertTrue(prep == cache.get(geom));
+  }
+
+  public void testConcurrentAccess() throws InterruptedException {
+    final List<Geometry> geoms = new ArrayList<Geometry>();
+    for (int i = 0; i < 20; i++) {
+      geoms.add(read(POLY));
+    }
+    final PreparedGeometryCache cache = new PreparedGeometryCache(10, Long.MAX_VALUE);
+    final Geometry pt = read("POINT (20 20)");
+    ForkJoinPool pool = new ForkJoinPool(4);
+    for (int t = 0; t < 8; t++) {
+      pool.execute(new Runnable() {
+        public void run() {
+          for (int i = 0; i < 1000; i++) {
+            assertTrue(cache.get(geoms.get(i % geoms.size())).contains(pt));
+          }
+        }
+      });
+    }
+    pool.shutdown();
+    assertTrue(pool.awaitTermination(60, TimeUnit.SECONDS));
+    assertEquals(8000, cache.getHitCount() + cache.getMissCount());
+    assertTrue(cache.size() <= 10);
+  }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.util;
+
+import java.awt.Shape;
+import java.awt.geom.Rectangle2D;
+
+import org.locationtech.jts.algorithm.CircularArcs;
+import org.locationtech.jts.awt.ShapeWriter;
+import org.locationtech.jts.geom.CircularString;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiCircularString;
+import org.locationtech.jts.geom.MultiLineString;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class CurveLinearizerTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(CurveLinearizerTest.class);
+  }
+
+  public CurveLinearizerTest(String name) {
+    super(name);
+  }
+
+  private GeometryFactory factory = new GeometryFactory();
+
+  public void testTolerance() {
+    checkTolerance(arc(-10, 0, 0, 10, 10, 0), 0.01);
+    checkTolerance(arc(-10, 0, 0, 10, 10, 0), 1);
+    checkTolerance(arc(0, 0, 10, 10, 20, 0, 30, -30, 40, 0), 0.001);
+    // full circle
+    checkTolerance(arc(0, 0, 10, 0, 0, 0), 0.1);
+  }
+
+  public void testSegmentCount() {
+    LineString line = CurveLinearizer.linearize(arc(-10, 0, 0, 10, 10, 0), 0.01);
+    // chord angle for sagitta 0.01 at radius 10 is about 0.0895
+    int expectedSeg = (int) Math.ceil(Math.PI / (2 * Math.acos(1 - 0.01 / 10)));
+    assertEquals(expectedSeg + 1, line.getNumPoints());
+  }
+
+  public void testLargeTolerance() {
+    // at least one segment per quadrant
+    LineString line = CurveLinearizer.linearize(arc(0, 0, 10, 0, 0, 0), 100);
+    assertEquals(5, line.getNumPoints());
+    assertTrue(line.isClosed());
+  }
+
+  public void testLinearArc() {
+    LineString line = CurveLinearizer.linearize(arc(0, 0, 5, 0, 10, 0), 0.1);
+    checkEqual(read("LINESTRING (0 0, 5 0, 10 0)"), line);
+  }
+
+  public void testVerticesPreserved() {
+    CircularString arc = arc(0, 0, 10, 10, 20, 0, 30, -30, 40, 0);
+    LineString line = CurveLinearizer.linearize(arc, 0.1);
+    assertTrue(line.getCoordinateN(0).equals2D(arc.getCoordinateN(0)));
+    assertTrue(line.getCoordinateN(line.getNumPoints() - 1).equals2D(arc.getCoordinateN(4)));
+    boolean hasMid = false;
+    for (Coordinate p : line.getCoordinates()) {
+      if (p.equals2D(arc.getCoordinateN(2))) hasMid = true;
+    }
+    assertTrue(hasMid);
+  }
+
+  public void testNoCurves() {
+    Geometry geom = read("GEOMETRYCOLLECTION (POINT (1 1), LINESTRING (0 0, 1 1))");
+    assertTrue(geom == CurveLinearizer.linearize(geom));
+    assertTrue(geom == CurveLinearizer.linearize(geom, 1));
+  }
+
+  public void testCollections() {
+    MultiCircularString multi = factory.createMultiCircularString(new CircularString[] {
+        arc(-10, 0, 0, 10, 10, 0), arc(20, 0, 30, -10, 40, 0) });
+    Geometry lin = CurveLinearizer.linearize(multi, 0.1);
+    assertTrue(lin instanceof MultiLineString);
+    assertEquals(2, lin.getNumGeometries());
+
+    Geometry gc = factory.createGeometryCollection(new Geometry[] {
+        read("POINT (1 1)"), multi });
+    Geometry gcLin = CurveLinearizer.linearize(gc, 0.1);
+    assertTrue(! CurveLinearizer.hasCurves(gcLin));
+    assertTrue(CurveLinearizer.hasCurves(gc));
+    assertTrue(gcLin.getGeometryN(0) == gc.getGeometryN(0));
+  }
+
+  public void testCache() {
+    CurveLinearizer.clearCache();
+    CircularString arc = arc(-10, 0, 0, 10, 10, 0);
+    LineString line = CurveLinearizer.linearize(arc, 0.1);
+    assertEquals(1, CurveLinearizer.getCachedToleranceCount(arc));
+    checkEqual(line, CurveLinearizer.linearize(arc, 0.1));
+    assertEquals(1, CurveLinearizer.getCachedToleranceCount(arc));
+    CurveLinearizer.linearize(arc, 0.2);
+    assertEquals(2, CurveLinearizer.getCachedToleranceCount(arc));
+    // a distinct but equal geometry has its own entry
+    CurveLinearizer.linearize(arc(-10, 0, 0, 10, 10, 0), 0.1);
+    assertEquals(2, CurveLinearizer.getCacheSize());
+    CurveLinearizer.clearCache();
+    assertEquals(0, CurveLinearizer.getCacheSize());
+  }
+
+  public void testCacheReturnsCopy() {
+    CurveLinearizer.clearCache();
+    CircularString arc = arc(-10, 0, 0, 10, 10, 0);
+    LineString line = CurveLinearizer.linearize(arc, 0.1);
+    LineString line2 = CurveLinearizer.linearize(arc, 0.1);
+    assertTrue(line != line2);
+    line.getCoordinateSequence().setOrdinate(0, 0, 100);
+    line.setUserData("modified");
+    LineString line3 = CurveLinearizer.linearize(arc, 0.1);
+    assertEquals(-10.0, line3.getCoordinateN(0).x);
+    assertNull(line3.getUserData());
+  }
+
+  public void testCacheToleranceLimit() {
+    CurveLinearizer.clearCache();
+    CircularString arc = arc(-10, 0, 0, 10, 10, 0);
+    for (int i = 1; i <= 20; i++) {
+      CurveLinearizer.linearize(arc, 0.01 * i);
+    }
+    assertEquals(CurveLinearizer.MAX_CACHED_TOLERANCES, CurveLinearizer.getCachedToleranceCount(arc));
+  }
+
+  public void testDefaultToleranceOfArc() {
+    CurveLinearizer.clearCache();
+    CircularString arc = arc(-10, 0, 0, 10, 10, 0);
+    LineString line = CurveLinearizer.linearize(arc, CurveLinearizer.defaultTolerance(arc));
+    // the default tolerance does not depend on the enclosing geometry
+    Geometry gc = factory.createGeometryCollection(new Geometry[] {
+        read("POINT (1000 1000)"), arc });
+    checkEqual(line, CurveLinearizer.linearize(gc).getGeometryN(1));
+    checkEqual(line, CurveLinearizer.linearize(arc));
+    assertEquals(1, CurveLinearizer.getCachedToleranceCount(arc));
+    assertEquals(1, CurveLinearizer.getCacheSize());
+  }
+
+  public void testTypedCollectionHasNoCurves() {
+    assertTrue(! CurveLinearizer.hasCurves(read("MULTIPOLYGON (((0 0, 1 0, 1 1, 0 0)))")));
+    assertTrue(! CurveLinearizer.hasCurves(read("MULTILINESTRING ((0 0, 1 1))")));
+  }
+
+  public void testInvalidTolerance() {
+    try {
+      CurveLinearizer.linearize(arc(-10, 0, 0, 10, 10, 0), 0.0);
+      fail();
+    }
+    catch (IllegalArgumentException ex) {
+      // expected
+    }
+  }
+
+  public void testBuffer() {
+    CircularString arc = arc(-10, 0, 0, 10, 10, 0);
+    Geometry buf = arc.buffer(1);
+    assertEquals(2 * 10 * Math.PI + Math.PI, buf.getArea(), 0.1);
+  }
+
+  public void testOverlay() {
+    CircularString arc = arc(-10, 0, 0, 10, 10, 0);
+    Geometry result = arc.intersection(read("POLYGON ((-20 5, 20 5, 20 20, -20 20, -20 5))"));
+    assertTrue(result instanceof LineString);
+    double expectedLen = 10 * (Math.PI - 2 * Math.asin(0.5));
+    assertEquals(expectedLen, result.getLength(), 0.01);
+  }
+
+  public void testUnaryUnion() {
+    CircularString arc = arc(-10, 0, 0, 10, 10, 0);
+    Geometry result = arc.union();
+    assertTrue(! CurveLinearizer.hasCurves(result));
+    assertEquals(10 * Math.PI, result.getLength(), 0.01);
+
+    MultiCircularString multi = factory.createMultiCircularString(new CircularString[] {
+        arc, arc(10, 0, 20, -10, 30, 0) });
+    assertEquals(20 * Math.PI, multi.union().getLength(), 0.01);
+  }
+
+  public void testShapeWriter() {
+    ShapeWriter writer = new ShapeWriter();
+    Shape shape = writer.toShape(arc(-10, 0, 0, 10, 10, 0));
+    Rectangle2D bounds = shape.getBounds2D();
+    assertEquals(-10, bounds.getMinX(), 1e-6);
+    assertEquals(10, bounds.getMaxX(), 1e-6);
+    assertEquals(0, bounds.getMinY(), 1e-6);
+    assertEquals(10, bounds.getMaxY(), 1e-2);
+  }
+
+  private void checkTolerance(CircularString arc, double tolerance) {
+    LineString line = CurveLinearizer.linearize(arc, tolerance);
+    Coordinate[] pts = line.getCoordinates();
+    Coordinate[] arcPts = arc.getCoordinates();
+    for (int i = 0; i < pts.length - 1; i++) {
+      Coordinate mid = new Coordinate((pts[i].x + pts[i + 1].x) / 2, (pts[i].y + pts[i + 1].y) / 2);
+      double dist = Double.MAX_VALUE;
+      for (int j = 0; j + 2 < arcPts.length; j += 2) {
+        dist = Math.min(dist, CircularArcs.pointToArc(mid, arcPts[j], arcPts[j + 1], arcPts[j + 2]));
+      }
+      assertTrue(dist <= tolerance * (1 + 1e-9));
+    }
+    assertEquals(arc.getLength(), line.getLength(), 2 * tolerance * pts.length);
+  }
+
+  private CircularString arc(double... ords) {
+    Coordinate[] pts = new Coordinate[ords.length / 2];
+    for (int i = 0; i < pts.length; i++) {
+      pts[i] = new Coordinate(ords[2 * i], ords[2 * i + 1]);
+    }
+    return factory.createCircularString(pts);
+  }
+}
@@ -12,8 +12,11 @@
  */
 package org.locationtech.jts.index.hprtree;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
@@ -21,6 +24,8 @@ import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.index.ItemVisitor;
 import org.locationtech.jts.index.SpatialIndexTester;
+import org.locationtech.jts.index.strtree.ItemBoundable;
+import org.locationtech.jts.index.strtree.ItemDistance;
 
 import junit.framework.TestCase;
 
@@ -143,6 +148,117 @@ public class HPRtreeTest extends TestCase {
     queryGrid( 100, new HPRtree(2) );
   }
 
+  public void testParallelBuild() {
+    Random random = new Random(17);
+    HPRtree serialTree = new HPRtree(4);
+    HPRtree parallelTree = new HPRtree(4);
+    parallelTree.setForkJoinPool(ForkJoinPool.commonPool());
+    for (int i = 0; i < 100000; i++) {
+      double x = random.nextInt(1000);
+      double y = random.nextInt(1000);
+      Envelope env = new Envelope(x, x + 1, y, y + 1);
+      serialTree.insert(env, i);
+      parallelTree.insert(env, i);
+    }
+    serialTree.build();
+    parallelTree.build();
+    assertTrue(Arrays.equals(serialTree.getBounds(), parallelTree.getBounds()));
+    for (int i = 0; i < 100; i++) {
+      double x = random.nextInt(1000);
+      double y = random.nextInt(1000);
+      Envelope queryEnv = new Envelope(x, x + 10, y, y + 10);
+      assertEquals(serialTree.query(queryEnv), parallelTree.query(queryEnv));
+    }
+  }
+
+  public void testNearestNeighbours() {
+    checkNearestNeighbours(5, new HPRtree());
+    checkNearestNeighbours(2000, new HPRtree());
+    checkNearestNeighbours(2000, new HPRtree(3));
+  }
+
+  public void testNearestNeighbourEmpty() {
+    HPRtree t = new HPRtree();
+    assertNull(t.nearestNeighbour(new Envelope(0, 0, 0, 0), null, new EnvelopeItemDistance()));
+    assertEquals(0, t.nearestNeighbour(new Envelope(0, 0, 0, 0), null, new EnvelopeItemDistance(), 3).length);
+  }
+
+  public void testQueryWithinDistance() {
+    checkQueryWithinDistance(5, new HPRtree());
+    checkQueryWithinDistance(2000, new HPRtree());
+    checkQueryWithinDistance(2000, new HPRtree(3));
+  }
+
+  private void checkNearestNeighbours(int size, HPRtree t) {
+    Envelope[] envs = randomEnvelopes(size);
+    for (int i = 0; i < envs.length; i++) {
+      t.insert(envs[i], envs[i]);
+    }
+    ItemDistance dist = new EnvelopeItemDistance();
+    Random random = new Random(3);
+    for (int n = 0; n < 20; n++) {
+      Envelope queryEnv = randomPoint(random);
+      int k = 1 + random.nextInt(20);
+      Object[] nearest = t.nearestNeighbour(queryEnv, queryEnv, dist, k);
+      assertEquals(Math.min(k, size), nearest.length);
+      
+      double[] expected = new double[size];
+      for (int i = 0; i < size; i++) {
+        expected[i] = queryEnv.distance(envs[i]);
+      }
+      Arrays.sort(expected);
+      for (int i = 0; i < nearest.length; i++) {
+        assertEquals(expected[i], queryEnv.distance((Envelope) nearest[i]), 0);
+      }
+      assertEquals(expected[0], queryEnv.distance((Envelope) t.nearestNeighbour(queryEnv, queryEnv, dist)), 0);
+    }
+  }
+
+  private void checkQueryWithinDistance(int size, HPRtree t) {
+    Envelope[] envs = randomEnvelopes(size);
+    for (int i = 0; i < envs.length; i++) {
+      t.insert(envs[i], envs[i]);
+    }
+    ItemDistance dist = new EnvelopeItemDistance();
+    Random random = new Random(5);
+    for (int n = 0; n < 20; n++) {
+      Envelope queryEnv = randomPoint(random);
+      double maxDistance = random.nextDouble() * 50;
+      List result = t.queryWithinDistance(queryEnv, queryEnv, dist, maxDistance);
+      int expectedCount = 0;
+      for (int i = 0; i < size; i++) {
+        if (queryEnv.distance(envs[i]) <= maxDistance) expectedCount++;
+      }
+      assertEquals(expectedCount, result.size());
+      for (Object item : result) {
+        assertTrue(queryEnv.distance((Envelope) item) <= maxDistance);
+      }
+    }
+  }
+
+  private static Envelope randomPoint(Random random) {
+    double x = random.nextDouble() * 1000;
+    double y = random.nextDouble() * 1000;
+    return new Envelope(x, x, y, y);
+  }
+
+  private static Envelope[] randomEnvelopes(int size) {
+    Random random = new Random(13);
+    Envelope[] envs = new Envelope[size];
+    for (int i = 0; i < size; i++) {
+      double x = random.nextDouble() * 1000;
+      double y = random.nextDouble() * 1000;
+      envs[i] = new Envelope(x, x + random.nextDouble() * 5, y, y + random.nextDouble() * 5);
+    }
+    return envs;
+  }
+
+  private static class EnvelopeItemDistance implements ItemDistance {
+    public double distance(ItemBoundable item1, ItemBoundable item2) {
+      return ((Envelope) item1.getItem()).distance((Envelope) item2.getItem());
+    }
+  }
+
   private void queryGrid(int size, HPRtree t) {
     for (int i = 0; i < size; i++ ) {
       t.insert(new Envelope(i, i+1, i, i+1), i);
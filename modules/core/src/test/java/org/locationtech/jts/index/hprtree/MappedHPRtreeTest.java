@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.hprtree;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.util.IntArrayList;
+
+import junit.framework.TestCase;
+
+public class MappedHPRtreeTest extends TestCase {
+
+  public MappedHPRtreeTest(String name) {
+    super(name);
+  }
+
+  public static void main(String[] args) {
+    String[] testCaseName = {MappedHPRtreeTest.class.getName()};
+    junit.textui.TestRunner.main(testCaseName);
+  }
+
+  public void testEmpty() throws IOException {
+    MappedHPRtree tree = writeAndOpen(new HPRtree());
+    assertEquals(0, tree.size());
+    assertTrue(tree.query(new Envelope(0, 10, 0, 10)).isEmpty());
+  }
+
+  public void testSmall() throws IOException {
+    checkQueries(5, 16);
+  }
+
+  public void testLarge() throws IOException {
+    checkQueries(10000, 16);
+    checkQueries(1000, 3);
+  }
+
+  public void testNonIntegerItem() throws IOException {
+    HPRtree tree = new HPRtree();
+    tree.insert(new Envelope(0, 1, 0, 1), "item");
+    File file = createTempFile();
+    try {
+      MappedHPRtree.write(tree, file);
+      fail();
+    }
+    catch (IllegalArgumentException ex) {
+      // expected
+    }
+    finally {
+      file.delete();
+    }
+  }
+
+  public void testInvalidFile() {
+    try {
+      new MappedHPRtree(ByteBuffer.wrap(new byte[100]));
+      fail();
+    }
+    catch (IOException ex) {
+      // expected
+    }
+  }
+
+  public void testReadOnly() throws IOException {
+    MappedHPRtree tree = writeAndOpen(new HPRtree());
+    try {
+      tree.insert(new Envelope(0, 1, 0, 1), 1);
+      fail();
+    }
+    catch (UnsupportedOperationException ex) {
+      // expected
+    }
+  }
+
+  private void checkQueries(int numItems, int nodeCapacity) throws IOException {
+    Random random = new Random(11);
+    HPRtree tree = new HPRtree(nodeCapacity);
+    for (int i = 0; i < numItems; i++) {
+      double x = random.nextDouble() * 1000;
+      double y = random.nextDouble() * 1000;
+      tree.insert(new Envelope(x, x + random.nextDouble() * 10, y, y + random.nextDouble() * 10), i);
+    }
+    MappedHPRtree mappedTree = writeAndOpen(tree);
+    assertEquals(numItems, mappedTree.size());
+    for (int i = 0; i < 100; i++) {
+      double x = random.nextDouble() * 1000;
+      double y = random.nextDouble() * 1000;
+      Envelope queryEnv = new Envelope(x, x + 50, y, y + 50);
+      List expected = tree.query(queryEnv);
+      List actual = mappedTree.query(queryEnv);
+      assertEquals(expected, actual);
+
+      IntArrayList ids = new IntArrayList();
+      mappedTree.query(queryEnv, ids);
+      int[] idArray = ids.toArray();
+      Arrays.sort(idArray);
+      Collections.sort(expected);
+      assertEquals(expected.size(), idArray.length);
+      for (int j = 0; j < idArray.length; j++) {
+        assertEquals(expected.get(j), idArray[j]);
+      }
+    }
+  }
+
+  private MappedHPRtree writeAndOpen(HPRtree tree) throws IOException {
+    File file = createTempFile();
+    try {
+      MappedHPRtree.write(tree, file);
+      return MappedHPRtree.open(file);
+    }
+    finally {
+      file.delete();
+    }
+  }
+
+  private static File createTempFile() throws IOException {
+    File file = File.createTempFile("hprtree", ".idx");
+    file.deleteOnExit();
+    return file;
+  }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.strtree;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class PackedSTRtreeTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(PackedSTRtreeTest.class);
+  }
+
+  public PackedSTRtreeTest(String name) {
+    super(name);
+  }
+
+  private static final String POINTS_A = "MULTIPOINT( 0 0, 10 10, 0 10, 10 0, 9 9)";
+  private static final String POINTS_B = "MULTIPOINT( 5 5, 15 15, 5 15, 15 5, 8 8)";
+
+  public void testEmpty() {
+    PackedSTRtree tree = new PackedSTRtree();
+    assertEquals(0, tree.query(new Envelope(0, 10, 0, 10)).size());
+    assertNull(tree.nearestNeighbour(new GeometryItemDistance()));
+    assertEquals(0, tree.depth());
+  }
+
+  public void testInsertAfterBuild() {
+    PackedSTRtree tree = new PackedSTRtree();
+    tree.insert(new Envelope(0, 1, 0, 1), "a");
+    tree.build();
+    try {
+      tree.insert(new Envelope(0, 1, 0, 1), "b");
+      fail();
+    }
+    catch (IllegalStateException ex) {
+      // expected
+    }
+  }
+
+  public void testQuerySingle() {
+    PackedSTRtree tree = new PackedSTRtree();
+    tree.insert(new Envelope(0, 1, 0, 1), "a");
+    assertEquals(1, tree.query(new Envelope(0.5, 2, 0.5, 2)).size());
+    assertEquals(0, tree.query(new Envelope(2, 3, 2, 3)).size());
+  }
+
+  public void testQuery() {
+    checkQuery(10000, 10);
+    checkQuery(1000, 4);
+    checkQuery(101, 2);
+  }
+
+  /**
+   * Grid data has many equal envelope centres,
+   * so this checks that ties are ordered as by STRtree.
+   */
+  public void testSameStructureAsSTRtreeWithTies() {
+    PackedSTRtree tree = new PackedSTRtree(10);
+    STRtree strTree = new STRtree(10);
+    int n = 0;
+    for (int i = 0; i < 40; i++) {
+      for (int j = 0; j < 40; j++) {
+        // each cell is inserted twice
+        for (int k = 0; k < 2; k++) {
+          Envelope env = new Envelope(i, i + 1, j, j + 1);
+          tree.insert(env, n);
+          strTree.insert(env, n);
+          n++;
+        }
+      }
+    }
+    Envelope[] queries = new Envelope[] {
+        new Envelope(-1, 100, -1, 100),
+        new Envelope(10.5, 20.5, 3.5, 30.5),
+        new Envelope(0, 5, 35, 40)
+    };
+    for (Envelope query : queries) {
+      assertEquals(strTree.query(query), tree.query(query));
+    }
+  }
+
+  public void testDepth() {
+    PackedSTRtree tree = new PackedSTRtree(10);
+    STRtree strTree = new STRtree(10);
+    Envelope[] envs = randomEnvelopes(5000, 1);
+    for (int i = 0; i < envs.length; i++) {
+      tree.insert(envs[i], i);
+      strTree.insert(envs[i], i);
+    }
+    assertEquals(strTree.depth(), tree.depth());
+  }
+
+  public void testNearestNeighbours() {
+    checkNN(POINTS_A, "MULTIPOINT(9 9, 10 10)");
+  }
+
+  public void testNearestNeighbourSingleItem() {
+    checkNN("POINT( 5 5 )", "POINT( 5 5 )");
+  }
+
+  public void testNearestNeighbours2() {
+    PackedSTRtree tree1 = createTree(read(POINTS_A));
+    PackedSTRtree tree2 = createTree(read(POINTS_B));
+    Object[] nearest = tree1.nearestNeighbour(tree2, new GeometryItemDistance());
+    checkEqual(read("POINT( 9 9 )"), (Geometry) nearest[0]);
+    checkEqual(read("POINT( 8 8 )"), (Geometry) nearest[1]);
+  }
+
+  public void testWithinDistance() {
+    PackedSTRtree tree1 = createTree(read(POINTS_A));
+    PackedSTRtree tree2 = createTree(read(POINTS_B));
+    assertTrue(tree1.isWithinDistance(tree2, new GeometryItemDistance(), 2));
+    assertTrue(! tree1.isWithinDistance(tree2, new GeometryItemDistance(), 1));
+  }
+
+  public void testKNearestNeighbours() {
+    Envelope[] envs = randomEnvelopes(5000, 0);
+    PackedSTRtree tree = new PackedSTRtree();
+    for (int i = 0; i < envs.length; i++) {
+      tree.insert(envs[i], envs[i]);
+    }
+    Envelope queryEnv = new Envelope(500, 500, 500, 500);
+    ItemDistance dist = new EnvelopeItemDistance();
+    Object[] nearest = tree.nearestNeighbour(queryEnv, queryEnv, dist, 100);
+    assertEquals(100, nearest.length);
+
+    // all items not found must be at least as far as the farthest found
+    double maxDist = queryEnv.distance((Envelope) nearest[nearest.length - 1]);
+    HashSet<Object> found = new HashSet<Object>();
+    double prevDist = 0;
+    for (Object item : nearest) {
+      double d = queryEnv.distance((Envelope) item);
+      assertTrue(d >= prevDist);
+      prevDist = d;
+      found.add(item);
+    }
+    for (Envelope env : envs) {
+      if (! found.contains(env))
+        assertTrue(queryEnv.distance(env) >= maxDist);
+    }
+    assertEquals(nearest[0], tree.nearestNeighbour(queryEnv, queryEnv, dist));
+  }
+
+  public void testKNearestNeighboursMoreThanSize() {
+    PackedSTRtree tree = createTree(read(POINTS_A));
+    Geometry query = read("POINT (1 1)");
+    Object[] nearest = tree.nearestNeighbour(query.getEnvelopeInternal(), query,
+        new GeometryItemDistance(), 10);
+    assertEquals(5, nearest.length);
+    checkEqual(read("POINT (0 0)"), (Geometry) nearest[0]);
+  }
+
+  private void checkQuery(int numItems, int nodeCapacity) {
+    PackedSTRtree tree = new PackedSTRtree(nodeCapacity);
+    STRtree strTree = new STRtree(nodeCapacity);
+    Envelope[] envs = randomEnvelopes(numItems, 10);
+    for (int i = 0; i < envs.length; i++) {
+      tree.insert(envs[i], i);
+      strTree.insert(envs[i], i);
+    }
+    Random random = new Random(13);
+    for (int i = 0; i < 100; i++) {
+      double x = random.nextDouble() * 1000;
+      double y = random.nextDouble() * 1000;
+      Envelope queryEnv = new Envelope(x, x + 50, y, y + 50);
+      List result = tree.query(queryEnv);
+      List expected = strTree.query(queryEnv);
+      assertEquals(expected.size(), result.size());
+      assertEquals(new HashSet<Object>(expected), new HashSet<Object>(result));
+    }
+  }
+
+  private void checkNN(String wktItems, String wktExpected) {
+    PackedSTRtree tree = createTree(read(wktItems));
+    Object[] nearest = tree.nearestNeighbour(new GeometryItemDistance());
+    Geometry expected = read(wktExpected);
+    Geometry expected0 = expected.getGeometryN(0);
+    Geometry expected1 = expected.getGeometryN(expected.getNumGeometries() - 1);
+    Geometry g0 = (Geometry) nearest[0];
+    Geometry g1 = (Geometry) nearest[1];
+    assertTrue((g0.equalsExact(expected0) && g1.equalsExact(expected1))
+        || (g0.equalsExact(expected1) && g1.equalsExact(expected0)));
+  }
+
+  private static PackedSTRtree createTree(Geometry items) {
+    PackedSTRtree tree = new PackedSTRtree();
+    for (int i = 0; i < items.getNumGeometries(); i++) {
+      Geometry item = items.getGeometryN(i);
+      tree.insert(item.getEnvelopeInternal(), item);
+    }
+    return tree;
+  }
+
+  private static Envelope[] randomEnvelopes(int num, double size) {
+    Random random = new Random(42);
+    Envelope[] envs = new Envelope[num];
+    for (int i = 0; i < num; i++) {
+      double x = random.nextDouble() * 1000;
+      double y = random.nextDouble() * 1000;
+      envs[i] = new Envelope(x, x + random.nextDouble() * size, y, y + random.nextDouble() * size);
+    }
+    return envs;
+  }
+
+  private static class EnvelopeItemDistance implements ItemDistance {
+    public double distance(ItemBoundable item1, ItemBoundable item2) {
+      return ((Envelope) item1.getItem()).distance((Envelope) item2.getItem());
+    }
+  }
+}
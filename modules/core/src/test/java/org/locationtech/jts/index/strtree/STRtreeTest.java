@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import junit.framework.TestCase;
 
@@ -158,6 +159,21 @@ public class STRtreeTest extends TestCase {
     assertEquals(3, tree.size());
   }
  
+  public void testParallelBuild() {
+    Random random = new Random(17);
+    STRtree serialTree = new STRtree(4);
+    STRtree parallelTree = new STRtree(4);
+    parallelTree.setForkJoinPool(ForkJoinPool.commonPool());
+    for (int i = 0; i < 20000; i++) {
+      double x = random.nextInt(1000);
+      double y = random.nextInt(1000);
+      Envelope env = new Envelope(x, x + 1, y, y + 1);
+      serialTree.insert(env, i);
+      parallelTree.insert(env, i);
+    }
+    assertEquals(serialTree.itemsTree(), parallelTree.itemsTree());
+  }
+
   private void doTestCreateParentsFromVerticalSlice(int childCount,
       int nodeCapacity, int expectedChildrenPerParentBoundable,
       int expectedChildrenOfLastParent) {
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.locationtech.jts.geom.CircularString;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiCircularString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.geom.util.CurveLinearizer;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class CurvedGeometryIOTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(CurvedGeometryIOTest.class);
+  }
+
+  public CurvedGeometryIOTest(String name) {
+    super(name);
+  }
+
+  private WKTReader reader = new WKTReader();
+
+  public void testReadCircularString() throws ParseException {
+    Geometry g = reader.read("CIRCULARSTRING (0 0, 1 1, 2 0)");
+    assertTrue(g instanceof CircularString);
+    assertEquals(3, g.getNumPoints());
+    assertTrue(reader.read("CIRCULARSTRING EMPTY").isEmpty());
+  }
+
+  public void testReadCircularStringZ() throws ParseException {
+    CircularString g = (CircularString) reader.read("CIRCULARSTRING Z (0 0 1, 1 1 2, 2 0 3)");
+    assertEquals(2.0, g.getCoordinateN(1).getZ(), 0.0);
+  }
+
+  public void testReadCircularStringInvalid() {
+    checkParseError("CIRCULARSTRING (0 0, 1 1, 2 0, 3 3)");
+  }
+
+  public void testReadCompoundCurve() throws ParseException {
+    Geometry g = reader.read("COMPOUNDCURVE (CIRCULARSTRING (0 0, 1 1, 2 0), (2 0, 4 0, 4 2))");
+    assertTrue(g instanceof CircularString);
+    checkCoords("CIRCULARSTRING (0 0, 1 1, 2 0, 3 0, 4 0, 4 1, 4 2)", g);
+    assertEquals(Math.PI + 4, g.getLength(), 1e-9);
+  }
+
+  public void testReadCompoundCurveLinear() throws ParseException {
+    Geometry g = reader.read("COMPOUNDCURVE ((0 0, 1 1), (1 1, 2 0))");
+    assertTrue(g instanceof LineString);
+    checkCoords("LINESTRING (0 0, 1 1, 2 0)", g);
+  }
+
+  public void testReadCompoundCurveNotContiguous() {
+    checkParseError("COMPOUNDCURVE (CIRCULARSTRING (0 0, 1 1, 2 0), (3 0, 4 0))");
+  }
+
+  public void testReadMultiCurve() throws ParseException {
+    Geometry g = reader.read("MULTICURVE ((0 0, 5 5), CIRCULARSTRING (4 0, 4 4, 8 4))");
+    assertTrue(g instanceof MultiCircularString);
+    checkCoords("CIRCULARSTRING (0 0, 2.5 2.5, 5 5)", g.getGeometryN(0));
+
+    Geometry lines = reader.read("MULTICURVE ((0 0, 5 5), (4 0, 4 4))");
+    assertTrue(lines instanceof MultiLineString);
+    assertTrue(reader.read("MULTICURVE EMPTY").isEmpty());
+  }
+
+  public void testReadCurvePolygon() throws ParseException {
+    Geometry g = reader.read("CURVEPOLYGON (CIRCULARSTRING (0 0, 4 0, 0 0), (1 1, 3 1, 2 2, 1 1))");
+    assertTrue(g instanceof Polygon);
+    Polygon poly = (Polygon) g;
+    assertEquals(1, poly.getNumInteriorRing());
+    assertEquals(Math.PI * 4 - 1, poly.getArea(), 0.01);
+
+    Geometry compound = reader.read("CURVEPOLYGON (COMPOUNDCURVE (CIRCULARSTRING (0 0, 2 2, 4 0), (4 0, 0 0)))");
+    assertEquals(Math.PI * 2, compound.getArea(), 0.01);
+  }
+
+  public void testReadCurvePolygonNotCached() throws ParseException {
+    CurveLinearizer.clearCache();
+    reader.read("CURVEPOLYGON (CIRCULARSTRING (0 0, 4 0, 0 0))");
+    assertEquals(0, CurveLinearizer.getCacheSize());
+  }
+
+  public void testWriteWKT() throws ParseException {
+    checkWKTRoundTrip("CIRCULARSTRING (0 0, 1 1, 2 0)");
+    checkWKTRoundTrip("MULTICURVE (CIRCULARSTRING (0 0, 1 1, 2 0), CIRCULARSTRING (4 0, 4 4, 8 4))");
+    assertEquals("MULTILINESTRING EMPTY", new WKTWriter().write(reader.read("MULTICURVE EMPTY")));
+  }
+
+  public void testWKBRoundTrip() throws ParseException, IOException {
+    checkWKBRoundTrip("CIRCULARSTRING (0 0, 1 1, 2 0)", 2);
+    checkWKBRoundTrip("CIRCULARSTRING Z (0 0 1, 1 1 2, 2 0 3)", 3);
+    checkWKBRoundTrip("MULTICURVE (CIRCULARSTRING (0 0, 1 1, 2 0), CIRCULARSTRING (4 0, 4 4, 8 4))", 2);
+    checkWKBRoundTrip("GEOMETRYCOLLECTION (POINT (1 1), CIRCULARSTRING (0 0, 1 1, 2 0))", 2);
+  }
+
+  public void testWKBTypeCodes() throws ParseException {
+    WKBWriter writer = new WKBWriter(2, ByteOrderValues.LITTLE_ENDIAN);
+    byte[] bytes = writer.write(reader.read("CIRCULARSTRING (0 0, 1 1, 2 0)"));
+    assertEquals(WKBConstants.wkbCircularString, ByteBuffer.wrap(bytes, 1, 4).order(ByteOrder.LITTLE_ENDIAN).getInt());
+  }
+
+  public void testReadWKBCompoundCurveISO() throws ParseException {
+    // COMPOUNDCURVE Z with an ISO type code (1009)
+    ByteBuffer buf = ByteBuffer.allocate(200).order(ByteOrder.LITTLE_ENDIAN);
+    buf.put((byte) 1).putInt(1009).putInt(2);
+    buf.put((byte) 1).putInt(1008).putInt(3);
+    putXYZ(buf, 0, 0, 1); putXYZ(buf, 1, 1, 1); putXYZ(buf, 2, 0, 1);
+    buf.put((byte) 1).putInt(1002).putInt(2);
+    putXYZ(buf, 2, 0, 1); putXYZ(buf, 4, 0, 1);
+    byte[] bytes = new byte[buf.position()];
+    buf.flip();
+    buf.get(bytes);
+
+    Geometry g = new WKBReader().read(bytes);
+    assertTrue(g instanceof CircularString);
+    checkCoords("CIRCULARSTRING (0 0, 1 1, 2 0, 3 0, 4 0)", g);
+    assertEquals(1.0, g.getCoordinates()[3].getZ(), 0.0);
+  }
+
+  public void testReadWKBCurvePolygon() throws ParseException {
+    Geometry curvePoly = reader.read("CIRCULARSTRING (0 0, 4 0, 0 0)");
+    byte[] ringBytes = new WKBWriter(2, ByteOrderValues.BIG_ENDIAN).write(curvePoly);
+    ByteBuffer buf = ByteBuffer.allocate(9 + ringBytes.length);
+    buf.put((byte) 0).putInt(WKBConstants.wkbCurvePolygon).putInt(1).put(ringBytes);
+    Geometry g = new WKBReader().read(buf.array());
+    assertTrue(g instanceof Polygon);
+    assertEquals(Math.PI * 4, g.getArea(), 0.01);
+  }
+
+  public void testReadWKBPacked() throws ParseException {
+    GeometryFactory packedFactory = new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+    byte[] bytes = new WKBWriter().write(reader.read("CIRCULARSTRING (0 0, 1 1, 2 0)"));
+    Geometry g = new WKBReader(packedFactory).read(bytes);
+    assertTrue(g instanceof CircularString);
+    checkCoords("CIRCULARSTRING (0 0, 1 1, 2 0)", g);
+  }
+
+  private static void putXYZ(ByteBuffer buf, double x, double y, double z) {
+    buf.putDouble(x).putDouble(y).putDouble(z);
+  }
+
+  private void checkWKTRoundTrip(String wkt) throws ParseException {
+    Geometry g = reader.read(wkt);
+    assertEquals(wkt, new WKTWriter().write(g));
+  }
+
+  private void checkWKBRoundTrip(String wkt, int dim) throws ParseException, IOException {
+    Geometry g = reader.read(wkt);
+    WKBWriter writer = new WKBWriter(dim);
+    WKBReader wkbReader = new WKBReader();
+
+    byte[] bytes = writer.write(g);
+    assertEquals(writer.computeSize(g), bytes.length);
+    Geometry g2 = wkbReader.read(bytes);
+    assertEquals(g.getClass(), g2.getClass());
+    assertTrue(g.equalsExact(g2));
+
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    writer.write(g, new OutputStreamOutStream(os));
+    assertTrue(java.util.Arrays.equals(bytes, os.toByteArray()));
+  }
+
+  private void checkCoords(String expectedWKT, Geometry actual) throws ParseException {
+    Geometry expected = reader.read(expectedWKT);
+    assertTrue(expected.getClass() == actual.getClass());
+    assertTrue(expected.equalsExact(actual));
+  }
+
+  private void checkParseError(String wkt) {
+    try {
+      reader.read(wkt);
+      fail();
+    }
+    catch (ParseException ex) {
+      // expected
+    }
+  }
+}
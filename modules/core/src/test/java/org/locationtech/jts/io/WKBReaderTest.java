@@ -15,6 +15,9 @@ import org.locationtech.jts.geom.CoordinateSequenceComparator;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 import junit.framework.TestCase;
 import junit.textui.TestRunner;
 import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
@@ -180,6 +183,45 @@ public class WKBReaderTest  extends TestCase
     //    "MULTIPOLYGONM(((0 0 100,0 10 100,10 10 100,10 0 100,0 0 100),(1 1 100,1 9 100,9 9 100,9 1 100,1 1 100)),((-9 0 50,-9 10 50,-1 10 50,-1 0 50,-9 0 50)))");
   }
 
+  public void testByteBufferMultiple() throws ParseException
+  {
+    Geometry[] geoms = new Geometry[] {
+        rdr.read("POINT (1 2)"),
+        rdr.read("LINESTRING (1 2, 3 4, 5 6)"),
+        rdr.read("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0), (1 1, 2 1, 2 2, 1 1))"),
+        rdr.read("GEOMETRYCOLLECTION (POINT (1 1), LINESTRING (0 0, 1 1))")
+    };
+    WKBWriter bigEndian = new WKBWriter(2, ByteOrderValues.BIG_ENDIAN);
+    WKBWriter littleEndian = new WKBWriter(2, ByteOrderValues.LITTLE_ENDIAN);
+    ByteBuffer buf = ByteBuffer.allocate(1000);
+    for (int i = 0; i < geoms.length; i++) {
+      WKBWriter writer = i % 2 == 0 ? bigEndian : littleEndian;
+      buf.put(writer.write(geoms[i]));
+    }
+    buf.flip();
+    buf.order(ByteOrder.LITTLE_ENDIAN);
+    WKBReader wkbReader = new WKBReader(new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY));
+    for (int i = 0; i < geoms.length; i++) {
+      Geometry g = wkbReader.read(buf);
+      assertTrue(geoms[i].equalsExact(g));
+    }
+    assertEquals(0, buf.remaining());
+    // buffer byte order is not changed
+    assertEquals(ByteOrder.LITTLE_ENDIAN, buf.order());
+  }
+
+  public void testByteBufferTruncated()
+  {
+    byte[] wkb = WKBReader.hexToBytes("000000000200000003405900000000000040690000000000004059000000000000");
+    try {
+      new WKBReader().read(ByteBuffer.wrap(wkb));
+      fail();
+    }
+    catch (ParseException ex) {
+      // expected
+    }
+  }
+
   /**
    * Not yet implemented satisfactorily.
    * 
@@ -212,5 +254,19 @@ public class WKBReaderTest  extends TestCase
     if (!isEqual) {System.out.println(g2);System.out.println(expected);}
     assertTrue(isEqual);
 
+    // check reading from heap and direct buffers, and into packed sequences
+    checkEqual(g2, wkbReader.read(ByteBuffer.wrap(wkb)));
+    ByteBuffer direct = ByteBuffer.allocateDirect(wkb.length);
+    direct.put(wkb);
+    direct.flip();
+    checkEqual(g2, wkbReader.read(direct));
+    assertEquals(wkb.length, direct.position());
+    WKBReader packedReader = new WKBReader(new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY));
+    checkEqual(g2, packedReader.read(wkb));
+    checkEqual(g2, packedReader.read(ByteBuffer.wrap(wkb)));
  }
+
+  private static void checkEqual(Geometry expected, Geometry actual) {
+    assertEquals(0, expected.compareTo(actual, comp2));
+  }
 }
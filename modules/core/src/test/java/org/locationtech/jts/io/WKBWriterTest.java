@@ -11,9 +11,17 @@
  */
 package org.locationtech.jts.io;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 
 import junit.framework.TestCase;
 
@@ -63,4 +71,137 @@ public class WKBWriterTest extends TestCase {
         assertTrue(p1.equalsExact(p2));
         assertEquals(1234, p2.getSRID());
     }
+
+    private static final String[] WKTS = new String[] {
+      "POINT (1 2)",
+      "POINT Z (1 2 3)",
+      "LINESTRING (1 2, 3 4, 5 6)",
+      "LINESTRING Z (1 2 3, 4 5 6)",
+      "LINESTRING EMPTY",
+      "POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0), (1 1, 2 1, 2 2, 1 1))",
+      "POLYGON EMPTY",
+      "MULTIPOINT ((1 2), (3 4))",
+      "MULTILINESTRING ((1 2, 3 4), (5 6, 7 8))",
+      "MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), ((20 20, 20 30, 30 30, 20 20)))",
+      "GEOMETRYCOLLECTION (POINT (1 2), LINESTRING (1 2, 3 4), GEOMETRYCOLLECTION EMPTY)"
+    };
+
+    public void testByteBuffer() throws Exception {
+      GeometryFactory[] factories = new GeometryFactory[] {
+          new GeometryFactory(),
+          new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY)
+      };
+      for (GeometryFactory gf : factories) {
+        WKTReader rdr = new WKTReader(gf);
+        for (String wkt : WKTS) {
+          Geometry g = rdr.read(wkt);
+          g.setSRID(4326);
+          for (int dim = 2; dim <= 3; dim++) {
+            checkByteBuffer(g, new WKBWriter(dim, ByteOrderValues.BIG_ENDIAN, false));
+            checkByteBuffer(g, new WKBWriter(dim, ByteOrderValues.LITTLE_ENDIAN, true));
+          }
+        }
+      }
+    }
+
+    public void testByteBufferMultiple() throws Exception {
+      WKTReader rdr = new WKTReader();
+      Geometry g1 = rdr.read(WKTS[2]);
+      Geometry g2 = rdr.read(WKTS[5]);
+      WKBWriter w = new WKBWriter();
+      ByteBuffer buf = ByteBuffer.allocateDirect(w.computeSize(g1) + w.computeSize(g2));
+      w.write(g1, buf);
+      w.write(g2, buf);
+      assertEquals(0, buf.remaining());
+      
+      buf.flip();
+      WKBReader r = new WKBReader();
+      assertTrue(g1.equalsExact(r.read(buf)));
+      assertTrue(g2.equalsExact(r.read(buf)));
+    }
+
+    public void testByteBufferOverflow() throws Exception {
+      Geometry g = new WKTReader().read(WKTS[5]);
+      WKBWriter w = new WKBWriter();
+      ByteBuffer buf = ByteBuffer.allocate(w.computeSize(g) - 1);
+      try {
+        w.write(g, buf);
+        fail();
+      }
+      catch (BufferOverflowException ex) {
+        // expected
+      }
+      // nothing was written
+      assertEquals(0, buf.position());
+    }
+
+    public void testOutStreamLarge() throws Exception {
+      GeometryFactory[] factories = new GeometryFactory[] {
+          new GeometryFactory(),
+          new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY)
+      };
+      for (GeometryFactory gf : factories) {
+        Coordinate[] pts = new Coordinate[2001];
+        for (int i = 0; i < 2000; i++) {
+          double angle = 2 * Math.PI * i / 2000;
+          pts[i] = new Coordinate(100 * Math.cos(angle), 100 * Math.sin(angle), i);
+        }
+        pts[2000] = pts[0].copy();
+        Geometry line = gf.createLineString(pts);
+        Geometry g = gf.createGeometryCollection(new Geometry[] {
+            gf.createPolygon(pts), line, gf.createPoint(pts[7]) });
+        for (int dim = 2; dim <= 3; dim++) {
+          checkOutStream(g, new WKBWriter(dim, ByteOrderValues.BIG_ENDIAN, false));
+          checkOutStream(g, new WKBWriter(dim, ByteOrderValues.LITTLE_ENDIAN, true));
+        }
+      }
+    }
+
+    private void checkOutStream(Geometry g, WKBWriter w) throws Exception {
+      final ByteArrayOutputStream os = new ByteArrayOutputStream();
+      final int[] maxWriteLen = new int[1];
+      OutStream out = new OutStream() {
+        public void write(byte[] buf, int len) {
+          maxWriteLen[0] = Math.max(maxWriteLen[0], len);
+          os.write(buf, 0, len);
+        }
+      };
+      // write twice, to check the writer can be reused
+      w.write(g, out);
+      w.write(g, out);
+      byte[] expected = w.write(g);
+      byte[] actual = os.toByteArray();
+      assertEquals(2 * expected.length, actual.length);
+      assertTrue(Arrays.equals(expected, Arrays.copyOfRange(actual, 0, expected.length)));
+      assertTrue(Arrays.equals(expected, Arrays.copyOfRange(actual, expected.length, actual.length)));
+      // the stream is written incrementally
+      assertTrue(maxWriteLen[0] < expected.length);
+      assertTrue(g.equalsExact(new WKBReader().read(expected)));
+    }
+
+    private void checkByteBuffer(Geometry g, WKBWriter w) throws Exception {
+      ByteArrayOutputStream os = new ByteArrayOutputStream();
+      w.write(g, new OutputStreamOutStream(os));
+      byte[] expected = os.toByteArray();
+      
+      assertEquals(expected.length, w.computeSize(g));
+      assertTrue(Arrays.equals(expected, w.write(g)));
+      
+      ByteBuffer[] buffers = new ByteBuffer[] {
+          ByteBuffer.allocate(expected.length + 7),
+          ByteBuffer.allocateDirect(expected.length + 7).order(ByteOrder.LITTLE_ENDIAN)
+      };
+      for (ByteBuffer buf : buffers) {
+        ByteOrder order = buf.order();
+        buf.position(3);
+        w.write(g, buf);
+        assertEquals(3 + expected.length, buf.position());
+        assertEquals(order, buf.order());
+        
+        byte[] actual = new byte[expected.length];
+        buf.position(3);
+        buf.get(actual);
+        assertTrue(Arrays.equals(expected, actual));
+      }
+    }
 }
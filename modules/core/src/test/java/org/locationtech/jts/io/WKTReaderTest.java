@@ -20,6 +20,8 @@ import junit.framework.TestSuite;
 import junit.textui.TestRunner;
 import test.jts.GeometryTestCase;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.EnumSet;
 import java.util.Locale;
 
@@ -128,6 +130,58 @@ public class WKTReaderTest extends TestCase {
     assertTrue(GeometryTestCase.checkEqual(seqLs3DM, ls3DM.getCoordinateSequence()));
   }
 
+  public void testReadLineStringOptionalZ() throws Exception {
+    LineString ls = (LineString) reader2DOld
+            .read("LINESTRING (10 10 1, 20 20, 30 40 3)");
+    CoordinateSequence seq = ls.getCoordinateSequence();
+    assertEquals(3, seq.size());
+    assertEquals(1.0, seq.getOrdinate(0, CoordinateSequence.Z));
+    assertEquals(20.0, seq.getOrdinate(1, CoordinateSequence.X));
+    assertEquals(3.0, seq.getOrdinate(2, CoordinateSequence.Z));
+  }
+
+  public void testReadMultipleFromReader() throws Exception {
+    Reader rdr = new StringReader("POINT (1 2) LINESTRING (3 4, 5 6)");
+    assertTrue(reader2D.read(rdr) instanceof Point);
+    assertTrue(reader2D.read(rdr) instanceof LineString);
+  }
+
+  public void testReadConcurrent() throws Exception {
+    final WKTReader rdr = reader2D;
+    final boolean[] isFailed = new boolean[1];
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      final int offset = 1000 * t;
+      threads[t] = new Thread() {
+        public void run() {
+          try {
+            for (int n = 0; n < 500; n++) {
+              StringBuilder wkt = new StringBuilder("LINESTRING (");
+              for (int i = 0; i < 100; i++) {
+                if (i > 0) wkt.append(", ");
+                wkt.append(offset + i).append(' ').append(offset + i);
+              }
+              wkt.append(")");
+              Coordinate[] pts = rdr.read(wkt.toString()).getCoordinates();
+              for (int i = 0; i < pts.length; i++) {
+                if (pts[i].x != offset + i || pts[i].y != offset + i)
+                  isFailed[0] = true;
+              }
+            }
+          }
+          catch (ParseException ex) {
+            isFailed[0] = true;
+          }
+        }
+      };
+      threads[t].start();
+    }
+    for (int t = 0; t < threads.length; t++) {
+      threads[t].join();
+    }
+    assertFalse(isFailed[0]);
+  }
+
   public void testReadLinearRing() throws Exception {
 
     double[] coordinates = new double[] {10, 10, 20, 20, 30, 40, 10, 10};
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+public class WKTTokenizerTest extends TestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(WKTTokenizerTest.class);
+  }
+
+  public WKTTokenizerTest(String name) {
+    super(name);
+  }
+
+  public void testTokens() throws IOException {
+    String text = "POINT(1.5 -2e3) # comment (\n\r\n ,été )";
+    checkTokens(new WKTTokenizer(text.toCharArray()));
+    checkTokens(new WKTTokenizer(new StringReader(text)));
+  }
+
+  public void testReaderNotOverread() throws IOException {
+    StringReader reader = new StringReader("(1 2)x");
+    WKTTokenizer tokenizer = new WKTTokenizer(reader);
+    while (tokenizer.nextToken() != ')') {
+      // skip to closer
+    }
+    assertEquals('x', reader.read());
+  }
+
+  public void testParseDouble() {
+    String[] nums = new String[] {
+        "0", "-0", "+1", "1.", ".5", "-.5", "00012.3400", "1e10", "1E-10", "1e+5",
+        "123456789012345", "1234567890123456789", "0.1", "0.30000000000000004",
+        "1.7976931348623157e308", "4.9e-324", "1e400", "1e-400",
+        "9007199254740993", "12345678.123456789", "2.2250738585072014E-308",
+        "0x1p3", "1d", "Infinity"
+    };
+    for (String num : nums) {
+      checkParse(num);
+    }
+    checkParseInvalid("");
+    checkParseInvalid("-");
+    checkParseInvalid(".");
+    checkParseInvalid("1e");
+    checkParseInvalid("1e+");
+    checkParseInvalid("1.2.3");
+    checkParseInvalid("1-2");
+  }
+
+  public void testParseDoubleRandom() {
+    Random rnd = new Random(13);
+    for (int i = 0; i < 100000; i++) {
+      double d = (rnd.nextDouble() - 0.5) * Math.pow(10, rnd.nextInt(30) - 15);
+      checkParse(Double.toString(d));
+      checkParse(String.format("%.6f", d));
+      checkParse(String.format("%.3e", d));
+    }
+  }
+
+  private void checkParse(String num) {
+    double expected = Double.parseDouble(num);
+    double actual = WKTTokenizer.parseDouble(num.toCharArray(), 0, num.length());
+    // compare bits to distinguish -0.0
+    assertEquals(num, Double.doubleToLongBits(expected), Double.doubleToLongBits(actual));
+  }
+
+  private void checkParseInvalid(String num) {
+    try {
+      WKTTokenizer.parseDouble(num.toCharArray(), 0, num.length());
+      fail(num);
+    }
+    catch (NumberFormatException ex) {
+      // expected
+    }
+  }
+
+  private void checkTokens(WKTTokenizer tokenizer) throws IOException {
+    checkWord(tokenizer, "POINT");
+    assertEquals('(', tokenizer.nextToken());
+    checkWord(tokenizer, "1.5");
+    assertEquals(1.5, tokenizer.getNumber());
+    checkWord(tokenizer, "-2e3");
+    assertEquals(-2000.0, tokenizer.getNumber());
+    tokenizer.pushBack();
+    checkWord(tokenizer, "-2e3");
+    assertEquals(')', tokenizer.nextToken());
+    assertEquals(1, tokenizer.lineno());
+    assertEquals(',', tokenizer.nextToken());
+    assertEquals(3, tokenizer.lineno());
+    checkWord(tokenizer, "été");
+    assertEquals(')', tokenizer.nextToken());
+    assertEquals(WKTTokenizer.TT_EOF, tokenizer.nextToken());
+    assertEquals(WKTTokenizer.TT_EOF, tokenizer.nextToken());
+  }
+
+  private void checkWord(WKTTokenizer tokenizer, String word) throws IOException {
+    assertEquals(WKTTokenizer.TT_WORD, tokenizer.nextToken());
+    assertEquals(word, tokenizer.getWord());
+  }
+}
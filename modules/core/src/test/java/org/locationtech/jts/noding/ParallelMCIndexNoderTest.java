@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.noding;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.algorithm.RobustLineIntersector;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import test.jts.GeometryTestCase;
+
+public class ParallelMCIndexNoderTest extends GeometryTestCase {
+
+  public static void main(String[] args) {
+    junit.textui.TestRunner.run(ParallelMCIndexNoderTest.class);
+  }
+
+  public ParallelMCIndexNoderTest(String name) {
+    super(name);
+  }
+
+  public void testRandomLines() {
+    checkSameAsSerial(randomLines(200, 20, 1), new PrecisionModel());
+  }
+
+  public void testRandomLinesFixedPrecision() {
+    // rounding produces many coincident nodes
+    checkSameAsSerial(randomLines(200, 20, 2), new PrecisionModel(1));
+  }
+
+  public void testSelfIntersection() {
+    checkSameAsSerial(toCoordsList("LINESTRING (100 100, 300 300, 300 100, 100 300)"), new PrecisionModel());
+  }
+
+  public void testEmpty() {
+    ParallelMCIndexNoder noder = new ParallelMCIndexNoder(new PrecisionModel());
+    noder.setForkJoinPool(ForkJoinPool.commonPool());
+    noder.computeNodes(new ArrayList());
+    assertEquals(0, noder.getNodedSubstrings().size());
+  }
+
+  public void testIntersectionFinder() {
+    List coordsList = toCoordsList("LINESTRING (100 100, 300 300)");
+    coordsList.addAll(toCoordsList("LINESTRING (100 300, 300 100)"));
+    ParallelMCIndexNoder noder = new ParallelMCIndexNoder(
+        new ParallelMCIndexNoder.SegmentIntersectorFactory() {
+          public SegmentIntersector create() {
+            return new NodingIntersectionFinder(new RobustLineIntersector());
+          }
+        });
+    noder.setForkJoinPool(ForkJoinPool.commonPool());
+    noder.computeNodes(toSegmentStrings(coordsList));
+    boolean hasIntersection = false;
+    for (Iterator i = noder.getSegmentIntersectors().iterator(); i.hasNext(); ) {
+      hasIntersection |= ((NodingIntersectionFinder) i.next()).hasIntersection();
+    }
+    assertTrue(hasIntersection);
+  }
+
+  private void checkSameAsSerial(List coordsList, PrecisionModel pm) {
+    RobustLineIntersector li = new RobustLineIntersector();
+    li.setPrecisionModel(pm);
+    IntersectionAdder intAdder = new IntersectionAdder(li);
+    MCIndexNoder serialNoder = new MCIndexNoder(intAdder);
+    serialNoder.computeNodes(toSegmentStrings(coordsList));
+    List expected = new ArrayList(serialNoder.getNodedSubstrings());
+
+    ForkJoinPool[] pools = new ForkJoinPool[] { null, ForkJoinPool.commonPool() };
+    for (int p = 0; p < pools.length; p++) {
+      ParallelMCIndexNoder noder = new ParallelMCIndexNoder(pm);
+      noder.setForkJoinPool(pools[p]);
+      noder.computeNodes(toSegmentStrings(coordsList));
+      checkEqual(expected, noder.getNodedSubstrings());
+      
+      int numIntersections = 0;
+      for (Iterator i = noder.getSegmentIntersectors().iterator(); i.hasNext(); ) {
+        numIntersections += ((IntersectionAdder) i.next()).numIntersections;
+      }
+      assertEquals(intAdder.numIntersections, numIntersections);
+    }
+  }
+
+  private static void checkEqual(List expected, Collection actual) {
+    assertEquals(expected.size(), actual.size());
+    int i = 0;
+    for (Iterator it = actual.iterator(); it.hasNext(); i++) {
+      Coordinate[] expectedPts = ((SegmentString) expected.get(i)).getCoordinates();
+      Coordinate[] actualPts = ((SegmentString) it.next()).getCoordinates();
+      assertEquals(expectedPts.length, actualPts.length);
+      for (int j = 0; j < expectedPts.length; j++) {
+        assertTrue(expectedPts[j].equals3D(actualPts[j]));
+      }
+    }
+  }
+
+  private List toCoordsList(String wkt) {
+    List coordsList = new ArrayList();
+    coordsList.add(read(wkt).getCoordinates());
+    return coordsList;
+  }
+
+  private static List toSegmentStrings(List coordsList) {
+    List segStrings = new ArrayList();
+    for (Iterator i = coordsList.iterator(); i.hasNext(); ) {
+      Coordinate[] pts = (Coordinate[]) i.next();
+      Coordinate[] copy = new Coordinate[pts.length];
+      for (int j = 0; j < pts.length; j++) {
+        copy[j] = pts[j].copy();
+      }
+      segStrings.add(new NodedSegmentString(copy, null));
+    }
+    return segStrings;
+  }
+
+  private static List randomLines(int numLines, int numPts, long seed) {
+    Random rnd = new Random(seed);
+    List coordsList = new ArrayList();
+    for (int i = 0; i < numLines; i++) {
+      Coordinate[] pts = new Coordinate[numPts];
+      double x = 100 * rnd.nextDouble();
+      double y = 100 * rnd.nextDouble();
+      for (int j = 0; j < numPts; j++) {
+        pts[j] = new Coordinate(x, y, rnd.nextDouble());
+        x += 10 * (rnd.nextDouble() - 0.5);
+        y += 10 * (rnd.nextDouble() - 0.5);
+      }
+      coordsList.add(pts);
+    }
+    return coordsList;
+  }
+}
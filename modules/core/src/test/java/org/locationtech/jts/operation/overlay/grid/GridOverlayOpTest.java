@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.overlay.grid;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.overlay.OverlayOp;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class GridOverlayOpTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(GridOverlayOpTest.class);
+  }
+
+  public GridOverlayOpTest(String name) {
+    super(name);
+  }
+
+  private static final int[] OPS = new int[] {
+      OverlayOp.INTERSECTION, OverlayOp.UNION, OverlayOp.DIFFERENCE, OverlayOp.SYMDIFFERENCE };
+
+  public void testOverlappingBoxes() {
+    checkAllOps("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0))",
+        "POLYGON ((50 50, 50 150, 150 150, 150 50, 50 50))", 3, 3);
+  }
+
+  public void testHoles() {
+    checkAllOps("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (10 10, 10 90, 90 90, 90 10, 10 10))",
+        "POLYGON ((5 5, 5 60, 60 60, 60 5, 5 5), (20 20, 20 40, 40 40, 40 20, 20 20))", 4, 4);
+  }
+
+  public void testSharedEdges() {
+    checkAllOps("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0))",
+        "POLYGON ((50 0, 50 100, 150 100, 150 0, 50 0))", 3, 2);
+  }
+
+  public void testEdgesOnGridLines() {
+    checkAllOps("MULTIPOLYGON (((0 0, 0 50, 50 50, 50 0, 0 0)), ((50 50, 50 100, 100 100, 100 50, 50 50)))",
+        "POLYGON ((25 25, 25 75, 75 75, 75 25, 25 25))", 2, 2);
+  }
+
+  public void testCurvedInputs() {
+    Geometry a = read("POINT (0 0)").buffer(100, 32);
+    Geometry b = read("POINT (70 30)").buffer(80, 32);
+    checkAllOps(a, b, 5, 5);
+  }
+
+  public void testManyElements() {
+    Geometry a = read("MULTIPOINT ((10 10), (30 40), (55 20), (80 70), (20 85), (60 60))").buffer(18, 8);
+    Geometry b = read("MULTIPOINT ((15 20), (45 45), (70 30), (90 90), (40 75))").buffer(15, 8);
+    checkAllOps(a, b, 6, 4);
+  }
+
+  public void testDisjointInputs() {
+    checkAllOps("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))",
+        "POLYGON ((20 20, 20 30, 30 30, 30 20, 20 20))", 3, 3);
+  }
+
+  public void testNonPolygonalInput() {
+    Geometry a = read("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))");
+    Geometry b = read("LINESTRING (-5 5, 15 5)");
+    Geometry expected = OverlayOp.overlayOp(a, b, OverlayOp.INTERSECTION);
+    Geometry actual = GridOverlayOp.overlay(a, b, OverlayOp.INTERSECTION);
+    checkEqual(expected, actual);
+  }
+
+  public void testInvalidGridSize() {
+    GridOverlayOp op = new GridOverlayOp(read("POINT (0 0)"), read("POINT (1 1)"));
+    try {
+      op.setGridSize(0, 2);
+      fail();
+    }
+    catch (IllegalArgumentException ex) {
+      // expected
+    }
+  }
+
+  private void checkAllOps(String wkt0, String wkt1, int nx, int ny) {
+    checkAllOps(read(wkt0), read(wkt1), nx, ny);
+  }
+
+  private void checkAllOps(Geometry a, Geometry b, int nx, int ny) {
+    for (int opCode : OPS) {
+      checkOverlay(a, b, opCode, nx, ny);
+      checkOverlay(b, a, opCode, nx, ny);
+    }
+  }
+
+  private void checkOverlay(Geometry a, Geometry b, int opCode, int nx, int ny) {
+    Geometry expected = OverlayOp.overlayOp(a, b, opCode);
+
+    GridOverlayOp op = new GridOverlayOp(a, b);
+    op.setGridSize(nx, ny);
+    Geometry actual = op.getResultGeometry(opCode);
+    assertTrue(actual.isValid());
+    assertEquals(expected.getArea(), actual.getArea(), 1e-6);
+    assertEquals(expected.getNumGeometries(), actual.getNumGeometries());
+    assertEquals(0.0, expected.symDifference(actual).getArea(), 1e-6);
+
+    GridOverlayOp parOp = new GridOverlayOp(a, b);
+    parOp.setGridSize(nx, ny);
+    parOp.setForkJoinPool(ForkJoinPool.commonPool());
+    Geometry parActual = parOp.getResultGeometry(opCode);
+    assertTrue(actual.equalsExact(parActual));
+  }
+}
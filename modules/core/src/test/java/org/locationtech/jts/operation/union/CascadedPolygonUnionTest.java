@@ -15,6 +15,7 @@ package org.locationtech.jts.operation.union;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
@@ -77,9 +78,46 @@ public class CascadedPolygonUnionTest extends TestCase
   			CascadedPolygonUnionTester.MIN_SIMILARITY_MEAURE);
   }
 
-  
+  public void testDiscsParallel()
+  throws Exception
+  {
+    Collection geoms = createDiscs(10, 0.7);
+    checkParallelSameAsSerial(geoms);
+  }
+
+  public void testDiscsDisjointParallel()
+  throws Exception
+  {
+    Collection geoms = createDiscs(10, 0.3);
+    checkParallelSameAsSerial(geoms);
+  }
+
+  public void testUnaryUnionParallel()
+  throws Exception
+  {
+    Collection geoms = createDiscs(10, 0.55);
+    Geometry expected = UnaryUnionOp.union(geoms);
+    
+    UnaryUnionOp op = new UnaryUnionOp(geoms);
+    op.setForkJoinPool(ForkJoinPool.commonPool());
+    op.setParallelThreshold(4);
+    Geometry actual = op.union();
+    assertTrue(expected.equalsExact(actual));
+  }
+
   // TODO: add some synthetic tests
   
+  private void checkParallelSameAsSerial(Collection geoms)
+  {
+    Geometry expected = CascadedPolygonUnion.union(geoms);
+    
+    CascadedPolygonUnion op = new CascadedPolygonUnion(geoms);
+    op.setForkJoinPool(ForkJoinPool.commonPool());
+    op.setParallelThreshold(4);
+    Geometry actual = op.union();
+    assertTrue(expected.equalsExact(actual));
+  }
+  
   private static CascadedPolygonUnionTester tester = new CascadedPolygonUnionTester();
   
   private void runTest(Collection geoms, double minimumMeasure) 
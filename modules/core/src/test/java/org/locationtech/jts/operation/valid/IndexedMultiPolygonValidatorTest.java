@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.valid;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class IndexedMultiPolygonValidatorTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(IndexedMultiPolygonValidatorTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+
+  public IndexedMultiPolygonValidatorTest(String name) {
+    super(name);
+  }
+
+  public void testValidDisjoint() {
+    checkValid("MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), ((20 0, 20 10, 30 10, 30 0, 20 0)))",
+        true);
+  }
+
+  public void testValidTouchingAtPoint() {
+    checkValid("MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), ((10 10, 10 20, 20 20, 20 10, 10 10)))",
+        true);
+  }
+
+  public void testValidInHole() {
+    checkValid("MULTIPOLYGON (((0 0, 0 100, 100 100, 100 0, 0 0), (10 10, 10 90, 90 90, 90 10, 10 10)), ((20 20, 20 80, 80 80, 80 20, 20 20)))",
+        true);
+  }
+
+  public void testInvalidOverlapping() {
+    checkValid("MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), ((5 5, 5 15, 15 15, 15 5, 5 5)))",
+        false);
+  }
+
+  public void testInvalidTouchingAlongEdge() {
+    checkValid("MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), ((10 0, 10 10, 20 10, 20 0, 10 0)))",
+        false);
+  }
+
+  public void testInvalidNested() {
+    checkError("MULTIPOLYGON (((0 0, 0 100, 100 100, 100 0, 0 0)), ((20 20, 20 80, 80 80, 80 20, 20 20)))",
+        TopologyValidationError.NESTED_SHELLS);
+  }
+
+  public void testInvalidNestedReversed() {
+    checkError("MULTIPOLYGON (((20 20, 20 80, 80 80, 80 20, 20 20)), ((0 0, 0 100, 100 100, 100 0, 0 0)))",
+        TopologyValidationError.NESTED_SHELLS);
+  }
+
+  public void testInvalidDuplicate() {
+    checkValid("MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), ((0 0, 0 10, 10 10, 10 0, 0 0)))",
+        false);
+  }
+
+  public void testInvalidElement() {
+    checkError("MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), ((20 0, 30 10, 20 10, 30 0, 20 0)))",
+        TopologyValidationError.SELF_INTERSECTION);
+  }
+
+  public void testEmptyElement() {
+    checkValid("MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), EMPTY)", true);
+  }
+
+  public void testManyElements() {
+    List<Polygon> polys = createGrid(40);
+    Geometry valid = geomFact.createMultiPolygon(polys.toArray(new Polygon[0]));
+    checkValid(valid, true);
+
+    polys.add((Polygon) read("POLYGON ((2.2 2.2, 2.2 2.8, 2.8 2.8, 2.8 2.2, 2.2 2.2))"));
+    Geometry nested = geomFact.createMultiPolygon(polys.toArray(new Polygon[0]));
+    checkValid(nested, false);
+  }
+
+  public void testFirstErrorReported() {
+    List<Polygon> polys = createGrid(40);
+    // invalid elements near the end and the start
+    polys.add(polys.size() - 10, (Polygon) read("POLYGON ((100 0, 110 10, 100 10, 110 0, 100 0))"));
+    polys.add(100, (Polygon) read("POLYGON ((200 0, 210 10, 200 10, 210 0, 200 0))"));
+    Geometry geom = geomFact.createMultiPolygon(polys.toArray(new Polygon[0]));
+    IsValidOp op = new IsValidOp(geom);
+    op.setForkJoinPool(ForkJoinPool.commonPool());
+    TopologyValidationError err = op.getValidationError();
+    assertEquals(TopologyValidationError.SELF_INTERSECTION, err.getErrorType());
+    assertEquals(205.0, err.getCoordinate().x, 1e-10);
+  }
+
+  private List<Polygon> createGrid(int side) {
+    List<Polygon> polys = new ArrayList<Polygon>();
+    for (int i = 0; i < side; i++) {
+      for (int j = 0; j < side; j++) {
+        Geometry pt = geomFact.createPoint(new Coordinate(i * 2 + 0.5, j * 2 + 0.5));
+        polys.add((Polygon) pt.buffer(0.6, 4));
+      }
+    }
+    return polys;
+  }
+
+  private void checkValid(String wkt, boolean expected) {
+    checkValid(read(wkt), expected);
+  }
+
+  private void checkValid(Geometry geom, boolean expected) {
+    assertEquals(expected, geom.isValid());
+
+    IsValidOp op = new IsValidOp(geom);
+    op.setForkJoinPool(ForkJoinPool.commonPool());
+    assertEquals(expected, op.isValid());
+    assertEquals(expected, op.getValidationError() == null);
+  }
+
+  private void checkError(String wkt, int errorType) {
+    Geometry geom = read(wkt);
+    IsValidOp op = new IsValidOp(geom);
+    op.setForkJoinPool(ForkJoinPool.commonPool());
+    TopologyValidationError err = op.getValidationError();
+    assertEquals(errorType, err.getErrorType());
+  }
+}
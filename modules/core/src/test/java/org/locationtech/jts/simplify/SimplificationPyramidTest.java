@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class SimplificationPyramidTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(SimplificationPyramidTest.class);
+  }
+
+  private static final double[] TOLERANCES = new double[] { 0, 0.5, 1, 2, 5, 10, 20, 50, 100 };
+  
+  public SimplificationPyramidTest(String name) {
+    super(name);
+  }
+
+  public void testPolygonWithHole() {
+    checkSameAsSimplifiers("POLYGON ((20 220, 40 220, 60 220, 80 220, 100 220, 120 220, 140 220, 140 180, 100 180, 60 180, 20 180, 20 220), (40 210, 60 200, 80 210, 60 190, 40 210))");
+  }
+
+  public void testLineString() {
+    checkSameAsSimplifiers("LINESTRING (0 5, 1 5, 2 5, 5 5, 10 5, 12 8, 14 6, 20 5, 25 7, 30 5)");
+  }
+
+  public void testShortLines() {
+    checkSameAsSimplifiers("MULTILINESTRING ((0 0, 10 10), (0 0, 5 1, 10 0))");
+  }
+
+  public void testCollinear() {
+    // ties in Visvalingam-Whyatt areas are removed in vertex order 
+    checkSameAsSimplifiers("LINESTRING (0 0, 1 0, 2 0, 3 0, 4 0, 5 0, 6 1, 7 1, 8 1, 9 1)");
+  }
+
+  public void testRepeatedPoints() {
+    checkSameAsSimplifiers("LINESTRING (0 0, 0 0, 5 5, 5 5, 5 5, 10 0, 10 0)");
+    checkSameAsSimplifiers("LINESTRING (0 0, 10 0, 10 0)");
+    checkSameAsSimplifiers("LINESTRING (1 1, 1 1, 1 1)");
+    checkSameAsSimplifiers("POLYGON ((0 0, 0 10, 0 10, 10 10, 10 0, 0 0, 0 0))");
+  }
+
+  public void testGeometryCollection() {
+    checkSameAsSimplifiers("GEOMETRYCOLLECTION (POLYGON ((80 200, 240 200, 240 60, 80 60, 80 200)), LINESTRING (80 200, 240 200, 240 60, 80 60, 80 200, 140 199, 120 120))");
+  }
+
+  public void testEmpty() {
+    checkSameAsSimplifiers("POLYGON EMPTY");
+  }
+
+  public void testRandomWalk() {
+    Random random = new Random(13);
+    Coordinate[] pts = new Coordinate[2001];
+    double x = 0, y = 0;
+    for (int i = 0; i < 2000; i++) {
+      pts[i] = new Coordinate(x, y);
+      x += 20 * random.nextDouble() - 10;
+      y += 20 * random.nextDouble() - 10;
+    }
+    pts[2000] = pts[0].copy();
+    GeometryFactory geomFact = new GeometryFactory();
+    checkSameAsSimplifiers(geomFact.createLineString(pts));
+    checkSameAsSimplifiers(geomFact.createPolygon(pts));
+  }
+
+  /**
+   * A zigzag with increasing amplitude produces a deep vertex tree,
+   * which exercises the growth of the extraction stack.
+   */
+  public void testDeepTree() {
+    Coordinate[] pts = new Coordinate[500];
+    for (int i = 0; i < pts.length; i++) {
+      pts[i] = new Coordinate(i, (i % 2 == 0 ? 1 : -1) * (1 + 0.01 * i));
+    }
+    GeometryFactory geomFact = new GeometryFactory();
+    Geometry line = geomFact.createLineString(pts);
+    checkSameAsSimplifiers(line);
+    SimplificationPyramid vw = new SimplificationPyramid(line, SimplificationPyramid.VISVALINGAM_WHYATT);
+    checkEqualExact(VWSimplifier.simplify(line, 0.01), vw.getResultGeometry(0.01));
+  }
+
+  public void testInvalidTolerance() {
+    SimplificationPyramid pyramid = new SimplificationPyramid(read("LINESTRING (0 0, 1 1)"), SimplificationPyramid.DOUGLAS_PEUCKER);
+    try {
+      pyramid.getResultGeometry(-1);
+      fail();
+    }
+    catch (IllegalArgumentException expected) {
+    }
+  }
+
+  private void checkSameAsSimplifiers(String wkt) {
+    checkSameAsSimplifiers(read(wkt));
+  }
+
+  private void checkSameAsSimplifiers(Geometry geom) {
+    SimplificationPyramid dp = new SimplificationPyramid(geom, SimplificationPyramid.DOUGLAS_PEUCKER);
+    SimplificationPyramid vw = new SimplificationPyramid(geom, SimplificationPyramid.VISVALINGAM_WHYATT);
+    for (double tol : TOLERANCES) {
+      checkEqualExact(DouglasPeuckerSimplifier.simplify(geom, tol), dp.getResultGeometry(tol));
+      checkEqualExact(VWSimplifier.simplify(geom, tol), vw.getResultGeometry(tol));
+    }
+  }
+
+  private void checkEqualExact(Geometry expected, Geometry actual) {
+    boolean isEqual = expected.equalsExact(actual);
+    if (! isEqual) {
+      System.out.println("Expected: " + expected);
+      System.out.println("Actual:   " + actual);
+    }
+    assertTrue(isEqual);
+  }
+}
@@ -12,7 +12,15 @@
 
 package org.locationtech.jts.simplify;
 
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.io.WKTReader;
 
@@ -187,6 +195,120 @@ public class TopologyPreservingSimplifierTest
       ,10.0))
         .test();
   }
+  
+  public void testParallelGeometryCollection() throws Exception {
+    checkParallel(new WKTReader().read("GEOMETRYCOLLECTION ("
+      + "MULTIPOINT (80 200, 240 200, 240 60, 80 60, 80 200, 140 199, 120 120),"
+      + "POLYGON ((80 200, 240 200, 240 60, 80 60, 80 200)),"
+      + "LINESTRING (80 200, 240 200, 240 60, 80 60, 80 200, 140 199, 120 120)"
+      + ")"), 10.0);
+  }
+  
+  public void testParallelCoverage() throws Exception {
+    Geometry coverage = createCoverage(12);
+    Geometry result = checkParallel(coverage, 0.3);
+    assertEquals(coverage.getNumGeometries(), result.getNumGeometries());
+    assertTrue(result.getNumPoints() < coverage.getNumPoints());
+  }
+  
+  /**
+   * A polygon with many enclave holes, each filled by another polygon.
+   * The envelope of the enclosing shell covers all the other rings.
+   */
+  public void testParallelCoverageWithEnclosingRing() throws Exception {
+    Geometry coverage = createEnclaveCoverage(10);
+    Geometry result = checkParallel(coverage, 0.02);
+    assertEquals(coverage.getNumGeometries(), result.getNumGeometries());
+    assertTrue(result.getNumPoints() < coverage.getNumPoints());
+  }
+  
+  private static Geometry checkParallel(Geometry geom, double tolerance) {
+    Geometry expected = TopologyPreservingSimplifier.simplify(geom, tolerance);
+    TopologyPreservingSimplifier tps = new TopologyPreservingSimplifier(geom);
+    tps.setDistanceTolerance(tolerance);
+    tps.setForkJoinPool(ForkJoinPool.commonPool());
+    Geometry actual = tps.getResultGeometry();
+    assertTrue(expected.equalsExact(actual));
+    return actual;
+  }
+
+  /**
+   * Creates a grid of polygons whose shared edges are 
+   * jagged lines with many vertices.
+   */
+  private static Geometry createCoverage(int size) {
+    Random random = new Random(13);
+    Coordinate[][][] hEdges = new Coordinate[size + 1][size][];
+    Coordinate[][][] vEdges = new Coordinate[size][size + 1][];
+    for (int i = 0; i <= size; i++) {
+      for (int j = 0; j < size; j++) {
+        hEdges[i][j] = createJaggedEdge(new Coordinate(j, i), new Coordinate(j + 1, i), 
+            i > 0 && i < size, random);
+        vEdges[j][i] = createJaggedEdge(new Coordinate(i, j), new Coordinate(i, j + 1), 
+            i > 0 && i < size, random);
+      }
+    }
+    GeometryFactory geomFact = new GeometryFactory();
+    Polygon[] polys = new Polygon[size * size];
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        CoordinateList ring = new CoordinateList();
+        ring.add(hEdges[i][j], false, true);
+        ring.add(vEdges[i][j + 1], false, true);
+        ring.add(hEdges[i + 1][j], false, false);
+        ring.add(vEdges[i][j], false, false);
+        polys[i * size + j] = geomFact.createPolygon(ring.toCoordinateArray());
+      }
+    }
+    return geomFact.createGeometryCollection(polys);
+  }
+  
+  /**
+   * Creates a square polygon with a grid of jagged circular holes,
+   * and the polygons filling the holes.
+   */
+  private static Geometry createEnclaveCoverage(int size) {
+    Random random = new Random(13);
+    GeometryFactory geomFact = new GeometryFactory();
+    CoordinateList shell = new CoordinateList();
+    for (int i = 0; i < 4; i++) {
+      Coordinate p0 = new Coordinate(i == 1 || i == 2 ? size : 0, i >= 2 ? size : 0);
+      Coordinate p1 = new Coordinate(i == 0 || i == 1 ? size : 0, i == 1 || i == 2 ? size : 0);
+      shell.add(createJaggedEdge(p0, p1, true, random), false, true);
+    }
+    shell.closeRing();
+    LinearRing[] holes = new LinearRing[size * size];
+    Polygon[] polys = new Polygon[size * size + 1];
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        int n = 60;
+        Coordinate[] pts = new Coordinate[n + 1];
+        for (int k = 0; k < n; k++) {
+          double angle = 2 * Math.PI * k / n;
+          double r = 0.3 + 0.02 * (random.nextDouble() - 0.5);
+          pts[k] = new Coordinate(i + 0.5 + r * Math.cos(angle), j + 0.5 + r * Math.sin(angle));
+        }
+        pts[n] = pts[0].copy();
+        holes[i * size + j] = geomFact.createLinearRing(pts);
+        polys[i * size + j + 1] = geomFact.createPolygon(pts);
+      }
+    }
+    polys[0] = geomFact.createPolygon(geomFact.createLinearRing(shell.toCoordinateArray()), holes);
+    return geomFact.createGeometryCollection(polys);
+  }
+  
+  private static Coordinate[] createJaggedEdge(Coordinate p0, Coordinate p1, boolean isJagged, Random random) {
+    int n = 40;
+    Coordinate[] pts = new Coordinate[n + 1];
+    for (int k = 0; k <= n; k++) {
+      double frac = (double) k / n;
+      double offset = (isJagged && k > 0 && k < n) ? 0.05 * (random.nextDouble() - 0.5) : 0;
+      // offset perpendicular to the edge
+      pts[k] = new Coordinate(p0.x + frac * (p1.x - p0.x) + offset * (p1.y - p0.y), 
+          p0.y + frac * (p1.y - p0.y) + offset * (p1.x - p0.x));
+    }
+    return pts;
+  }
 }
 
 class TPSimplifierResult
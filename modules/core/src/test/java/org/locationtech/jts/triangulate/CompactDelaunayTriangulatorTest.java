@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.triangulate.quadedge.TrianglePredicate;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class CompactDelaunayTriangulatorTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(CompactDelaunayTriangulatorTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+
+  public CompactDelaunayTriangulatorTest(String name) {
+    super(name);
+  }
+
+  public void testTriangle() {
+    CompactDelaunayTriangulator tri = triangulator("MULTIPOINT ((10 10 1), (10 20 2), (20 20 3))");
+    checkEqual(read("GEOMETRYCOLLECTION (POLYGON ((10 20, 10 10, 20 20, 10 20)))"), 
+        tri.getTriangles(geomFact).norm());
+    checkEqual(read("MULTILINESTRING ((10 20, 20 20), (10 10, 10 20), (10 10, 20 20))"), 
+        tri.getEdges(geomFact).norm());
+    // the normalized triangle starts at (10 10 1)
+    Coordinate p0 = tri.getTriangles(geomFact).norm().getGeometryN(0).getCoordinates()[0];
+    assertTrue(p0.equals2D(new Coordinate(10, 10)));
+    assertEquals(1.0, p0.getZ(), 0.0);
+  }
+
+  public void testRandom() {
+    checkSameAsBuilder("MULTIPOINT ((50 40), (140 70), (80 100), (130 140), (30 150), (70 180), (190 110), (120 20))");
+  }
+
+  public void testRandomPoints() {
+    Random random = new Random(42);
+    Coordinate[] pts = new Coordinate[2000];
+    for (int i = 0; i < pts.length; i++) {
+      pts[i] = new Coordinate(1000 * random.nextDouble(), 1000 * random.nextDouble());
+    }
+    Geometry sites = geomFact.createMultiPointFromCoords(pts);
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(sites);
+    CompactDelaunayTriangulator tri = new CompactDelaunayTriangulator(pts);
+    checkDelaunay(tri);
+    
+    // the builder may omit some triangles on the convex hull
+    Set<Geometry> triangles = new HashSet<Geometry>();
+    Geometry compactTris = tri.getTriangles(geomFact);
+    for (int i = 0; i < compactTris.getNumGeometries(); i++) {
+      triangles.add(compactTris.getGeometryN(i).norm());
+    }
+    Geometry builderTris = builder.getTriangles(geomFact);
+    for (int i = 0; i < builderTris.getNumGeometries(); i++) {
+      assertTrue(triangles.contains(builderTris.getGeometryN(i).norm()));
+    }
+    assertEquals(sites.convexHull().getArea(), compactTris.getArea(), 1e-6);
+  }
+
+  public void testGrid() {
+    // grid points are cocircular, so the triangulation is not unique
+    Coordinate[] pts = new Coordinate[30 * 30];
+    for (int i = 0; i < 30; i++) {
+      for (int j = 0; j < 30; j++) {
+        pts[30 * i + j] = new Coordinate(i, j);
+      }
+    }
+    CompactDelaunayTriangulator tri = new CompactDelaunayTriangulator(pts);
+    checkDelaunay(tri);
+    assertEquals(2 * 29 * 29, tri.getNumTriangles());
+    assertEquals(29 * 29, tri.getTriangles(geomFact).getArea(), 1e-9);
+  }
+
+  public void testCollinearHull() {
+    // many sites lie on the hull edges 
+    CompactDelaunayTriangulator tri = triangulator("MULTIPOINT ((0 0), (10 0), (5 0), (2 0), (10 10), (10 5), (0 10), (0 3), (5 10), (4 4), (20 0), (-5 0))");
+    checkDelaunay(tri);
+    assertEquals(read("MULTIPOINT ((0 0), (10 0), (5 0), (2 0), (10 10), (10 5), (0 10), (0 3), (5 10), (4 4), (20 0), (-5 0))").convexHull().getArea(), 
+        tri.getTriangles(geomFact).getArea(), 1e-9);
+  }
+
+  public void testDuplicates() {
+    CompactDelaunayTriangulator tri = triangulator("MULTIPOINT ((0 0), (0 0), (10 0), (10 0), (0 10), (10 10), (0 10), (0 0))");
+    assertEquals(2, tri.getNumTriangles());
+    assertEquals(5, tri.getEdges(geomFact).getNumGeometries());
+  }
+
+  public void testCollinear() {
+    CompactDelaunayTriangulator tri = triangulator("MULTIPOINT ((0 0), (3 3), (1 1), (1 1), (2 2))");
+    assertEquals(0, tri.getNumTriangles());
+    assertTrue(tri.getTriangles(geomFact).isEmpty());
+    checkEqual(read("MULTILINESTRING ((0 0, 1 1), (1 1, 2 2), (2 2, 3 3))"), tri.getEdges(geomFact).norm());
+  }
+
+  public void testEmpty() {
+    CompactDelaunayTriangulator tri = new CompactDelaunayTriangulator(new Coordinate[0]);
+    assertTrue(tri.getTriangles(geomFact).isEmpty());
+    assertTrue(tri.getEdges(geomFact).isEmpty());
+  }
+
+  private CompactDelaunayTriangulator triangulator(String wkt) {
+    return new CompactDelaunayTriangulator(read(wkt).getCoordinates());
+  }
+
+  private void checkSameAsBuilder(String wkt) {
+    checkSameAsBuilder(read(wkt));
+  }
+
+  private void checkSameAsBuilder(Geometry sites) {
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(sites);
+    CompactDelaunayTriangulator tri = new CompactDelaunayTriangulator(sites.getCoordinates());
+    checkEqual(builder.getTriangles(geomFact).norm(), tri.getTriangles(geomFact).norm());
+    checkEqual(builder.getEdges(geomFact).norm(), tri.getEdges(geomFact).norm());
+    checkDelaunay(tri);
+  }
+
+  private void checkDelaunay(CompactDelaunayTriangulator tri) {
+    int[] verts = tri.getTriangleVertices();
+    assertEquals(3 * tri.getNumTriangles(), verts.length);
+    for (int i = 0; i < verts.length; i += 3) {
+      Coordinate a = tri.getCoordinate(verts[i]);
+      Coordinate b = tri.getCoordinate(verts[i + 1]);
+      Coordinate c = tri.getCoordinate(verts[i + 2]);
+      assertEquals(Orientation.COUNTERCLOCKWISE, Orientation.index(a, b, c));
+      for (int j = 0; j < verts.length; j++) {
+        Coordinate p = tri.getCoordinate(verts[j]);
+        assertTrue(! TrianglePredicate.isInCircleRobust(a, b, c, p));
+      }
+    }
+  }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.index.kdtree.KdTree;
+import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class DivideAndConquerDelaunayTriangulatorTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(DivideAndConquerDelaunayTriangulatorTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+
+  public DivideAndConquerDelaunayTriangulatorTest(String name) {
+    super(name);
+  }
+
+  public void testTriangle() {
+    checkSameAsSerial("MULTIPOINT ((10 10), (10 20), (20 20))");
+  }
+
+  public void testRandom() {
+    checkSameAsSerial("MULTIPOINT ((50 40), (140 70), (80 100), (130 140), (30 150), (70 180), (190 110), (120 20))");
+  }
+
+  public void testCollinear() {
+    checkSameAsSerial("MULTIPOINT ((10 10), (20 20), (30 30), (40 40), (50 50))");
+  }
+
+  public void testVertical() {
+    checkSameAsSerial("MULTIPOINT ((10 10), (10 20), (10 30), (10 40), (20 25))");
+  }
+
+  public void testDuplicates() {
+    checkSameAsSerial("MULTIPOINT ((10 10), (10 10), (20 20), (30 10), (20 20), (20 40))");
+  }
+
+  public void testSingleSite() {
+    checkBuildersWithPool("MULTIPOINT ((31 63))");
+  }
+
+  public void testAllDuplicates() {
+    checkBuildersWithPool("MULTIPOINT ((1 1), (1 1), (1 1))");
+  }
+
+  public void testVoronoi() {
+    Geometry sites = read("MULTIPOINT ((50 40), (140 70), (80 100), (130 140), (30 150), (70 180), (190 110), (120 20))");
+    VoronoiDiagramBuilder serial = new VoronoiDiagramBuilder();
+    serial.setSites(sites);
+    VoronoiDiagramBuilder parallel = new VoronoiDiagramBuilder();
+    parallel.setSites(sites);
+    parallel.setForkJoinPool(ForkJoinPool.commonPool());
+    checkEqual(serial.getDiagram(geomFact).norm(), parallel.getDiagram(geomFact).norm());
+  }
+
+  public void testTolerance() {
+    checkSameAsSerialWithTolerance("MULTIPOINT ((10 10), (10.05 10), (20 10), (15 20), (15 20.01), (30 30), (5 25))", 0.1);
+  }
+
+  /**
+   * The serial snapping of near-coincident sites depends on point location,
+   * and may not merge all of them,
+   * so the result is checked against the serial triangulation 
+   * of the sites merged within the tolerance.
+   */
+  public void testToleranceRandom() {
+    double tolerance = 0.01;
+    Random random = new Random(13);
+    List<Coordinate> pts = new ArrayList<Coordinate>();
+    for (int i = 0; i < 1000; i++) {
+      Coordinate p = new Coordinate(100 * random.nextDouble(), 100 * random.nextDouble());
+      pts.add(p);
+      // add a near-coincident site
+      if (i % 10 == 0)
+        pts.add(new Coordinate(p.x + 0.001, p.y));
+    }
+    DelaunayTriangulationBuilder parallel = new DelaunayTriangulationBuilder();
+    parallel.setSites(pts);
+    parallel.setTolerance(tolerance);
+    parallel.setForkJoinPool(ForkJoinPool.commonPool());
+    Geometry result = parallel.getTriangles(geomFact);
+    assertEquals(1000, parallel.getSubdivision().getVertices(false).size());
+    
+    KdTree index = new KdTree(tolerance);
+    List<Coordinate> merged = new ArrayList<Coordinate>();
+    for (Object c : DelaunayTriangulationBuilder.unique(pts.toArray(new Coordinate[0]))) {
+      if (index.insert((Coordinate) c, c).getData() == c)
+        merged.add((Coordinate) c);
+    }
+    DelaunayTriangulationBuilder serial = new DelaunayTriangulationBuilder();
+    serial.setSites(merged);
+    checkEqual(serial.getTriangles(geomFact).norm(), result.norm());
+  }
+
+  /**
+   * Uses the dataset of DelaunayPerfTest
+   */
+  public void testRandomPoints() {
+    Random random = new Random(13);
+    List<Coordinate> pts = new ArrayList<Coordinate>();
+    for (int i = 0; i < 20000; i++) {
+      pts.add(new Coordinate(10 * random.nextDouble(), 10 * random.nextDouble()));
+    }
+    checkSameAsSerial(pts);
+  }
+
+  /**
+   * Uses the dataset of DelaunayRobustTest,
+   * which has a large base offset
+   */
+  public void testRandomPointsInGridOffset() {
+    Random random = new Random(13);
+    List<Coordinate> pts = new ArrayList<Coordinate>();
+    double base = 1.0e7;
+    for (int i = 0; i < 100; i++) {
+      for (int j = 0; j < 100; j++) {
+        pts.add(new Coordinate(base + i + random.nextDouble(), base + j + random.nextDouble()));
+      }
+    }
+    checkSameAsSerial(pts);
+  }
+
+  private void checkBuildersWithPool(String wkt) {
+    Geometry sites = read(wkt);
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(sites);
+    builder.setForkJoinPool(ForkJoinPool.commonPool());
+    assertTrue(builder.getTriangles(geomFact).isEmpty());
+    
+    VoronoiDiagramBuilder serial = new VoronoiDiagramBuilder();
+    serial.setSites(sites);
+    VoronoiDiagramBuilder parallel = new VoronoiDiagramBuilder();
+    parallel.setSites(sites);
+    parallel.setForkJoinPool(ForkJoinPool.commonPool());
+    checkEqual(serial.getDiagram(geomFact), parallel.getDiagram(geomFact));
+  }
+
+  private void checkSameAsSerialWithTolerance(String wkt, double tolerance) {
+    checkSameAsSerialWithTolerance(read(wkt), tolerance);
+  }
+
+  private void checkSameAsSerialWithTolerance(Geometry sites, double tolerance) {
+    DelaunayTriangulationBuilder serial = new DelaunayTriangulationBuilder();
+    serial.setSites(sites);
+    serial.setTolerance(tolerance);
+    DelaunayTriangulationBuilder parallel = new DelaunayTriangulationBuilder();
+    parallel.setSites(sites);
+    parallel.setTolerance(tolerance);
+    parallel.setForkJoinPool(ForkJoinPool.commonPool());
+    checkEqual(serial.getTriangles(geomFact).norm(), parallel.getTriangles(geomFact).norm());
+    
+    VoronoiDiagramBuilder serialVoronoi = new VoronoiDiagramBuilder();
+    serialVoronoi.setSites(sites);
+    serialVoronoi.setTolerance(tolerance);
+    VoronoiDiagramBuilder parallelVoronoi = new VoronoiDiagramBuilder();
+    parallelVoronoi.setSites(sites);
+    parallelVoronoi.setTolerance(tolerance);
+    parallelVoronoi.setForkJoinPool(ForkJoinPool.commonPool());
+    checkEqual(serialVoronoi.getDiagram(geomFact).norm(), parallelVoronoi.getDiagram(geomFact).norm());
+  }
+
+  private void checkSameAsSerial(String wkt) {
+    List<Coordinate> pts = new ArrayList<Coordinate>();
+    for (Coordinate p : read(wkt).getCoordinates()) {
+      pts.add(p);
+    }
+    checkSameAsSerial(pts);
+  }
+
+  private void checkSameAsSerial(List<Coordinate> pts) {
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(pts);
+    Geometry expected = builder.getTriangles(geomFact).norm();
+    Geometry expectedEdges = builder.getEdges(geomFact).norm();
+
+    // use a low threshold to ensure the parallel merges are exercised
+    QuadEdgeSubdivision subdiv = triangulate(pts, ForkJoinPool.commonPool(), 100);
+    checkEqual(expected, subdiv.getTriangles(geomFact).norm());
+    checkEqual(expectedEdges, subdiv.getEdges(geomFact).norm());
+    
+    QuadEdgeSubdivision subdivSerial = triangulate(pts, null, 100);
+    checkEqual(expected, subdivSerial.getTriangles(geomFact).norm());
+  }
+
+  private static QuadEdgeSubdivision triangulate(List<Coordinate> pts, ForkJoinPool pool, int threshold) {
+    List siteCoords = DelaunayTriangulationBuilder.unique(pts.toArray(new Coordinate[0]));
+    QuadEdgeSubdivision subdiv = new QuadEdgeSubdivision(DelaunayTriangulationBuilder.envelope(siteCoords), 0.0);
+    DivideAndConquerDelaunayTriangulator triangulator = new DivideAndConquerDelaunayTriangulator(subdiv);
+    triangulator.setForkJoinPool(pool);
+    triangulator.setParallelThreshold(threshold);
+    triangulator.insertSites(DelaunayTriangulationBuilder.toVertices(siteCoords));
+    return subdiv;
+  }
+}
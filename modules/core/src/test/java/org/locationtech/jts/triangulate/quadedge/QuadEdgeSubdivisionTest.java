@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate.quadedge;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.triangulate.DelaunayTriangulationBuilder;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class QuadEdgeSubdivisionTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(QuadEdgeSubdivisionTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+
+  public QuadEdgeSubdivisionTest(String name) {
+    super(name);
+  }
+
+  public void testVisitTrianglePolygons() {
+    QuadEdgeSubdivision subdiv = subdivision("MULTIPOINT ((50 40), (140 70), (80 100), (130 140), (30 150), (70 180), (190 110), (120 20))");
+    List<Polygon> tris = visitTriangles(subdiv);
+    Geometry expected = subdiv.getTriangles(geomFact);
+    assertEquals(expected.getNumGeometries(), tris.size());
+    for (int i = 0; i < tris.size(); i++) {
+      checkEqual(expected.getGeometryN(i), tris.get(i));
+    }
+  }
+
+  public void testVisitTrianglePolygonsEmpty() {
+    QuadEdgeSubdivision subdiv = subdivision("MULTIPOINT ((10 10), (20 20))");
+    assertEquals(0, visitTriangles(subdiv).size());
+  }
+
+  public void testVisitVoronoiCellPolygons() {
+    QuadEdgeSubdivision subdiv = subdivision("MULTIPOINT ((10 10), (20 70), (60 30), (80 70))");
+    final List<Polygon> cells = new ArrayList<Polygon>();
+    subdiv.visitVoronoiCellPolygons(geomFact, new PolygonVisitor() {
+      public void visit(Polygon poly) {
+        cells.add(poly);
+      }
+    });
+    List expected = subdiv.getVoronoiCellPolygons(geomFact);
+    assertEquals(4, cells.size());
+    assertEquals(expected.size(), cells.size());
+    for (int i = 0; i < cells.size(); i++) {
+      Polygon cell = cells.get(i);
+      Polygon expectedCell = (Polygon) expected.get(i);
+      checkEqual(expectedCell, cell);
+      assertEquals(expectedCell.getUserData(), cell.getUserData());
+    }
+  }
+
+  private List<Polygon> visitTriangles(QuadEdgeSubdivision subdiv) {
+    final List<Polygon> tris = new ArrayList<Polygon>();
+    subdiv.visitTrianglePolygons(geomFact, new PolygonVisitor() {
+      public void visit(Polygon poly) {
+        tris.add(poly);
+      }
+    });
+    return tris;
+  }
+
+  private QuadEdgeSubdivision subdivision(String wkt) {
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(read(wkt));
+    return builder.getSubdivision();
+  }
+}
@@ -14,6 +14,7 @@ package test.jts.perf.triangulate;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
@@ -56,15 +57,23 @@ public class DelaunayRobustTest
     
 		List pts = randomPointsInGrid(nPts, BASE_OFFSET, BASE_OFFSET);
 		System.out.println("# pts: " + pts.size());
+		run(pts, null);
+		run(pts, ForkJoinPool.commonPool());
+	}
+	
+	private void run(List pts, ForkJoinPool pool)
+	{
 		Stopwatch sw = new Stopwatch();
 		DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
 		builder.setSites(pts);
+		builder.setForkJoinPool(pool);
 		
 //		Geometry g = builder.getEdges(geomFact);
 		// don't actually form output geometry, to save time and memory
 		builder.getSubdivision();
 		
-		System.out.println("  --  Time: " + sw.getTimeString()
+		System.out.println("  --  " + (pool == null ? "Serial" : "Parallel")
+				+ " Time: " + sw.getTimeString()
 				+ "  Mem: " + Memory.usedTotalString());
 //		System.out.println(g);
 	}
@@ -32,5 +32,9 @@ public class GeoJsonConstants {
   public static final String NAME_MULTIPOLYGON = "MultiPolygon";
   public static final String NAME_MULTILINESTRING = "MultiLineString";
   public static final String NAME_MULTIPOINT = "MultiPoint";
+  public static final String NAME_FEATURE = "Feature";
+  public static final String NAME_FEATURECOLLECTION = "FeatureCollection";
+  public static final String NAME_FEATURES = "features";
+  public static final String NAME_GEOMETRY = "geometry";
 
 }
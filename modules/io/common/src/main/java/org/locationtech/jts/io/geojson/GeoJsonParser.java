@@ -0,0 +1,475 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.geojson;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.io.ParseException;
+
+/**
+ * Parses GeoJSON geometry objects from a {@link JsonTokenizer}.
+ * Coordinates are read directly into {@link CoordinateSequence}s,
+ * without creating an intermediate tree of JSON values.
+ * The members of a geometry object may occur in any order.
+ * <p>
+ * If no {@link GeometryFactory} is supplied,
+ * geometries are created with a factory having the SRID 
+ * given by the <code>crs</code> member of the object,
+ * or inherited from the enclosing object.
+ *
+ * @author agent
+ *
+ */
+class GeoJsonParser 
+{
+  /**
+   * The SRID used if no <code>crs</code> is specified
+   * (WGS84 geographic coordinates).
+   */
+  static final int DEFAULT_SRID = 4326;
+  
+  private static final List<Object> EMPTY = new ArrayList<Object>(0);
+
+  /**
+   * The values of the members of a geometry object read so far.
+   */
+  static class GeometryMembers {
+    String type;
+    int srid = -1;
+    Object coordinates;
+    List<Geometry> geometries;
+    
+    boolean isGeometry() {
+      return coordinates != null || geometries != null || isGeometryType(type);
+    }
+  }
+
+  private final JsonTokenizer tokenizer;
+  private final GeometryFactory geometryFactory;
+  private final CoordinateSequenceFactory csFactory;
+  private GeometryFactory sridFactory = null;
+  
+  private double[] seqBuf = new double[3 * 64];
+  
+  /**
+   * Creates a parser for a stream of JSON text.
+   * 
+   * @param reader the input
+   * @param geometryFactory the factory to use, or null to use the <code>crs</code> members
+   */
+  GeoJsonParser(Reader reader, GeometryFactory geometryFactory)
+  {
+    this.tokenizer = new JsonTokenizer(reader);
+    this.geometryFactory = geometryFactory;
+    this.csFactory = geometryFactory != null 
+        ? geometryFactory.getCoordinateSequenceFactory()
+        : new GeometryFactory().getCoordinateSequenceFactory();
+  }
+  
+  JsonTokenizer getTokenizer()
+  {
+    return tokenizer;
+  }
+  
+  static boolean isGeometryType(String type)
+  {
+    return GeoJsonConstants.NAME_POINT.equals(type)
+        || GeoJsonConstants.NAME_LINESTRING.equals(type)
+        || GeoJsonConstants.NAME_POLYGON.equals(type)
+        || GeoJsonConstants.NAME_MULTIPOINT.equals(type)
+        || GeoJsonConstants.NAME_MULTILINESTRING.equals(type)
+        || GeoJsonConstants.NAME_MULTIPOLYGON.equals(type)
+        || GeoJsonConstants.NAME_GEOMETRYCOLLECTION.equals(type);
+  }
+
+  /**
+   * Reads a geometry object.
+   * 
+   * @param srid the SRID to use if the object does not specify one
+   * @return the geometry read
+   * @throws ParseException if the input is not a valid GeoJSON geometry
+   */
+  Geometry readGeometry(int srid) throws ParseException
+  {
+    tokenizer.expect(JsonTokenizer.BEGIN_OBJECT);
+    GeometryMembers members = new GeometryMembers();
+    if (tokenizer.peek() == JsonTokenizer.END_OBJECT) {
+      tokenizer.next();
+    }
+    else {
+      int tok;
+      do {
+        tokenizer.expect(JsonTokenizer.STRING);
+        String name = tokenizer.getString();
+        tokenizer.expect(JsonTokenizer.COLON);
+        if (! readMember(name, members, srid))
+          tokenizer.skipValue();
+      } while ((tok = tokenizer.next()) == JsonTokenizer.COMMA);
+      if (tok != JsonTokenizer.END_OBJECT)
+        throw tokenizer.unexpected(tok, JsonTokenizer.END_OBJECT);
+    }
+    return create(members, srid);
+  }
+  
+  /**
+   * Reads the value of a member of a geometry object,
+   * if it is one which defines the geometry.
+   * 
+   * @param name the member name
+   * @param members the geometry members read so far
+   * @param srid the SRID inherited from the enclosing object
+   * @return false if the member is not a geometry member, and was not read
+   * @throws ParseException if the member value is invalid
+   */
+  boolean readMember(String name, GeometryMembers members, int srid) throws ParseException
+  {
+    if (GeoJsonConstants.NAME_TYPE.equals(name)) {
+      tokenizer.expect(JsonTokenizer.STRING);
+      members.type = tokenizer.getString();
+    }
+    else if (GeoJsonConstants.NAME_CRS.equals(name)) {
+      members.srid = readCRS();
+    }
+    else if (GeoJsonConstants.NAME_COORDINATES.equals(name)) {
+      tokenizer.expect(JsonTokenizer.BEGIN_ARRAY);
+      members.coordinates = readCoordinateArray();
+    }
+    else if (GeoJsonConstants.NAME_GEOMETRIES.equals(name)) {
+      members.geometries = readGeometries(members.srid >= 0 ? members.srid : srid);
+    }
+    else {
+      return false;
+    }
+    return true;
+  }
+
+  private List<Geometry> readGeometries(int srid) throws ParseException
+  {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    tokenizer.expect(JsonTokenizer.BEGIN_ARRAY);
+    if (tokenizer.peek() == JsonTokenizer.END_ARRAY) {
+      tokenizer.next();
+      return geoms;
+    }
+    int tok;
+    do {
+      geoms.add(readGeometry(srid));
+    } while ((tok = tokenizer.next()) == JsonTokenizer.COMMA);
+    if (tok != JsonTokenizer.END_ARRAY)
+      throw tokenizer.unexpected(tok, JsonTokenizer.END_ARRAY);
+    return geoms;
+  }
+  
+  /**
+   * Reads a <code>crs</code> object of the form
+   * <code>{"type":"name","properties":{"name":"EPSG:4326"}}</code>.
+   * The SRID is the number after the last colon in the name,
+   * so OGC URNs are also accepted.
+   * 
+   * @return the SRID, or -1 if the crs is null
+   */
+  private int readCRS() throws ParseException
+  {
+    if (tokenizer.peek() == JsonTokenizer.NULL) {
+      tokenizer.next();
+      return -1;
+    }
+    String name = null;
+    tokenizer.expect(JsonTokenizer.BEGIN_OBJECT);
+    int tok;
+    do {
+      tokenizer.expect(JsonTokenizer.STRING);
+      boolean isProperties = tokenizer.isString(GeoJsonConstants.NAME_PROPERTIES);
+      tokenizer.expect(JsonTokenizer.COLON);
+      if (isProperties) {
+        name = readCRSName();
+      }
+      else {
+        tokenizer.skipValue();
+      }
+    } while ((tok = tokenizer.next()) == JsonTokenizer.COMMA);
+    if (tok != JsonTokenizer.END_OBJECT)
+      throw tokenizer.unexpected(tok, JsonTokenizer.END_OBJECT);
+    
+    try {
+      return Integer.parseInt(name.substring(name.lastIndexOf(':') + 1));
+    } 
+    catch (RuntimeException e) {
+      throw new ParseException(
+          "Could not parse SRID from Geojson 'crs' object.", e);
+    }
+  }
+  
+  private String readCRSName() throws ParseException
+  {
+    String name = null;
+    tokenizer.expect(JsonTokenizer.BEGIN_OBJECT);
+    int tok;
+    do {
+      tokenizer.expect(JsonTokenizer.STRING);
+      boolean isName = tokenizer.isString(GeoJsonConstants.NAME_NAME);
+      tokenizer.expect(JsonTokenizer.COLON);
+      if (isName && tokenizer.peek() == JsonTokenizer.STRING) {
+        tokenizer.next();
+        name = tokenizer.getString();
+      }
+      else {
+        tokenizer.skipValue();
+      }
+    } while ((tok = tokenizer.next()) == JsonTokenizer.COMMA);
+    if (tok != JsonTokenizer.END_OBJECT)
+      throw tokenizer.unexpected(tok, JsonTokenizer.END_OBJECT);
+    return name;
+  }
+
+  /**
+   * Reads a coordinates array, after the opening bracket.
+   * The result is a <code>double[]</code> for a position,
+   * a {@link CoordinateSequence} for an array of positions,
+   * or a List of the nested values for deeper arrays.
+   * Empty arrays are returned as an empty List.
+   */
+  private Object readCoordinateArray() throws ParseException
+  {
+    int tok = tokenizer.next();
+    if (tok == JsonTokenizer.END_ARRAY)
+      return EMPTY;
+    if (tok == JsonTokenizer.NUMBER) {
+      double[] pos = new double[] { 0, 0, Double.NaN };
+      readPosition(pos, 0);
+      return pos;
+    }
+    if (tok != JsonTokenizer.BEGIN_ARRAY)
+      throw tokenizer.unexpected(tok, JsonTokenizer.BEGIN_ARRAY);
+    
+    Object first = readCoordinateArray();
+    if (first instanceof double[]) 
+      return readSequence((double[]) first);
+    
+    List<Object> list = new ArrayList<Object>();
+    list.add(first);
+    while ((tok = tokenizer.next()) == JsonTokenizer.COMMA) {
+      tokenizer.expect(JsonTokenizer.BEGIN_ARRAY);
+      list.add(readCoordinateArray());
+    }
+    if (tok != JsonTokenizer.END_ARRAY)
+      throw tokenizer.unexpected(tok, JsonTokenizer.END_ARRAY);
+    return list;
+  }
+  
+  /**
+   * Reads the positions of an array into a reusable buffer,
+   * and then creates a sequence of the required size and dimension.
+   */
+  private CoordinateSequence readSequence(double[] first) throws ParseException
+  {
+    System.arraycopy(first, 0, seqBuf, 0, 3);
+    boolean hasZ = ! Double.isNaN(first[2]);
+    int size = 1;
+    int tok;
+    while ((tok = tokenizer.next()) == JsonTokenizer.COMMA) {
+      tokenizer.expect(JsonTokenizer.BEGIN_ARRAY);
+      tokenizer.expect(JsonTokenizer.NUMBER);
+      if (3 * size == seqBuf.length) {
+        double[] newBuf = new double[2 * seqBuf.length];
+        System.arraycopy(seqBuf, 0, newBuf, 0, seqBuf.length);
+        seqBuf = newBuf;
+      }
+      seqBuf[3 * size + 2] = Double.NaN;
+      readPosition(seqBuf, 3 * size);
+      hasZ |= ! Double.isNaN(seqBuf[3 * size + 2]);
+      size++;
+    }
+    if (tok != JsonTokenizer.END_ARRAY)
+      throw tokenizer.unexpected(tok, JsonTokenizer.END_ARRAY);
+    
+    CoordinateSequence seq = csFactory.create(size, hasZ ? 3 : 2);
+    for (int i = 0; i < size; i++) {
+      seq.setOrdinate(i, CoordinateSequence.X, seqBuf[3 * i]);
+      seq.setOrdinate(i, CoordinateSequence.Y, seqBuf[3 * i + 1]);
+      if (hasZ) 
+        seq.setOrdinate(i, CoordinateSequence.Z, seqBuf[3 * i + 2]);
+    }
+    return seq;
+  }
+  
+  /**
+   * Reads the ordinates of a position, after its first number.
+   * Ordinates after the third are ignored.
+   */
+  private void readPosition(double[] dest, int offset) throws ParseException
+  {
+    dest[offset] = tokenizer.getNumber();
+    int n = 1;
+    int tok;
+    while ((tok = tokenizer.next()) == JsonTokenizer.COMMA) {
+      tokenizer.expect(JsonTokenizer.NUMBER);
+      if (n < 3) 
+        dest[offset + n] = tokenizer.getNumber();
+      n++;
+    }
+    if (tok != JsonTokenizer.END_ARRAY)
+      throw tokenizer.unexpected(tok, JsonTokenizer.END_ARRAY);
+    if (n < 2)
+      throw tokenizer.error("Position has fewer than two ordinates");
+  }
+  
+  /**
+   * Gets the factory for geometries with a given SRID.
+   * 
+   * @param srid an SRID
+   * @return a geometry factory
+   */
+  GeometryFactory getFactory(int srid)
+  {
+    if (geometryFactory != null) 
+      return geometryFactory;
+    if (sridFactory == null || sridFactory.getSRID() != srid)
+      sridFactory = new GeometryFactory(new PrecisionModel(), srid);
+    return sridFactory;
+  }
+  
+  /**
+   * Creates the geometry defined by the members of a geometry object.
+   * 
+   * @param members the members of the object
+   * @param srid the SRID inherited from the enclosing object
+   * @return the geometry
+   * @throws ParseException if the members do not define a valid geometry
+   */
+  Geometry create(GeometryMembers members, int srid) throws ParseException
+  {
+    GeometryFactory factory = getFactory(members.srid >= 0 ? members.srid : srid);
+    String type = members.type;
+    if (type == null) {
+      throw new ParseException(
+          "Could not parse Geometry from Json string.  No 'type' property found.");
+    }
+    if (GeoJsonConstants.NAME_GEOMETRYCOLLECTION.equals(type)) {
+      return createGeometryCollection(members.geometries, factory);
+    }
+    if (! isGeometryType(type)) {
+      throw new ParseException(
+          "Could not parse Geometry from GeoJson string.  Unsupported 'type':"
+              + type);
+    }
+    Object coords = members.coordinates;
+    if (coords == null) {
+      throw new ParseException("Could not parse " + type 
+          + " from GeoJson string.  No 'coordinates' property found.");
+    }
+    try {
+      if (GeoJsonConstants.NAME_POINT.equals(type)) {
+        if (coords == EMPTY) 
+          return factory.createPoint();
+        double[] pos = (double[]) coords;
+        CoordinateSequence seq = csFactory.create(1, Double.isNaN(pos[2]) ? 2 : 3);
+        for (int i = 0; i < seq.getDimension(); i++) {
+          seq.setOrdinate(0, i, pos[i]);
+        }
+        return factory.createPoint(seq);
+      }
+      if (GeoJsonConstants.NAME_LINESTRING.equals(type)) {
+        return factory.createLineString(toSequence(coords));
+      }
+      if (GeoJsonConstants.NAME_MULTIPOINT.equals(type)) {
+        return factory.createMultiPoint(toSequence(coords));
+      }
+      if (GeoJsonConstants.NAME_POLYGON.equals(type)) {
+        return createPolygon(toList(coords), factory);
+      }
+      if (GeoJsonConstants.NAME_MULTILINESTRING.equals(type)) {
+        List<Object> lines = toList(coords);
+        LineString[] lineStrings = new LineString[lines.size()];
+        for (int i = 0; i < lineStrings.length; i++) {
+          lineStrings[i] = factory.createLineString(toSequence(lines.get(i)));
+        }
+        return factory.createMultiLineString(lineStrings);
+      }
+      // MultiPolygon
+      List<Object> polys = toList(coords);
+      List<Polygon> polygons = new ArrayList<Polygon>();
+      for (Object rings : polys) {
+        List<Object> ringList = toList(rings);
+        // empty polygons are skipped
+        if (ringList.isEmpty()) continue;
+        polygons.add(createPolygon(ringList, factory));
+      }
+      return factory.createMultiPolygon(GeometryFactory.toPolygonArray(polygons));
+    } 
+    catch (RuntimeException e) {
+      throw new ParseException(
+          "Could not parse " + type + " from GeoJson string.", e);
+    }
+  }
+
+  private static Polygon createPolygon(List<Object> rings, GeometryFactory factory)
+  {
+    if (rings.isEmpty()) 
+      return factory.createPolygon();
+    LinearRing shell = factory.createLinearRing(toSequence(rings.get(0)));
+    LinearRing[] holes = new LinearRing[rings.size() - 1];
+    for (int i = 1; i < rings.size(); i++) {
+      holes[i - 1] = factory.createLinearRing(toSequence(rings.get(i)));
+    }
+    return factory.createPolygon(shell, holes);
+  }
+  
+  private Geometry createGeometryCollection(List<Geometry> geoms, GeometryFactory factory) 
+      throws ParseException
+  {
+    if (geoms == null) {
+      throw new ParseException(
+          "Could not parse GeometryCollection from GeoJson string.  No 'geometries' property found.");
+    }
+    Geometry[] geometries = new Geometry[geoms.size()];
+    for (int i = 0; i < geometries.length; i++) {
+      Geometry g = geoms.get(i);
+      // the crs may follow the geometries, so they may need to be recreated
+      if (g.getFactory().getSRID() != factory.getSRID()) 
+        g = factory.createGeometry(g);
+      geometries[i] = g;
+    }
+    return factory.createGeometryCollection(geometries);
+  }
+  
+  private static CoordinateSequence toSequence(Object coords)
+  {
+    if (coords == EMPTY) 
+      return null;
+    if (coords instanceof CoordinateSequence) 
+      return (CoordinateSequence) coords;
+    throw new IllegalArgumentException("Expected an array of positions");
+  }
+  
+  @SuppressWarnings("unchecked")
+  private static List<Object> toList(Object coords)
+  {
+    if (coords instanceof CoordinateSequence) {
+      // an array of positions is not valid here, unless it is empty
+      throw new IllegalArgumentException("Expected an array of arrays of positions");
+    }
+    if (coords instanceof List)
+      return (List<Object>) coords;
+    throw new IllegalArgumentException("Expected an array of arrays of positions");
+  }
+}
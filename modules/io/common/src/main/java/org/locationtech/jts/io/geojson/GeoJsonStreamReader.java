@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.geojson;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.ParseException;
+
+/**
+ * Reads the geometries in a GeoJSON document one at a time.
+ * The document may be a <code>FeatureCollection</code>, a <code>Feature</code>,
+ * a geometry, or an array of any of these.
+ * Each call to {@link #next()} returns the next geometry in document order.
+ * <p>
+ * The input is read by a streaming parser, 
+ * and only the geometry currently being read is held in memory.
+ * This allows reading collections which are too large 
+ * to be parsed into memory as a whole.
+ * Feature properties and other foreign members are skipped.
+ * Features with a <code>null</code> geometry are skipped.
+ * <p>
+ * If no {@link GeometryFactory} is supplied, 
+ * the SRID of the geometries is determined by the nearest
+ * enclosing <code>crs</code> member which has been read.
+ * For this to apply to the features of a collection, 
+ * the <code>crs</code> must precede the <code>features</code> array.
+ * 
+ * @author agent
+ * 
+ * @see GeoJsonReader
+ */
+public class GeoJsonStreamReader {
+  
+  /**
+   * A JSON array or object which is being read incrementally.
+   */
+  private static class Container {
+    boolean isArray;
+    boolean isFirst = true;
+    int srid;
+    GeoJsonParser.GeometryMembers members;
+    
+    Container(boolean isArray, int srid) {
+      this.isArray = isArray;
+      this.srid = srid;
+      if (! isArray) 
+        members = new GeoJsonParser.GeometryMembers();
+    }
+    
+    int getSRID() {
+      if (members != null && members.srid >= 0)
+        return members.srid;
+      return srid;
+    }
+  }
+  
+  private final GeoJsonParser parser;
+  private final JsonTokenizer tokenizer;
+  private final List<Container> stack = new ArrayList<Container>();
+  private boolean isStarted = false;
+  private boolean isDone = false;
+
+  /**
+   * Creates a reader which creates geometries using the SRID 
+   * of the GeoJSON <code>crs</code> (default 4326).
+   * 
+   * @param reader the input
+   */
+  public GeoJsonStreamReader(Reader reader) {
+    this(reader, null);
+  }
+  
+  /**
+   * Creates a reader which creates geometries using a given factory.
+   * The GeoJSON <code>crs</code> is ignored.
+   * 
+   * @param reader the input
+   * @param geometryFactory the factory used to create geometries
+   */
+  public GeoJsonStreamReader(Reader reader, GeometryFactory geometryFactory) {
+    parser = new GeoJsonParser(reader, geometryFactory);
+    tokenizer = parser.getTokenizer();
+  }
+  
+  /**
+   * Reads the next geometry in the input.
+   * 
+   * @return the next geometry, or null if there are no more geometries
+   * @throws ParseException if the input is not valid GeoJSON
+   */
+  public Geometry next() throws ParseException {
+    if (isDone) return null;
+    if (! isStarted) {
+      isStarted = true;
+      if (tokenizer.peek() == JsonTokenizer.EOF) {
+        isDone = true;
+        return null;
+      }
+      Geometry geom = openValue(GeoJsonParser.DEFAULT_SRID);
+      if (geom != null) return geom;
+    }
+    while (! stack.isEmpty()) {
+      Container container = stack.get(stack.size() - 1);
+      Geometry geom = container.isArray 
+          ? readElement(container) : readMember(container);
+      if (geom != null) return geom;
+    }
+    tokenizer.expect(JsonTokenizer.EOF);
+    isDone = true;
+    return null;
+  }
+  
+  /**
+   * Reads the next element of an array.
+   */
+  private Geometry readElement(Container array) throws ParseException {
+    if (! readSeparator(array, JsonTokenizer.END_ARRAY)) 
+      return null;
+    return openValue(array.srid);
+  }
+  
+  /**
+   * Reads the next member of an object.
+   * Feature collections are read incrementally,
+   * and geometries are read whole.
+   */
+  private Geometry readMember(Container obj) throws ParseException {
+    if (! readSeparator(obj, JsonTokenizer.END_OBJECT)) {
+      if (obj.members.isGeometry())
+        return parser.create(obj.members, obj.srid);
+      return null;
+    }
+    tokenizer.expect(JsonTokenizer.STRING);
+    String name = tokenizer.getString();
+    tokenizer.expect(JsonTokenizer.COLON);
+    
+    if (GeoJsonConstants.NAME_FEATURES.equals(name)) {
+      tokenizer.expect(JsonTokenizer.BEGIN_ARRAY);
+      stack.add(new Container(true, obj.getSRID()));
+    }
+    else if (GeoJsonConstants.NAME_GEOMETRY.equals(name)) {
+      if (tokenizer.peek() == JsonTokenizer.NULL) {
+        tokenizer.next();
+        return null;
+      }
+      return parser.readGeometry(obj.getSRID());
+    }
+    else if (! parser.readMember(name, obj.members, obj.srid)) {
+      tokenizer.skipValue();
+    }
+    return null;
+  }
+  
+  /**
+   * Reads the separator before the next item of a container,
+   * or the end of the container.
+   * 
+   * @return false if the end of the container was read
+   */
+  private boolean readSeparator(Container container, int endToken) throws ParseException {
+    int tok;
+    if (container.isFirst) {
+      container.isFirst = false;
+      tok = tokenizer.peek() == endToken ? tokenizer.next() : JsonTokenizer.COMMA;
+    }
+    else {
+      tok = tokenizer.next();
+    }
+    if (tok == endToken) {
+      stack.remove(stack.size() - 1);
+      return false;
+    }
+    if (tok != JsonTokenizer.COMMA) 
+      throw tokenizer.unexpected(tok, endToken);
+    return true;
+  }
+  
+  /**
+   * Starts reading a value which may contain geometries.
+   */
+  private Geometry openValue(int srid) throws ParseException {
+    int tok = tokenizer.next();
+    switch (tok) {
+    case JsonTokenizer.BEGIN_OBJECT:
+      stack.add(new Container(false, srid));
+      return null;
+    case JsonTokenizer.BEGIN_ARRAY:
+      stack.add(new Container(true, srid));
+      return null;
+    case JsonTokenizer.NULL:
+      return null;
+    }
+    throw tokenizer.unexpected(tok, JsonTokenizer.BEGIN_OBJECT);
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.geojson;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Writes geometries to a stream as the features of a GeoJSON <code>FeatureCollection</code>.
+ * Each geometry is written as soon as it is supplied,
+ * so collections of any size can be written with constant memory.
+ * The features have no properties.
+ * <p>
+ * The collection is started by the first call to {@link #write(Geometry)},
+ * and is ended by {@link #finish()}, which must be called after the 
+ * last geometry has been written.
+ * If the <code>crs</code> is encoded, it is written once for the collection,
+ * using the SRID of the first geometry.
+ * <p>
+ * Example:
+ * <pre>
+ * GeoJsonStreamWriter fcWriter = new GeoJsonStreamWriter(writer);
+ * for (Geometry geom : geoms) {
+ *   fcWriter.write(geom);
+ * }
+ * fcWriter.finish();
+ * </pre>
+ * 
+ * @author agent
+ * 
+ * @see GeoJsonStreamReader
+ */
+public class GeoJsonStreamWriter {
+  
+  private final Writer writer;
+  private final GeoJsonWriter geomWriter;
+  private boolean isEncodeCRS = true;
+  private boolean isStarted = false;
+  private boolean isFinished = false;
+  
+  /**
+   * Creates a writer for a stream.
+   * 
+   * @param writer the stream to write to
+   */
+  public GeoJsonStreamWriter(Writer writer) {
+    this(writer, 8);
+  }
+  
+  /**
+   * Creates a writer for a stream, specifying the number of decimals to
+   * use when encoding floating point numbers.
+   * 
+   * @param writer the stream to write to
+   * @param decimals the number of decimal places to output
+   */
+  public GeoJsonStreamWriter(Writer writer, int decimals) {
+    this.writer = writer;
+    this.geomWriter = new GeoJsonWriter(decimals);
+  }
+  
+  /**
+   * Sets whether the GeoJSON <code>crs</code> property should 
+   * be output.
+   * The value of the property is taken from the SRID of the first geometry.
+   * 
+   * @param isEncodeCRS true if the crs property should be output
+   */
+  public void setEncodeCRS(boolean isEncodeCRS) {
+    this.isEncodeCRS = isEncodeCRS;
+  }
+  
+  /**
+   * Writes a geometry as a feature of the collection.
+   * 
+   * @param geometry the geometry to write (may be null)
+   * @throws IOException if an I/O error occurs
+   * @throws IllegalStateException if the collection has been finished
+   */
+  public void write(Geometry geometry) throws IOException {
+    if (isFinished)
+      throw new IllegalStateException("FeatureCollection has been finished");
+    if (! isStarted) {
+      writeStart(geometry);
+    }
+    else {
+      writer.write(',');
+    }
+    writer.write("{\"" + GeoJsonConstants.NAME_TYPE + "\":\"" + GeoJsonConstants.NAME_FEATURE 
+        + "\",\"" + GeoJsonConstants.NAME_GEOMETRY + "\":");
+    if (geometry == null) 
+      writer.write("null");
+    else
+      geomWriter.write(geometry, false, writer);
+    writer.write(",\"" + GeoJsonConstants.NAME_PROPERTIES + "\":null}");
+  }
+  
+  /**
+   * Ends the collection and flushes the stream.
+   * The stream is not closed.
+   * 
+   * @throws IOException if an I/O error occurs
+   */
+  public void finish() throws IOException {
+    if (isFinished) return;
+    if (! isStarted) 
+      writeStart(null);
+    writer.write("]}");
+    writer.flush();
+    isFinished = true;
+  }
+  
+  private void writeStart(Geometry geometry) throws IOException {
+    isStarted = true;
+    writer.write("{\"" + GeoJsonConstants.NAME_TYPE + "\":\"" + GeoJsonConstants.NAME_FEATURECOLLECTION + "\",");
+    if (isEncodeCRS && geometry != null) {
+      GeoJsonWriter.writeCRS(geometry.getSRID(), writer);
+      writer.write(',');
+    }
+    writer.write("\"" + GeoJsonConstants.NAME_FEATURES + "\":[");
+  }
+}
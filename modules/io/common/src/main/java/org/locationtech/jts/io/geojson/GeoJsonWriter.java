@@ -14,13 +14,7 @@ package org.locationtech.jts.io.geojson;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
 
-import org.json.simple.JSONAware;
-import org.json.simple.JSONObject;
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
@@ -35,6 +29,11 @@ import org.locationtech.jts.util.Assert;
 
 /**
  * Writes {@link Geometry}s as JSON fragments in GeoJson format.
+ * <p>
+ * The GeoJSON text is written directly to the output stream,
+ * so the memory used does not depend on the size of the geometry.
+ * To write a large <code>FeatureCollection</code> incrementally,
+ * use {@link GeoJsonStreamWriter}.
  * 
  * @author Martin Davis
  * @author Paul Howells, Vivid Solutions
@@ -106,195 +105,221 @@ public class GeoJsonWriter {
    *           throws an IOException when unable to write the JSON string
    */
   public void write(Geometry geometry, Writer writer) throws IOException {
-    Map<String, Object> map = create(geometry, isEncodeCRS);
-    JSONObject.writeJSONString(map, writer);
+    write(geometry, isEncodeCRS, writer);
     writer.flush();
   }
 
-  private Map<String, Object> create(Geometry geometry, boolean encodeCRS) {
-
-    Map<String, Object> result = new LinkedHashMap<String, Object>();
-    result.put(GeoJsonConstants.NAME_TYPE, geometry.getGeometryType());
-
-    if (geometry instanceof Point) {
-      Point point = (Point) geometry;
-
-      final String jsonString = getJsonString(point.getCoordinateSequence());
-
-      result.put(GeoJsonConstants.NAME_COORDINATES, new JSONAware() {
-
-        public String toJSONString() {
-          return jsonString;
-        }
-      });
-
-    } else if (geometry instanceof LineString) {
-      LineString lineString = (LineString) geometry;
-
-      final String jsonString = getJsonString(lineString
-          .getCoordinateSequence());
-
-      result.put(GeoJsonConstants.NAME_COORDINATES, new JSONAware() {
-
-        public String toJSONString() {
-          return jsonString;
-        }
-      });
-
-    } else if (geometry instanceof Polygon) {
-      Polygon polygon = (Polygon) geometry;
-
-      result.put(GeoJsonConstants.NAME_COORDINATES, makeJsonAware(polygon));
-
-    } else if (geometry instanceof MultiPoint) {
-      MultiPoint multiPoint = (MultiPoint) geometry;
-
-      result.put(GeoJsonConstants.NAME_COORDINATES, makeJsonAware(multiPoint));
-
-    } else if (geometry instanceof MultiLineString) {
-      MultiLineString multiLineString = (MultiLineString) geometry;
-
-      result.put(GeoJsonConstants.NAME_COORDINATES, makeJsonAware(multiLineString));
-
-    } else if (geometry instanceof MultiPolygon) {
-      MultiPolygon multiPolygon = (MultiPolygon) geometry;
-
-      result.put(GeoJsonConstants.NAME_COORDINATES, makeJsonAware(multiPolygon));
-
-    } else if (geometry instanceof GeometryCollection) {
-      GeometryCollection geometryCollection = (GeometryCollection) geometry;
-
-      ArrayList<Map<String, Object>> geometries = new ArrayList<Map<String, Object>>(
-          geometryCollection.getNumGeometries());
-
-      for (int i = 0; i < geometryCollection.getNumGeometries(); i++) {
-        geometries.add(create(geometryCollection.getGeometryN(i), false));
-      }
-
-      result.put(GeoJsonConstants.NAME_GEOMETRIES, geometries);
-
-    } else {
-      throw new IllegalArgumentException("Unable to encode geometry " + geometry.getGeometryType() );
-    }
-
-    if (encodeCRS) {
-      result.put(GeoJsonConstants.NAME_CRS, createCRS(geometry.getSRID()));
-    }
-
-    return result;
+  /**
+   * Writes a geometry to a stream, without flushing it.
+   * 
+   * @param geometry the geometry to write
+   * @param encodeCRS true if the crs property should be output
+   * @param writer the stream to write to
+   * @throws IOException if an I/O error occurs
+   */
+  void write(Geometry geometry, boolean encodeCRS, Writer writer) throws IOException {
+    new Encoder(writer).writeGeometry(geometry, encodeCRS);
   }
-
-  private Map<String, Object> createCRS(int srid) {
-
-    Map<String, Object> result = new LinkedHashMap<String, Object>();
-    result.put(GeoJsonConstants.NAME_TYPE, GeoJsonConstants.NAME_NAME);
-
-    Map<String, Object> props = new LinkedHashMap<String, Object>();
-    props.put(GeoJsonConstants.NAME_NAME, EPSG_PREFIX + srid);
-
-    result.put(GeoJsonConstants.NAME_PROPERTIES, props);
-
-    return result;
+  
+  /**
+   * Writes a <code>crs</code> member for an SRID.
+   * 
+   * @param srid the SRID
+   * @param writer the stream to write to
+   * @throws IOException if an I/O error occurs
+   */
+  static void writeCRS(int srid, Writer writer) throws IOException {
+    writer.write("\"" + GeoJsonConstants.NAME_CRS + "\":{\"" 
+        + GeoJsonConstants.NAME_TYPE + "\":\"" + GeoJsonConstants.NAME_NAME + "\",\""
+        + GeoJsonConstants.NAME_PROPERTIES + "\":{\"" + GeoJsonConstants.NAME_NAME + "\":\"" 
+        + EPSG_PREFIX + srid + "\"}}");
   }
-
-  private List<JSONAware> makeJsonAware(Polygon poly) {
-    ArrayList<JSONAware> result = new ArrayList<JSONAware>();
-
-    {
-      final String jsonString = getJsonString(poly.getExteriorRing()
-          .getCoordinateSequence());
-      result.add(new JSONAware() {
-
-        public String toJSONString() {
-          return jsonString;
-        }
-      });
+  
+  /**
+   * Writes the GeoJSON text for geometries directly to a stream.
+   * Ordinates are formatted into a reusable buffer.
+   */
+  private class Encoder {
+    private final Writer writer;
+    private final char[] buf = new char[24];
+    
+    Encoder(Writer writer) {
+      this.writer = writer;
     }
-    for (int i = 0; i < poly.getNumInteriorRing(); i++) {
-      final String jsonString = getJsonString(poly.getInteriorRingN(i)
-          .getCoordinateSequence());
-      result.add(new JSONAware() {
-
-        public String toJSONString() {
-          return jsonString;
+    
+    void writeGeometry(Geometry geometry, boolean encodeCRS) throws IOException {
+      if (! isSupported(geometry)) {
+        throw new IllegalArgumentException("Unable to encode geometry " + geometry.getGeometryType() );
+      }
+      writer.write("{\"" + GeoJsonConstants.NAME_TYPE + "\":\"");
+      writer.write(geometry.getGeometryType());
+      writer.write("\",\"");
+      
+      if (geometry instanceof GeometryCollection 
+          && ! (geometry instanceof MultiPoint 
+              || geometry instanceof MultiLineString
+              || geometry instanceof MultiPolygon)) {
+        writer.write(GeoJsonConstants.NAME_GEOMETRIES);
+        writer.write("\":[");
+        for (int i = 0; i < geometry.getNumGeometries(); i++) {
+          if (i > 0) writer.write(',');
+          writeGeometry(geometry.getGeometryN(i), false);
         }
-      });
-    }
-
-    return result;
-  }
-
-  private List<Object> makeJsonAware(GeometryCollection geometryCollection) {
-
-    ArrayList<Object> list = new ArrayList<Object>(
-        geometryCollection.getNumGeometries());
-    for (int i = 0; i < geometryCollection.getNumGeometries(); i++) {
-      Geometry geometry = geometryCollection.getGeometryN(i);
+        writer.write(']');
+      }
+      else {
+        writer.write(GeoJsonConstants.NAME_COORDINATES);
+        writer.write("\":");
+        writeCoordinates(geometry);
+      }
       
-      if (geometry instanceof Polygon) {
-        Polygon polygon = (Polygon) geometry;
-        list.add(makeJsonAware(polygon));
-      } 
+      if (encodeCRS) {
+        writer.write(',');
+        writeCRS(geometry.getSRID(), writer);
+      }
+      writer.write('}');
+    }
+    
+    private boolean isSupported(Geometry geometry) {
+      return geometry instanceof Point
+          || geometry instanceof LineString
+          || geometry instanceof Polygon
+          || geometry instanceof GeometryCollection;
+    }
+    
+    private void writeCoordinates(Geometry geometry) throws IOException {
+      if (geometry instanceof Point) {
+        CoordinateSequence seq = ((Point) geometry).getCoordinateSequence();
+        if (seq.size() == 0) 
+          writer.write("[]");
+        else
+          writePosition(seq, 0);
+      }
       else if (geometry instanceof LineString) {
-        LineString lineString = (LineString) geometry;
-        final String jsonString = getJsonString(lineString
-            .getCoordinateSequence());
-        list.add(new JSONAware() {
-
-          public String toJSONString() {
-            return jsonString;
-          }
-        });
-      } 
-      else if (geometry instanceof Point) {
-        Point point = (Point) geometry;
-        final String jsonString = getJsonString(point.getCoordinateSequence());
-        list.add(new JSONAware() {
-
-          public String toJSONString() {
-            return jsonString;
-          }
-        });
+        writeSequence(((LineString) geometry).getCoordinateSequence());
+      }
+      else if (geometry instanceof Polygon) {
+        writePolygon((Polygon) geometry);
+      }
+      else if (geometry instanceof MultiPoint) {
+        writer.write('[');
+        boolean isFirst = true;
+        for (int i = 0; i < geometry.getNumGeometries(); i++) {
+          Point pt = (Point) geometry.getGeometryN(i);
+          // empty points cannot be represented
+          if (pt.isEmpty()) continue;
+          if (! isFirst) writer.write(',');
+          isFirst = false;
+          writePosition(pt.getCoordinateSequence(), 0);
+        }
+        writer.write(']');
+      }
+      else {
+        writer.write('[');
+        for (int i = 0; i < geometry.getNumGeometries(); i++) {
+          if (i > 0) writer.write(',');
+          writeCoordinates(geometry.getGeometryN(i));
+        }
+        writer.write(']');
       }
     }
-
-    return list;
-  }
-
-  private String getJsonString(CoordinateSequence coordinateSequence) {
-    StringBuffer result = new StringBuffer();
-
-    if (coordinateSequence.size() > 1) {
-      result.append("[");
+    
+    private void writePolygon(Polygon poly) throws IOException {
+      writer.write('[');
+      if (! poly.isEmpty()) {
+        writeSequence(poly.getExteriorRing().getCoordinateSequence());
+        for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+          writer.write(',');
+          writeSequence(poly.getInteriorRingN(i).getCoordinateSequence());
+        }
+      }
+      writer.write(']');
     }
-    for (int i = 0; i < coordinateSequence.size(); i++) {
-      if (i > 0) {
-        result.append(",");
+    
+    private void writeSequence(CoordinateSequence seq) throws IOException {
+      writer.write('[');
+      for (int i = 0; i < seq.size(); i++) {
+        if (i > 0) writer.write(',');
+        writePosition(seq, i);
       }
-      result.append("[");
-      result.append(formatOrdinate(coordinateSequence.getOrdinate(i, CoordinateSequence.X))); 
-      result.append(",");
-      result.append(formatOrdinate(coordinateSequence.getOrdinate(i, CoordinateSequence.Y)));
-
-      if (coordinateSequence.getDimension() > 2 ) {
-        double z = coordinateSequence.getOrdinate(i, CoordinateSequence.Z);
+      writer.write(']');
+    }
+    
+    private void writePosition(CoordinateSequence seq, int i) throws IOException {
+      writer.write('[');
+      writeOrdinate(seq.getOrdinate(i, CoordinateSequence.X));
+      writer.write(',');
+      writeOrdinate(seq.getOrdinate(i, CoordinateSequence.Y));
+      if (seq.getDimension() > 2 ) {
+        double z = seq.getOrdinate(i, CoordinateSequence.Z);
         if (!  Double.isNaN(z)) {
-          result.append(",");
-          result.append(formatOrdinate(z));
+          writer.write(',');
+          writeOrdinate(z);
         }
       }
-
-      result.append("]");
-
+      writer.write(']');
     }
-
-    if (coordinateSequence.size() > 1) {
-      result.append("]");
+    
+    /**
+     * Writes an ordinate rounded to the number of decimals of the writer.
+     * The output is the same as {@link Double#toString()} of the rounded value
+     * (or the integer value, if it is integral),
+     * but in the usual case of a value of moderate magnitude 
+     * the digits are written directly from the rounded integer.
+     */
+    private void writeOrdinate(double x) throws IOException {
+      if (Math.abs(x) >= 1e-3 && Math.abs(x) < 1e7 
+          && scale >= 1 && scale <= MAX_FAST_SCALE) {
+        long m = (long) Math.floor(x * scale + 0.5);
+        long pow = (long) scale;
+        if (m % pow == 0) {
+          writer.write(Long.toString(m / pow));
+        }
+        else {
+          writeDecimal(m, pow);
+        }
+      }
+      else {
+        writer.write(formatOrdinate(x));
+      }
+    }
+    
+    /**
+     * Writes the decimal value of m / pow,
+     * without trailing zeros.
+     * Since the value has at most 15 significant digits, 
+     * this is the shortest representation of the nearest double.
+     */
+    private void writeDecimal(long m, long pow) throws IOException {
+      int len = buf.length;
+      long abs = Math.abs(m);
+      // fraction digits, without trailing zeros
+      long frac = abs % pow;
+      boolean isTrailing = true;
+      for (long p = pow; p > 1; p /= 10) {
+        int digit = (int) (frac % 10);
+        frac /= 10;
+        if (isTrailing && digit == 0) continue;
+        isTrailing = false;
+        buf[--len] = (char) ('0' + digit);
+      }
+      buf[--len] = '.';
+      long whole = abs / pow;
+      do {
+        buf[--len] = (char) ('0' + whole % 10);
+        whole /= 10;
+      } while (whole > 0);
+      if (m < 0) buf[--len] = '-';
+      writer.write(buf, len, buf.length - len);
     }
-
-    return result.toString();
   }
 
+  /**
+   * The largest scale for which ordinates are written directly.
+   * The rounded value of an ordinate below 1e7 then has at most 15 digits.
+   */
+  private static final double MAX_FAST_SCALE = 1e8;
+  
   private String formatOrdinate(double x) {
     String result = null;
 
@@ -0,0 +1,422 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.geojson;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import org.locationtech.jts.io.ParseException;
+
+/**
+ * A pull tokenizer for JSON text read from a {@link Reader}.
+ * Tokens are read one at a time, so the memory used 
+ * does not depend on the size of the input.
+ * Numbers are parsed directly from the input characters,
+ * and the characters of strings are held in a reusable buffer
+ * until they are requested, so that values which are skipped
+ * or read as numbers do not create objects.
+ * <p>
+ * Skipped values are checked only for balanced brackets,
+ * not for full JSON syntax.
+ *
+ * @author agent
+ *
+ */
+class JsonTokenizer 
+{
+  static final int EOF = -1;
+  static final int BEGIN_OBJECT = '{';
+  static final int END_OBJECT = '}';
+  static final int BEGIN_ARRAY = '[';
+  static final int END_ARRAY = ']';
+  static final int COLON = ':';
+  static final int COMMA = ',';
+  static final int STRING = '"';
+  static final int NUMBER = '0';
+  static final int TRUE = 't';
+  static final int FALSE = 'f';
+  static final int NULL = 'n';
+  
+  private static final int NONE = -2;
+  
+  private static final long MAX_EXACT_MANTISSA = 1L << 53;
+  
+  private static final double[] POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 
+    1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 
+  };
+
+  private final Reader reader;
+  private final char[] buf = new char[8192];
+  private int pos = 0;
+  private int limit = 0;
+  private long bufOffset = 0;
+  
+  private int peeked = NONE;
+  private char[] chars = new char[64];
+  private int charsLen;
+  private double number;
+  
+  /**
+   * Creates a tokenizer reading from a stream of characters.
+   * 
+   * @param reader the reader to tokenize
+   */
+  JsonTokenizer(Reader reader)
+  {
+    this.reader = reader;
+  }
+  
+  /**
+   * Reads the next token.
+   * 
+   * @return the type of the token read
+   * @throws ParseException if the input is not valid JSON or cannot be read
+   */
+  int next() throws ParseException
+  {
+    if (peeked != NONE) {
+      int tok = peeked;
+      peeked = NONE;
+      return tok;
+    }
+    return readToken();
+  }
+  
+  /**
+   * Gets the type of the next token without consuming it.
+   * 
+   * @return the type of the next token
+   * @throws ParseException if the input is not valid JSON or cannot be read
+   */
+  int peek() throws ParseException
+  {
+    if (peeked == NONE) 
+      peeked = readToken();
+    return peeked;
+  }
+  
+  /**
+   * Reads the next token and checks that it has the given type.
+   * 
+   * @param tokenType the expected token type
+   * @throws ParseException if the next token is of a different type
+   */
+  void expect(int tokenType) throws ParseException
+  {
+    int tok = next();
+    if (tok != tokenType)
+      throw unexpected(tok, tokenType);
+  }
+  
+  /**
+   * Gets the value of the current string token.
+   * 
+   * @return the string value
+   */
+  String getString()
+  {
+    return new String(chars, 0, charsLen);
+  }
+  
+  /**
+   * Tests whether the current string token has a given value.
+   * This does not create a String.
+   * 
+   * @param s the value to test
+   * @return true if the string token is equal to the value
+   */
+  boolean isString(String s)
+  {
+    if (s.length() != charsLen) return false;
+    for (int i = 0; i < charsLen; i++) {
+      if (chars[i] != s.charAt(i)) return false;
+    }
+    return true;
+  }
+  
+  /**
+   * Gets the value of the current number token.
+   * 
+   * @return the number value
+   */
+  double getNumber()
+  {
+    return number;
+  }
+  
+  /**
+   * Skips the next value, including all nested values.
+   * 
+   * @throws ParseException if the input is not valid JSON or cannot be read
+   */
+  void skipValue() throws ParseException
+  {
+    int depth = 0;
+    do {
+      int tok = next();
+      switch (tok) {
+      case BEGIN_OBJECT:
+      case BEGIN_ARRAY:
+        depth++;
+        break;
+      case END_OBJECT:
+      case END_ARRAY:
+        depth--;
+        if (depth < 0) 
+          throw error("Unexpected " + describe(tok));
+        break;
+      case EOF:
+        throw error("Unexpected end of input");
+      }
+    } while (depth > 0);
+  }
+  
+  /**
+   * Creates an exception for an unexpected token.
+   * 
+   * @param tok the token found
+   * @param expected the token type expected
+   * @return a ParseException
+   */
+  ParseException unexpected(int tok, int expected)
+  {
+    return error("Expected " + describe(expected) + " but found " + describe(tok));
+  }
+  
+  /**
+   * Creates an exception with a message which includes 
+   * the position in the input.
+   * 
+   * @param msg the message
+   * @return a ParseException
+   */
+  ParseException error(String msg)
+  {
+    return new ParseException(msg + " at character " + (bufOffset + pos));
+  }
+  
+  private static String describe(int tok)
+  {
+    switch (tok) {
+    case EOF: return "end of input";
+    case STRING: return "string";
+    case NUMBER: return "number";
+    case TRUE: return "true";
+    case FALSE: return "false";
+    case NULL: return "null";
+    }
+    return "'" + (char) tok + "'";
+  }
+  
+  private int readToken() throws ParseException
+  {
+    int c = read();
+    while (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+      c = read();
+    }
+    switch (c) {
+    case -1:
+      return EOF;
+    case '{': case '}': case '[': case ']': case ':': case ',':
+      return c;
+    case '"':
+      readString();
+      return STRING;
+    case 't':
+      readLiteral("true");
+      return TRUE;
+    case 'f':
+      readLiteral("false");
+      return FALSE;
+    case 'n':
+      readLiteral("null");
+      return NULL;
+    }
+    if (c == '-' || (c >= '0' && c <= '9')) {
+      readNumber(c);
+      return NUMBER;
+    }
+    throw error("Unexpected character '" + (char) c + "'");
+  }
+  
+  private void readLiteral(String literal) throws ParseException
+  {
+    for (int i = 1; i < literal.length(); i++) {
+      if (read() != literal.charAt(i))
+        throw error("Invalid literal; expected '" + literal + "'");
+    }
+  }
+  
+  private void readString() throws ParseException
+  {
+    charsLen = 0;
+    while (true) {
+      int c = read();
+      if (c == '"') return;
+      if (c < 0) 
+        throw error("Unterminated string");
+      if (c < ' ') 
+        throw error("Control character in string");
+      if (c == '\\') {
+        c = read();
+        switch (c) {
+        case '"': case '\\': case '/': break;
+        case 'b': c = '\b'; break;
+        case 'f': c = '\f'; break;
+        case 'n': c = '\n'; break;
+        case 'r': c = '\r'; break;
+        case 't': c = '\t'; break;
+        case 'u': c = readHexChar(); break;
+        default:
+          throw error("Invalid escape sequence in string");
+        }
+      }
+      appendChar(c);
+    }
+  }
+  
+  private int readHexChar() throws ParseException
+  {
+    int value = 0;
+    for (int i = 0; i < 4; i++) {
+      int digit = Character.digit(read(), 16);
+      if (digit < 0)
+        throw error("Invalid unicode escape in string");
+      value = 16 * value + digit;
+    }
+    return value;
+  }
+
+  /**
+   * Reads a number, computing its value directly from the digits
+   * when this can be done exactly
+   * (i.e. with at most 15 significant digits and a small exponent).
+   * Other numbers are parsed by {@link Double#parseDouble(String)}.
+   * In both cases the result is the correctly rounded value.
+   */
+  private void readNumber(int c) throws ParseException
+  {
+    charsLen = 0;
+    boolean isNegative = c == '-';
+    if (isNegative) {
+      appendChar(c);
+      c = read();
+    }
+    long mantissa = 0;
+    int exp10 = 0;
+    boolean isExact = true;
+    int nDigits = 0;
+    while (c >= '0' && c <= '9') {
+      appendChar(c);
+      mantissa = 10 * mantissa + (c - '0');
+      if (mantissa >= MAX_EXACT_MANTISSA) isExact = false;
+      nDigits++;
+      c = read();
+    }
+    if (nDigits == 0) 
+      throw error("Invalid number");
+    if (c == '.') {
+      appendChar(c);
+      c = read();
+      nDigits = 0;
+      while (c >= '0' && c <= '9') {
+        appendChar(c);
+        if (isExact) {
+          mantissa = 10 * mantissa + (c - '0');
+          if (mantissa >= MAX_EXACT_MANTISSA) isExact = false;
+          exp10--;
+        }
+        nDigits++;
+        c = read();
+      }
+      if (nDigits == 0) 
+        throw error("Invalid number");
+    }
+    if (c == 'e' || c == 'E') {
+      appendChar(c);
+      c = read();
+      boolean isExpNegative = false;
+      if (c == '-' || c == '+') {
+        isExpNegative = c == '-';
+        appendChar(c);
+        c = read();
+      }
+      int exp = 0;
+      nDigits = 0;
+      while (c >= '0' && c <= '9') {
+        appendChar(c);
+        if (exp < 10000) exp = 10 * exp + (c - '0');
+        nDigits++;
+        c = read();
+      }
+      if (nDigits == 0) 
+        throw error("Invalid number");
+      exp10 += isExpNegative ? -exp : exp;
+    }
+    unread(c);
+    
+    if (isExact && mantissa == 0) {
+      number = isNegative ? -0.0 : 0.0;
+      return;
+    }
+    // the mantissa and the power of ten are both exact,
+    // so a single multiplication or division is correctly rounded
+    if (isExact && exp10 >= 0 && exp10 < POWERS_OF_TEN.length) {
+      number = mantissa * POWERS_OF_TEN[exp10];
+    }
+    else if (isExact && exp10 < 0 && -exp10 < POWERS_OF_TEN.length) {
+      number = mantissa / POWERS_OF_TEN[-exp10];
+    }
+    else {
+      number = Double.parseDouble(new String(chars, 0, charsLen));
+      return;
+    }
+    if (isNegative) number = -number;
+  }
+  
+  private void appendChar(int c)
+  {
+    if (charsLen == chars.length) {
+      char[] newChars = new char[2 * charsLen];
+      System.arraycopy(chars, 0, newChars, 0, charsLen);
+      chars = newChars;
+    }
+    chars[charsLen++] = (char) c;
+  }
+  
+  private int read() throws ParseException
+  {
+    if (pos >= limit) {
+      if (limit < 0) return -1;
+      bufOffset += limit;
+      pos = 0;
+      try {
+        limit = reader.read(buf, 0, buf.length);
+      }
+      catch (IOException ex) {
+        throw new ParseException(ex);
+      }
+      if (limit <= 0) {
+        limit = -1;
+        return -1;
+      }
+    }
+    return buf[pos++];
+  }
+  
+  private void unread(int c)
+  {
+    // only the last character read can be unread
+    if (c >= 0) pos--;
+  }
+}
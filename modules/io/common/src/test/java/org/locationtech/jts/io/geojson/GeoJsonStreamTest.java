@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 agent.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.io.geojson;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.io.ParseException;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class GeoJsonStreamTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(GeoJsonStreamTest.class);
+  }
+
+  public GeoJsonStreamTest(String name) {
+    super(name);
+  }
+
+  private static final String FC = "{ \"type\": \"FeatureCollection\","
+      + " \"crs\": {\"type\": \"name\", \"properties\": {\"name\": \"urn:ogc:def:crs:EPSG::3857\"}},"
+      + " \"features\": ["
+      + "  {\"type\": \"Feature\", \"properties\": {\"name\": \"a \\\"quoted\\\" \\u00e9\", \"list\": [1, {\"x\": [true, false]}]},"
+      + "   \"geometry\": {\"type\": \"Point\", \"coordinates\": [1.5, -2e2]}},"
+      + "  {\"type\": \"Feature\", \"geometry\": null, \"properties\": null},"
+      + "  {\"geometry\": {\"coordinates\": [[0, 0, 1], [10, 10, 2]], \"type\": \"LineString\"}, \"type\": \"Feature\", \"id\": 7}"
+      + " ] }";
+
+  public void testReadFeatureCollection() throws ParseException {
+    List<Geometry> geoms = readAll(FC);
+    assertEquals(2, geoms.size());
+    checkEqual(read("POINT (1.5 -200)"), geoms.get(0));
+    checkEqual(read("LINESTRING (0 0, 10 10)"), geoms.get(1));
+    assertEquals(2.0, geoms.get(1).getCoordinates()[1].getZ(), 0.0);
+    assertEquals(3857, geoms.get(0).getSRID());
+  }
+
+  public void testReadArray() throws ParseException {
+    List<Geometry> geoms = readAll("[ {\"type\": \"Point\", \"coordinates\": [1, 2]}, null,"
+        + " {\"type\": \"Feature\", \"geometry\": {\"type\": \"Point\", \"coordinates\": [3, 4]}} ]");
+    assertEquals(2, geoms.size());
+    checkEqual(read("POINT (3 4)"), geoms.get(1));
+    assertEquals(4326, geoms.get(1).getSRID());
+  }
+
+  public void testReadSingleGeometry() throws ParseException {
+    List<Geometry> geoms = readAll("{\"coordinates\": [[[0, 0], [1, 0], [1, 1], [0, 0]]], \"type\": \"Polygon\"}");
+    assertEquals(1, geoms.size());
+    checkEqual(read("POLYGON ((0 0, 1 0, 1 1, 0 0))"), geoms.get(0));
+  }
+
+  public void testReadEmpty() throws ParseException {
+    assertEquals(0, readAll("").size());
+    assertEquals(0, readAll("{\"type\": \"FeatureCollection\", \"features\": []}").size());
+  }
+
+  public void testReaderMemberOrder() throws ParseException {
+    GeoJsonReader reader = new GeoJsonReader();
+    Geometry g = reader.read("{\"geometries\": [{\"coordinates\": [1, 2], \"type\": \"Point\"}],"
+        + " \"crs\": {\"type\": \"name\", \"properties\": {\"name\": \"EPSG:1234\"}},"
+        + " \"type\": \"GeometryCollection\", \"bbox\": [1, 2, 1, 2]}");
+    checkEqual(read("GEOMETRYCOLLECTION (POINT (1 2))"), g);
+    assertEquals(1234, g.getSRID());
+    assertEquals(1234, g.getGeometryN(0).getSRID());
+  }
+
+  public void testReaderFactory() throws ParseException {
+    GeometryFactory factory = new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+    Geometry g = new GeoJsonReader(factory).read("{\"type\": \"LineString\", \"coordinates\": [[1, 2], [3, 4]]}");
+    assertTrue(g.getFactory() == factory);
+    checkEqual(read("LINESTRING (1 2, 3 4)"), g);
+  }
+
+  public void testReaderNumbers() throws ParseException {
+    Geometry g = new GeoJsonReader().read("{\"type\": \"MultiPoint\", \"coordinates\":"
+        + " [[0.1, -0.0], [1E3, 2.5e-3], [123456789012345678, 0.30000000000000004], [1e400, -1e-400]]}");
+    double[] expected = new double[] { 0.1, -0.0, 1E3, 2.5e-3, 123456789012345678.0, 0.30000000000000004, 
+        Double.POSITIVE_INFINITY, -0.0 };
+    for (int i = 0; i < 4; i++) {
+      assertEquals(expected[2 * i], g.getCoordinates()[i].x, 0.0);
+      assertEquals(expected[2 * i + 1], g.getCoordinates()[i].y, 0.0);
+    }
+  }
+
+  public void testReaderErrors() {
+    checkParseError("{\"type\": \"Point\", \"coordinates\": [1, 2]");
+    checkParseError("{\"type\": \"Point\", \"coordinates\": [1]}");
+    checkParseError("{\"type\": \"Point\", \"coordinates\": [1, 2]} x");
+    checkParseError("{\"type\": \"LineString\", \"coordinates\": [1, 2]}");
+    checkParseError("{\"type\": \"Polygon\", \"coordinates\": [[[0, 0], [1, 0], [1, 1]]]}");
+    checkParseError("{\"type\": \"Curve\", \"coordinates\": [1, 2]}");
+    checkParseError("{\"coordinates\": [1, 2]}");
+    checkParseError("{\"type\": \"Point\", \"coordinates\": [1, 2.]}");
+  }
+
+  public void testStreamWriter() throws IOException, ParseException {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    geoms.add(read("POINT (1 2)"));
+    geoms.add(read("POLYGON ((0 0, 100 0, 100 100, 0 100, 0 0), (1 1, 1 10, 10 10, 10 1, 1 1))"));
+    geoms.add(read("GEOMETRYCOLLECTION (POINT (1 1), MULTILINESTRING ((0 0, 1 1), (2 2, 3 3)))"));
+    for (Geometry g : geoms) {
+      g.setSRID(2056);
+    }
+    StringWriter out = new StringWriter();
+    GeoJsonStreamWriter writer = new GeoJsonStreamWriter(out);
+    for (Geometry g : geoms) {
+      writer.write(g);
+    }
+    writer.write(null);
+    writer.finish();
+
+    List<Geometry> result = readAll(out.toString());
+    assertEquals(geoms.size(), result.size());
+    for (int i = 0; i < geoms.size(); i++) {
+      checkEqual(geoms.get(i), result.get(i));
+      assertEquals(2056, result.get(i).getSRID());
+    }
+  }
+
+  public void testStreamWriterEmpty() throws IOException {
+    StringWriter out = new StringWriter();
+    new GeoJsonStreamWriter(out).finish();
+    assertEquals("{\"type\":\"FeatureCollection\",\"features\":[]}", out.toString());
+  }
+
+  public void testWriterOrdinateFormat() {
+    GeoJsonWriter writer = new GeoJsonWriter();
+    writer.setEncodeCRS(false);
+    Random random = new Random(13);
+    GeometryFactory factory = new GeometryFactory();
+    for (int i = 0; i < 1000; i++) {
+      double x = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(10) - 2);
+      double rounded = Math.floor(x * 1e8 + 0.5) / 1e8;
+      String expected = (long) rounded == rounded ? Long.toString((long) rounded) : Double.toString(rounded);
+      if (Math.abs(x) < 1e-3 || Math.abs(x) >= 1e7) 
+        expected = Double.toString(x);
+      String json = writer.write(factory.createPoint(new org.locationtech.jts.geom.Coordinate(x, 0)));
+      assertEquals("{\"type\":\"Point\",\"coordinates\":[" + expected + ",0.0]}", json);
+    }
+  }
+
+  private List<Geometry> readAll(String json) throws ParseException {
+    GeoJsonStreamReader reader = new GeoJsonStreamReader(new StringReader(json));
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    Geometry g;
+    while ((g = reader.next()) != null) {
+      geoms.add(g);
+    }
+    assertNull(reader.next());
+    return geoms;
+  }
+
+  private void checkParseError(String json) {
+    try {
+      new GeoJsonReader().read(json);
+      fail(json);
+    }
+    catch (ParseException ex) {
+      // expected
+    }
+  }
+}